@@ -0,0 +1,79 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Shared fixtures for the benchmarks
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@UtilityClass
+class BenchmarkData {
+
+
+	private final int BLOCK_SIZE = 10;
+
+
+	/**
+	 * Fill the given Map with the given amount of values, nested in blocks of up to ten entries
+	 *
+	 * @param map     the Map to be filled
+	 * @param factory creates the Maps used for the nested blocks
+	 * @param size    the amount of values to be created
+	 * @param depth   the level the values are nested in, 1 puts all values directly into the given Map
+	 * @param <M>     the Type of Map to be filled
+	 *
+	 * @return the given Map
+	 */
+	<M extends Map<String, Object>> @NotNull M fill(final @NotNull M map, final @NotNull Supplier<M> factory, final int size, final int depth) {
+		if (depth <= 1) {
+			for (int i = 0; i < size; i++) {
+				map.put("key" + i, "value" + i);
+			}
+		} else {
+			final int blocks = Math.max(1, Math.min(BenchmarkData.BLOCK_SIZE, size));
+			int remaining = size;
+			for (int i = 0; i < blocks; i++) {
+				final int blockSize = remaining / (blocks - i);
+				map.put("block" + i, BenchmarkData.fill(factory.get(), factory, blockSize, depth - 1));
+				remaining -= blockSize;
+			}
+		}
+		return map;
+	}
+
+	/**
+	 * @return a new temporary directory for the benchmark files
+	 */
+	@NotNull File directory() {
+		try {
+			return Files.createTempDirectory("storagemanager-benchmark").toFile();
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Delete the given directory and everything it contains
+	 */
+	void delete(final @NotNull File directory) {
+		try (final @NotNull Stream<Path> paths = Files.walk(directory.toPath())) {
+			//noinspection ResultOfMethodCallIgnored
+			paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+
+/**
+ * Entry point of the benchmark jar
+ * <p>
+ * Accepts the same arguments as the JMH command line, but writes the results as JSON
+ * to 'jmh-result.json' unless a different result format or file is given
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+public final class BenchmarkRunner {
+
+
+	private static final @NotNull String DEFAULT_RESULT = "jmh-result.json";
+
+
+	private BenchmarkRunner() {
+		throw new IllegalStateException("Utility class");
+	}
+
+
+	public static void main(final @NotNull String[] args) throws IOException, RunnerException, CommandLineOptionException {
+		final @NotNull CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+		if (commandLineOptions.shouldHelp()) {
+			commandLineOptions.showHelp();
+			return;
+		}
+
+		final @NotNull ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+		if (!commandLineOptions.getResultFormat().hasValue()) {
+			options.resultFormat(ResultFormatType.JSON);
+		}
+		if (!commandLineOptions.getResult().hasValue()) {
+			options.result(BenchmarkRunner.DEFAULT_RESULT);
+		}
+		new Runner(options.build()).run();
+	}
+}
@@ -0,0 +1,104 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.BigDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentBigDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentGapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.HashDataMap;
+import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.Nullable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Get, put and remove on the different {@link DataMap} implementations
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DataMapBenchmark {
+
+
+	@Param({"GapDataMap", "BigDataMap", "ConcurrentGapDataMap", "ConcurrentBigDataMap", "HashDataMap"})
+	private String implementation;
+	@Param({"10", "100", "1000"})
+	private int size;
+
+	private DataMap<String, Object> dataMap;
+	private String[] keys;
+	private int index;
+
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		switch (this.implementation) {
+			case "GapDataMap":
+				this.dataMap = new GapDataMap<>();
+				break;
+			case "BigDataMap":
+				this.dataMap = new BigDataMap<>();
+				break;
+			case "ConcurrentGapDataMap":
+				this.dataMap = new ConcurrentGapDataMap<>();
+				break;
+			case "ConcurrentBigDataMap":
+				this.dataMap = new ConcurrentBigDataMap<>();
+				break;
+			case "HashDataMap":
+				this.dataMap = new HashDataMap<>();
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown implementation '" + this.implementation + "'");
+		}
+		this.keys = new String[this.size];
+		for (int i = 0; i < this.size; i++) {
+			this.keys[i] = "key" + i;
+			this.dataMap.put(this.keys[i], "value" + i);
+		}
+	}
+
+
+	@Benchmark
+	public @Nullable Object get() {
+		return this.dataMap.get(this.nextKey());
+	}
+
+	@Benchmark
+	public @Nullable Object put() {
+		return this.dataMap.put(this.nextKey(), "changed");
+	}
+
+	@Benchmark
+	public @Nullable Object removeAndPut() {
+		final String key = this.nextKey();
+		final @Nullable Object value = this.dataMap.remove(key);
+		this.dataMap.put(key, value);
+		return value;
+	}
+
+
+	private String nextKey() {
+		if (++this.index == this.size) {
+			this.index = 0;
+		}
+		return this.keys[this.index];
+	}
+}
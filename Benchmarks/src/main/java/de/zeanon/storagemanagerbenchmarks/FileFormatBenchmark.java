@@ -0,0 +1,88 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.jsonfilemanager.JsonFileManager;
+import de.zeanon.storagemanagercore.internal.base.files.FlatFile;
+import de.zeanon.tomlfilemanager.TomlFileManager;
+import de.zeanon.yamlfilemanager.YamlFileManager;
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Loading and saving YAML, TOML and JSON Files
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class FileFormatBenchmark {
+
+
+	@Param({"YAML", "TOML", "JSON"})
+	private String format;
+	@Param({"100", "10000"})
+	private int size;
+	@Param({"1", "3"})
+	private int depth;
+
+	private File directory;
+	private FlatFile file;
+
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.directory = BenchmarkData.directory();
+		switch (this.format) {
+			case "YAML":
+				this.file = YamlFileManager.yamlFile(this.directory, "benchmark").create();
+				break;
+			case "TOML":
+				this.file = TomlFileManager.tomlFile(this.directory, "benchmark").create();
+				break;
+			case "JSON":
+				this.file = JsonFileManager.jsonFile(this.directory, "benchmark").create();
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown format '" + this.format + "'");
+		}
+		this.file.loadDataFromMap(BenchmarkData.fill(new LinkedHashMap<>(), LinkedHashMap::new, this.size, this.depth));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkData.delete(this.directory);
+	}
+
+
+	@Benchmark
+	public Map load() {
+		this.file.reload();
+		return this.file.fileData().dataMap();
+	}
+
+	@Benchmark
+	public void save() {
+		this.file.save();
+	}
+}
@@ -0,0 +1,78 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Contended acquisition of {@link ExtendedFileLock}s on the same File
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileLockBenchmark {
+
+
+	private File directory;
+	private ExtendedFileLock fileLock;
+
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		this.directory = BenchmarkData.directory();
+		this.fileLock = new ExtendedFileLock(new File(this.directory, "benchmark.lock"));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		this.fileLock.close();
+		BenchmarkData.delete(this.directory);
+	}
+
+
+	@Benchmark
+	@Group("write")
+	@GroupThreads(4)
+	public void writeOnly() {
+		this.fileLock.writeLock().lock();
+		this.fileLock.writeLock().unlock();
+	}
+
+	@Benchmark
+	@Group("readWrite")
+	@GroupThreads(3)
+	public void read() {
+		this.fileLock.readLock().lock();
+		this.fileLock.readLock().unlock();
+	}
+
+	@Benchmark
+	@Group("readWrite")
+	@GroupThreads(1)
+	public void write() {
+		this.fileLock.writeLock().lock();
+		this.fileLock.writeLock().unlock();
+	}
+}
@@ -0,0 +1,77 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * {@link de.zeanon.storagemanagercore.internal.base.files.FlatFile#set(String, Object)} including the save of the File
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FlatFileSetBenchmark {
+
+
+	@Param({"10", "1000"})
+	private int size;
+	@Param({"IN_PLACE", "ATOMIC"})
+	private String writeSetting;
+	@Param({"false", "true"})
+	private boolean keepChannelOpen;
+
+	private File directory;
+	private ThunderFile file;
+	private int counter;
+
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.directory = BenchmarkData.directory();
+		this.file = ThunderFileManager.thunderFile(this.directory, "benchmark")
+									  .writeSetting(Write.valueOf(this.writeSetting))
+									  .keepChannelOpen(this.keepChannelOpen)
+									  .create();
+		final @NotNull Map<String, Object> initial = new LinkedHashMap<>();
+		for (int i = 0; i < this.size; i++) {
+			initial.put("key" + i, "value" + i);
+		}
+		this.file.setAll(initial);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkData.delete(this.directory);
+	}
+
+
+	@Benchmark
+	public void set() {
+		this.file.set("key" + (this.counter++ % this.size), this.counter);
+	}
+}
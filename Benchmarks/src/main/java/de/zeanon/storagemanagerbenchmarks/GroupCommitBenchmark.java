@@ -0,0 +1,81 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Concurrent saves of different Files in the same directory with {@link Write#ATOMIC} and {@link Write#ATOMIC_GROUP_COMMIT}
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Fork(1)
+@Threads(8)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GroupCommitBenchmark {
+
+
+	@Param({"ATOMIC", "ATOMIC_GROUP_COMMIT"})
+	private String writeSetting;
+
+	private File directory;
+	private Write write;
+	private final AtomicInteger files = new AtomicInteger();
+
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.directory = BenchmarkData.directory();
+		this.write = Write.valueOf(this.writeSetting);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkData.delete(this.directory);
+	}
+
+
+	@Benchmark
+	public void save(final Saver saver) throws IOException {
+		this.write.write(saver.file, saver.content);
+	}
+
+
+	@State(Scope.Thread)
+	public static class Saver {
+
+		private File file;
+		private byte[] content;
+
+
+		@Setup(Level.Trial)
+		public void setup(final GroupCommitBenchmark benchmark) {
+			final int index = benchmark.files.getAndIncrement();
+			this.file = new File(benchmark.directory, "benchmark" + index + ".tf");
+			this.content = ("key = value" + index + System.lineSeparator()).getBytes(StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.storagemanagercore.external.browniescollections.GapList;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
+import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.base.settings.Comment;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import de.zeanon.thunderfilemanager.internal.base.exceptions.ThunderException;
+import de.zeanon.thunderfilemanager.internal.utility.parser.ThunderFileParser;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Reading and writing Thunder-Type Files at varying sizes and nesting depths
+ *
+ * @author Zeanon
+ * @version 1.1.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ThunderParserBenchmark {
+
+
+	@Param({"100", "10000"})
+	private int size;
+	@Param({"1", "4"})
+	private int depth;
+	@Param({"false", "true"})
+	private boolean memoryMapped;
+
+	private CollectionsProvider<DataMap, List> collectionsProvider;
+	private DataMap<String, Object> dataMap;
+	private File directory;
+	private File readFile;
+	private File writeFile;
+
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.collectionsProvider = new CollectionsProvider<>(GapDataMap.class, GapList.class, false);
+		this.dataMap = BenchmarkData.fill(this.collectionsProvider.newMap(), this.collectionsProvider::newMap, this.size, this.depth);
+		this.directory = BenchmarkData.directory();
+		this.readFile = new File(this.directory, "read.tf");
+		this.writeFile = new File(this.directory, "write.tf");
+		ThunderFileParser.writeDataFromMap(this.readFile, this.dataMap, Comment.SKIP, "  ", Write.IN_PLACE);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkData.delete(this.directory);
+	}
+
+
+	@Benchmark
+	public @NotNull DataMap<String, Object> readData() throws ThunderException {
+		return ThunderFileParser.readData(this.readFile, this.collectionsProvider, Comment.SKIP, 8192, this.memoryMapped);
+	}
+
+	@Benchmark
+	public @NotNull DataMap<String, Object> readDataParallel() throws ThunderException {
+		return ThunderFileParser.readDataParallel(this.readFile, this.collectionsProvider, Comment.SKIP, 8192, false);
+	}
+
+	@Benchmark
+	public void writeData() {
+		ThunderFileParser.writeDataFromMap(this.writeFile, this.dataMap, Comment.SKIP, "  ", Write.IN_PLACE);
+	}
+}
@@ -0,0 +1,101 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.storagemanagercore.internal.base.settings.Reload;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Typed reads of numeric settings, getInt and getDouble compared to parsing the raw String on every call
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TypedGetBenchmark {
+
+
+	@Param({"16", "10000"})
+	private int size;
+
+	private File directory;
+	private ThunderFile thunderFile;
+	private String[] keys;
+	private int index;
+
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.directory = BenchmarkData.directory();
+		this.thunderFile = ThunderFileManager.thunderFile(this.directory, "typed")
+											 .hashData(true)
+											 .reloadSetting(Reload.MANUALLY)
+											 .create();
+		this.keys = new String[this.size];
+		final @NotNull Map<String, Object> initial = new LinkedHashMap<>();
+		for (int i = 0; i < this.size; i++) {
+			this.keys[i] = "setting" + i;
+			initial.put(this.keys[i], 1_000_000 + i * 7919);
+		}
+		this.thunderFile.setAll(initial);
+		// the values are read back as the raw Strings of the File
+		this.thunderFile.reload();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkData.delete(this.directory);
+	}
+
+
+	@Benchmark
+	public int getInt() {
+		return this.thunderFile.getInt(this.nextKey());
+	}
+
+	@Benchmark
+	public int parseInt() {
+		return Integer.parseInt((String) this.thunderFile.get(this.nextKey()));
+	}
+
+	@Benchmark
+	public double getDouble() {
+		return this.thunderFile.getDouble(this.nextKey());
+	}
+
+	@Benchmark
+	public double parseDouble() {
+		return Double.parseDouble((String) this.thunderFile.get(this.nextKey()));
+	}
+
+
+	private String nextKey() {
+		if (++this.index == this.keys.length) {
+			this.index = 0;
+		}
+		return this.keys[this.index];
+	}
+}
@@ -0,0 +1,78 @@
+package de.zeanon.storagemanagerbenchmarks;
+
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlComments;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlFileParser;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Writing Yaml-Type Files through yamlbeans compared to the YamlEmitter
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class YamlEmitterBenchmark {
+
+
+	@Param({"100", "10000"})
+	private int size;
+	@Param({"1", "3"})
+	private int depth;
+	@Param({"false", "true"})
+	private boolean directEmitter;
+
+	private Map dataMap;
+	private YamlComments comments;
+	private File directory;
+	private File file;
+
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.dataMap = BenchmarkData.fill(new LinkedHashMap<>(), LinkedHashMap::new, this.size, this.depth);
+		this.comments = new YamlComments(new ArrayList<>(), new ArrayList<>(), new HashMap<>());
+		this.directory = BenchmarkData.directory();
+		this.file = new File(this.directory, "benchmark.yml");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		BenchmarkData.delete(this.directory);
+	}
+
+
+	@Benchmark
+	public void writeData() {
+		YamlFileParser.writeData(this.file, this.dataMap, null, this.directEmitter);
+	}
+
+	@Benchmark
+	public void writeDataPreserveComments() {
+		YamlFileParser.writeData(this.file, this.dataMap, this.comments, this.directEmitter);
+	}
+}
@@ -2,6 +2,7 @@ package de.zeanon.jsonfilemanager.internal.files.raw;
 
 import de.zeanon.jsonfilemanager.internal.files.section.JsonFileSection;
 import de.zeanon.jsonfilemanager.internal.utility.datafiles.JsonUtils;
+import de.zeanon.jsonfilemanager.internal.utility.parser.JsonFileParser;
 import de.zeanon.storagemanagercore.external.browniescollections.BigList;
 import de.zeanon.storagemanagercore.external.browniescollections.GapList;
 import de.zeanon.storagemanagercore.internal.base.cache.filedata.StandardFileData;
@@ -10,30 +11,28 @@ import de.zeanon.storagemanagercore.internal.base.exceptions.FileParseException;
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import de.zeanon.storagemanagercore.internal.base.files.FlatFile;
 import de.zeanon.storagemanagercore.internal.base.interfaces.FileData;
-import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
-import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
-import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
 import java.io.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.json.JSONException;
 import org.json.JSONObject;
-import org.json.JSONTokener;
 
 
 /**
  * Class to manage Json-Type Files
  *
  * @author Zeanon
- * @version 2.0.0
+ * @version 2.2.1
  */
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -41,10 +40,19 @@ import org.json.JSONTokener;
 public class JsonFile extends FlatFile<StandardFileData<Map, Map.Entry, List>, Map, List> { //NOSONAR
 
 
+	/**
+	 * The amount of spaces each level of the File is indented with
+	 */
+	@Getter
+	@Setter
+	private int indentation;
+
+
 	/**
 	 * @param file            the File to be used as a backend
 	 * @param inputStream     the FileContent to be set on the creation of the File
 	 * @param reloadSetting   the ReloadSetting to be used with this instance
+	 * @param indentation     the amount of spaces each level of the File is indented with
 	 * @param synchronizeData if the saved data should be synchronized
 	 * @param map             the Map implementation to be used, default is HashMap or ConcurrentHashMap if concurrent
 	 * @param list            the List implementation to be used, default ist GapList
@@ -55,10 +63,13 @@ public class JsonFile extends FlatFile<StandardFileData<Map, Map.Entry, List>, M
 	protected JsonFile(final @NotNull File file,
 					   final @Nullable InputStream inputStream,
 					   final @NotNull ReloadSetting reloadSetting,
+					   final int indentation,
 					   final boolean synchronizeData,
 					   final @NotNull Class<? extends Map> map,
 					   final @NotNull Class<? extends List> list) {
 		super(file, inputStream, FileType.JSON, new LocalFileData(new CollectionsProvider<>(map, list, synchronizeData)), reloadSetting);
+		this.indentation = indentation;
+		this.observeFile();
 		this.fileData().loadData(this.readFile());
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -134,16 +145,13 @@ public class JsonFile extends FlatFile<StandardFileData<Map, Map.Entry, List>, M
 
 	@Override
 	public void save() {
-		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(this.file()).writeLock();
-			 final @NotNull Writer writer = tempLock.createPrintWriter()) {
-			tempLock.lock();
-			tempLock.truncateChannel(0);
-			writer.write(new JSONObject(this.fileData().dataMap()).toString(3));
-		} catch (final @NotNull IOException e) {
+		try {
+			JsonFileParser.writeData(this.file(), this.fileData().dataMap(), this.getIndentation(), this.writeSetting());
+		} catch (final @NotNull UncheckedIOException e) {
 			throw new UncheckedIOException("Error while writing to "
 										   + this.file().getAbsolutePath()
 										   + "'",
-										   e);
+										   e.getCause());
 		}
 	}
 
@@ -216,16 +224,13 @@ public class JsonFile extends FlatFile<StandardFileData<Map, Map.Entry, List>, M
 	protected @NotNull Map<String, Object> readFile() {
 		if (this.file().length() == 0) {
 			this.save();
+			this.observeFile();
 			//noinspection unchecked
 			return this.collectionsProvider().newMap();
 		} else {
-			try (final @NotNull InputStream inputStream = BaseFileUtils.createNewInputStreamFromFile(this.file())) {
-				return new JSONObject(new JSONTokener(inputStream)).toMap();
-			} catch (final IOException e) {
-				throw new UncheckedIOException("Error while loading '"
-											   + this.getAbsolutePath()
-											   + "'",
-											   e);
+			try {
+				//noinspection unchecked
+				return JsonFileParser.readData(this.file(), this.collectionsProvider());
 			} catch (final UncheckedIOException e) {
 				throw new UncheckedIOException("Error while loading '"
 											   + this.getAbsolutePath()
@@ -12,18 +12,29 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.EqualsAndHashCode;
+import lombok.Setter;
 import lombok.ToString;
+import lombok.experimental.Accessors;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 
+@Accessors(fluent = true)
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
 @SuppressWarnings({"unused", "rawtypes"})
 public class JsonFileBuilder extends JsonFileManager<JsonFileBuilder, JsonFile, Map, List> { //NOSONAR
 
 
+	/**
+	 * -- Setter --
+	 * Set the amount of spaces each level of the File is indented with, default is 3
+	 */
+	@Setter(onMethod_ = {@Contract("_ -> this")})
+	private int indentation = 3;
+
+
 	public JsonFileBuilder(final @NotNull File file) {
 		super(file, HashMap.class, GapList.class);
 	}
@@ -32,7 +43,7 @@ public class JsonFileBuilder extends JsonFileManager<JsonFileBuilder, JsonFile,
 	@Override
 	@Contract("-> new")
 	public final @NotNull JsonFile create() {
-		return new LocalJsonFile(super.file, super.inputStream, super.reloadSetting, super.synchronizeData, super.mapType, super.listType);
+		return this.applySaveSettings(new LocalJsonFile(super.file, super.inputStream, super.reloadSetting, this.indentation, super.synchronizeData, super.mapType, super.listType));
 	}
 
 	@Override
@@ -55,10 +66,11 @@ public class JsonFileBuilder extends JsonFileManager<JsonFileBuilder, JsonFile,
 		private LocalJsonFile(final @NotNull File file,
 							  final @Nullable InputStream inputStream,
 							  final @NotNull ReloadSetting reloadSetting,
+							  final int indentation,
 							  final boolean synchronizeData,
 							  final @NotNull Class<? extends Map> map,
 							  final @NotNull Class<? extends List> list) {
-			super(file, inputStream, reloadSetting, synchronizeData, map, list);
+			super(file, inputStream, reloadSetting, indentation, synchronizeData, map, list);
 		}
 	}
 }
\ No newline at end of file
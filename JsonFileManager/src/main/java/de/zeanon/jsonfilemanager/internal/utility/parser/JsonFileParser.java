@@ -0,0 +1,587 @@
+package de.zeanon.jsonfilemanager.internal.utility.parser;
+
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
+import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
+import de.zeanon.storagemanagercore.internal.base.interfaces.WriteSetting;
+import java.io.*;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONString;
+
+
+/**
+ * Class for parsing a Json-Type File
+ * <p>
+ * The Data is written by walking the Maps and Lists directly instead of copying them into a {@link JSONObject} tree first,
+ * the output is the same as the one of {@link JSONObject#toString(int)}
+ * <p>
+ * The Data is read by a pull parser building the Map and List implementations of the given {@link CollectionsProvider} directly,
+ * it accepts the same input as {@link org.json.JSONTokener} without creating an intermediate {@link JSONObject} tree
+ *
+ * @author Zeanon
+ * @version 1.1.1
+ */
+@UtilityClass
+@SuppressWarnings({"unused", "rawtypes"})
+public class JsonFileParser {
+
+
+	/**
+	 * Write the given Data to a File
+	 *
+	 * @param file         the File to be written to
+	 * @param dataMap      the Data to be written
+	 * @param indentFactor the amount of spaces each level is indented with
+	 * @param writeSetting the WriteSetting defining how the File is written to disk
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 * @throws JSONException        if the Data contains values which can not be written as Json,
+	 *                              as the Data is streamed to the File, a File written in place may be left incomplete
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public void writeData(final @NotNull File file,
+						  final @NotNull Map<?, ?> dataMap,
+						  final int indentFactor,
+						  final @NotNull WriteSetting writeSetting) {
+		try {
+			writeSetting.write(file, outputStream -> JsonFileParser.write(outputStream, dataMap, indentFactor));
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while writing to '" + file.getAbsolutePath() + "'", e);
+		}
+	}
+
+	/**
+	 * Write the given Data to an OutputStream
+	 *
+	 * @param outputStream the OutputStream to be written to
+	 * @param dataMap      the Data to be written
+	 * @param indentFactor the amount of spaces each level is indented with
+	 *
+	 * @throws UncheckedIOException if the OutputStream can not be written to properly
+	 * @throws JSONException        if the Data contains values which can not be written as Json
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public void writeData(final @NotNull OutputStream outputStream,
+						  final @NotNull Map<?, ?> dataMap,
+						  final int indentFactor) {
+		try {
+			JsonFileParser.write(outputStream, dataMap, indentFactor);
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while writing to the given OutputStream", e);
+		}
+	}
+
+
+	/**
+	 * Read the Data of a File
+	 *
+	 * @param file                the File to be read from
+	 * @param collectionsProvider the Provider to be used to get the Map and List implementations
+	 *
+	 * @return a Map containing the Data of the File
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 * @throws JSONException        if the Content of the File can not be parsed properly
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public @NotNull Map<String, Object> readData(final @NotNull File file,
+												 final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider) {
+		try (final @NotNull FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+			return JsonFileParser.readData(Channels.newInputStream(channel), collectionsProvider);
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading '" + file.getAbsolutePath() + "'", e);
+		}
+	}
+
+	/**
+	 * Read the Data of an InputStream, the InputStream is not closed
+	 *
+	 * @param inputStream         the InputStream to be read from
+	 * @param collectionsProvider the Provider to be used to get the Map and List implementations
+	 *
+	 * @return a Map containing the Data of the InputStream
+	 *
+	 * @throws UncheckedIOException if the InputStream can not be read properly
+	 * @throws JSONException        if the Content of the InputStream can not be parsed properly
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public @NotNull Map<String, Object> readData(final @NotNull InputStream inputStream,
+												 final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider) {
+		try {
+			return new JsonReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), collectionsProvider).readObject();
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading the given InputStream", e);
+		} catch (final @NotNull StackOverflowError e) { //NOSONAR
+			throw new JSONException("JSON Array or Object depth too large to process.", e);
+		}
+	}
+
+
+	// <Internal>
+	// <Write Data>
+	private void write(final @NotNull OutputStream outputStream,
+					   final @NotNull Map<?, ?> dataMap,
+					   final int indentFactor) throws IOException {
+		// the Writer is only flushed, closing it would close the given OutputStream
+		final @NotNull Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+		JsonFileParser.writeObject(writer, dataMap, indentFactor, 0);
+		writer.flush();
+	}
+
+	private void writeObject(final @NotNull Writer writer,
+							 final @NotNull Map<?, ?> map,
+							 final int indentFactor,
+							 final int indent) throws IOException {
+		// JSONObject copies the entries into a HashMap of the same size and drops null values,
+		// doing the same here keeps the order of the keys identical to its output
+		final @NotNull Map<String, Object> entries = new HashMap<>(map.size());
+		for (final @NotNull Map.Entry<?, ?> entry : map.entrySet()) {
+			if (entry.getKey() == null) {
+				throw new NullPointerException("Null key.");
+			}
+			final @Nullable Object value = entry.getValue();
+			if (value != null) {
+				JSONObject.testValidity(value);
+				entries.put(String.valueOf(entry.getKey()), value);
+			}
+		}
+
+		writer.write('{');
+		if (entries.size() == 1) {
+			final @NotNull Map.Entry<String, Object> entry = entries.entrySet().iterator().next();
+			JsonFileParser.writeKey(writer, entry.getKey(), indentFactor);
+			JsonFileParser.writeValue(writer, entry.getValue(), indentFactor, indent);
+		} else if (!entries.isEmpty()) {
+			final int newIndent = indent + indentFactor;
+			boolean needsComma = false;
+			for (final @NotNull Map.Entry<String, Object> entry : entries.entrySet()) {
+				JsonFileParser.writeSeparator(writer, needsComma, indentFactor, newIndent);
+				JsonFileParser.writeKey(writer, entry.getKey(), indentFactor);
+				JsonFileParser.writeValue(writer, entry.getValue(), indentFactor, newIndent);
+				needsComma = true;
+			}
+			JsonFileParser.writeEnd(writer, indentFactor, indent);
+		}
+		writer.write('}');
+	}
+
+	private void writeArray(final @NotNull Writer writer,
+							final @NotNull Iterator<?> elements,
+							final int size,
+							final int indentFactor,
+							final int indent) throws IOException {
+		writer.write('[');
+		if (size == 1) {
+			JsonFileParser.writeElement(writer, elements.next(), indentFactor, indent);
+		} else if (size != 0) {
+			final int newIndent = indent + indentFactor;
+			boolean needsComma = false;
+			while (elements.hasNext()) {
+				JsonFileParser.writeSeparator(writer, needsComma, indentFactor, newIndent);
+				JsonFileParser.writeElement(writer, elements.next(), indentFactor, newIndent);
+				needsComma = true;
+			}
+			JsonFileParser.writeEnd(writer, indentFactor, indent);
+		}
+		writer.write(']');
+	}
+
+	private void writeElement(final @NotNull Writer writer,
+							  final @Nullable Object element,
+							  final int indentFactor,
+							  final int indent) throws IOException {
+		// JSONArray checks its elements when they are added, unlike JSONObject it keeps null values
+		JSONObject.testValidity(element);
+		JsonFileParser.writeValue(writer, element, indentFactor, indent);
+	}
+
+	private void writeValue(final @NotNull Writer writer,
+							final @Nullable Object value,
+							final int indentFactor,
+							final int indent) throws IOException {
+		if (value == null || value.equals(null)) { //NOSONAR
+			writer.write("null");
+		} else if (value instanceof JSONObject) {
+			((JSONObject) value).write(writer, indentFactor, indent);
+		} else if (value instanceof JSONArray) {
+			((JSONArray) value).write(writer, indentFactor, indent);
+		} else if (value instanceof JSONString) {
+			final @Nullable String jsonString;
+			try {
+				jsonString = ((JSONString) value).toJSONString();
+			} catch (final @NotNull Exception e) { //NOSONAR
+				throw new JSONException(e);
+			}
+			writer.write(jsonString != null ? jsonString : JSONObject.quote(value.toString()));
+		} else if (value instanceof Byte || value instanceof Short
+				   || value instanceof Integer || value instanceof Long
+				   || value instanceof Float || value instanceof Double
+				   || value instanceof BigInteger || value instanceof BigDecimal) {
+			writer.write(JSONObject.valueToString(value));
+		} else if (value instanceof Boolean) {
+			writer.write(value.toString());
+		} else if (value instanceof Enum) {
+			JSONObject.quote(((Enum) value).name(), writer);
+		} else if (value instanceof String || value instanceof Character) {
+			JSONObject.quote(value.toString(), writer);
+		} else if (value instanceof Map) {
+			JsonFileParser.writeObject(writer, (Map<?, ?>) value, indentFactor, indent);
+		} else if (value instanceof Collection) {
+			JsonFileParser.writeArray(writer, ((Collection<?>) value).iterator(), ((Collection<?>) value).size(), indentFactor, indent);
+		} else if (value.getClass().isArray()) {
+			JsonFileParser.writeArray(writer, new ArrayIterator(value), Array.getLength(value), indentFactor, indent);
+		} else if (JsonFileParser.isJavaType(value)) {
+			JSONObject.quote(value.toString(), writer);
+		} else {
+			// other Objects are written as beans, just like JSONObject does
+			new JSONObject(value).write(writer, indentFactor, indent);
+		}
+	}
+
+	private void writeKey(final @NotNull Writer writer,
+						  final @NotNull String key,
+						  final int indentFactor) throws IOException {
+		JSONObject.quote(key, writer);
+		writer.write(':');
+		if (indentFactor > 0) {
+			writer.write(' ');
+		}
+	}
+
+	private void writeSeparator(final @NotNull Writer writer,
+								final boolean needsComma,
+								final int indentFactor,
+								final int indent) throws IOException {
+		if (needsComma) {
+			writer.write(',');
+		}
+		if (indentFactor > 0) {
+			writer.write('\n');
+		}
+		JsonFileParser.indent(writer, indent);
+	}
+
+	private void writeEnd(final @NotNull Writer writer,
+						  final int indentFactor,
+						  final int indent) throws IOException {
+		if (indentFactor > 0) {
+			writer.write('\n');
+		}
+		JsonFileParser.indent(writer, indent);
+	}
+
+	private void indent(final @NotNull Writer writer, final int indent) throws IOException {
+		for (int i = 0; i < indent; i++) {
+			writer.write(' ');
+		}
+	}
+
+	private boolean isJavaType(final @NotNull Object value) {
+		final @Nullable Package valuePackage = value.getClass().getPackage();
+		final @NotNull String packageName = valuePackage != null ? valuePackage.getName() : "";
+		return packageName.startsWith("java.")
+			   || packageName.startsWith("javax.")
+			   || value.getClass().getClassLoader() == null;
+	}
+	// </Write Data>
+	// </Internal>
+
+
+	/**
+	 * Pull parser following the grammar of {@link org.json.JSONTokener},
+	 * objects and arrays are created through the CollectionsProvider while they are read
+	 */
+	private static final class JsonReader {
+
+		private static final int BUFFER_SIZE = 8192;
+		private static final @NotNull String UNQUOTED_DELIMITERS = ",:]}/\\\"[{;=#";
+
+		private final @NotNull Reader reader;
+		private final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider;
+		private final @NotNull char[] buffer = new char[JsonReader.BUFFER_SIZE];
+		private final @NotNull StringBuilder builder = new StringBuilder();
+		private int position;
+		private int limit;
+		private boolean eof;
+		private long index;
+		private long line = 1;
+		private long character = 1;
+
+
+		private JsonReader(final @NotNull Reader reader,
+						   final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider) {
+			this.reader = reader;
+			this.collectionsProvider = collectionsProvider;
+		}
+
+
+		private @NotNull Map<String, Object> readObject() throws IOException {
+			if (this.nextClean() != '{') {
+				throw this.syntaxError("A JSONObject text must begin with '{'");
+			}
+			//noinspection unchecked
+			final @NotNull Map<String, Object> map = this.collectionsProvider.newMap();
+			// Maps like ConcurrentHashMap can not hold null values, in that case null members are dropped
+			// just like they would be on the next save
+			final boolean nullValues = !(map instanceof ConcurrentMap);
+			while (true) {
+				char c = this.nextClean();
+				if (c == 0) {
+					throw this.syntaxError("A JSONObject text must end with '}'");
+				} else if (c == '}') {
+					return map;
+				}
+
+				final @NotNull String key = String.valueOf(this.readSimpleValue(c));
+				if (this.nextClean() != ':') {
+					throw this.syntaxError("Expected a ':' after a key");
+				}
+				if (map.containsKey(key)) {
+					throw this.syntaxError("Duplicate key \"" + key + "\"");
+				}
+				final @Nullable Object value = this.readValue();
+				if (value != null || nullValues) {
+					map.put(key, value);
+				}
+
+				c = this.nextClean();
+				if (c == ',' || c == ';') {
+					c = this.nextClean();
+					if (c == '}') {
+						return map;
+					} else if (c == 0) {
+						throw this.syntaxError("A JSONObject text must end with '}'");
+					}
+					this.back();
+				} else if (c == '}') {
+					return map;
+				} else {
+					throw this.syntaxError("Expected a ',' or '}'");
+				}
+			}
+		}
+
+		private @NotNull List<Object> readArray() throws IOException {
+			if (this.nextClean() != '[') {
+				throw this.syntaxError("A JSONArray text must start with '['");
+			}
+			//noinspection unchecked
+			final @NotNull List<Object> list = this.collectionsProvider.newList();
+			char c = this.nextClean();
+			if (c == 0) {
+				throw this.syntaxError("Expected a ',' or ']'");
+			} else if (c == ']') {
+				return list;
+			}
+			this.back();
+			while (true) {
+				if (this.nextClean() == ',') {
+					this.back();
+					list.add(null);
+				} else {
+					this.back();
+					list.add(this.readValue());
+				}
+
+				c = this.nextClean();
+				if (c == ',') {
+					c = this.nextClean();
+					if (c == 0) {
+						throw this.syntaxError("Expected a ',' or ']'");
+					} else if (c == ']') {
+						return list;
+					}
+					this.back();
+				} else if (c == ']') {
+					return list;
+				} else {
+					throw this.syntaxError("Expected a ',' or ']'");
+				}
+			}
+		}
+
+		private @Nullable Object readValue() throws IOException {
+			final char c = this.nextClean();
+			if (c == '{' || c == '[') {
+				this.back();
+				return c == '{' ? this.readObject() : this.readArray();
+			} else {
+				final @Nullable Object value = this.readSimpleValue(c);
+				return value == JSONObject.NULL ? null : value;
+			}
+		}
+
+		private @NotNull Object readSimpleValue(char c) throws IOException {
+			if (c == '"' || c == '\'') {
+				return this.readString(c);
+			}
+
+			this.builder.setLength(0);
+			while (c >= ' ' && JsonReader.UNQUOTED_DELIMITERS.indexOf(c) < 0) {
+				this.builder.append(c);
+				c = this.next();
+			}
+			if (!this.eof) {
+				this.back();
+			}
+
+			final @NotNull String string = this.builder.toString().trim();
+			if (string.isEmpty()) {
+				throw this.syntaxError("Missing value");
+			}
+			return JSONObject.stringToValue(string);
+		}
+
+		private @NotNull String readString(final char quote) throws IOException {
+			this.builder.setLength(0);
+			while (true) {
+				char c = this.next();
+				switch (c) {
+					case 0:
+					case '\n':
+					case '\r':
+						throw this.syntaxError("Unterminated string");
+					case '\\':
+						c = this.next();
+						switch (c) {
+							case 'b':
+								this.builder.append('\b');
+								break;
+							case 't':
+								this.builder.append('\t');
+								break;
+							case 'n':
+								this.builder.append('\n');
+								break;
+							case 'f':
+								this.builder.append('\f');
+								break;
+							case 'r':
+								this.builder.append('\r');
+								break;
+							case 'u':
+								this.builder.append(this.readUnicode());
+								break;
+							case '"':
+							case '\'':
+							case '\\':
+							case '/':
+								this.builder.append(c);
+								break;
+							default:
+								throw this.syntaxError("Illegal escape.");
+						}
+						break;
+					default:
+						if (c == quote) {
+							return this.builder.toString();
+						}
+						this.builder.append(c);
+				}
+			}
+		}
+
+		private char readUnicode() throws IOException {
+			int value = 0;
+			for (int i = 0; i < 4; i++) {
+				final int digit = Character.digit(this.next(), 16);
+				if (this.eof) {
+					throw this.syntaxError("Substring bounds error");
+				} else if (digit < 0) {
+					throw this.syntaxError("Illegal escape.");
+				}
+				value = (value << 4) | digit;
+			}
+			return (char) value;
+		}
+
+		private char nextClean() throws IOException {
+			while (true) {
+				final char c = this.next();
+				if (c == 0 || c > ' ') {
+					return c;
+				}
+			}
+		}
+
+		private char next() throws IOException {
+			if (this.position == this.limit && !this.fill()) {
+				this.eof = true;
+				return 0;
+			}
+			final char c = this.buffer[this.position++];
+			this.index++;
+			if (c == '\n') {
+				this.line++;
+				this.character = 0;
+			} else {
+				this.character++;
+			}
+			return c;
+		}
+
+		// only ever called directly after a call to next which did not hit the end, so the previous char is still in the buffer
+		private void back() {
+			this.position--;
+			this.index--;
+			if (this.buffer[this.position] == '\n') {
+				this.line--;
+			} else {
+				this.character--;
+			}
+		}
+
+		private boolean fill() throws IOException {
+			final int read = this.reader.read(this.buffer, 0, this.buffer.length);
+			this.position = 0;
+			this.limit = Math.max(read, 0);
+			return read > 0;
+		}
+
+		private @NotNull JSONException syntaxError(final @NotNull String message) {
+			return new JSONException(message + " at " + this.index + " [character " + this.character + " line " + this.line + "]");
+		}
+	}
+
+
+	private static final class ArrayIterator implements Iterator<Object> {
+
+		private final @NotNull Object array;
+		private final int length;
+		private int index;
+
+
+		private ArrayIterator(final @NotNull Object array) {
+			this.array = array;
+			this.length = Array.getLength(array);
+		}
+
+
+		@Override
+		public boolean hasNext() {
+			return this.index < this.length;
+		}
+
+		@Override
+		public @Nullable Object next() {
+			return Array.get(this.array, this.index++);
+		}
+	}
+}
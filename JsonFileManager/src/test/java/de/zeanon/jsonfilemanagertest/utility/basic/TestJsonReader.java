@@ -0,0 +1,83 @@
+package de.zeanon.jsonfilemanagertest.utility.basic;
+
+import de.zeanon.jsonfilemanager.internal.utility.parser.JsonFileParser;
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+
+
+@SuppressWarnings("rawtypes")
+class TestJsonReader {
+
+	private static @NotNull Map<String, Object> read(final @NotNull String json) {
+		return JsonFileParser.readData(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)),
+									   new CollectionsProvider<Map, List>(LinkedHashMap.class, ArrayList.class, false));
+	}
+
+	private static @NotNull Executable sameAsJSONObject(final @NotNull String json) {
+		return () -> Assertions.assertEquals(new JSONObject(json).toMap(), TestJsonReader.read(json), json);
+	}
+
+	@Test
+	@TestOnly
+	void lenientSyntax() {
+		Assertions.assertAll("LenientSyntax",
+							 TestJsonReader.sameAsJSONObject("{'single': 'quoted \"value\"', \"double\": \"it's\"}"),
+							 TestJsonReader.sameAsJSONObject("{'escaped': 'it\\'s', \"unicode\": \"\\u00e9\\/\"}"),
+							 TestJsonReader.sameAsJSONObject("{unquoted: some value, number: 1.5, long: 3000000000, flag: true, nothing: null}"),
+							 TestJsonReader.sameAsJSONObject("{\"a\": 1, \"b\": [1, 2,],}"),
+							 TestJsonReader.sameAsJSONObject("{\"a\": 1; \"b\": 2}"),
+							 TestJsonReader.sameAsJSONObject("{\"empty\": [,], \"gaps\": [1,,2], \"nested\": [[], {}, [,]]}"),
+							 TestJsonReader.sameAsJSONObject("{}"),
+							 TestJsonReader.sameAsJSONObject("\n\t{ \"spaced\" :\n[ 1 , \"two\" ] }\n"));
+	}
+
+	@Test
+	@TestOnly
+	void nullValues() {
+		final @NotNull Map<String, Object> data = TestJsonReader.read("{\"value\": null, \"list\": [null, 1]}");
+
+		Assertions.assertAll("NullValues",
+							 () -> Assertions.assertTrue(data.containsKey("value")),
+							 () -> Assertions.assertNull(data.get("value")),
+							 () -> Assertions.assertEquals(Arrays.asList(null, 1), data.get("list")));
+	}
+
+	@Test
+	@TestOnly
+	void malformed() {
+		Assertions.assertAll("Malformed", Stream.of("",
+													"[1, 2]",
+													"{",
+													"{\"a\"}",
+													"{\"a\" 1}",
+													"{\"a\":}",
+													"{\"a\": 1 \"b\": 2}",
+													"{\"a\": 1,",
+													"{\"a\": [1, 2}",
+													"{\"a\": [1,",
+													"{\"a\": \"unterminated}",
+													"{\"a\": \"line\nbreak\"}",
+													"{\"a\": \"\\x\"}",
+													"{\"a\": \"\\u12\"}",
+													"{\"a\": \"\\u12g4\"}",
+													"{\"a\": 1, \"a\": 2}")
+												.map(json -> () -> {
+													Assertions.assertThrows(JSONException.class, () -> new JSONObject(json), json);
+													Assertions.assertThrows(JSONException.class, () -> TestJsonReader.read(json), json);
+												}));
+	}
+}
@@ -0,0 +1,120 @@
+package de.zeanon.jsonfilemanagertest.utility.basic;
+
+import de.zeanon.jsonfilemanager.internal.utility.parser.JsonFileParser;
+import de.zeanon.jsonfilemanagertest.TestJsonFileManager;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.json.JSONObject;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestJsonWriter {
+
+	@BeforeAll
+	static void setup() {
+		TestJsonFileManager.clear("JsonWriter");
+	}
+
+	private static @NotNull Map<String, Object> testData() {
+		final @NotNull Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("single", Collections.singletonMap("only", "entry"));
+		nested.put("singleList", Collections.singletonList(1.5));
+		nested.put("emptyMap", Collections.emptyMap());
+		nested.put("emptyList", Collections.emptyList());
+		nested.put("dropped", null);
+
+		final @NotNull Map<String, Object> data = new LinkedHashMap<>();
+		data.put("string", "quote \" backslash \\ newline \n tab \t </script>");
+		data.put("int", 42);
+		data.put("long", 3000000000L);
+		data.put("double", -0.25);
+		data.put("boolean", true);
+		data.put("null", null);
+		data.put("nulls", Arrays.asList(null, "value", null));
+		data.put("array", new int[]{1, 2, 3});
+		data.put("objects", new Object[]{Collections.singletonMap("key", null), Arrays.asList("a", Arrays.asList(1, 2))});
+		data.put("enum", Write.ATOMIC);
+		data.put("bean", new Bean("name", 7));
+		data.put("nested", nested);
+		return data;
+	}
+
+	private static @NotNull String write(final @NotNull Map<String, Object> data, final int indentFactor) {
+		final @NotNull ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		JsonFileParser.writeData(outputStream, data, indentFactor);
+		return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	@TestOnly
+	void sameAsJSONObject() {
+		final @NotNull Map<String, Object> data = TestJsonWriter.testData();
+
+		Assertions.assertAll("SameAsJSONObject",
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(0), TestJsonWriter.write(data, 0)),
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(2), TestJsonWriter.write(data, 2)),
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(3), TestJsonWriter.write(data, 3)),
+							 () -> Assertions.assertTrue(TestJsonWriter.write(data, 2).contains("\"value\": 7")));
+	}
+
+	@Test
+	@TestOnly
+	void singleEntry() {
+		final @NotNull Map<String, Object> data = Collections.singletonMap("list", Collections.singletonList(Collections.singletonMap("key", "value")));
+
+		Assertions.assertAll("SingleEntry",
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(0), TestJsonWriter.write(data, 0)),
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(2), TestJsonWriter.write(data, 2)),
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(3), TestJsonWriter.write(data, 3)));
+	}
+
+	@Test
+	@TestOnly
+	void streamedToFile() throws IOException {
+		final @NotNull Map<String, Object> data = TestJsonWriter.testData();
+		final @NotNull File inPlaceFile = new File("src/test/resources/testresults/jsonwriter", "inplace.json");
+		final @NotNull File atomicFile = new File("src/test/resources/testresults/jsonwriter", "atomic.json");
+		Files.createDirectories(inPlaceFile.toPath().getParent());
+		JsonFileParser.writeData(inPlaceFile, data, 2, Write.IN_PLACE);
+		JsonFileParser.writeData(atomicFile, data, 3, Write.ATOMIC);
+
+		Assertions.assertAll("StreamedToFile",
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(2), new String(Files.readAllBytes(inPlaceFile.toPath()), StandardCharsets.UTF_8)),
+							 () -> Assertions.assertEquals(new JSONObject(data).toString(3), new String(Files.readAllBytes(atomicFile.toPath()), StandardCharsets.UTF_8)));
+	}
+
+
+	@SuppressWarnings("unused")
+	public static final class Bean {
+
+		private final @NotNull String name;
+		private final int value;
+
+
+		private Bean(final @NotNull String name, final int value) {
+			this.name = name;
+			this.value = value;
+		}
+
+
+		public @NotNull String getName() {
+			return this.name;
+		}
+
+		public int getValue() {
+			return this.value;
+		}
+	}
+}
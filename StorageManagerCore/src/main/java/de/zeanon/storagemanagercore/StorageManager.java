@@ -2,14 +2,23 @@ package de.zeanon.storagemanagercore;
 
 import de.zeanon.storagemanagercore.internal.base.files.FlatFile;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
+import de.zeanon.storagemanagercore.internal.base.interfaces.WriteSetting;
 import de.zeanon.storagemanagercore.internal.base.settings.Reload;
+import de.zeanon.storagemanagercore.internal.base.settings.SaveMode;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
 import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
 import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.InputStream;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.jetbrains.annotations.Contract;
@@ -21,7 +30,7 @@ import org.jetbrains.annotations.Nullable;
  * Builder for StorageManager DataFile Classes
  *
  * @author Zeanon
- * @version 2.0.0
+ * @version 2.1.0
  */
 @ToString
 @EqualsAndHashCode
@@ -34,6 +43,11 @@ public abstract class StorageManager<B extends StorageManager, F extends FlatFil
 	protected @NotNull Class<? extends M> mapType;
 	protected @NotNull Class<? extends L> listType;
 	protected boolean synchronizeData = false;
+	protected @NotNull SaveMode saveMode = SaveMode.IMMEDIATELY;
+	protected long maxSaveDelay = 1000;
+	protected int maxDirtyOperations = 500;
+	protected @NotNull WriteSetting writeSetting = Write.IN_PLACE;
+	protected boolean keepChannelOpen = false;
 
 	@Contract(pure = true)
 	protected StorageManager(final @NotNull File file, final @NotNull Class<? extends M> mapType, final @NotNull Class<? extends L> listType) {
@@ -43,6 +57,47 @@ public abstract class StorageManager<B extends StorageManager, F extends FlatFil
 	}
 
 
+	/**
+	 * Load the given Files in parallel on the common {@link ForkJoinPool}
+	 *
+	 * @see #loadAll(Collection, Function, Executor)
+	 */
+	public static @NotNull <F extends FlatFile> CompletableFuture<Map<Path, F>> loadAll(final @NotNull Collection<Path> files,
+																					   final @NotNull Function<? super Path, ? extends StorageManager<?, ? extends F, ?, ?>> builder) {
+		return StorageManager.loadAll(files, builder, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Load the given Files in parallel, every File is created and parsed in its own task on the given Executor
+	 * <p>
+	 * Each File is read under its {@link de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock}
+	 * just like on a single {@link #create()}, Paths given more than once are only loaded once
+	 *
+	 * @param files    the Files to be loaded
+	 * @param builder  the Builder to be used for a File, e.g. {@code ThunderFileManager::thunderFile}
+	 * @param executor the Executor to load the Files on
+	 * @param <F>      the Type of the FlatFiles to be created
+	 *
+	 * @return a future completing with the loaded Files in the order of the given Paths,
+	 * or exceptionally with the first failure if any of the Files could not be loaded
+	 */
+	public static @NotNull <F extends FlatFile> CompletableFuture<Map<Path, F>> loadAll(final @NotNull Collection<Path> files,
+																					   final @NotNull Function<? super Path, ? extends StorageManager<?, ? extends F, ?, ?>> builder,
+																					   final @NotNull Executor executor) {
+		final @NotNull Map<Path, CompletableFuture<F>> tasks = new LinkedHashMap<>();
+		for (final @NotNull Path file : files) {
+			tasks.computeIfAbsent(file, path -> CompletableFuture.supplyAsync(() -> builder.apply(path).create(), executor));
+		}
+
+		return CompletableFuture.allOf(tasks.values().toArray(new CompletableFuture[0]))
+								.thenApply(ignored -> {
+									final @NotNull Map<Path, F> result = new LinkedHashMap<>();
+									tasks.forEach((path, task) -> result.put(path, task.join()));
+									return result;
+								});
+	}
+
+
 	@Contract("_ -> this")
 	public final @NotNull B fromInputStream(final @NotNull InputStream inputStream) {
 		this.inputStream = BaseFileUtils.createNewInputStream(inputStream);
@@ -127,6 +182,56 @@ public abstract class StorageManager<B extends StorageManager, F extends FlatFil
 		return (B) this;
 	}
 
+	/**
+	 * Set when changes should be written to the File, default is {@link SaveMode#IMMEDIATELY}
+	 */
+	@Contract("_ -> this")
+	public final @NotNull B saveMode(final @NotNull SaveMode saveMode) {
+		this.saveMode = saveMode;
+		//noinspection unchecked
+		return (B) this;
+	}
+
+	/**
+	 * Set the maximum time in milliseconds changes may stay unsaved with {@link SaveMode#DEFERRED}
+	 */
+	@Contract("_ -> this")
+	public final @NotNull B maxSaveDelay(final long maxSaveDelay) {
+		this.maxSaveDelay = maxSaveDelay;
+		//noinspection unchecked
+		return (B) this;
+	}
+
+	/**
+	 * Set the amount of unsaved changes after which a save is triggered with {@link SaveMode#DEFERRED}
+	 */
+	@Contract("_ -> this")
+	public final @NotNull B maxDirtyOperations(final int maxDirtyOperations) {
+		this.maxDirtyOperations = maxDirtyOperations;
+		//noinspection unchecked
+		return (B) this;
+	}
+
+	/**
+	 * Set how the File is written to disk when saving, default is {@link Write#IN_PLACE}
+	 */
+	@Contract("_ -> this")
+	public final @NotNull B writeSetting(final @NotNull WriteSetting writeSetting) {
+		this.writeSetting = writeSetting;
+		//noinspection unchecked
+		return (B) this;
+	}
+
+	/**
+	 * Set whether the channel of the File should be kept open between reads and saves, default is false
+	 */
+	@Contract("_ -> this")
+	public final @NotNull B keepChannelOpen(final boolean keepChannelOpen) {
+		this.keepChannelOpen = keepChannelOpen;
+		//noinspection unchecked
+		return (B) this;
+	}
+
 	public abstract @NotNull B bigList(final boolean bigList);
 
 	public abstract @NotNull B concurrentData(final boolean concurrentData);
@@ -139,4 +244,22 @@ public abstract class StorageManager<B extends StorageManager, F extends FlatFil
 	 */
 	@Contract("-> new")
 	public abstract @NotNull F create();
+
+
+	/**
+	 * Apply the save settings of this Builder to the given FlatFile
+	 *
+	 * @param flatFile the FlatFile to be configured
+	 *
+	 * @return the given FlatFile
+	 */
+	@Contract("_ -> param1")
+	protected final @NotNull F applySaveSettings(final @NotNull F flatFile) {
+		flatFile.maxSaveDelay(this.maxSaveDelay);
+		flatFile.maxDirtyOperations(this.maxDirtyOperations);
+		flatFile.writeSetting(this.writeSetting);
+		flatFile.keepChannelOpen(this.keepChannelOpen);
+		flatFile.saveMode(this.saveMode);
+		return flatFile;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012 by Thomas Mauch
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Adapted by Zeanon from GapList to store the elements in a primitive array
+ */
+package de.zeanon.storagemanagercore.external.browniescollections;
+
+import java.util.Arrays;
+
+
+/**
+ * A GapList storing its elements as primitive double values.
+ * Besides the List methods working on boxed values,
+ * it offers primitive accessors which do not box at all.
+ *
+ * <strong>Note that this implementation is not synchronized.</strong>
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ * @see PrimitiveGapList
+ */
+public class DoubleGapList extends PrimitiveGapList<Double> {
+
+	/**
+	 * UID for serialization
+	 */
+	private static final long serialVersionUID = -4915637203286915433L;
+
+	/**
+	 * Construct a list with the default initial capacity.
+	 */
+	public DoubleGapList() {
+		super(0);
+	}
+
+	/**
+	 * Construct a list with specified initial capacity.
+	 *
+	 * @param capacity capacity
+	 */
+	public DoubleGapList(int capacity) {
+		super(capacity);
+	}
+
+	/**
+	 * Construct a list backed by the given array.
+	 *
+	 * @param values array with the elements, it is used directly
+	 * @param size   number of elements
+	 */
+	private DoubleGapList(double[] values, int size) {
+		super(values, size);
+	}
+
+	/**
+	 * Create new list with specified elements.
+	 *
+	 * @param elems array with elements, it is copied
+	 *
+	 * @return created list
+	 */
+	public static DoubleGapList create(double... elems) {
+		return new DoubleGapList(elems.clone(), elems.length);
+	}
+
+	/**
+	 * Get the element at the specified position without boxing it.
+	 *
+	 * @param index index of element to return
+	 *
+	 * @return the element at the specified position
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double getDouble(int index) {
+		checkIndex(index);
+		return ((double[]) values())[physIndex(index)];
+	}
+
+	/**
+	 * Replace the element at the specified position without boxing it.
+	 *
+	 * @param index index of element to replace
+	 * @param elem  element to be stored at the specified position
+	 *
+	 * @return the element previously at the specified position
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public double setDouble(int index, double elem) {
+		checkIndex(index);
+		doModify();
+		double[] values = (double[]) values();
+		int physIdx = physIndex(index);
+		double oldElem = values[physIdx];
+		values[physIdx] = elem;
+		return oldElem;
+	}
+
+	/**
+	 * Append the specified element to the end of this list without boxing it.
+	 *
+	 * @param elem element to be appended
+	 */
+	public void addDouble(double elem) {
+		int physIdx = doAddSlot(-1);
+		((double[]) values())[physIdx] = elem;
+	}
+
+	/**
+	 * Insert the specified element at the specified position without boxing it.
+	 *
+	 * @param index index at which the element is to be inserted
+	 * @param elem  element to be inserted
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public void addDouble(int index, double elem) {
+		checkIndexAdd(index);
+		int physIdx = doAddSlot(index);
+		((double[]) values())[physIdx] = elem;
+	}
+
+	/**
+	 * @return a new array containing all elements of this list in their proper order
+	 */
+	public double[] toDoubleArray() {
+		return (double[]) toPrimitiveArray();
+	}
+
+	@Override
+	public Double getDefaultElem() {
+		return 0.0;
+	}
+
+	@Override
+	public DoubleGapList copy() {
+		return (DoubleGapList) super.copy();
+	}
+
+	@Override
+	protected DoubleGapList doCreate(int capacity) {
+		if (capacity == -1) {
+			capacity = DEFAULT_CAPACITY;
+		}
+		return new DoubleGapList(capacity);
+	}
+
+	@Override
+	protected Object newValues(int capacity) {
+		return new double[capacity];
+	}
+
+	@Override
+	protected Double doGetPhysical(int physIdx) {
+		return ((double[]) values())[physIdx];
+	}
+
+	@Override
+	protected void doSetPhysical(int physIdx, Double elem) {
+		((double[]) values())[physIdx] = elem;
+	}
+
+	@Override
+	protected void doSort(Object values, int fromIndex, int toIndex) {
+		Arrays.sort((double[]) values, fromIndex, toIndex);
+	}
+
+	@Override
+	protected int doBinarySearch(Object values, int fromIndex, int toIndex, Number key) {
+		return Arrays.binarySearch((double[]) values, fromIndex, toIndex, key.doubleValue());
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2012 by Thomas Mauch
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Adapted by Zeanon from GapList to store the elements in a primitive array
+ */
+package de.zeanon.storagemanagercore.external.browniescollections;
+
+import java.util.Arrays;
+
+
+/**
+ * A GapList storing its elements as primitive int values.
+ * Besides the List methods working on boxed values,
+ * it offers primitive accessors which do not box at all.
+ *
+ * <strong>Note that this implementation is not synchronized.</strong>
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ * @see PrimitiveGapList
+ */
+public class IntGapList extends PrimitiveGapList<Integer> {
+
+	/**
+	 * UID for serialization
+	 */
+	private static final long serialVersionUID = -2387425167367468517L;
+
+	/**
+	 * Construct a list with the default initial capacity.
+	 */
+	public IntGapList() {
+		super(0);
+	}
+
+	/**
+	 * Construct a list with specified initial capacity.
+	 *
+	 * @param capacity capacity
+	 */
+	public IntGapList(int capacity) {
+		super(capacity);
+	}
+
+	/**
+	 * Construct a list backed by the given array.
+	 *
+	 * @param values array with the elements, it is used directly
+	 * @param size   number of elements
+	 */
+	private IntGapList(int[] values, int size) {
+		super(values, size);
+	}
+
+	/**
+	 * Create new list with specified elements.
+	 *
+	 * @param elems array with elements, it is copied
+	 *
+	 * @return created list
+	 */
+	public static IntGapList create(int... elems) {
+		return new IntGapList(elems.clone(), elems.length);
+	}
+
+	/**
+	 * Get the element at the specified position without boxing it.
+	 *
+	 * @param index index of element to return
+	 *
+	 * @return the element at the specified position
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public int getInt(int index) {
+		checkIndex(index);
+		return ((int[]) values())[physIndex(index)];
+	}
+
+	/**
+	 * Replace the element at the specified position without boxing it.
+	 *
+	 * @param index index of element to replace
+	 * @param elem  element to be stored at the specified position
+	 *
+	 * @return the element previously at the specified position
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public int setInt(int index, int elem) {
+		checkIndex(index);
+		doModify();
+		int[] values = (int[]) values();
+		int physIdx = physIndex(index);
+		int oldElem = values[physIdx];
+		values[physIdx] = elem;
+		return oldElem;
+	}
+
+	/**
+	 * Append the specified element to the end of this list without boxing it.
+	 *
+	 * @param elem element to be appended
+	 */
+	public void addInt(int elem) {
+		int physIdx = doAddSlot(-1);
+		((int[]) values())[physIdx] = elem;
+	}
+
+	/**
+	 * Insert the specified element at the specified position without boxing it.
+	 *
+	 * @param index index at which the element is to be inserted
+	 * @param elem  element to be inserted
+	 *
+	 * @throws IndexOutOfBoundsException if the index is out of range
+	 */
+	public void addInt(int index, int elem) {
+		checkIndexAdd(index);
+		int physIdx = doAddSlot(index);
+		((int[]) values())[physIdx] = elem;
+	}
+
+	/**
+	 * @return a new array containing all elements of this list in their proper order
+	 */
+	public int[] toIntArray() {
+		return (int[]) toPrimitiveArray();
+	}
+
+	@Override
+	public Integer getDefaultElem() {
+		return 0;
+	}
+
+	@Override
+	public IntGapList copy() {
+		return (IntGapList) super.copy();
+	}
+
+	@Override
+	protected IntGapList doCreate(int capacity) {
+		if (capacity == -1) {
+			capacity = DEFAULT_CAPACITY;
+		}
+		return new IntGapList(capacity);
+	}
+
+	@Override
+	protected Object newValues(int capacity) {
+		return new int[capacity];
+	}
+
+	@Override
+	protected Integer doGetPhysical(int physIdx) {
+		return ((int[]) values())[physIdx];
+	}
+
+	@Override
+	protected void doSetPhysical(int physIdx, Integer elem) {
+		((int[]) values())[physIdx] = elem;
+	}
+
+	@Override
+	protected void doSort(Object values, int fromIndex, int toIndex) {
+		Arrays.sort((int[]) values, fromIndex, toIndex);
+	}
+
+	@Override
+	protected int doBinarySearch(Object values, int fromIndex, int toIndex, Number key) {
+		return Arrays.binarySearch((int[]) values, fromIndex, toIndex, key.intValue());
+	}
+}
@@ -0,0 +1,717 @@
+/*
+ * Copyright 2012 by Thomas Mauch
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Adapted by Zeanon from GapList to store the elements in a primitive array
+ */
+package de.zeanon.storagemanagercore.external.browniescollections;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+
+/**
+ * Base of the primitive GapList variants, {@link IntGapList}, {@link LongGapList} and {@link DoubleGapList}.
+ * It uses the same gap buffer as {@link GapList}, but the elements are held in a primitive array,
+ * so no boxed object is kept per element.
+ * The subclasses only have to provide the access to the primitive array.
+ *
+ * <strong>Note that this implementation is not synchronized.</strong>
+ *
+ * @param <E> the boxed type of the elements stored in the list
+ *
+ * @author Zeanon
+ * @version 1.0.1
+ * @see GapList
+ */
+@SuppressWarnings("unchecked")
+public abstract class PrimitiveGapList<E> extends IList<E> {
+
+	/**
+	 * Default capacity for list
+	 */
+	public static final int DEFAULT_CAPACITY = 10;
+	/**
+	 * UID for serialization
+	 */
+	private static final long serialVersionUID = 4112543916350720357L;
+	/**
+	 * Primitive array holding raw data
+	 */
+	private Object values;
+	/**
+	 * Length of the values array
+	 */
+	private int capacity;
+	/**
+	 * Number of elements stored in this list
+	 */
+	private int size;
+	/**
+	 * Physical position of first element
+	 */
+	private int start;
+	/**
+	 * Physical position after last element
+	 */
+	private int end;
+	/**
+	 * Size of gap (0 if there is no gap)
+	 */
+	private int gapSize;
+	/**
+	 * Logical index of first element after gap (ignored if gapSize=0)
+	 */
+	private int gapIndex;
+	/**
+	 * Physical position of first slot in gap (ignored if gapSize=0)
+	 */
+	private int gapStart;
+
+	/**
+	 * Construct a list with specified initial capacity.
+	 *
+	 * @param capacity capacity
+	 */
+	protected PrimitiveGapList(int capacity) {
+		init(newValues(capacity), 0);
+	}
+
+	/**
+	 * Construct a list holding the given primitive array as its elements.
+	 * The array is used directly, it is not copied.
+	 *
+	 * @param values primitive array with the elements
+	 * @param size   number of elements
+	 */
+	protected PrimitiveGapList(Object values, int size) {
+		init(values, size);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public E get(int index) {
+		checkIndex(index);
+		return doGetPhysical(physIndex(index));
+	}
+
+	@Override
+	public boolean add(E elem) {
+		return doAdd(-1, elem);
+	}
+
+	@Override
+	public void add(int index, E elem) {
+		checkIndexAdd(index);
+		doAdd(index, elem);
+	}
+
+	@Override
+	public E remove(int index) {
+		checkIndex(index);
+		return doRemove(index);
+	}
+
+	/**
+	 * Trims the capacity of this list instance to be the list's current size.
+	 */
+	@Override
+	public void trimToSize() {
+		doModify();
+
+		if (size < capacity) {
+			init(toPrimitiveArray(), size);
+		}
+	}
+
+	@Override
+	public IList<E> unmodifiableList() {
+		// Naming as in java.util.Collections#unmodifiableList
+		// The view reads through to this list, so it never works on a values array this list has already replaced
+		return new IReadOnlyListFromList<E>(this);
+	}
+
+	@Override
+	public void sort(int index, int len, Comparator<? super E> comparator) {
+		checkRange(index, len);
+
+		doModify();
+		normalize();
+		if (comparator == null) {
+			doSort(values, index, index + len);
+		} else {
+			Object[] array = new Object[len];
+			for (int i = 0; i < len; i++) {
+				array[i] = doGetPhysical(index + i);
+			}
+			Arrays.sort(array, (Comparator<Object>) comparator);
+			for (int i = 0; i < len; i++) {
+				doSetPhysical(index + i, (E) array[i]);
+			}
+		}
+	}
+
+	@Override
+	public <K> int binarySearch(int index, int len, K key, Comparator<? super K> comparator) {
+		checkRange(index, len);
+
+		normalize();
+		if (comparator == null && key instanceof Number) {
+			return doBinarySearch(values, index, index + len, (Number) key);
+		}
+
+		Comparator<Object> tempComparator = comparator == null ? (o1, o2) -> ((Comparable<Object>) o1).compareTo(o2) : (Comparator<Object>) comparator;
+		int low = index;
+		int high = index + len - 1;
+		while (low <= high) {
+			int mid = (low + high) >>> 1;
+			int cmp = tempComparator.compare(doGetPhysical(mid), key);
+			if (cmp < 0) {
+				low = mid + 1;
+			} else if (cmp > 0) {
+				high = mid - 1;
+			} else {
+				return mid;
+			}
+		}
+		return -(low + 1);
+	}
+
+	/**
+	 * Physical index of the element with the given logical index.
+	 * The returned index is only valid until the list is modified.
+	 *
+	 * @param index logical index of element, must be valid
+	 *
+	 * @return index of the element in {@link #values()}
+	 */
+	protected final int physIndex(int index) {
+		int physIdx = index + start;
+		if (index >= gapIndex) {
+			physIdx += gapSize;
+		}
+		if (physIdx >= capacity) {
+			physIdx -= capacity;
+		}
+		return physIdx;
+	}
+
+	/**
+	 * @return the primitive array currently holding the elements, see {@link #physIndex(int)}
+	 */
+	protected final Object values() {
+		return values;
+	}
+
+	/**
+	 * @return a new primitive array holding all elements of this list in their proper order
+	 */
+	protected final Object toPrimitiveArray() {
+		Object array = newValues(size);
+		copyTo(array, 0, size);
+		return array;
+	}
+
+	/**
+	 * @param capacity length of the array
+	 *
+	 * @return a new primitive array of the element type
+	 */
+	protected abstract Object newValues(int capacity);
+
+	/**
+	 * @return the element stored at the given physical index, boxed
+	 */
+	protected abstract E doGetPhysical(int physIdx);
+
+	/**
+	 * Store the given element at the given physical index, unboxed
+	 */
+	protected abstract void doSetPhysical(int physIdx, E elem);
+
+	/**
+	 * Sort the given range of the given array in natural order
+	 */
+	protected abstract void doSort(Object values, int fromIndex, int toIndex);
+
+	/**
+	 * Binary search for the given key in the given range of the given array in natural order
+	 */
+	protected abstract int doBinarySearch(Object values, int fromIndex, int toIndex, Number key);
+
+	/**
+	 * Initialize all instance fields.
+	 *
+	 * @param values new values array
+	 * @param size   new size
+	 */
+	void init(Object values, int size) {
+		this.values = values;
+		this.capacity = Array.getLength(values);
+		this.size = size;
+
+		// the elements are stored from 0 to size, end wraps around to 0 if the array is full
+		start = 0;
+		end = size == capacity ? 0 : size;
+		gapSize = 0;
+		gapStart = 0;
+		gapIndex = 0;
+	}
+
+	@Override
+	protected void doAssign(IList<E> that) {
+		PrimitiveGapList<E> list = (PrimitiveGapList<E>) that;
+		this.values = list.values;
+		this.capacity = list.capacity;
+		this.size = list.size;
+		this.start = list.start;
+		this.end = list.end;
+		this.gapSize = list.gapSize;
+		this.gapIndex = list.gapIndex;
+		this.gapStart = list.gapStart;
+	}
+
+	@Override
+	protected void doClone(IList<E> that) {
+		// Do not simply clone the array, but make sure its capacity
+		// is equal to the size (as in ArrayList)
+		PrimitiveGapList<E> list = (PrimitiveGapList<E>) that;
+		init(list.toPrimitiveArray(), list.size);
+	}
+
+	@Override
+	protected void doClear() {
+		doModify();
+		init(values, 0);
+	}
+
+	@Override
+	protected E doGet(int index) {
+		return doGetPhysical(physIndex(index));
+	}
+
+	@Override
+	protected E doSet(int index, E elem) {
+		doModify();
+		Objects.requireNonNull(elem, "primitive lists can not hold null");
+		int physIdx = physIndex(index);
+		E oldElem = doGetPhysical(physIdx);
+		doSetPhysical(physIdx, elem);
+		return oldElem;
+	}
+
+	@Override
+	protected E doReSet(int index, E elem) {
+		return doSet(index, elem);
+	}
+
+	@Override
+	protected boolean doAdd(int index, E elem) {
+		Objects.requireNonNull(elem, "primitive lists can not hold null");
+		doSetPhysical(doAddSlot(index), elem);
+		return true;
+	}
+
+	/**
+	 * Make room for a new element at the given index.
+	 * The returned slot must be written to by the caller before the list is accessed again.
+	 *
+	 * @param index index where element should be added
+	 *              (-1 means at the end of the list)
+	 *
+	 * @return physical index of the slot of the new element in {@link #values()}
+	 */
+	protected final int doAddSlot(int index) {
+		doModify();
+		doEnsureCapacity(size + 1);
+
+		if (index == -1) {
+			index = size;
+		}
+
+		int physIdx;
+		// Add at last position
+		if (index == size && (end != start || size == 0)) {
+			physIdx = end;
+			end++;
+			if (end >= capacity) {
+				end -= capacity;
+			}
+
+			// Add at first position
+		} else if (index == 0 && (end != start || size == 0)) {
+			start--;
+			if (start < 0) {
+				start += capacity;
+			}
+			physIdx = start;
+			if (gapSize > 0) {
+				gapIndex++;
+			}
+
+			// Shrink gap
+		} else if (gapSize > 0 && index == gapIndex) {
+			physIdx = gapStart + gapSize - 1;
+			if (physIdx >= capacity) {
+				physIdx -= capacity;
+			}
+			gapSize--;
+
+			// Add at other positions
+		} else {
+			physIdx = physIndex(index);
+
+			if (gapSize == 0) {
+				// Create new gap
+				if (start < end && start > 0) {
+					// Space is at head and tail
+					int len1 = physIdx - start;
+					int len2 = end - physIdx;
+					if (len1 <= len2) {
+						moveData(start, 0, len1);
+						gapSize = start - 1;
+						gapStart = len1;
+						gapIndex = len1;
+						start = 0;
+						physIdx--;
+					} else {
+						moveData(physIdx, capacity - len2, len2);
+						gapSize = capacity - end - 1;
+						gapStart = physIdx + 1;
+						gapIndex = index + 1;
+						end = 0;
+					}
+				} else if (physIdx < end) {
+					int len = end - physIdx;
+					int rightSize = (start - end + capacity) % capacity;
+					moveData(physIdx, end + rightSize - len, len);
+					end = start;
+					gapSize = rightSize - 1;
+					gapStart = physIdx + 1;
+					gapIndex = index + 1;
+				} else {
+					int len = physIdx - start;
+					int rightSize = start - end;
+					moveData(start, end, len);
+					start -= rightSize;
+					end = start;
+					gapSize = rightSize - 1;
+					gapStart = start + len;
+					gapIndex = index;
+					physIdx--;
+				}
+			} else {
+				// Move existing gap
+				boolean moveLeft;
+				int gapEnd = (gapStart + gapSize - 1) % capacity + 1;
+				if (gapEnd < gapStart) {
+					// Gap is at head and tail
+					int len1 = physIdx - gapEnd;
+					int len2 = gapStart - physIdx - 1;
+					moveLeft = len1 <= len2;
+				} else {
+					moveLeft = physIdx > gapStart;
+				}
+				if (moveLeft) {
+					int src = gapStart + gapSize;
+					int dst = gapStart;
+					int len = physIdx - gapEnd;
+					moveDataWithGap(src, dst, len);
+					physIdx--;
+					gapSize--;
+					gapIndex = index;
+					gapStart += len;
+					if (gapStart >= capacity) {
+						gapStart -= capacity;
+					}
+
+					if (index == 0) {
+						start = physIdx;
+						if ((gapStart + gapSize) % capacity == start) {
+							end = gapStart;
+							gapSize = 0;
+						}
+					}
+				} else {
+					int src = physIdx;
+					int dst = physIdx + gapSize;
+					int len = gapStart - physIdx;
+					moveDataWithGap(src, dst, len);
+					gapSize--;
+					gapStart = physIdx + 1;
+					gapIndex = index + 1;
+
+					if (index == 0) {
+						start = physIdx;
+						end = physIdx;
+					} else if (index == size) {
+						if ((gapStart + gapSize) % capacity == start) {
+							end = gapStart;
+							gapSize = 0;
+						}
+					}
+				}
+			}
+		}
+
+		size++;
+		return physIdx;
+	}
+
+	@Override
+	protected E doRemove(int index) {
+		doModify();
+		int physIdx;
+
+		// Remove at last position
+		if (index == size - 1) {
+			end--;
+			if (end < 0) {
+				end += capacity;
+			}
+			physIdx = end;
+
+			// Remove gap if it is followed by only one element
+			if (gapSize > 0 && gapIndex == index) {
+				end = gapStart;
+				gapSize = 0;
+			}
+
+			// Remove at first position
+		} else if (index == 0) {
+			physIdx = start;
+			start++;
+			if (start >= capacity) {
+				start -= capacity;
+			}
+
+			// Remove gap if if it is preceded by only one element
+			if (gapSize > 0) {
+				if (gapIndex == 1) {
+					start += gapSize;
+					if (start >= capacity) {
+						start -= capacity;
+					}
+					gapSize = 0;
+				} else {
+					gapIndex--;
+				}
+			}
+		} else {
+			// Remove in middle of list
+			physIdx = physIndex(index);
+
+			if (gapSize == 0) {
+				// Create gap
+				gapIndex = index;
+				gapStart = physIdx;
+				gapSize = 1;
+			} else if (index == gapIndex) {
+				// Extend existing gap at tail
+				gapSize++;
+			} else if (index == gapIndex - 1) {
+				// Extend existing gap at head
+				gapStart--;
+				if (gapStart < 0) {
+					gapStart += capacity;
+				}
+				gapSize++;
+				gapIndex--;
+			} else {
+				// Move existing gap
+				boolean moveLeft;
+				int gapEnd = (gapStart + gapSize - 1) % capacity + 1;
+				if (gapEnd < gapStart) {
+					// Gap is at head and tail: check where fewer
+					// elements must be moved
+					int len1 = physIdx - gapEnd;
+					int len2 = gapStart - physIdx - 1;
+					moveLeft = len1 <= len2;
+				} else {
+					moveLeft = physIdx > gapStart;
+				}
+				if (moveLeft) {
+					int src = gapStart + gapSize;
+					int dst = gapStart;
+					int len = physIdx - gapEnd;
+					moveDataWithGap(src, dst, len);
+					gapStart += len;
+					if (gapStart >= capacity) {
+						gapStart -= capacity;
+					}
+					gapSize++;
+				} else {
+					int src = physIdx + 1;
+					int dst = physIdx + gapSize + 1;
+					int len = gapStart - physIdx - 1;
+					moveDataWithGap(src, dst, len);
+					gapStart = physIdx;
+					gapSize++;
+				}
+				gapIndex = index;
+			}
+		}
+
+		E removed = doGetPhysical(physIdx);
+		size--;
+		return removed;
+	}
+
+	@Override
+	protected void doEnsureCapacity(int minCapacity) {
+		// Note: Same behavior as in ArrayList.ensureCapacity()
+		int oldCapacity = capacity;
+		if (minCapacity <= oldCapacity) {
+			return;    // do not shrink
+		}
+		minCapacity = Math.max(DEFAULT_CAPACITY, minCapacity);
+		int newCapacity = (oldCapacity * 3) / 2 + 1;
+		if (newCapacity < minCapacity) {
+			newCapacity = minCapacity;
+		}
+
+		Object newValues = newValues(newCapacity);
+		if (size == 0) {
+			// nothing to copy
+		} else if (start == 0) {
+			System.arraycopy(values, 0, newValues, 0, oldCapacity);
+		} else if (start > 0) {
+			int grow = newCapacity - oldCapacity;
+			System.arraycopy(values, 0, newValues, 0, start);
+			System.arraycopy(values, start, newValues, start + grow, oldCapacity - start);
+			if (gapStart > start && gapSize > 0) {
+				gapStart += grow;
+			}
+			if (end > start) {
+				end += grow;
+			}
+			start += grow;
+		}
+		if (end == 0 && start == 0 && size != 0) {
+			end = oldCapacity;
+		}
+		values = newValues;
+		capacity = newCapacity;
+	}
+
+	@Override
+	protected void doRemoveAll(int index, int len) {
+		if (len == size()) {
+			doClear();
+		} else {
+			for (int i = 0; i < len; i++) {
+				doRemove(index);
+			}
+		}
+	}
+
+	/**
+	 * Copy the given range of elements in their proper order to the given primitive array.
+	 *
+	 * @param array primitive array to copy the elements to, starting at 0
+	 * @param index index of first element to be copied
+	 * @param len   number of elements to be copied
+	 */
+	protected final void copyTo(Object array, int index, int len) {
+		int pos = 0;
+		while (pos < len) {
+			int physIdx = physIndex(index + pos);
+			// copy up to the end of the array, the start of the gap or the end of the range, whatever comes first
+			int num = Math.min(len - pos, capacity - physIdx);
+			if (gapSize > 0 && index + pos < gapIndex) {
+				num = Math.min(num, gapIndex - index - pos);
+			}
+			System.arraycopy(values, physIdx, array, pos, num);
+			pos += num;
+		}
+	}
+
+	/**
+	 * Normalize data of the list so the elements are found
+	 * from values[0] to values[size-1].
+	 */
+	private void normalize() {
+		if (start == 0 && gapSize == 0 && (end == size || (end == 0 && size == capacity))) {
+			return;
+		}
+		init(toPrimitiveArray(), size);
+	}
+
+	/**
+	 * Move a range of elements in the values array and adjust the gap.
+	 *
+	 * @param src start index of source range
+	 * @param dst start index of destination range
+	 * @param len number of elements to move
+	 */
+	private void moveDataWithGap(int src, int dst, int len) {
+		if (src > capacity) {
+			src -= capacity;
+		}
+		if (dst > capacity) {
+			dst -= capacity;
+		}
+
+		if (start >= src && start < src + len) {
+			start += dst - src;
+			if (start >= capacity) {
+				start -= capacity;
+			}
+		}
+		if (end >= src && end < src + len) {
+			end += dst - src;
+			if (end >= capacity) {
+				end -= capacity;
+			}
+		}
+		if (dst + len <= capacity) {
+			moveData(src, dst, len);
+		} else {
+			// Destination range overlaps end of range so do the
+			// move in two calls
+			int len2 = dst + len - capacity;
+			int len1 = len - len2;
+			if (!(src <= len2 && len2 < dst)) {
+				moveData(src + len1, 0, len2);
+				moveData(src, dst, len1);
+			} else {
+				moveData(src, dst, len1);
+				moveData(src + len1, 0, len2);
+			}
+		}
+	}
+
+	/**
+	 * Move a range of elements in the values array.
+	 * Unlike in GapList the freed slots do not have to be cleared, as they hold no references.
+	 *
+	 * @param src start index of source range
+	 * @param dst start index of destination range
+	 * @param len number of elements to move
+	 */
+	private void moveData(int src, int dst, int len) {
+		System.arraycopy(values, src, values, dst, len);
+	}
+}
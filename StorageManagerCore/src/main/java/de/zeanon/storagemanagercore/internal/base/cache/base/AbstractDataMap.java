@@ -2,9 +2,11 @@ package de.zeanon.storagemanagercore.internal.base.cache.base;
 
 import de.zeanon.storagemanagercore.external.browniescollections.IList;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.utility.basic.ConvertedValue;
 import java.io.Serializable;
 import java.util.*;
-import lombok.AllArgsConstructor;
+import java.util.function.Function;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.jetbrains.annotations.Contract;
@@ -19,7 +21,7 @@ import org.jetbrains.annotations.Nullable;
  * @param <V> the type of mapped values
  *
  * @author Zeanon
- * @version 1.4.0
+ * @version 1.5.0
  */
 @EqualsAndHashCode(callSuper = true)
 @SuppressWarnings("unused")
@@ -220,6 +222,16 @@ public abstract class AbstractDataMap<K, V> extends AbstractMap<K, V> implements
 		return this.localList.get(index).getValue();
 	}
 
+	@Override
+	public @Nullable DataNode<K, V> getNode(final @NotNull Object key) {
+		for (final @NotNull DataMap.DataNode<K, V> tempNode : this.localList) {
+			if (tempNode.getKey().equals(key)) {
+				return tempNode;
+			}
+		}
+		return null;
+	}
+
 	/**
 	 * Removes the mapping for the specified key from this map if present.
 	 *
@@ -327,11 +339,10 @@ public abstract class AbstractDataMap<K, V> extends AbstractMap<K, V> implements
 	 * @param <V> the type of mapped values
 	 *
 	 * @author Zeanon
-	 * @version 1.3.0
+	 * @version 1.4.0
 	 */
 	@EqualsAndHashCode
 	@Getter(onMethod_ = {@Override})
-	@AllArgsConstructor(onConstructor_ = {@Contract(pure = true)})
 	private static class Node<K, V> implements DataNode<K, V> {
 
 		/**
@@ -364,6 +375,20 @@ public abstract class AbstractDataMap<K, V> extends AbstractMap<K, V> implements
 		 */
 		private @Nullable V value;
 
+		/**
+		 * The converted form of the value, see {@link #getConvertedValue(Class, Function)}
+		 */
+		@Getter(AccessLevel.NONE)
+		private transient @Nullable ConvertedValue converted;
+
+
+		@Contract(pure = true)
+		private Node(final @NotNull K key, final @Nullable V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+
 		/**
 		 * Replaces the key corresponding to this entry with the specified
 		 * key (optional operation).  (Writes through to the map.)  The
@@ -416,7 +441,19 @@ public abstract class AbstractDataMap<K, V> extends AbstractMap<K, V> implements
 				return this.value;
 			} finally {
 				this.value = value;
+				this.converted = null;
+			}
+		}
+
+		@Override
+		public <T> @Nullable T getConvertedValue(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+			final @Nullable V currentValue = this.value;
+			final @Nullable ConvertedValue previousConverted = this.converted;
+			final @Nullable ConvertedValue currentConverted = ConvertedValue.convert(previousConverted, currentValue, type, converter);
+			if (currentConverted != previousConverted) {
+				this.converted = currentConverted;
 			}
+			return ConvertedValue.result(currentConverted, currentValue, type, converter);
 		}
 
 
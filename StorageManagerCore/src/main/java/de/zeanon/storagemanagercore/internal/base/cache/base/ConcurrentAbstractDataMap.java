@@ -2,11 +2,13 @@ package de.zeanon.storagemanagercore.internal.base.cache.base;
 
 import de.zeanon.storagemanagercore.external.browniescollections.IList;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.utility.basic.ConvertedValue;
 import java.io.Serializable;
 import java.util.*;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.locks.StampedLock;
-import lombok.AllArgsConstructor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -15,12 +17,16 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Basic interface for Concurrent TripletMaps
+ * <p>
+ * Lookups are done as optimistic reads on the internal lock and only fall back to
+ * a real read lock if a structural modification happened in the meantime.
+ * Values are only set while holding the lock, so a node can not be removed between being found and being set
  *
  * @param <K> the type of keys maintained by this map
  * @param <V> the type of mapped values
  *
  * @author Zeanon
- * @version 1.4.0
+ * @version 1.5.1
  */
 @SuppressWarnings("ALL")
 @EqualsAndHashCode(callSuper = true)
@@ -82,18 +88,24 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public V putIfAbsent(final @NotNull K key, final @Nullable V value) {
-        final long lockStamp = this.localModificationLock.readLock();
+        final @Nullable DataNode<K, V> tempNode = this.optimisticRead(() -> this.findNode(key));
+        if (tempNode != null) {
+            return tempNode.getValue();
+        }
+
+        final long lockStamp = this.localModificationLock.writeLock();
+        final long modifyLock = this.globalModificationLock.writeLock();
         try {
-            for (final @NotNull DataMap.DataNode<K, V> tempNode : this.localList) {
-                if (tempNode.getKey().equals(key)) {
-                    return tempNode.getValue();
-                }
+            final @Nullable DataNode<K, V> presentNode = this.findNode(key);
+            if (presentNode != null) {
+                return presentNode.getValue();
             }
+            this.localList.add(new ConcurrentNode<>(key, value));
+            return null;
         } finally {
-            this.localModificationLock.unlockRead(lockStamp);
+            this.localModificationLock.unlockWrite(lockStamp);
+            this.globalModificationLock.unlockWrite(modifyLock);
         }
-        this.add(key, value);
-        return null;
     }
 
     /**
@@ -127,35 +139,23 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public boolean remove(final @NotNull Object key, final @Nullable Object value) {
-        final @NotNull Iterator<DataNode<K, V>> tempIterator = this.localList.iterator();
-        @NotNull DataNode<K, V> tempNode;
-        long lockStamp = this.localModificationLock.readLock();
+        if (this.optimisticRead(() -> this.findNode(key)) == null) {
+            return false;
+        }
+
+        final long lockStamp = this.localModificationLock.writeLock();
+        final long modifyLock = this.globalModificationLock.writeLock();
         try {
-            while ((tempNode = tempIterator.next()) != null) {
-                if (tempNode.getKey().equals(key) && tempNode.getValue().equals(value)) {
-                    final long tempLock = this.localModificationLock.tryConvertToWriteLock(lockStamp);
-                    if (this.localModificationLock.validate(tempLock)) {
-                        lockStamp = tempLock;
-                    } else {
-                        final long modifyLock = this.globalModificationLock.writeLock();
-                        try {
-                            this.localModificationLock.unlockRead(lockStamp);
-                            lockStamp = this.localModificationLock.writeLock();
-                        } finally {
-                            this.globalModificationLock.unlockWrite(modifyLock);
-                        }
-                    }
-                    if (tempNode.getKey().equals(key) && tempNode.getValue().equals(value)) {
-                        tempIterator.remove();
-                        return true;
-                    } else {
-                        return false;
-                    }
-                }
+            final int index = this.findIndex(key);
+            if (index >= 0 && Objects.equals(this.localList.get(index).getValue(), value)) {
+                this.localList.remove(index);
+                return true;
+            } else {
+                return false;
             }
-            return false;
         } finally {
-            this.localModificationLock.unlock(lockStamp);
+            this.localModificationLock.unlockWrite(lockStamp);
+            this.globalModificationLock.unlockWrite(modifyLock);
         }
     }
 
@@ -191,21 +191,20 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public boolean replace(final @NotNull K key, final @Nullable V oldValue, final @Nullable V newValue) {
-        final long lockStamp = this.localModificationLock.readLock();
+        // the comparison and the replacement have to happen atomically, so no other value may be set in between
+        final long lockStamp = this.localModificationLock.writeLock();
         try {
-            for (final @NotNull DataMap.DataNode<K, V> tempNode : this.localList) {
-                if (tempNode.getKey().equals(key) && Objects.equals(tempNode.getValue(), oldValue)) {
-                    if (Objects.equals(tempNode.getValue(), newValue)) {
-                        return true;
-                    } else {
-                        tempNode.setValue(newValue);
-                        return true;
-                    }
+            final @Nullable DataNode<K, V> tempNode = this.findNode(key);
+            if (tempNode != null && Objects.equals(tempNode.getValue(), oldValue)) {
+                if (!Objects.equals(oldValue, newValue)) {
+                    tempNode.setValue(newValue);
                 }
+                return true;
+            } else {
+                return false;
             }
-            return false;
         } finally {
-            this.localModificationLock.unlockRead(lockStamp);
+            this.localModificationLock.unlockWrite(lockStamp);
         }
     }
 
@@ -243,18 +242,11 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public V replace(final @NotNull K key, final @Nullable V value) {
+        // the node must not be removed between finding and setting it, so this is no optimistic read
         final long lockStamp = this.localModificationLock.readLock();
         try {
-            for (final @NotNull DataMap.DataNode<K, V> tempNode : this.localList) {
-                if (tempNode.getKey().equals(key)) {
-                    if (Objects.equals(tempNode.getValue(), value)) {
-                        return value;
-                    } else {
-                        return tempNode.setValue(value);
-                    }
-                }
-            }
-            return null;
+            final @Nullable DataNode<K, V> tempNode = this.findNode(key);
+            return tempNode == null ? null : ConcurrentAbstractDataMap.setValue(tempNode, value);
         } finally {
             this.localModificationLock.unlockRead(lockStamp);
         }
@@ -272,17 +264,7 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
     @Override
     @Contract(pure = true)
     public boolean containsKey(final @NotNull Object key) {
-        final long lockStamp = this.localModificationLock.readLock();
-        try {
-            for (final @NotNull DataMap.DataNode<K, V> TempNode : this.localList) {
-                if (TempNode.getKey().equals(key)) {
-                    return true;
-                }
-            }
-            return false;
-        } finally {
-            this.localModificationLock.unlockRead(lockStamp);
-        }
+        return this.optimisticRead(() -> this.findNode(key)) != null;
     }
 
     /**
@@ -297,17 +279,14 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
     @Override
     @Contract(pure = true)
     public boolean containsValue(final @NotNull Object value) {
-        final long lockStamp = this.localModificationLock.readLock();
-        try {
-            for (final @NotNull DataMap.DataNode<K, V> tempNode : this.localList) {
-                if (value.equals(tempNode.getValue())) {
+        return this.optimisticRead(() -> {
+            for (int i = 0; i < this.localList.size(); i++) {
+                if (value.equals(this.localList.get(i).getValue())) {
                     return true;
                 }
             }
             return false;
-        } finally {
-            this.localModificationLock.unlockRead(lockStamp);
-        }
+        });
     }
 
     /**
@@ -325,22 +304,30 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public @Nullable V put(final @NotNull K key, final @Nullable V value) {
-        final long lockStamp = this.localModificationLock.readLock();
+        // the node must not be removed between finding and setting it, so this is no optimistic read
+        final long readStamp = this.localModificationLock.readLock();
         try {
-            for (final @NotNull DataMap.DataNode<K, V> tempNode : this.localList) {
-                if (tempNode.getKey().equals(key)) {
-                    if (Objects.equals(tempNode.getValue(), value)) {
-                        return value;
-                    } else {
-                        return tempNode.setValue(value);
-                    }
-                }
+            final @Nullable DataNode<K, V> tempNode = this.findNode(key);
+            if (tempNode != null) {
+                return ConcurrentAbstractDataMap.setValue(tempNode, value);
             }
         } finally {
-            this.localModificationLock.unlockRead(lockStamp);
+            this.localModificationLock.unlockRead(readStamp);
+        }
+
+        final long lockStamp = this.localModificationLock.writeLock();
+        final long modifyLock = this.globalModificationLock.writeLock();
+        try {
+            final @Nullable DataNode<K, V> tempNode = this.findNode(key);
+            if (tempNode != null) {
+                return ConcurrentAbstractDataMap.setValue(tempNode, value);
+            }
+            this.localList.add(new ConcurrentNode<>(key, value));
+            return null;
+        } finally {
+            this.localModificationLock.unlockWrite(lockStamp);
+            this.globalModificationLock.unlockWrite(modifyLock);
         }
-        this.add(key, value);
-        return null;
     }
 
     /**
@@ -408,27 +395,18 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public @Nullable V get(final @NotNull Object key) {
-        final long lockStamp = this.localModificationLock.readLock();
-        try {
-            for (final @NotNull DataMap.DataNode<K, V> tempNode : this.localList) {
-                if (tempNode.getKey().equals(key)) {
-                    return tempNode.getValue();
-                }
-            }
-            return null;
-        } finally {
-            this.localModificationLock.unlockRead(lockStamp);
-        }
+        final @Nullable DataNode<K, V> tempNode = this.optimisticRead(() -> this.findNode(key));
+        return tempNode == null ? null : tempNode.getValue();
     }
 
     @Override
     public @Nullable V getFromIndex(final int index) {
-        final long lockStamp = this.localModificationLock.readLock();
-        try {
-            return this.localList.get(index).getValue();
-        } finally {
-            this.localModificationLock.unlockRead(lockStamp);
-        }
+        return this.optimisticRead(() -> this.localList.get(index)).getValue();
+    }
+
+    @Override
+    public @Nullable DataNode<K, V> getNode(final @NotNull Object key) {
+        return this.optimisticRead(() -> this.findNode(key));
     }
 
     /**
@@ -443,35 +421,18 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public @Nullable V remove(final @NotNull Object key) {
-        long lockStamp = this.localModificationLock.readLock();
-        try {
-            final @NotNull Iterator<DataNode<K, V>> tempIterator = this.localList.iterator();
-            DataNode<K, V> tempNode;
-            while ((tempNode = tempIterator.next()) != null) {
-                if (tempNode.getKey().equals(key)) {
-                    final long tempLock = this.localModificationLock.tryConvertToWriteLock(lockStamp);
-                    if (this.localModificationLock.validate(tempLock)) {
-                        lockStamp = tempLock;
-                    } else {
-                        final long modifyLock = this.globalModificationLock.writeLock();
-                        try {
-                            this.localModificationLock.unlockRead(lockStamp);
-                            lockStamp = this.localModificationLock.writeLock();
-                        } finally {
-                            this.globalModificationLock.unlockWrite(modifyLock);
-                        }
-                    }
-                    if (tempNode.getKey().equals(key)) {
-                        tempIterator.remove();
-                        return tempNode.getValue();
-                    } else {
-                        return null;
-                    }
-                }
-            }
+        if (this.optimisticRead(() -> this.findNode(key)) == null) {
             return null;
+        }
+
+        final long lockStamp = this.localModificationLock.writeLock();
+        final long modifyLock = this.globalModificationLock.writeLock();
+        try {
+            final int index = this.findIndex(key);
+            return index >= 0 ? this.localList.remove(index).getValue() : null;
         } finally {
-            this.localModificationLock.unlock(lockStamp);
+            this.localModificationLock.unlockWrite(lockStamp);
+            this.globalModificationLock.unlockWrite(modifyLock);
         }
     }
 
@@ -517,12 +478,7 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
     @Override
     @Contract("-> new")
     public @NotNull Set<Entry<K, V>> entrySet() {
-        final long lockStamp = this.localModificationLock.readLock();
-        try {
-            return new HashSet<>(this.localList);
-        } finally {
-            this.localModificationLock.unlockRead(lockStamp);
-        }
+        return this.optimisticRead(() -> new HashSet<>(this.localList));
     }
 
     /**
@@ -551,6 +507,12 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public int size() {
+        final long optimisticStamp = this.localModificationLock.tryOptimisticRead();
+        final int size = this.localList.size();
+        if (this.localModificationLock.validate(optimisticStamp)) {
+            return size;
+        }
+
         final long lockStamp = this.localModificationLock.readLock();
         try {
             return this.localList.size();
@@ -565,12 +527,7 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
     @Override
     @Contract(pure = true)
     public boolean isEmpty() {
-        final long lockStamp = this.localModificationLock.readLock();
-        try {
-            return this.localList.isEmpty();
-        } finally {
-            this.localModificationLock.unlockRead(lockStamp);
-        }
+        return this.size() == 0;
     }
 
     /**
@@ -598,14 +555,69 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      */
     @Override
     public @NotNull String toString() {
+        return this.optimisticRead(this.localList::toString);
+    }
+
+    /**
+     * Run the given read operation as an optimistic read, only if the read got invalidated by
+     * a concurrent structural modification it gets repeated while holding the read lock
+     *
+     * @param reader the read operation, it must not have any side effects
+     *
+     * @return the result of the read operation
+     */
+    private <R> R optimisticRead(final @NotNull Supplier<R> reader) {
+        final long optimisticStamp = this.localModificationLock.tryOptimisticRead();
+        if (optimisticStamp != 0L) {
+            try {
+                final R result = reader.get();
+                if (this.localModificationLock.validate(optimisticStamp)) {
+                    return result;
+                }
+            } catch (final @NotNull RuntimeException e) { //NOSONAR
+                // the list was modified while reading it, retry below holding the read lock
+            }
+        }
+
         final long lockStamp = this.localModificationLock.readLock();
         try {
-            return this.localList.toString();
+            return reader.get();
         } finally {
             this.localModificationLock.unlockRead(lockStamp);
         }
     }
 
+    /**
+     * Set the value of the given node unless it is equal already, the caller has to ensure the proper locking
+     */
+    private static <K, V> @Nullable V setValue(final @NotNull DataNode<K, V> node, final @Nullable V value) {
+        if (Objects.equals(node.getValue(), value)) {
+            return value;
+        } else {
+            return node.setValue(value);
+        }
+    }
+
+    /**
+     * Find the first node mapped to the given key, the caller has to ensure the proper locking
+     */
+    private @Nullable DataNode<K, V> findNode(final @NotNull Object key) {
+        final int index = this.findIndex(key);
+        return index >= 0 ? this.localList.get(index) : null;
+    }
+
+    /**
+     * Find the index of the first node mapped to the given key, the caller has to ensure the proper locking
+     */
+    private int findIndex(final @NotNull Object key) {
+        for (int i = 0; i < this.localList.size(); i++) {
+            if (this.localList.get(i).getKey().equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /**
      * The concurrent EntryNodes to be stored in a ConcurrentAbstractDataMap
      *
@@ -613,10 +625,9 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
      * @param <V> the type of mapped values
      *
      * @author Zeanon
-     * @version 1.3.0
+     * @version 1.4.0
      */
     @EqualsAndHashCode
-    @AllArgsConstructor(onConstructor_ = {@Contract(pure = true)})
     private static class ConcurrentNode<K, V> implements DataNode<K, V> {
 
 
@@ -636,6 +647,18 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
          */
         private @Nullable V value;
 
+        /**
+         * The converted form of the value, see {@link #getConvertedValue(Class, Function)}
+         */
+        private transient volatile @Nullable ConvertedValue converted;
+
+
+        @Contract(pure = true)
+        private ConcurrentNode(final @NotNull K key, final @Nullable V value) {
+            this.key = key;
+            this.value = value;
+        }
+
         /**
          * Replaces the key corresponding to this entry with the specified
          * key (optional operation).  (Writes through to the map.)  The
@@ -690,10 +713,26 @@ public abstract class ConcurrentAbstractDataMap<K, V> extends AbstractDataMap<K,
                 return this.value;
             } finally {
                 this.value = value;
+                this.converted = null;
                 this.localLock.unlockWrite(lockStamp);
             }
         }
 
+        /**
+         * The value is read under the lock, a ConvertedValue of a replaced value is never used,
+         * as it does not match the current value anymore
+         */
+        @Override
+        public <T> @Nullable T getConvertedValue(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+            final @Nullable V currentValue = this.getValue();
+            final @Nullable ConvertedValue previousConverted = this.converted;
+            final @Nullable ConvertedValue currentConverted = ConvertedValue.convert(previousConverted, currentValue, type, converter);
+            if (currentConverted != previousConverted) {
+                this.converted = currentConverted;
+            }
+            return ConvertedValue.result(currentConverted, currentValue, type, converter);
+        }
+
         /**
          * Returns the key corresponding to this node. If the mapping
          * has been removed from the backing map (by the iterator's
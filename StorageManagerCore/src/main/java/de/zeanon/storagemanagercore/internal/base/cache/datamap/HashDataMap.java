@@ -0,0 +1,519 @@
+package de.zeanon.storagemanagercore.internal.base.cache.datamap;
+
+import de.zeanon.storagemanagercore.external.browniescollections.GapList;
+import de.zeanon.storagemanagercore.external.browniescollections.IList;
+import de.zeanon.storagemanagercore.internal.base.cache.base.AbstractDataMap;
+import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.utility.basic.ConvertedValue;
+import java.io.*;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Custom Map implementation optimized for ThunderFile
+ * Internally based on GapList to keep the insertion order, with an additional
+ * open-addressing hash index from key to list position for constant time lookups
+ * <p>
+ * Duplicate keys (like comments or blank lines) are kept in the list, the index always
+ * points to the first occurrence of a key, matching the lookup behaviour of {@link GapDataMap}
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @author Zeanon
+ * @version 1.1.0
+ */
+@EqualsAndHashCode(callSuper = true)
+@SuppressWarnings("unused")
+public class HashDataMap<K, V> extends AbstractDataMap<K, V> implements Serializable {
+
+
+	private static final long serialVersionUID = -3152097416226817520L;
+
+	private static final int MINIMUM_CAPACITY = 8;
+
+
+	/**
+	 * Index slots, holding the list position of the mapped node plus one, 0 marks a free slot
+	 */
+	private transient int @NotNull [] positions;
+	/**
+	 * The spread hashes of the keys stored in the corresponding slots
+	 */
+	private transient int @NotNull [] hashes;
+	/**
+	 * The amount of occupied slots
+	 */
+	private transient int occupied;
+	/**
+	 * The list size the index has been built for, -1 if the index needs to be rebuilt
+	 */
+	private transient int indexedSize;
+	/**
+	 * Whether a key has been added more than once, only then removals need to look for a successor
+	 */
+	private transient boolean duplicates;
+
+
+	/**
+	 * Initializes an empty HashDataMap
+	 */
+	public HashDataMap() {
+		super(new GapList<>());
+		this.resetIndex(HashDataMap.MINIMUM_CAPACITY);
+	}
+
+	/**
+	 * Initializes a HashDataMap with the given entries
+	 *
+	 * @param map the initial entries
+	 */
+	public HashDataMap(final @NotNull Map<K, V> map) {
+		this();
+		if (map instanceof DataMap) {
+			//noinspection unchecked
+			this.addAll(((DataMap<K, V>) map).entryList());
+		} else {
+			this.addAll(map);
+		}
+	}
+
+
+	/**
+	 * Returns <tt>true</tt> if this map contains a mapping for the
+	 * specified key.
+	 *
+	 * @param key The key whose presence in this map is to be tested
+	 *
+	 * @return <tt>true</tt> if this map contains a mapping for the specified
+	 * key.
+	 */
+	@Override
+	public boolean containsKey(final @NotNull Object key) {
+		return this.indexOf(key) >= 0;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this map.
+	 * If the map previously contained a mapping for the key, the old
+	 * value is replaced.
+	 *
+	 * @param key   key with which the specified value is to be associated
+	 * @param value value to be associated with the specified key
+	 *
+	 * @return the previous value associated with <tt>key</tt>, or
+	 * <tt>null</tt> if there was no mapping for <tt>key</tt>.
+	 * (A <tt>null</tt> return can also indicate that the map
+	 * previously associated <tt>null</tt> with <tt>key</tt>.)
+	 */
+	@Override
+	public @Nullable V put(final @NotNull K key, final @Nullable V value) {
+		final int position = this.indexOf(key);
+		if (position >= 0) {
+			return this.localList.get(position).setValue(value);
+		} else {
+			this.add(key, value);
+			return null;
+		}
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this map.
+	 *
+	 * @param key   key with which the specified value is to be associated
+	 * @param value value to be associated with the specified key
+	 */
+	@Override
+	public void add(final @NotNull K key, final @Nullable V value) {
+		this.ensureIndex();
+		this.localList.add(new Node(key, value));
+		this.indexNode(key, HashDataMap.hash(key), this.localList.size() - 1);
+		this.indexedSize++;
+	}
+
+	/**
+	 * Associates the specified value with the specified key in this map.
+	 * The node gets copied into an internal node to keep the index in sync on {@link DataNode#setKey(Object)}
+	 *
+	 * @param node mapping to be added to the map
+	 */
+	@Override
+	public void add(final @NotNull DataMap.DataNode<K, V> node) {
+		this.add(node.getKey(), node.getValue());
+	}
+
+	/**
+	 * Copies all of the mappings from the specified map to this map.
+	 *
+	 * @param nodes mappings to be added to the map
+	 */
+	@Override
+	public void addAll(final @NotNull List<DataNode<K, V>> nodes) {
+		for (final @NotNull DataMap.DataNode<K, V> node : nodes) {
+			this.add(node.getKey(), node.getValue());
+		}
+	}
+
+	/**
+	 * Returns the value to which the specified key is mapped,
+	 * or {@code null} if this map contains no mapping for the key.
+	 *
+	 * @see #put(Object, Object)
+	 */
+	@Override
+	public @Nullable V get(final @NotNull Object key) {
+		final int position = this.indexOf(key);
+		return position >= 0 ? this.localList.get(position).getValue() : null;
+	}
+
+	@Override
+	public @Nullable DataNode<K, V> getNode(final @NotNull Object key) {
+		final int position = this.indexOf(key);
+		return position >= 0 ? this.localList.get(position) : null;
+	}
+
+	/**
+	 * Removes the mapping for the specified key from this map if present.
+	 *
+	 * @param key key whose mapping is to be removed from the map
+	 *
+	 * @return the previous value associated with <tt>key</tt>, or
+	 * <tt>null</tt> if there was no mapping for <tt>key</tt>.
+	 * (A <tt>null</tt> return can also indicate that the map
+	 * previously associated <tt>null</tt> with <tt>key</tt>.)
+	 */
+	@Override
+	public @Nullable V remove(final @NotNull Object key) {
+		final int slot = this.slotOf(key);
+		if (slot < 0) {
+			return null;
+		}
+
+		final int position = this.positions[slot] - 1;
+		this.deleteSlot(slot);
+		final @NotNull DataMap.DataNode<K, V> removed = this.localList.remove(position);
+		this.indexedSize--;
+
+		for (int i = 0; i < this.positions.length; i++) {
+			if (this.positions[i] > position + 1) {
+				this.positions[i]--;
+			}
+		}
+
+		if (this.duplicates) {
+			for (int i = position; i < this.localList.size(); i++) {
+				if (this.localList.get(i).getKey().equals(key)) {
+					this.indexNode(this.localList.get(i).getKey(), HashDataMap.hash(key), i);
+					break;
+				}
+			}
+		}
+		return removed.getValue();
+	}
+
+	/**
+	 * Removes all of the mappings from this map.
+	 * The map will be empty after this call returns.
+	 */
+	@Override
+	public void clear() {
+		super.clear();
+		this.resetIndex(HashDataMap.MINIMUM_CAPACITY);
+	}
+
+	/**
+	 * Trim the backing List and the index to their minimal possible size to minimize Ram usage
+	 */
+	@Override
+	public void trimToSize() {
+		super.trimToSize();
+		if (this.indexedSize != this.localList.size() || HashDataMap.capacityFor(this.localList.size()) != this.positions.length) {
+			this.rebuildIndex();
+		}
+	}
+
+	/**
+	 * Create a copy of this HashDataMap
+	 *
+	 * @return a complete copy of this Map
+	 */
+	@Override
+	public @NotNull DataMap<K, V> clone() {
+		return new HashDataMap<>(this);
+	}
+
+	/**
+	 * Method to reinitialize the map on deserialization
+	 *
+	 * @param localList the List to be used to store the internal nodes
+	 */
+	@Override
+	protected void reinitialize(final @NotNull IList<DataNode<K, V>> localList) {
+		super.reinitialize(localList);
+		this.rebuildIndex();
+	}
+
+
+	// <Index>
+	private static int hash(final @NotNull Object key) {
+		final int hash = key.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	private static int capacityFor(final int size) {
+		int capacity = HashDataMap.MINIMUM_CAPACITY;
+		while (capacity < size * 2) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private int indexOf(final @Nullable Object key) {
+		final int slot = this.slotOf(key);
+		return slot < 0 ? -1 : this.positions[slot] - 1;
+	}
+
+	private int slotOf(final @Nullable Object key) {
+		if (key == null) {
+			return -1;
+		}
+		this.ensureIndex();
+
+		final int hash = HashDataMap.hash(key);
+		final int mask = this.positions.length - 1;
+		int slot = hash & mask;
+		while (this.positions[slot] != 0) {
+			if (this.hashes[slot] == hash && this.localList.get(this.positions[slot] - 1).getKey().equals(key)) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	private void indexNode(final @NotNull K key, final int hash, final int position) {
+		if ((this.occupied + 1) * 2 > this.positions.length) {
+			this.growIndex();
+		}
+
+		final int mask = this.positions.length - 1;
+		int slot = hash & mask;
+		while (this.positions[slot] != 0) {
+			if (this.hashes[slot] == hash && this.localList.get(this.positions[slot] - 1).getKey().equals(key)) {
+				this.duplicates = true;
+				return;
+			}
+			slot = (slot + 1) & mask;
+		}
+		this.positions[slot] = position + 1;
+		this.hashes[slot] = hash;
+		this.occupied++;
+	}
+
+	private void deleteSlot(final int slot) {
+		final int mask = this.positions.length - 1;
+		int free = slot;
+		int next = slot;
+		this.positions[free] = 0;
+		this.occupied--;
+		while (true) {
+			next = (next + 1) & mask;
+			if (this.positions[next] == 0) {
+				return;
+			}
+
+			final int home = this.hashes[next] & mask;
+			if (free <= next ? (free < home && home <= next) : (free < home || home <= next)) {
+				continue;
+			}
+
+			this.positions[free] = this.positions[next];
+			this.hashes[free] = this.hashes[next];
+			this.positions[next] = 0;
+			free = next;
+		}
+	}
+
+	private void growIndex() {
+		final int[] oldPositions = this.positions;
+		final int[] oldHashes = this.hashes;
+		this.positions = new int[oldPositions.length << 1];
+		this.hashes = new int[oldPositions.length << 1];
+
+		final int mask = this.positions.length - 1;
+		for (int i = 0; i < oldPositions.length; i++) {
+			if (oldPositions[i] != 0) {
+				int slot = oldHashes[i] & mask;
+				while (this.positions[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				this.positions[slot] = oldPositions[i];
+				this.hashes[slot] = oldHashes[i];
+			}
+		}
+	}
+
+	private void ensureIndex() {
+		if (this.indexedSize != this.localList.size()) {
+			this.rebuildIndex();
+		}
+	}
+
+	private void rebuildIndex() {
+		this.resetIndex(HashDataMap.capacityFor(this.localList.size()));
+		for (int i = 0; i < this.localList.size(); i++) {
+			final @NotNull K key = this.localList.get(i).getKey();
+			this.indexNode(key, HashDataMap.hash(key), i);
+		}
+		this.indexedSize = this.localList.size();
+	}
+
+	private void resetIndex(final int capacity) {
+		if (this.positions != null && this.positions.length == capacity) { //NOSONAR
+			Arrays.fill(this.positions, 0);
+		} else {
+			this.positions = new int[capacity];
+			this.hashes = new int[capacity];
+		}
+		this.occupied = 0;
+		this.indexedSize = 0;
+		this.duplicates = false;
+	}
+
+	private void invalidateIndex() {
+		this.indexedSize = -1;
+	}
+	// </Index>
+
+
+	private void writeObject(final @NotNull ObjectOutputStream outputStream) throws IOException {
+		outputStream.defaultWriteObject();
+		outputStream.writeInt(this.size());
+		this.writeNodes(outputStream);
+	}
+
+	private void writeNodes(final @NotNull ObjectOutputStream outputStream) throws IOException {
+		for (final @NotNull DataMap.DataNode<K, V> entry : this.entryList()) {
+			outputStream.writeObject(entry.getKey());
+			outputStream.writeObject(entry.getValue());
+		}
+	}
+
+	private void readObject(final @NotNull ObjectInputStream inputStream) throws IOException, ClassNotFoundException {
+		inputStream.defaultReadObject();
+		this.reinitialize(new GapList<>());
+		this.clear();
+		final int mappings = inputStream.readInt();
+		if (mappings < 0) {
+			throw new InvalidObjectException("Illegal mappings count: "
+											 + mappings);
+		} else if (mappings > 0) {
+			for (int i = 0; i < mappings; i++) {
+				//noinspection unchecked
+				this.add((K) inputStream.readObject(), (V) inputStream.readObject());
+			}
+		}
+	}
+
+
+	/**
+	 * The EntryNodes to be stored in a HashDataMap, notifying the map on key changes
+	 *
+	 * @author Zeanon
+	 * @version 1.1.0
+	 */
+	@EqualsAndHashCode
+	@Getter(onMethod_ = {@Override})
+	private class Node implements DataNode<K, V> {
+
+		/**
+		 * The key assigned to this Node
+		 */
+		private @NotNull K key;
+
+		/**
+		 * The value assigned to this Node
+		 */
+		private @Nullable V value;
+
+		/**
+		 * The converted form of the value, see {@link #getConvertedValue(Class, Function)}
+		 */
+		@Getter(AccessLevel.NONE)
+		private transient @Nullable ConvertedValue converted;
+
+
+		@Contract(pure = true)
+		private Node(final @NotNull K key, final @Nullable V value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		/**
+		 * Replaces the key corresponding to this entry with the specified
+		 * key and invalidates the index of the backing map.
+		 *
+		 * @param key new key to be stored in this entry
+		 *
+		 * @return old key corresponding to the entry
+		 */
+		@Override
+		public @NotNull K setKey(final @NotNull K key) {
+			try {
+				return this.key;
+			} finally {
+				this.key = key;
+				HashDataMap.this.invalidateIndex();
+			}
+		}
+
+		/**
+		 * Replaces the value corresponding to this entry with the specified
+		 * value.  (Writes through to the map.)
+		 *
+		 * @param value new value to be stored in this entry
+		 *
+		 * @return old value corresponding to the entry
+		 */
+		@Override
+		public @Nullable V setValue(final @Nullable V value) {
+			try {
+				return this.value;
+			} finally {
+				this.value = value;
+				this.converted = null;
+			}
+		}
+
+		@Override
+		public <T> @Nullable T getConvertedValue(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+			final @Nullable V currentValue = this.value;
+			final @Nullable ConvertedValue previousConverted = this.converted;
+			final @Nullable ConvertedValue currentConverted = ConvertedValue.convert(previousConverted, currentValue, type, converter);
+			if (currentConverted != previousConverted) {
+				this.converted = currentConverted;
+			}
+			return ConvertedValue.result(currentConverted, currentValue, type, converter);
+		}
+
+
+		/**
+		 * Returns a String representation of the Node
+		 *
+		 * @return the Node parsed to a String
+		 */
+		@Override
+		public @NotNull String toString() {
+			return "(" + this.key + "=" + this.value + ")";
+		}
+	}
+}
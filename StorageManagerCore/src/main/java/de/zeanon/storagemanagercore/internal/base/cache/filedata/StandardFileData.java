@@ -4,6 +4,7 @@ import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProv
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
 import de.zeanon.storagemanagercore.internal.base.interfaces.FileData;
+import de.zeanon.storagemanagercore.internal.utility.basic.KeyCache;
 import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
 import java.io.IOException;
 import java.io.ObjectInputStream;
@@ -258,7 +259,7 @@ public class StandardFileData<M extends Map, E extends Map.Entry, L extends List
 	@Override
 	public void insert(final @NotNull String key,
 					   final @Nullable Object value) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		this.initialInsert(value, parts);
 	}
 
@@ -283,7 +284,7 @@ public class StandardFileData<M extends Map, E extends Map.Entry, L extends List
 	 */
 	@Override
 	public void remove(final @NotNull String key) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		this.initialRemove(parts);
 	}
 
@@ -309,7 +310,7 @@ public class StandardFileData<M extends Map, E extends Map.Entry, L extends List
 	 */
 	@Override
 	public boolean containsKey(final @NotNull String key) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		//noinspection unchecked
 		return this.internalContainsKey(this.dataMap, parts, 0);
 	}
@@ -337,7 +338,7 @@ public class StandardFileData<M extends Map, E extends Map.Entry, L extends List
 	 */
 	@Override
 	public @Nullable Object get(final @NotNull String key) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		return this.internalGet(this.dataMap, parts);
 	}
 
@@ -1,13 +1,28 @@
 package de.zeanon.storagemanagercore.internal.base.cache.provider;
 
+import de.zeanon.storagemanagercore.external.browniescollections.BigList;
 import de.zeanon.storagemanagercore.external.browniescollections.GapList;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.BigDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentBigDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentGapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.HashDataMap;
 import de.zeanon.storagemanagercore.internal.base.exceptions.ProviderException;
 import java.io.Serializable;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.Setter;
 import org.jetbrains.annotations.Contract;
@@ -16,91 +31,142 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Provider class to register a custom Collection Framework
+ * <p>
+ * The Map and List implementations are instantiated through factories which are resolved once per type,
+ * the implementations shipped with StorageManager and the common java.util Collections are created without any reflection,
+ * other types are created through a {@link MethodHandle} of their constructor
  *
  * @param <M> the basic Map-Type to be used
  * @param <L> the basic List<Type to be used
  *
  * @author Zeanon
- * @version 1.5.0
+ * @version 1.6.0
  */
-@AllArgsConstructor(onConstructor_ = {@Contract(pure = true)})
 @SuppressWarnings({"unused", "rawtypes"})
 public class CollectionsProvider<M extends Map, L extends List> implements Serializable {
 
 
 	private static final long serialVersionUID = 474999389806011522L;
 
+	/**
+	 * The registered factories for the different Collection types
+	 */
+	private static final @NotNull Map<Class<?>, Supplier<?>> FACTORIES = new ConcurrentHashMap<>();
+	/**
+	 * The resolved constructors for the parameterized variants, keyed by the type followed by its parameter types
+	 */
+	private static final @NotNull Map<List<Class<?>>, MethodHandle> CONSTRUCTORS = new ConcurrentHashMap<>();
+
+	static {
+		CollectionsProvider.registerFactory(GapDataMap.class, GapDataMap::new);
+		CollectionsProvider.registerFactory(BigDataMap.class, BigDataMap::new);
+		CollectionsProvider.registerFactory(ConcurrentGapDataMap.class, ConcurrentGapDataMap::new);
+		CollectionsProvider.registerFactory(ConcurrentBigDataMap.class, ConcurrentBigDataMap::new);
+		CollectionsProvider.registerFactory(HashDataMap.class, HashDataMap::new);
+		CollectionsProvider.registerFactory(HashMap.class, HashMap::new);
+		CollectionsProvider.registerFactory(LinkedHashMap.class, LinkedHashMap::new);
+		CollectionsProvider.registerFactory(TreeMap.class, TreeMap::new);
+		CollectionsProvider.registerFactory(ConcurrentHashMap.class, ConcurrentHashMap::new);
+		CollectionsProvider.registerFactory(GapList.class, GapList::new);
+		CollectionsProvider.registerFactory(BigList.class, BigList::new);
+		CollectionsProvider.registerFactory(ArrayList.class, ArrayList::new);
+		CollectionsProvider.registerFactory(LinkedList.class, LinkedList::new);
+	}
+
 
 	/**
 	 * The Map implementation to be used
 	 */
 	@Getter
-	@Setter
 	private @NotNull Class<? extends M> mapType;
 	/**
 	 * The List implementation to be used
 	 */
 	@Getter
-	@Setter
 	private @NotNull Class<? extends L> listType;
 
 	@Getter
 	@Setter
 	private boolean synchronizeData;
 
+	/**
+	 * The factory for the current Map-Type, resolved on first use
+	 */
+	private transient Supplier<? extends M> mapFactory;
+	/**
+	 * The factory for the current List-Type, resolved on first use
+	 */
+	private transient Supplier<? extends L> listFactory;
+
+
+	@Contract(pure = true)
+	public CollectionsProvider(final @NotNull Class<? extends M> mapType,
+							   final @NotNull Class<? extends L> listType,
+							   final boolean synchronizeData) {
+		this.mapType = mapType;
+		this.listType = listType;
+		this.synchronizeData = synchronizeData;
+	}
+
+
+	/**
+	 * Register a factory to be used to create new instances of the given type instead of its constructor
+	 *
+	 * @param type    the Collection type the factory belongs to
+	 * @param factory the factory creating new instances of exactly the given type
+	 * @param <T>     the Collection type
+	 */
+	public static <T> void registerFactory(final @NotNull Class<T> type, final @NotNull Supplier<? extends T> factory) {
+		CollectionsProvider.FACTORIES.put(type, factory);
+	}
+
+	/**
+	 * Set the Map implementation to be used
+	 */
+	public void setMapType(final @NotNull Class<? extends M> mapType) {
+		this.mapType = mapType;
+		this.mapFactory = null;
+	}
+
+	/**
+	 * Set the List implementation to be used
+	 */
+	public void setListType(final @NotNull Class<? extends L> listType) {
+		this.listType = listType;
+		this.listFactory = null;
+	}
 
 	/**
 	 * Get yourself a new Instance of the saved Map-Type
 	 */
 	public @NotNull M newMap() {
-		try {
-			//noinspection unchecked
-			return this.synchronizeData ? (M) Collections.synchronizedMap((Map) this.mapType.getDeclaredConstructor().newInstance())
-										: this.mapType.getDeclaredConstructor().newInstance();
-		} catch (final @NotNull InstantiationException
-				| InvocationTargetException
-				| NoSuchMethodException
-				| IllegalAccessException e) {
-			throw new ProviderException(e);
+		@NotNull Supplier<? extends M> factory = this.mapFactory;
+		if (factory == null) {
+			factory = CollectionsProvider.factory(this.mapType);
+			this.mapFactory = factory;
 		}
+		//noinspection unchecked
+		return this.synchronizeData ? (M) Collections.synchronizedMap(factory.get()) : factory.get();
 	}
 
 	/**
 	 * Get yourself a new Instance of the saved List-Type
 	 */
 	public @NotNull L newList() {
-		try {
-			//noinspection unchecked
-			return this.synchronizeData ? (L) Collections.synchronizedList((List) this.listType.getDeclaredConstructor().newInstance())
-										: this.listType.getDeclaredConstructor().newInstance();
-		} catch (final @NotNull InstantiationException
-				| IllegalAccessException
-				| InvocationTargetException
-				| NoSuchMethodException e) {
-			throw new ProviderException(e);
+		@NotNull Supplier<? extends L> factory = this.listFactory;
+		if (factory == null) {
+			factory = CollectionsProvider.factory(this.listType);
+			this.listFactory = factory;
 		}
+		//noinspection unchecked
+		return this.synchronizeData ? (L) Collections.synchronizedList(factory.get()) : factory.get();
 	}
 
 	/**
 	 * Get yourself a new Instance of the saved Map-Type with the given parameters
 	 */
 	public @NotNull M newMap(final @NotNull Object... parameters) {
-		try {
-			final @NotNull List<Class<?>> parameterTypes = new GapList<>();
-			for (final @NotNull Object parameter : parameters) {
-				parameterTypes.add(parameter.getClass());
-			}
-			//noinspection unchecked
-			return this.synchronizeData ? (M) Collections.synchronizedMap((Map) this.mapType.getDeclaredConstructor(parameterTypes.toArray(new Class<?>[0]))
-																							.newInstance(parameters))
-										: this.mapType.getDeclaredConstructor(parameterTypes.toArray(new Class<?>[0]))
-													  .newInstance(parameters);
-		} catch (final @NotNull InstantiationException
-				| InvocationTargetException
-				| NoSuchMethodException
-				| IllegalAccessException e) {
-			throw new ProviderException(e);
-		}
+		return this.newMap(CollectionsProvider.parameterTypes(parameters), parameters);
 	}
 
 	/**
@@ -108,40 +174,16 @@ public class CollectionsProvider<M extends Map, L extends List> implements Seria
 	 */
 	public @NotNull M newMap(final @NotNull Class<?>[] parameterTypes,
 							 final @NotNull Object... parameters) {
-		try {
-			//noinspection unchecked
-			return this.synchronizeData ? (M) Collections.synchronizedMap((Map) this.mapType.getDeclaredConstructor(parameterTypes)
-																							.newInstance(parameters))
-										: this.mapType.getDeclaredConstructor(parameterTypes)
-													  .newInstance(parameters);
-		} catch (final @NotNull InstantiationException
-				| InvocationTargetException
-				| NoSuchMethodException
-				| IllegalAccessException e) {
-			throw new ProviderException(e);
-		}
+		final @NotNull M map = CollectionsProvider.newInstance(this.mapType, parameterTypes, parameters);
+		//noinspection unchecked
+		return this.synchronizeData ? (M) Collections.synchronizedMap(map) : map;
 	}
 
 	/**
 	 * Get yourself a new Instance of the saved List-Type with the given parameters
 	 */
 	public @NotNull L newList(final @NotNull Object... parameters) {
-		try {
-			final @NotNull List<Class<?>> parameterTypes = new GapList<>();
-			for (final @NotNull Object parameter : parameters) {
-				parameterTypes.add(parameter.getClass());
-			}
-			//noinspection unchecked
-			return this.synchronizeData ? (L) Collections.synchronizedList((List) this.listType.getDeclaredConstructor(parameterTypes.toArray(new Class<?>[0]))
-																							   .newInstance(parameters))
-										: this.listType.getDeclaredConstructor(parameterTypes.toArray(new Class<?>[0]))
-													   .newInstance(parameters);
-		} catch (final @NotNull InstantiationException
-				| IllegalAccessException
-				| InvocationTargetException
-				| NoSuchMethodException e) {
-			throw new ProviderException(e);
-		}
+		return this.newList(CollectionsProvider.parameterTypes(parameters), parameters);
 	}
 
 	/**
@@ -149,18 +191,9 @@ public class CollectionsProvider<M extends Map, L extends List> implements Seria
 	 */
 	public @NotNull L newList(final @NotNull Class<?>[] parameterTypes,
 							  final @NotNull Object... parameters) {
-		try {
-			//noinspection unchecked
-			return this.synchronizeData ? (L) Collections.synchronizedList((List) this.listType.getDeclaredConstructor(parameterTypes)
-																							   .newInstance(parameters))
-										: this.listType.getDeclaredConstructor(parameterTypes)
-													   .newInstance(parameters);
-		} catch (final @NotNull InstantiationException
-				| IllegalAccessException
-				| InvocationTargetException
-				| NoSuchMethodException e) {
-			throw new ProviderException(e);
-		}
+		final @NotNull L list = CollectionsProvider.newInstance(this.listType, parameterTypes, parameters);
+		//noinspection unchecked
+		return this.synchronizeData ? (L) Collections.synchronizedList(list) : list;
 	}
 
 	/**
@@ -176,4 +209,61 @@ public class CollectionsProvider<M extends Map, L extends List> implements Seria
 	public String getListTypeName() {
 		return this.listType.getTypeName();
 	}
-}
\ No newline at end of file
+
+
+	private static @NotNull <T> Supplier<T> factory(final @NotNull Class<T> type) {
+		final Supplier<?> registered = CollectionsProvider.FACTORIES.get(type);
+		if (registered != null) {
+			//noinspection unchecked
+			return (Supplier<T>) registered;
+		}
+
+		final @NotNull MethodHandle constructor = CollectionsProvider.constructor(type, new Class<?>[0]);
+		return () -> CollectionsProvider.invoke(constructor, new Object[0]);
+	}
+
+	private static @NotNull <T> T newInstance(final @NotNull Class<T> type,
+											  final @NotNull Class<?>[] parameterTypes,
+											  final @NotNull Object[] parameters) {
+		return CollectionsProvider.invoke(CollectionsProvider.constructor(type, parameterTypes), parameters);
+	}
+
+	private static @NotNull MethodHandle constructor(final @NotNull Class<?> type, final @NotNull Class<?>[] parameterTypes) {
+		final @NotNull List<Class<?>> key = new ArrayList<>(parameterTypes.length + 1);
+		key.add(type);
+		key.addAll(Arrays.asList(parameterTypes));
+		final MethodHandle cached = CollectionsProvider.CONSTRUCTORS.get(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		try {
+			final @NotNull MethodHandle constructor = MethodHandles.lookup()
+																   .findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+																   .asType(MethodType.genericMethodType(parameterTypes.length))
+																   .asSpreader(Object[].class, parameterTypes.length);
+			CollectionsProvider.CONSTRUCTORS.put(key, constructor);
+			return constructor;
+		} catch (final @NotNull NoSuchMethodException
+				| IllegalAccessException e) {
+			throw new ProviderException(e);
+		}
+	}
+
+	private static @NotNull <T> T invoke(final @NotNull MethodHandle constructor, final @NotNull Object[] parameters) {
+		try {
+			//noinspection unchecked
+			return (T) (Object) constructor.invokeExact(parameters);
+		} catch (final @NotNull Throwable e) { //NOSONAR
+			throw new ProviderException(e);
+		}
+	}
+
+	private static @NotNull Class<?>[] parameterTypes(final @NotNull Object[] parameters) {
+		final @NotNull Class<?>[] parameterTypes = new Class<?>[parameters.length];
+		for (int i = 0; i < parameters.length; i++) {
+			parameterTypes[i] = parameters[i].getClass();
+		}
+		return parameterTypes;
+	}
+}
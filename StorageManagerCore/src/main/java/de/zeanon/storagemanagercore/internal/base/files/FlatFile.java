@@ -4,10 +4,16 @@ import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProv
 import de.zeanon.storagemanagercore.internal.base.exceptions.FileTypeException;
 import de.zeanon.storagemanagercore.internal.base.interfaces.*;
 import de.zeanon.storagemanagercore.internal.base.settings.Reload;
+import de.zeanon.storagemanagercore.internal.base.settings.SaveMode;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
 import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
+import de.zeanon.storagemanagercore.internal.utility.basic.KeyCache;
 import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
 import de.zeanon.storagemanagercore.internal.utility.basic.Pair;
+import de.zeanon.storagemanagercore.internal.utility.filelock.ChannelPool;
 import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
+import de.zeanon.storagemanagercore.internal.utility.scheduler.SaveScheduler;
+import de.zeanon.storagemanagercore.internal.utility.watcher.FileWatcher;
 import java.io.*;
 import java.net.URL;
 import java.nio.file.Files;
@@ -15,8 +21,11 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
@@ -31,7 +40,7 @@ import org.jetbrains.annotations.Nullable;
  * Basic foundation for the Data Classes, providing the necessary fields and fundamental methods
  *
  * @author Zeanon
- * @version 2.4.0
+ * @version 2.6.0
  */
 @Getter
 @EqualsAndHashCode
@@ -56,6 +65,67 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Setter
 	@Accessors(fluent = true, chain = false)
 	private @NotNull ReloadSetting reloadSetting;
+	/**
+	 * Default: {@link SaveMode#IMMEDIATELY}
+	 * -- Getter --
+	 * Get the value of the saved SaveMode
+	 */
+	private volatile @NotNull SaveMode saveMode = SaveMode.IMMEDIATELY;
+	/**
+	 * Default: {@link Write#IN_PLACE}
+	 * -- Setter --
+	 * Set the WriteSetting to be used when saving
+	 * -- Getter --
+	 * Get the value of the saved WriteSetting
+	 */
+	@Setter
+	private volatile @NotNull WriteSetting writeSetting = Write.IN_PLACE;
+	/**
+	 * The maximum time in milliseconds changes may stay unsaved with {@link SaveMode#DEFERRED}
+	 */
+	@Setter
+	private volatile long maxSaveDelay = 1000;
+	/**
+	 * The amount of unsaved changes after which a save is triggered with {@link SaveMode#DEFERRED}
+	 */
+	@Setter
+	private volatile int maxDirtyOperations = 500;
+	/**
+	 * Keep the channel of the File open between reads and saves, see {@link ChannelPool}
+	 * -- Getter --
+	 * Get whether the channel of the File is kept open
+	 */
+	private volatile boolean keepChannelOpen;
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private final @NotNull AtomicInteger dirtyOperations = new AtomicInteger();
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private final @NotNull Object flushLock = new Object();
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private volatile @Nullable FileWatcher.Watch watch;
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private volatile long lastChecked = System.nanoTime();
+	/**
+	 * The time stamp of the File as observed when it was last loaded or saved, see {@link #hasChanged()}
+	 */
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private volatile long observedModified;
+	/**
+	 * The length of the File as observed when it was last loaded or saved, see {@link #hasChanged()}
+	 */
+	@Getter(AccessLevel.NONE)
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private volatile long observedLength;
 
 	protected FlatFile(final @NotNull File file,
 					   final @Nullable InputStream inputStream,
@@ -131,6 +201,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	 * Just delete the File
 	 */
 	public void deleteFile() {
+		ChannelPool.evict(this.file());
 		try {
 			Files.delete(this.file().toPath());
 		} catch (final @NotNull IOException e) {
@@ -194,18 +265,55 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	}
 
 	/**
-	 * Returns if the File has changed since the last check.
+	 * Returns if the File has changed since it was last loaded or saved,
+	 * comparing the time stamp and length of the File to the ones observed back then.
 	 *
 	 * @return true if it has changed.
 	 */
 	public boolean hasChanged() {
-		return BaseFileUtils.hasChanged(this.file(), this.lastLoaded());
+		return BaseFileUtils.hasChanged(this.file(), this.observedModified, this.observedLength);
+	}
+
+	/**
+	 * Returns if the File has changed since the last check, only looking at the File
+	 * if the given interval has passed since it was last looked at by this method
+	 *
+	 * @param interval the minimum interval between two checks in nanoseconds
+	 *
+	 * @return true if it has changed.
+	 */
+	public boolean hasChanged(final long interval) {
+		final long now = System.nanoTime();
+		if (now - this.lastChecked < interval) {
+			return false;
+		}
+		this.lastChecked = now;
+		return this.hasChanged();
+	}
+
+	/**
+	 * Returns if the File has changed since the last check, only looking at the File
+	 * if the {@link FileWatcher} reported a change or the File can not be watched.
+	 * The first call registers the File with the FileWatcher.
+	 *
+	 * @return true if it has changed.
+	 */
+	public boolean hasWatchedChange() {
+		@Nullable FileWatcher.Watch tempWatch = this.watch;
+		if (tempWatch == null) {
+			tempWatch = FileWatcher.watch(this.file());
+			this.watch = tempWatch;
+			return this.hasChanged();
+		}
+		return tempWatch.poll(this::hasChanged);
 	}
 
 	/**
-	 * Reload the content of the File into the cache
+	 * Reload the content of the File into the cache, changes not yet written with {@link SaveMode#DEFERRED} are discarded
 	 */
 	public void reload() {
+		this.retainChannel();
+		this.observeFile();
 		this.fileData().loadData(this.readFile());
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -218,6 +326,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void loadDataFromFileData(final @NotNull D fileData) {
 		this.fileData().loadData(fileData.dataMap());
 		this.save();
+		this.observeFile();
 		this.lastLoaded(System.currentTimeMillis());
 	}
 
@@ -229,6 +338,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void loadDataFromMap(final @NotNull M map) {
 		this.fileData().loadData(map);
 		this.save();
+		this.observeFile();
 		this.lastLoaded(System.currentTimeMillis());
 	}
 
@@ -237,6 +347,75 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	 */
 	public abstract void save();
 
+	/**
+	 * Set the SaveMode to be used, switching to {@link SaveMode#IMMEDIATELY} flushes all pending changes
+	 */
+	public void saveMode(final @NotNull SaveMode saveMode) {
+		this.saveMode = saveMode;
+		if (saveMode == SaveMode.IMMEDIATELY) {
+			this.flush();
+		}
+	}
+
+	/**
+	 * Save the cached Data according to the SaveMode.
+	 * With {@link SaveMode#DEFERRED} the File is only marked dirty and saved later on by the {@link SaveScheduler}
+	 */
+	public void requestSave() {
+		if (this.saveMode == SaveMode.IMMEDIATELY) {
+			this.retainChannel();
+			this.save();
+			this.observeFile();
+		} else {
+			final int dirty = this.dirtyOperations.incrementAndGet();
+			if (dirty == this.maxDirtyOperations) {
+				SaveScheduler.schedule(this, 0);
+			} else if (dirty == 1) {
+				SaveScheduler.schedule(this, this.maxSaveDelay);
+			}
+		}
+	}
+
+	/**
+	 * Save all changes not yet written to the File
+	 */
+	public void flush() {
+		synchronized (this.flushLock) {
+			SaveScheduler.markClean(this);
+			final int dirty = this.dirtyOperations.getAndSet(0);
+			if (dirty > 0) {
+				try {
+					this.retainChannel();
+					this.save();
+					this.observeFile();
+					this.lastLoaded(System.currentTimeMillis());
+				} catch (final @NotNull RuntimeException e) {
+					this.dirtyOperations.addAndGet(dirty);
+					SaveScheduler.markDirty(this);
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Set whether the channel of the File should be kept open between reads and saves.
+	 * Open channels are closed again after they have not been used for a while, see {@link ChannelPool}
+	 */
+	public void keepChannelOpen(final boolean keepChannelOpen) {
+		this.keepChannelOpen = keepChannelOpen;
+		if (!keepChannelOpen) {
+			ChannelPool.evict(this.file());
+		}
+	}
+
+	/**
+	 * @return true if there are changes not yet written to the File
+	 */
+	public boolean isDirty() {
+		return this.dirtyOperations.get() > 0;
+	}
+
 	/**
 	 * Set whether a {@link de.zeanon.storagemanagercore.external.browniescollections.BigList} should be used as the List implementation
 	 */
@@ -432,6 +611,40 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 		return this.fileData().getUseArray(key);
 	}
 
+	/**
+	 * Get the value mapped to the given key converted by the given converter,
+	 * the converted value is kept by the FileData if it supports it
+	 *
+	 * @param key       key to Object in the File
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the value
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted value mapped to the key
+	 */
+	@Override
+	public <T> T getConverted(final @NotNull String key, final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+		this.update();
+		return this.fileData().getConverted(key, type, converter);
+	}
+
+	/**
+	 * Get the value mapped to the given key converted by the given converter,
+	 * the converted value is kept by the FileData if it supports it
+	 *
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the value
+	 * @param key       key to Object in the File
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted value mapped to the key
+	 */
+	@Override
+	public <T> T getConvertedUseArray(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter, final @NotNull String... key) {
+		this.update();
+		return this.fileData().getConvertedUseArray(type, converter, key);
+	}
+
 	/**
 	 * Get all values mapped to the given keys
 	 *
@@ -524,7 +737,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 		//noinspection unchecked
 		final @NotNull Map<String, Object> tempMap = this.fileData().collectionsProvider().newMap();
 		for (final @NotNull String tempKey : keys) {
-			tempMap.put(blockKey, this.fileData().get(blockKey + "." + tempKey));
+			tempMap.put(tempKey, this.fileData().getUseArray(KeyCache.join(blockKey, tempKey)));
 		}
 		return tempMap;
 	}
@@ -593,7 +806,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 		//noinspection unchecked
 		final @NotNull Map<String, Object> tempMap = this.fileData().collectionsProvider().newMap();
 		for (final @NotNull String tempKey : keys) {
-			tempMap.put(blockKey, this.fileData().get(blockKey + "." + tempKey));
+			tempMap.put(tempKey, this.fileData().getUseArray(KeyCache.join(blockKey, tempKey)));
 		}
 		return tempMap;
 	}
@@ -608,7 +821,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void set(final @NotNull String key,
 					final @Nullable Object value) {
 		if (this.insert(key, value)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -636,7 +849,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void setUseArray(final @NotNull String[] key,
 							final @Nullable Object value) {
 		if (this.insertUseArray(key, value)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -663,7 +876,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void setAll(final @NotNull Map<String, Object> dataMap) {
 		if (this.insertAll(dataMap)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -676,7 +889,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void setAllUseArray(final @NotNull Map<String[], Object> dataMap) {
 		if (this.insertAllUseArray(dataMap)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -689,7 +902,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void setAll(final @NotNull Pair<String, Object>... dataPairs) {
 		if (this.insertAll(dataPairs)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -702,7 +915,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void setAllUseArray(final @NotNull Pair<String[], Object>... dataPairs) {
 		if (this.insertAllUseArray(dataPairs)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -717,7 +930,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void setAll(final @NotNull String blockKey,
 					   final @NotNull Map<String, Object> dataMap) {
 		if (this.insertAll(blockKey, dataMap)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -732,7 +945,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void setAllUseArray(final @NotNull String[] blockKey,
 							   final @NotNull Map<String[], Object> dataMap) {
 		if (this.insertAllUseArray(blockKey, dataMap)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -747,7 +960,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void setAll(final @NotNull String blockKey,
 					   final @NotNull Pair<String, Object>... dataPairs) {
 		if (this.insertAll(blockKey, dataPairs)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -762,7 +975,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void setAllUseArray(final @NotNull String[] blockKey,
 							   final @NotNull Pair<String[], Object>... dataPairs) {
 		if (this.insertAllUseArray(blockKey, dataPairs)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -896,7 +1109,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void remove(final @NotNull String key) {
 		if (this.internalRemove(key)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -909,7 +1122,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void removeUseArray(final @NotNull String... key) {
 		if (this.internalRemoveUseArray(key)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -944,7 +1157,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void removeAll(final @NotNull String... keys) {
 		if (this.internalRemoveAll(keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -957,7 +1170,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void removeAll(final @NotNull Collection<String> keys) {
 		if (this.internalRemoveAll(keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -970,7 +1183,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void removeAllUseArray(final @NotNull String[]... keys) {
 		if (this.internalRemoveAllUseArray(keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -983,7 +1196,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	@Override
 	public void removeAllUseArray(final @NotNull Collection<String[]> keys) {
 		if (this.internalRemoveAllUseArray(keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -998,7 +1211,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void removeAll(final @NotNull String blockKey,
 						  final @NotNull String... keys) {
 		if (this.internalRemoveAll(blockKey, keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -1013,7 +1226,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void removeAll(final @NotNull String blockKey,
 						  final @NotNull Collection<String> keys) {
 		if (this.internalRemoveAll(blockKey, keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -1028,7 +1241,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void removeAllUseArray(final @NotNull String[] blockKey,
 								  final @NotNull String[]... keys) {
 		if (this.internalRemoveAllUseArray(blockKey, keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -1043,7 +1256,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	public void removeAllUseArray(final @NotNull String[] blockKey,
 								  final @NotNull Collection<String[]> keys) {
 		if (this.internalRemoveAllUseArray(blockKey, keys)) {
-			this.save();
+			this.requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -1155,10 +1368,16 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 
 	/**
 	 * Checks if the File needs to be reloaded and does so if true.
+	 * While there are changes not yet written with {@link SaveMode#DEFERRED}, the cached Data is newer than the File
+	 * and is not reloaded, the pending changes would be lost otherwise
 	 */
 	public void update() {
-		if (this.shouldReload()) {
-			this.reload();
+		if (!this.isDirty() && this.shouldReload()) {
+			synchronized (this.flushLock) {
+				if (!this.isDirty()) {
+					this.reload();
+				}
+			}
 		}
 	}
 
@@ -1167,6 +1386,21 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 	 */
 	protected abstract @NotNull M readFile();
 
+	/**
+	 * Remember the current time stamp and length of the File, to be called right before the File is read
+	 * and right after it was written, {@link #hasChanged()} compares against them
+	 */
+	protected void observeFile() {
+		this.observedModified = this.file().lastModified();
+		this.observedLength = this.file().length();
+	}
+
+	private void retainChannel() {
+		if (this.keepChannelOpen) {
+			ChannelPool.retain(this.file());
+		}
+	}
+
 	private boolean insert(final @NotNull String key,
 						   final @Nullable Object value) {
 		this.update();
@@ -1251,7 +1485,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final @NotNull Map.Entry<String, Object> entry : map.entrySet()) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1276,7 +1510,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final @NotNull Pair<String, Object> entry : pairs) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1332,7 +1566,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 		this.update();
 
 		for (final @NotNull Map.Entry<String, Object> entry : map.entrySet()) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 	}
 
@@ -1353,7 +1587,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 		this.update();
 
 		for (final @NotNull Pair<String, Object> entry : pairs) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 	}
 
@@ -1449,7 +1683,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1460,7 +1694,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1530,7 +1764,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 		this.update();
 
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 	}
 
@@ -1539,7 +1773,7 @@ public abstract class FlatFile<D extends FileData<M, ?, L>, M extends Map, L ext
 		this.update();
 
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 	}
 
@@ -2,6 +2,7 @@ package de.zeanon.storagemanagercore.internal.base.interfaces;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -12,6 +13,15 @@ public interface DataMap<K, V> extends Map<K, V>, Cloneable {
 
 	@Nullable V getFromIndex(final int index);
 
+	/**
+	 * Returns the node of the mapping for the specified key.
+	 *
+	 * @param key the key whose node is to be returned
+	 *
+	 * @return the node of the mapping for the key or null if this map contains no mapping for the key
+	 */
+	@Nullable DataNode<K, V> getNode(final @NotNull Object key);
+
 	/**
 	 * Associates the specified value with the specified key in this map.
 	 *
@@ -99,6 +109,19 @@ public interface DataMap<K, V> extends Map<K, V>, Cloneable {
 		 */
 		@NotNull K setKey(final @NotNull K key);
 
+		/**
+		 * Returns the value of this node converted by the given converter.
+		 * The converted value is kept until the value of this node is replaced,
+		 * so converting the same raw value again does not have to be repeated
+		 *
+		 * @param type      the type to convert to
+		 * @param converter the conversion to be applied to the value
+		 * @param <T>       the type to convert to
+		 *
+		 * @return the converted value
+		 */
+		<T> @Nullable T getConvertedValue(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter);
+
 		/**
 		 * Returns a String representation of the Node
 		 *
@@ -1,5 +1,8 @@
 package de.zeanon.storagemanagercore.internal.base.interfaces;
 
+import de.zeanon.storagemanagercore.external.browniescollections.DoubleGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.IntGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.LongGapList;
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import de.zeanon.storagemanagercore.internal.base.sections.FlatSection;
 import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
@@ -8,6 +11,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -18,7 +22,7 @@ import org.jetbrains.annotations.Nullable;
  * Basic Interface for the Data Classes, providing different basic getter and setter methods
  *
  * @author Zeanon
- * @version 2.4.0
+ * @version 2.6.2
  */
 @SuppressWarnings({"unused", "unchecked", "rawtypes"})
 public interface DataStorage {
@@ -41,6 +45,36 @@ public interface DataStorage {
 	 */
 	@Nullable Object getUseArray(final @NotNull String... key);
 
+	/**
+	 * Get an Object from a File converted by the given converter,
+	 * implementations may keep the converted value until the value is replaced
+	 *
+	 * @param key       key to Object in the File
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the Object
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted Object from File
+	 */
+	default <T> T getConverted(final @NotNull String key, final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+		return converter.apply(this.get(key));
+	}
+
+	/**
+	 * Get an Object from a File converted by the given converter,
+	 * implementations may keep the converted value until the value is replaced
+	 *
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the Object
+	 * @param key       key to Object in the File
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted Object from File
+	 */
+	default <T> T getConvertedUseArray(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter, final @NotNull String... key) {
+		return converter.apply(this.getUseArray(key));
+	}
+
 	/**
 	 * Get an Object from the File casted to a certain type
 	 *
@@ -165,7 +199,7 @@ public interface DataStorage {
 	 * @return Byte from File
 	 */
 	default byte getByte(final @NotNull String key) {
-		return Objects.toByte(this.get(key));
+		return this.getConverted(key, Byte.class, Objects::toByte);
 	}
 
 	/**
@@ -176,7 +210,7 @@ public interface DataStorage {
 	 * @return Byte from File
 	 */
 	default byte getByteUseArray(final @NotNull String... key) {
-		return Objects.toByte(this.getUseArray(key));
+		return this.getConvertedUseArray(Byte.class, Objects::toByte, key);
 	}
 
 	/**
@@ -187,7 +221,7 @@ public interface DataStorage {
 	 * @return Double from File
 	 */
 	default double getDouble(final @NotNull String key) {
-		return Objects.toDouble(this.get(key));
+		return this.getConverted(key, Double.class, Objects::toDouble);
 	}
 
 	/**
@@ -198,7 +232,7 @@ public interface DataStorage {
 	 * @return Double from File
 	 */
 	default double getDoubleUseArray(final @NotNull String... key) {
-		return Objects.toDouble(this.getUseArray(key));
+		return this.getConvertedUseArray(Double.class, Objects::toDouble, key);
 	}
 
 	/**
@@ -209,7 +243,7 @@ public interface DataStorage {
 	 * @return Float from File
 	 */
 	default float getFloat(final @NotNull String key) {
-		return Objects.toFloat(this.get(key));
+		return this.getConverted(key, Float.class, Objects::toFloat);
 	}
 
 	/**
@@ -220,7 +254,7 @@ public interface DataStorage {
 	 * @return Float from File
 	 */
 	default float getFloatUseArray(final @NotNull String... key) {
-		return Objects.toFloat(this.getUseArray(key));
+		return this.getConvertedUseArray(Float.class, Objects::toFloat, key);
 	}
 
 	/**
@@ -231,7 +265,7 @@ public interface DataStorage {
 	 * @return Int from File
 	 */
 	default int getInt(final @NotNull String key) {
-		return Objects.toInt(this.get(key));
+		return this.getConverted(key, Integer.class, Objects::toInt);
 	}
 
 	/**
@@ -242,7 +276,7 @@ public interface DataStorage {
 	 * @return Int from File
 	 */
 	default int getIntUseArray(final @NotNull String... key) {
-		return Objects.toInt(this.getUseArray(key));
+		return this.getConvertedUseArray(Integer.class, Objects::toInt, key);
 	}
 
 	/**
@@ -253,7 +287,7 @@ public interface DataStorage {
 	 * @return Short from File
 	 */
 	default short getShort(final @NotNull String key) {
-		return Objects.toShort(this.get(key));
+		return this.getConverted(key, Short.class, Objects::toShort);
 	}
 
 	/**
@@ -264,7 +298,7 @@ public interface DataStorage {
 	 * @return Short from File
 	 */
 	default short getShortUseArray(final @NotNull String... key) {
-		return Objects.toShort(this.getUseArray(key));
+		return this.getConvertedUseArray(Short.class, Objects::toShort, key);
 	}
 
 	/**
@@ -275,7 +309,7 @@ public interface DataStorage {
 	 * @return Long from File
 	 */
 	default long getLong(final @NotNull String key) {
-		return Objects.toLong(this.get(key));
+		return this.getConverted(key, Long.class, Objects::toLong);
 	}
 
 	/**
@@ -286,7 +320,7 @@ public interface DataStorage {
 	 * @return Long from File
 	 */
 	default long getLongUseArray(final @NotNull String... key) {
-		return Objects.toLong(this.getUseArray(key));
+		return this.getConvertedUseArray(Long.class, Objects::toLong, key);
 	}
 
 	/**
@@ -297,8 +331,9 @@ public interface DataStorage {
 	 * @return List
 	 */
 	default @Nullable List<String> getList(final @NotNull String key) {
-		final @Nullable List<String> tempList = this.getDirectListReference(key);
-		return tempList == null ? null : tempList.stream().collect(ArrayList::new, ArrayList::add, List::addAll);
+		final @Nullable List<?> tempList = (List<?>) this.get(key);
+		// primitive lists hold their values unboxed, so every element has to be turned into a String
+		return tempList == null ? null : tempList.stream().map(Objects::toString).collect(ArrayList::new, ArrayList::add, List::addAll);
 	}
 
 	/**
@@ -309,8 +344,75 @@ public interface DataStorage {
 	 * @return List
 	 */
 	default @Nullable List<String> getListUseArray(final @NotNull String... key) {
-		final @Nullable List<String> tempList = this.getDirectListReferenceUseArray(key);
-		return tempList == null ? null : tempList.stream().collect(ArrayList::new, ArrayList::add, List::addAll);
+		final @Nullable List<?> tempList = (List<?>) this.getUseArray(key);
+		// primitive lists hold their values unboxed, so every element has to be turned into a String
+		return tempList == null ? null : tempList.stream().map(Objects::toString).collect(ArrayList::new, ArrayList::add, List::addAll);
+	}
+
+	/**
+	 * Get a List of ints from a File
+	 *
+	 * @param key key to List in the File
+	 *
+	 * @return IntGapList holding the values unboxed
+	 */
+	default @Nullable IntGapList getIntList(final @NotNull String key) {
+		return Objects.toIntList(this.get(key));
+	}
+
+	/**
+	 * Get a List of ints from a File
+	 *
+	 * @param key key to List in the File
+	 *
+	 * @return IntGapList holding the values unboxed
+	 */
+	default @Nullable IntGapList getIntListUseArray(final @NotNull String... key) {
+		return Objects.toIntList(this.getUseArray(key));
+	}
+
+	/**
+	 * Get a List of longs from a File
+	 *
+	 * @param key key to List in the File
+	 *
+	 * @return LongGapList holding the values unboxed
+	 */
+	default @Nullable LongGapList getLongList(final @NotNull String key) {
+		return Objects.toLongList(this.get(key));
+	}
+
+	/**
+	 * Get a List of longs from a File
+	 *
+	 * @param key key to List in the File
+	 *
+	 * @return LongGapList holding the values unboxed
+	 */
+	default @Nullable LongGapList getLongListUseArray(final @NotNull String... key) {
+		return Objects.toLongList(this.getUseArray(key));
+	}
+
+	/**
+	 * Get a List of doubles from a File
+	 *
+	 * @param key key to List in the File
+	 *
+	 * @return DoubleGapList holding the values unboxed
+	 */
+	default @Nullable DoubleGapList getDoubleList(final @NotNull String key) {
+		return Objects.toDoubleList(this.get(key));
+	}
+
+	/**
+	 * Get a List of doubles from a File
+	 *
+	 * @param key key to List in the File
+	 *
+	 * @return DoubleGapList holding the values unboxed
+	 */
+	default @Nullable DoubleGapList getDoubleListUseArray(final @NotNull String... key) {
+		return Objects.toDoubleList(this.getUseArray(key));
 	}
 
 	/**
@@ -320,10 +422,11 @@ public interface DataStorage {
 	 *
 	 * @param key key to List in the File
 	 *
-	 * @return List
+	 * @return List, a compact primitive List is materialized into a new List of Strings,
+	 * use {@link #getIntList(String)}, {@link #getLongList(String)} or {@link #getDoubleList(String)} to get its values unboxed
 	 */
 	default @Nullable List<String> getDirectListReference(final @NotNull String key) {
-		return (List<String>) this.get(key);
+		return Objects.toStringList(this.get(key));
 	}
 
 	/**
@@ -333,10 +436,11 @@ public interface DataStorage {
 	 *
 	 * @param key key to List in the File
 	 *
-	 * @return List
+	 * @return List, a compact primitive List is materialized into a new List of Strings,
+	 * use {@link #getIntListUseArray(String...)}, {@link #getLongListUseArray(String...)} or {@link #getDoubleListUseArray(String...)} to get its values unboxed
 	 */
 	default @Nullable List<String> getDirectListReferenceUseArray(final @NotNull String... key) {
-		return (List<String>) this.getUseArray(key);
+		return Objects.toStringList(this.getUseArray(key));
 	}
 
 	/**
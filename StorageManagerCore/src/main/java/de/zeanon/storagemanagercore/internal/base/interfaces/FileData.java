@@ -4,6 +4,7 @@ import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProv
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -16,7 +17,7 @@ import org.jetbrains.annotations.Nullable;
  * @param <E> the Entry from it, to be returned by the entryList methods
  *
  * @author Zeanon
- * @version 2.1.0
+ * @version 2.2.0
  */
 @SuppressWarnings({"rawtypes", "unused"})
 public interface FileData<M extends Map, E extends Map.Entry, L extends List> {
@@ -107,6 +108,40 @@ public interface FileData<M extends Map, E extends Map.Entry, L extends List> {
 	 */
 	@Nullable Object getUseArray(final @NotNull String... key);
 
+	/**
+	 * Get the value mapped to a specific key converted by the given converter,
+	 * implementations may keep the converted value until the value is replaced
+	 *
+	 * @param key       the key to look for
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the value
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted Value mapped to the given key
+	 *
+	 * @throws ObjectNullException if the given key does not exist
+	 */
+	default <T> @Nullable T getConverted(final @NotNull String key, final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+		return converter.apply(this.get(key));
+	}
+
+	/**
+	 * Get the value mapped to a specific key converted by the given converter,
+	 * implementations may keep the converted value until the value is replaced
+	 *
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the value
+	 * @param key       the key to look for
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted Value mapped to the given key
+	 *
+	 * @throws ObjectNullException if the given key does not exist
+	 */
+	default <T> @Nullable T getConvertedUseArray(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter, final @NotNull String... key) {
+		return converter.apply(this.getUseArray(key));
+	}
+
 	/**
 	 * @return the size of the top most layer of the internal DataMap
 	 */
@@ -0,0 +1,60 @@
+package de.zeanon.storagemanagercore.internal.base.interfaces;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Base interface for WriteSettings, provides a method to write the serialized content of a FlatFile to disk
+ *
+ * @author Zeanon
+ * @version 1.1.0
+ */
+@SuppressWarnings("EmptyMethod")
+public interface WriteSetting {
+
+	/**
+	 * Replace the content of the given File with the given content
+	 *
+	 * @param file    the File to be written to
+	 * @param content the complete new content of the File
+	 *
+	 * @throws IOException if the File can not be written properly
+	 */
+	void write(final @NotNull File file, final @NotNull byte[] content) throws IOException; //NOSONAR
+
+	/**
+	 * Replace the content of the given File with the content serialized by the given Content,
+	 * the default implementation collects the content in memory and passes it to {@link #write(File, byte[])}
+	 *
+	 * @param file    the File to be written to
+	 * @param content the serializer of the complete new content of the File
+	 *
+	 * @throws IOException if the File can not be written properly
+	 */
+	default void write(final @NotNull File file, final @NotNull Content content) throws IOException { //NOSONAR
+		final @NotNull ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		content.writeTo(outputStream);
+		this.write(file, outputStream.toByteArray());
+	}
+
+
+	/**
+	 * Serializer of the content of a File, called while the File is being written so the content does not have to be held in memory
+	 */
+	@FunctionalInterface
+	interface Content {
+
+		/**
+		 * Write the complete content to the given OutputStream
+		 *
+		 * @param outputStream the OutputStream to be written to, it must not be closed
+		 *
+		 * @throws IOException if the OutputStream can not be written to properly
+		 */
+		void writeTo(final @NotNull OutputStream outputStream) throws IOException; //NOSONAR
+	}
+}
@@ -5,11 +5,13 @@ import de.zeanon.storagemanagercore.internal.base.files.FlatFile;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataStorage;
 import de.zeanon.storagemanagercore.internal.base.interfaces.FileData;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
+import de.zeanon.storagemanagercore.internal.utility.basic.KeyCache;
 import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
 import de.zeanon.storagemanagercore.internal.utility.basic.Pair;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import lombok.*;
 import lombok.experimental.Accessors;
 import org.jetbrains.annotations.Contract;
@@ -21,7 +23,7 @@ import org.jetbrains.annotations.Nullable;
  * Basic foundation for the Sections, providing the necessary fields and basic methods
  *
  * @author Zeanon
- * @version 2.4.0
+ * @version 2.5.0
  */
 @Getter
 @EqualsAndHashCode
@@ -205,6 +207,18 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 		return this.fileData().getUseArray(key);
 	}
 
+	@Override
+	public <T> T getConverted(final @NotNull String key, final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+		this.update();
+		return this.fileData().getConverted(key, type, converter);
+	}
+
+	@Override
+	public <T> T getConvertedUseArray(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter, final @NotNull String... key) {
+		this.update();
+		return this.fileData().getConvertedUseArray(type, converter, key);
+	}
+
 	/**
 	 * Get all values mapped to the given keys
 	 *
@@ -383,7 +397,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void set(final @NotNull String key,
 					final @Nullable Object value) {
 		if (this.insert(key, value)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -411,7 +425,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void setUseArray(final @NotNull String[] key,
 							final @Nullable Object value) {
 		if (this.insertUseArray(key, value)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -438,7 +452,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void setAll(final @NotNull Map<String, Object> dataMap) {
 		if (this.insertAll(dataMap)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -451,7 +465,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void setAllUseArray(final @NotNull Map<String[], Object> dataMap) {
 		if (this.insertAllUseArray(dataMap)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -464,7 +478,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void setAll(final @NotNull Pair<String, Object>... dataPairs) {
 		if (this.insertAll(dataPairs)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -477,7 +491,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void setAllUseArray(final @NotNull Pair<String[], Object>... dataPairs) {
 		if (this.insertAllUseArray(dataPairs)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -492,7 +506,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void setAll(final @NotNull String blockKey,
 					   final @NotNull Map<String, Object> dataMap) {
 		if (this.insertAll(blockKey, dataMap)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -507,7 +521,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void setAllUseArray(final @NotNull String[] blockKey,
 							   final @NotNull Map<String[], Object> dataMap) {
 		if (this.insertAllUseArray(blockKey, dataMap)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -522,7 +536,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void setAll(final @NotNull String blockKey,
 					   final @NotNull Pair<String, Object>... dataPairs) {
 		if (this.insertAll(blockKey, dataPairs)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -537,7 +551,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void setAllUseArray(final @NotNull String[] blockKey,
 							   final @NotNull Pair<String[], Object>... dataPairs) {
 		if (this.insertAllUseArray(blockKey, dataPairs)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -647,7 +661,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void remove(final @NotNull String key) {
 		if (this.internalRemove(key)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -660,7 +674,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void removeUseArray(final @NotNull String... key) {
 		if (this.internalRemoveUseArray(key)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -695,7 +709,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void removeAll(final @NotNull String... keys) {
 		if (this.internalRemoveAll(keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -708,7 +722,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void removeAll(final @NotNull Collection<String> keys) {
 		if (this.internalRemoveAll(keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -721,7 +735,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void removeAllUseArray(final @NotNull String[]... keys) {
 		if (this.internalRemoveAllUseArray(keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -734,7 +748,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	@Override
 	public void removeAllUseArray(final @NotNull Collection<String[]> keys) {
 		if (this.internalRemoveAllUseArray(keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -749,7 +763,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void removeAll(final @NotNull String blockKey,
 						  final @NotNull String... keys) {
 		if (this.internalRemoveAll(blockKey, keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -764,7 +778,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void removeAll(final @NotNull String blockKey,
 						  final @NotNull Collection<String> keys) {
 		if (this.internalRemoveAll(blockKey, keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -779,7 +793,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void removeAllUseArray(final @NotNull String[] blockKey,
 								  final @NotNull String[]... keys) {
 		if (this.internalRemoveAllUseArray(blockKey, keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -794,7 +808,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 	public void removeAllUseArray(final @NotNull String[] blockKey,
 								  final @NotNull Collection<String[]> keys) {
 		if (this.internalRemoveAllUseArray(blockKey, keys)) {
-			this.save();
+			this.flatFile().requestSave();
 		}
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -1001,7 +1015,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final @NotNull Map.Entry<String, Object> entry : map.entrySet()) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1026,7 +1040,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final @NotNull Pair<String, Object> entry : pairs) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1082,7 +1096,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 		this.update();
 
 		for (final @NotNull Map.Entry<String, Object> entry : map.entrySet()) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 	}
 
@@ -1103,7 +1117,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 		this.update();
 
 		for (final @NotNull Pair<String, Object> entry : pairs) {
-			this.fileData().insert(key + "." + entry.getKey(), entry.getValue());
+			this.fileData().insertUseArray(KeyCache.join(key, entry.getKey()), entry.getValue());
 		}
 	}
 
@@ -1199,7 +1213,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1210,7 +1224,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 
 		final @NotNull String tempData = this.fileData().toString();
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 		return !this.fileData().toString().equals(tempData);
 	}
@@ -1280,7 +1294,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 		this.update();
 
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 	}
 
@@ -1289,7 +1303,7 @@ public abstract class FlatSection<F extends FlatFile<? extends FileData<M, ?, L>
 		this.update();
 
 		for (final String tempKey : keys) {
-			this.fileData().remove(blockKey + "." + tempKey);
+			this.fileData().removeUseArray(KeyCache.join(blockKey, tempKey));
 		}
 	}
 
@@ -36,6 +36,18 @@ public enum Reload implements ReloadSetting {
 		}
 	},
 
+	/**
+	 * reloads only if the File has changed, but only looks at the File after a change
+	 * was reported by the {@link de.zeanon.storagemanagercore.internal.utility.watcher.FileWatcher}.
+	 * Falls back to {@link #INTELLIGENT} if the File System does not support watching
+	 */
+	WATCHED {
+		@Override
+		public boolean shouldReload(final @NotNull FlatFile flatFile) {
+			return flatFile.hasWatchedChange();
+		}
+	},
+
 	/**
 	 * only reloads if you manually call the reload
 	 */
@@ -0,0 +1,23 @@
+package de.zeanon.storagemanagercore.internal.base.settings;
+
+/**
+ * Enum defining when changes to the Data classes are written to the File
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@SuppressWarnings("unused")
+public enum SaveMode {
+
+
+	/**
+	 * saves every time you change something in the config
+	 */
+	IMMEDIATELY,
+
+	/**
+	 * marks the File as dirty and lets a background thread coalesce the changes into one save,
+	 * at the latest after the maximum save delay or once the maximum amount of dirty operations is reached
+	 */
+	DEFERRED
+}
@@ -0,0 +1,56 @@
+package de.zeanon.storagemanagercore.internal.base.settings;
+
+import de.zeanon.storagemanagercore.internal.base.files.FlatFile;
+import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * ReloadSetting that reloads only if the File has changed, like {@link Reload#INTELLIGENT},
+ * but looks at the File at most once per interval.
+ * The interval is measured with the monotonic {@link System#nanoTime()} clock
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@SuppressWarnings({"unused", "rawtypes"})
+public class ThrottledReload implements ReloadSetting {
+
+
+	/**
+	 * the minimum interval between two checks in nanoseconds
+	 */
+	private final long interval;
+
+
+	/**
+	 * Check the File at most every 250 milliseconds
+	 */
+	@Contract(pure = true)
+	public ThrottledReload() {
+		this(250, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @param interval the minimum interval between two checks
+	 * @param unit     the TimeUnit of the interval
+	 */
+	@Contract(pure = true)
+	public ThrottledReload(final long interval, final @NotNull TimeUnit unit) {
+		this.interval = unit.toNanos(interval);
+	}
+
+
+	@Override
+	public boolean shouldReload(final @NotNull FlatFile flatFile) {
+		return flatFile.hasChanged(this.interval);
+	}
+}
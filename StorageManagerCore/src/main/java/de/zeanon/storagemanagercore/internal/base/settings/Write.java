@@ -0,0 +1,81 @@
+package de.zeanon.storagemanagercore.internal.base.settings;
+
+import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
+import de.zeanon.storagemanagercore.internal.base.interfaces.WriteSetting;
+import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
+import de.zeanon.storagemanagercore.internal.utility.basic.ChangesOutputStream;
+import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
+import java.io.File;
+import java.io.IOException;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Enum defining how the content of a File is written to disk
+ *
+ * @author Zeanon
+ * @version 1.1.1
+ */
+@SuppressWarnings("unused")
+public enum Write implements WriteSetting {
+
+
+	/**
+	 * overwrites the changed parts of the File in place while holding its write lock, comparing the content chunk by chunk while it is serialized,
+	 * a crash or an error during the save may leave a partially written File behind
+	 */
+	IN_PLACE {
+		@Override
+		public void write(final @NotNull File file, final @NotNull byte[] content) throws IOException {
+			try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file).writeLock()) {
+				tempLock.lock();
+				BaseFileUtils.writeChanges(tempLock.getFileChannel(), content);
+			}
+		}
+
+		@Override
+		public void write(final @NotNull File file, final @NotNull Content content) throws IOException {
+			try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file).writeLock()) {
+				tempLock.lock();
+				try (final @NotNull ChangesOutputStream outputStream = new ChangesOutputStream(tempLock.getFileChannel())) {
+					content.writeTo(outputStream);
+				}
+			}
+		}
+	},
+
+	/**
+	 * writes the content to a temporary sibling File, forces it to disk and moves it over the original,
+	 * so the File always holds either the old or the new content.
+	 * Locks held on the original File by other processes do not carry over to the new File
+	 */
+	ATOMIC {
+		@Override
+		public void write(final @NotNull File file, final @NotNull byte[] content) throws IOException {
+			BaseFileUtils.writeAtomically(file, content, false);
+		}
+
+		@Override
+		public void write(final @NotNull File file, final @NotNull Content content) throws IOException {
+			BaseFileUtils.writeAtomically(file, content, false);
+		}
+	},
+
+	/**
+	 * like {@link #ATOMIC}, but concurrent saves to the same directory share the sync of the directory,
+	 * the content of every File is still forced on its own
+	 *
+	 * @see de.zeanon.storagemanagercore.internal.utility.scheduler.GroupCommit
+	 */
+	ATOMIC_GROUP_COMMIT {
+		@Override
+		public void write(final @NotNull File file, final @NotNull byte[] content) throws IOException {
+			BaseFileUtils.writeAtomically(file, content, true);
+		}
+
+		@Override
+		public void write(final @NotNull File file, final @NotNull Content content) throws IOException {
+			BaseFileUtils.writeAtomically(file, content, true);
+		}
+	}
+}
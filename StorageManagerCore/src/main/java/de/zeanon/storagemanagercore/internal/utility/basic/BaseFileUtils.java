@@ -3,7 +3,9 @@ package de.zeanon.storagemanagercore.internal.utility.basic;
 import de.zeanon.storagemanagercore.external.browniescollections.GapList;
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
+import de.zeanon.storagemanagercore.internal.base.interfaces.WriteSetting;
 import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
+import de.zeanon.storagemanagercore.internal.utility.scheduler.GroupCommit;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.UtilityClass;
@@ -13,9 +15,13 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
 import java.net.URL;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -25,7 +31,7 @@ import java.util.List;
  * Basic utility methods for Files
  *
  * @author Zeanon
- * @version 2.2.0
+ * @version 2.5.3
  */
 @UtilityClass
 @SuppressWarnings({"unused", "WeakerAccess", "UnusedReturnValue"})
@@ -50,6 +56,22 @@ public class BaseFileUtils {
 		return timeStamp < file.lastModified();
 	}
 
+	/**
+	 * Check if a given File differs from the time stamp and length it was observed with
+	 *
+	 * @param file         the File to be checked
+	 * @param lastModified the time stamp the File was observed with
+	 * @param length       the length the File was observed with
+	 *
+	 * @return true if the File exists and its time stamp or length differ from the observed ones
+	 */
+	public boolean hasChanged(final @NotNull File file,
+							  final long lastModified,
+							  final long length) {
+		final long currentModified = file.lastModified();
+		return currentModified != 0 && (currentModified != lastModified || file.length() != length);
+	}
+
 	public boolean isChildOf(final @NotNull File child, final @NotNull File source) throws IOException {
 		return child.toPath().toRealPath().startsWith(source.toPath().toRealPath());
 	}
@@ -1508,6 +1530,124 @@ public class BaseFileUtils {
 		}
 	}
 
+	/**
+	 * Write the given content to the given FileChannel, only writing the parts that differ from the current content,
+	 * the content is compared chunk by chunk and only the differing part of each chunk is written
+	 *
+	 * @param channel the FileChannel to be written to, the caller has to hold the write lock
+	 * @param content the complete new content
+	 *
+	 * @return the amount of bytes written
+	 *
+	 * @throws IOException if the FileChannel can not be accessed properly
+	 * @see ChangesOutputStream
+	 */
+	public long writeChanges(final @NotNull FileChannel channel,
+							 final @NotNull byte[] content) throws IOException {
+		try (final @NotNull ChangesOutputStream outputStream = new ChangesOutputStream(channel)) {
+			outputStream.write(content);
+			outputStream.close();
+			return outputStream.getWritten();
+		}
+	}
+
+	/**
+	 * Replace the content of the given File atomically by writing the content to a temporary sibling File,
+	 * forcing it to disk and moving it over the given File
+	 *
+	 * @param file        the File to be written to
+	 * @param content     the complete new content
+	 * @param groupCommit if the directory sync should be shared with other Files saved to the same directory at the same time
+	 *
+	 * @throws IOException if the File can not be written properly
+	 */
+	public void writeAtomically(final @NotNull File file,
+								final @NotNull byte[] content,
+								final boolean groupCommit) throws IOException {
+		BaseFileUtils.writeAtomically(file, outputStream -> outputStream.write(content), groupCommit);
+	}
+
+	/**
+	 * Replace the content of the given File atomically by writing the content to a temporary sibling File,
+	 * forcing it to disk and moving it over the given File, all while holding the WriteLock of the given File
+	 *
+	 * @param file        the File to be written to
+	 * @param content     the serializer of the complete new content, writing straight to the temporary File
+	 * @param groupCommit if the directory sync should be shared with other Files saved to the same directory at the same time
+	 *
+	 * @throws IOException if the File can not be written properly
+	 */
+	public void writeAtomically(final @NotNull File file,
+								final @NotNull WriteSetting.Content content,
+								final boolean groupCommit) throws IOException {
+		final @NotNull Path target = file.toPath().toAbsolutePath();
+		final @NotNull Path directory = target.getParent();
+		final @NotNull Path temp = directory.resolve("." + target.getFileName() + "." + Long.toHexString(System.nanoTime()) + "-" + Thread.currentThread().getId() + ".tmp");
+
+		// the WriteLock is held from serializing to moving, so concurrent saves of the same File
+		// are moved in the order they were serialized and an older content never replaces a newer one
+		try (final @NotNull ExtendedFileLock tempLock = new ExtendedFileLock(file)) {
+			tempLock.writeLock().lock();
+			boolean moved = false;
+			try {
+				try (final @NotNull FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+					final @NotNull OutputStream outputStream = new BufferedOutputStream(Channels.newOutputStream(channel), BaseFileUtils.getBufferSize());
+					content.writeTo(outputStream);
+					outputStream.flush();
+					channel.force(true);
+				}
+
+				// the channel shared by all locks of the File is moved along, so nobody continues on the replaced File
+				tempLock.replaceWith(temp);
+				moved = true;
+			} finally {
+				if (!moved) {
+					Files.deleteIfExists(temp);
+				}
+			}
+		}
+
+		// persist the directory entry of the moved File
+		if (groupCommit) {
+			GroupCommit.sync(directory);
+		} else {
+			BaseFileUtils.force(directory);
+		}
+	}
+
+	/**
+	 * Force the content of the given File or directory to disk.
+	 * Directories can not be forced on every platform, in that case forcing a directory is skipped
+	 *
+	 * @param path the File or directory to be forced
+	 *
+	 * @throws IOException if the File can not be forced
+	 */
+	public void force(final @NotNull Path path) throws IOException {
+		if (Files.isDirectory(path)) {
+			try (final @NotNull FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+				channel.force(true);
+			} catch (final @NotNull IOException e) {
+				// directories can not be opened or forced on every platform (e.g. Windows)
+			}
+		} else {
+			try (final @NotNull FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+				channel.force(true);
+			}
+		}
+	}
+
+	/**
+	 * Release the mapping of the given MappedByteBuffer right away instead of once it is garbage collected,
+	 * as a mapped File can not be truncated, written to or replaced on some platforms (e.g. Windows) while it is mapped.
+	 * The buffer must not be accessed anymore afterwards, if the mapping can not be released on this JVM, nothing happens
+	 *
+	 * @param buffer the buffer to be unmapped
+	 */
+	public void unmap(final @NotNull MappedByteBuffer buffer) {
+		Unmapper.unmap(buffer);
+	}
+
 	/**
 	 * Returns the extension of a given File
 	 *
@@ -1625,4 +1765,58 @@ public class BaseFileUtils {
 			return false;
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Releases the mappings of MappedByteBuffers, through the Cleaner of the buffer on Java 8 and {@code Unsafe.invokeCleaner} on Java 9 and later
+	 */
+	private static final class Unmapper {
+
+		private static final @Nullable Method INVOKE_CLEANER;
+		private static final @Nullable Object UNSAFE;
+		private static final @Nullable Method CLEANER;
+		private static final @Nullable Method CLEAN;
+
+		static {
+			@Nullable Method invokeCleaner = null;
+			@Nullable Object unsafe = null;
+			@Nullable Method cleaner = null;
+			@Nullable Method clean = null;
+			try {
+				final @NotNull Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+				invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+				final @NotNull Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+				theUnsafe.setAccessible(true); //NOSONAR
+				unsafe = theUnsafe.get(null);
+			} catch (final @NotNull ReflectiveOperationException | RuntimeException e) {
+				invokeCleaner = null;
+				unsafe = null;
+				try {
+					cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+					clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+				} catch (final @NotNull ReflectiveOperationException | RuntimeException f) {
+					cleaner = null;
+					clean = null;
+				}
+			}
+			INVOKE_CLEANER = invokeCleaner;
+			UNSAFE = unsafe;
+			CLEANER = cleaner;
+			CLEAN = clean;
+		}
+
+		private static void unmap(final @NotNull MappedByteBuffer buffer) {
+			try {
+				if (Unmapper.INVOKE_CLEANER != null) {
+					Unmapper.INVOKE_CLEANER.invoke(Unmapper.UNSAFE, buffer);
+				} else if (Unmapper.CLEANER != null && Unmapper.CLEAN != null) {
+					final @Nullable Object cleaner = Unmapper.CLEANER.invoke(buffer);
+					if (cleaner != null) {
+						Unmapper.CLEAN.invoke(cleaner);
+					}
+				}
+			} catch (final @NotNull ReflectiveOperationException | RuntimeException e) {
+				// the mapping is released once the buffer is garbage collected
+			}
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package de.zeanon.storagemanagercore.internal.utility.basic;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * OutputStream taking the complete new content of a File and writing it to the FileChannel of the File,
+ * only writing the bytes that differ from the current content of the File.
+ * The content is compared chunk by chunk while it is written, so neither the old nor the new content is held in memory as a whole.
+ * Closing the stream writes the last chunk and truncates the File if the new content is shorter, the FileChannel itself is not closed
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ * @see BaseFileUtils#writeChanges(FileChannel, byte[])
+ */
+@SuppressWarnings("unused")
+public class ChangesOutputStream extends OutputStream {
+
+
+	private final @NotNull FileChannel channel;
+	private final long oldSize;
+	private final @NotNull byte[] chunk;
+	private final @NotNull ByteBuffer oldChunk;
+	private int count;
+	private long position;
+	private boolean closed;
+	/**
+	 * -- Getter --
+	 * Get the amount of bytes actually written to the FileChannel so far
+	 */
+	@Getter
+	private long written;
+
+
+	/**
+	 * @param channel the FileChannel to be written to, the caller has to hold the write lock
+	 *
+	 * @throws IOException if the FileChannel can not be accessed properly
+	 */
+	public ChangesOutputStream(final @NotNull FileChannel channel) throws IOException {
+		this(channel, BaseFileUtils.getBufferSize());
+	}
+
+	/**
+	 * @param channel   the FileChannel to be written to, the caller has to hold the write lock
+	 * @param chunkSize the amount of bytes compared at once
+	 *
+	 * @throws IOException if the FileChannel can not be accessed properly
+	 */
+	public ChangesOutputStream(final @NotNull FileChannel channel, final int chunkSize) throws IOException {
+		this.channel = channel;
+		this.oldSize = channel.size();
+		this.chunk = new byte[chunkSize];
+		this.oldChunk = ByteBuffer.allocate(chunkSize);
+	}
+
+
+	@Override
+	public void write(final int b) throws IOException {
+		if (this.count == this.chunk.length) {
+			this.writeChunk();
+		}
+		this.chunk[this.count++] = (byte) b;
+	}
+
+	@Override
+	public void write(final @NotNull byte[] b, final int off, final int len) throws IOException {
+		int offset = off;
+		int remaining = len;
+		while (remaining > 0) {
+			if (this.count == this.chunk.length) {
+				this.writeChunk();
+			}
+			final int length = Math.min(remaining, this.chunk.length - this.count);
+			System.arraycopy(b, offset, this.chunk, this.count, length);
+			this.count += length;
+			offset += length;
+			remaining -= length;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!this.closed) {
+			this.closed = true;
+			this.writeChunk();
+			if (this.oldSize > this.position) {
+				this.channel.truncate(this.position);
+			}
+		}
+	}
+
+
+	/**
+	 * Compare the current chunk with the content of the File at the same position and write the differing part of it
+	 */
+	private void writeChunk() throws IOException {
+		int start = 0;
+		int end = this.count;
+		if (this.position < this.oldSize) {
+			this.oldChunk.clear();
+			this.oldChunk.limit((int) Math.min(this.count, this.oldSize - this.position));
+			boolean endOfFile = false;
+			while (this.oldChunk.hasRemaining() && !endOfFile) {
+				endOfFile = this.channel.read(this.oldChunk, this.position + this.oldChunk.position()) < 0;
+			}
+			final int read = this.oldChunk.position();
+			while (start < read && this.oldChunk.get(start) == this.chunk[start]) {
+				start++;
+			}
+			// everything beyond the old content has to be written anyway
+			if (read == this.count) {
+				while (end > start && this.oldChunk.get(end - 1) == this.chunk[end - 1]) {
+					end--;
+				}
+			}
+		}
+
+		final @NotNull ByteBuffer buffer = ByteBuffer.wrap(this.chunk, start, end - start);
+		long writePosition = this.position + start;
+		while (buffer.hasRemaining()) {
+			writePosition += this.channel.write(buffer, writePosition);
+		}
+		this.written += end - start;
+		this.position += this.count;
+		this.count = 0;
+	}
+}
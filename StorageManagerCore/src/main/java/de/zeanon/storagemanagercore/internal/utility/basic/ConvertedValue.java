@@ -0,0 +1,77 @@
+package de.zeanon.storagemanagercore.internal.utility.basic;
+
+import java.util.function.Function;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * The converted form of a raw String value, kept by the node holding the value,
+ * so repeated calls to getInt, getDouble etc. on the same value do not have to parse the String every time
+ * <p>
+ * A ConvertedValue is immutable and remembers the value it has been converted from,
+ * a node only uses it as long as it still holds that exact value, so replacing the value invalidates it
+ * even if the ConvertedValue is published concurrently with the replacement
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ * @see de.zeanon.storagemanagercore.internal.base.interfaces.DataMap.DataNode#getConvertedValue(Class, Function)
+ */
+public final class ConvertedValue {
+
+
+	private final @NotNull Object source;
+	private final @NotNull Class<?> type;
+	private final @Nullable Object result;
+
+
+	@Contract(pure = true)
+	private ConvertedValue(final @NotNull Object source, final @NotNull Class<?> type, final @Nullable Object result) {
+		this.source = source;
+		this.type = type;
+		this.result = result;
+	}
+
+
+	/**
+	 * Convert the given value or take the result from the given ConvertedValue if it has been created from the same value
+	 *
+	 * @param converted the ConvertedValue currently kept by the node, may be null
+	 * @param value     the current value of the node
+	 * @param type      the type to convert to, distinguishes the results of different converters
+	 * @param converter the conversion to be applied
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the given ConvertedValue if it can be used, otherwise a new one to be kept by the node,
+	 * or null if the value does not have to be parsed and is converted on every call
+	 */
+	public static <T> @Nullable ConvertedValue convert(final @Nullable ConvertedValue converted,
+													   final @Nullable Object value,
+													   final @NotNull Class<T> type,
+													   final @NotNull Function<Object, T> converter) {
+		if (!(value instanceof String)) {
+			return null;
+		} else if (converted != null && converted.source == value && converted.type == type) {
+			return converted;
+		} else {
+			return new ConvertedValue(value, type, converter.apply(value));
+		}
+	}
+
+	/**
+	 * @param converted the result of {@link #convert(ConvertedValue, Object, Class, Function)}
+	 * @param value     the value passed to it
+	 * @param type      the type passed to it
+	 * @param converter the converter passed to it
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted value
+	 */
+	public static <T> @Nullable T result(final @Nullable ConvertedValue converted,
+										 final @Nullable Object value,
+										 final @NotNull Class<T> type,
+										 final @NotNull Function<Object, T> converter) {
+		return converted == null ? converter.apply(value) : type.cast(converted.result);
+	}
+}
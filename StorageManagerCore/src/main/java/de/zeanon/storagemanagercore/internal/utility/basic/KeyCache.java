@@ -0,0 +1,85 @@
+package de.zeanon.storagemanagercore.internal.utility.basic;
+
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Bounded cache for the split form of dotted keys, so repeated lookups of the same key
+ * do not have to split and allocate a new array every time
+ * <p>
+ * The cache is direct mapped, a slot holds exactly one key and is simply overwritten on collision,
+ * which keeps it lock free and bounded in size
+ * <p>
+ * The returned arrays are shared and must not be modified by the caller
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@UtilityClass
+public class KeyCache {
+
+
+	private final int CAPACITY = 2048;
+	private final int MASK = KeyCache.CAPACITY - 1;
+	private final @NotNull Entry[] ENTRIES = new Entry[KeyCache.CAPACITY];
+
+
+	/**
+	 * Split the given key at each '.'
+	 *
+	 * @param key the key to be split
+	 *
+	 * @return the parts of the given key, the same as {@code key.split("\\.")}
+	 */
+	@Contract("null -> fail")
+	public @NotNull String[] split(final @NotNull String key) {
+		final int slot = KeyCache.spread(key.hashCode()) & KeyCache.MASK;
+		final Entry entry = KeyCache.ENTRIES[slot];
+		if (entry != null && entry.key.equals(key)) {
+			return entry.parts;
+		} else {
+			final @NotNull String[] parts = key.split("\\.");
+			KeyCache.ENTRIES[slot] = new Entry(key, parts);
+			return parts;
+		}
+	}
+
+	/**
+	 * Get the given subKey relative to the given blockKey as a single key array
+	 *
+	 * @param blockKey the key of the block
+	 * @param subKey   the key relative to the block
+	 *
+	 * @return a new array holding the parts of blockKey followed by the parts of subKey
+	 */
+	public @NotNull String[] join(final @NotNull String blockKey, final @NotNull String subKey) {
+		final @NotNull String[] blockParts = KeyCache.split(blockKey);
+		final @NotNull String[] subParts = KeyCache.split(subKey);
+		final @NotNull String[] key = new String[blockParts.length + subParts.length];
+		System.arraycopy(blockParts, 0, key, 0, blockParts.length);
+		System.arraycopy(subParts, 0, key, blockParts.length, subParts.length);
+		return key;
+	}
+
+
+	private int spread(final int hash) {
+		return hash ^ (hash >>> 16);
+	}
+
+
+	/**
+	 * Immutable slot value, the final fields make it safe to publish without synchronization
+	 */
+	private static final class Entry {
+
+		private final @NotNull String key;
+		private final @NotNull String[] parts;
+
+		private Entry(final @NotNull String key, final @NotNull String[] parts) {
+			this.key = key;
+			this.parts = parts;
+		}
+	}
+}
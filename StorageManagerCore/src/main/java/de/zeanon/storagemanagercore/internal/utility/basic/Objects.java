@@ -1,8 +1,14 @@
 package de.zeanon.storagemanagercore.internal.utility.basic;
 
+import de.zeanon.storagemanagercore.external.browniescollections.DoubleGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.IntGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.LongGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.PrimitiveGapList;
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import java.lang.reflect.Array;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -13,7 +19,7 @@ import org.jetbrains.annotations.Nullable;
  * Parsing utilities for Objects Types
  *
  * @author Zeanon
- * @version 1.7.0
+ * @version 1.10.0
  */
 @UtilityClass
 @SuppressWarnings("unused")
@@ -233,6 +239,104 @@ public class Objects {
 		}
 	}
 
+	/**
+	 * Castes a given Object to an IntGapList
+	 *
+	 * @return a copy of the given Object as an IntGapList or null if the given Object is null
+	 *
+	 * @throws ClassCastException if the given Object is neither a Collection nor an int array
+	 */
+	@Contract("null -> null; !null -> new")
+	public @Nullable IntGapList toIntList(final @Nullable Object object) {
+		if (object == null) {
+			return null;
+		} else if (object instanceof IntGapList) {
+			return ((IntGapList) object).copy();
+		} else if (object instanceof int[]) {
+			return IntGapList.create((int[]) object);
+		} else {
+			final @NotNull Collection<?> collection = (Collection<?>) object;
+			final @NotNull IntGapList list = new IntGapList(collection.size());
+			for (final @Nullable Object element : collection) {
+				list.addInt(Objects.toInt(element));
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * Castes a given Object to a LongGapList
+	 *
+	 * @return a copy of the given Object as a LongGapList or null if the given Object is null
+	 *
+	 * @throws ClassCastException if the given Object is neither a Collection nor a long array
+	 */
+	@Contract("null -> null; !null -> new")
+	public @Nullable LongGapList toLongList(final @Nullable Object object) {
+		if (object == null) {
+			return null;
+		} else if (object instanceof LongGapList) {
+			return ((LongGapList) object).copy();
+		} else if (object instanceof long[]) {
+			return LongGapList.create((long[]) object);
+		} else {
+			final @NotNull Collection<?> collection = (Collection<?>) object;
+			final @NotNull LongGapList list = new LongGapList(collection.size());
+			for (final @Nullable Object element : collection) {
+				list.addLong(Objects.toLong(element));
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * Castes a given Object to a DoubleGapList
+	 *
+	 * @return a copy of the given Object as a DoubleGapList or null if the given Object is null
+	 *
+	 * @throws ClassCastException if the given Object is neither a Collection nor a double array
+	 */
+	@Contract("null -> null; !null -> new")
+	public @Nullable DoubleGapList toDoubleList(final @Nullable Object object) {
+		if (object == null) {
+			return null;
+		} else if (object instanceof DoubleGapList) {
+			return ((DoubleGapList) object).copy();
+		} else if (object instanceof double[]) {
+			return DoubleGapList.create((double[]) object);
+		} else {
+			final @NotNull Collection<?> collection = (Collection<?>) object;
+			final @NotNull DoubleGapList list = new DoubleGapList(collection.size());
+			for (final @Nullable Object element : collection) {
+				list.addDouble(Objects.toDouble(element));
+			}
+			return list;
+		}
+	}
+
+	/**
+	 * Castes a given Object to a List of Strings
+	 *
+	 * @return the given Object as a List of Strings, a copy holding the values as Strings
+	 * if the given Object is a compact primitive List or null if the given Object is null
+	 *
+	 * @throws ClassCastException if the given Object is not a List
+	 */
+	@Contract("null -> null")
+	@SuppressWarnings("unchecked")
+	public @Nullable List<String> toStringList(final @Nullable Object object) {
+		if (object instanceof PrimitiveGapList) {
+			final @NotNull PrimitiveGapList<?> primitiveList = (PrimitiveGapList<?>) object;
+			final @NotNull List<String> list = new ArrayList<>(primitiveList.size());
+			for (final @Nullable Object element : primitiveList) {
+				list.add(Objects.toString(element));
+			}
+			return list;
+		} else {
+			return (List<String>) object;
+		}
+	}
+
 	@Contract("null -> false")
 	public boolean isArray(final @Nullable Object object) {
 		return object instanceof Object[] || object instanceof boolean[] ||
@@ -0,0 +1,183 @@
+package de.zeanon.storagemanagercore.internal.utility.filelock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Keeps the channels of frequently used Files open between single reads and saves
+ * <p>
+ * A retained File keeps a reference to its channel, so every {@link ExtendedFileLock} created for it reuses
+ * the already open RandomAccessFile instead of opening and closing a new one.
+ * Channels not used for longer than the idle timeout are closed by a daemon thread,
+ * if more than the maximum amount of channels are retained, the least recently used ones are closed
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@UtilityClass
+@SuppressWarnings({"unused", "WeakerAccess"})
+public class ChannelPool {
+
+
+	/**
+	 * The maximum amount of channels kept open at the same time
+	 */
+	@Getter
+	@Setter
+	private volatile int maxOpenChannels = 64;
+	/**
+	 * The time in milliseconds after which an unused channel is closed
+	 */
+	@Getter
+	@Setter
+	private volatile long idleTimeout = 30000;
+
+	private final @NotNull Map<String, ExtendedFileLock> POOL = new HashMap<>();
+	private final @NotNull ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final @NotNull Thread thread = new Thread(runnable, "StorageManager-ChannelPool");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private boolean sweeping;
+
+
+	/**
+	 * Keep the channel of the given File open and mark it as used
+	 *
+	 * @param file the File whose channel should be kept open
+	 */
+	public void retain(final @NotNull File file) {
+		final @NotNull String absolutePath = file.getAbsolutePath();
+		synchronized (ChannelPool.POOL) {
+			final @Nullable ExtendedFileLock pooled = ChannelPool.POOL.get(absolutePath);
+			if (pooled != null) {
+				pooled.touch();
+				return;
+			}
+		}
+
+		final @NotNull ExtendedFileLock created;
+		try {
+			created = new ExtendedFileLock(file);
+		} catch (final @NotNull IOException e) {
+			// the channel just is not pooled, the actual read or save will report the problem
+			return;
+		}
+
+		final @NotNull List<ExtendedFileLock> evicted = new ArrayList<>();
+		synchronized (ChannelPool.POOL) {
+			final @Nullable ExtendedFileLock pooled = ChannelPool.POOL.putIfAbsent(absolutePath, created);
+			if (pooled != null) {
+				pooled.touch();
+				evicted.add(created);
+			} else {
+				while (ChannelPool.POOL.size() > ChannelPool.maxOpenChannels) {
+					evicted.add(ChannelPool.POOL.remove(ChannelPool.leastRecentlyUsed()));
+				}
+				if (!ChannelPool.sweeping) {
+					ChannelPool.sweeping = true;
+					ChannelPool.EXECUTOR.schedule(ChannelPool::sweep, ChannelPool.idleTimeout, TimeUnit.MILLISECONDS);
+				}
+			}
+		}
+		ChannelPool.release(evicted);
+	}
+
+	/**
+	 * Close the pooled channel of the given File, if there is one
+	 *
+	 * @param file the File whose channel should be closed
+	 */
+	public void evict(final @NotNull File file) {
+		final @Nullable ExtendedFileLock pooled;
+		synchronized (ChannelPool.POOL) {
+			pooled = ChannelPool.POOL.remove(file.getAbsolutePath());
+		}
+		if (pooled != null) {
+			ChannelPool.release(pooled);
+		}
+	}
+
+	/**
+	 * Close all pooled channels
+	 */
+	public void evictAll() {
+		final @NotNull List<ExtendedFileLock> evicted;
+		synchronized (ChannelPool.POOL) {
+			evicted = new ArrayList<>(ChannelPool.POOL.values());
+			ChannelPool.POOL.clear();
+		}
+		ChannelPool.release(evicted);
+	}
+
+	/**
+	 * @return the amount of currently pooled channels
+	 */
+	public int size() {
+		synchronized (ChannelPool.POOL) {
+			return ChannelPool.POOL.size();
+		}
+	}
+
+
+	private void sweep() {
+		final @NotNull List<ExtendedFileLock> evicted = new ArrayList<>();
+		synchronized (ChannelPool.POOL) {
+			final long idleSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(ChannelPool.idleTimeout);
+			final @NotNull Iterator<ExtendedFileLock> iterator = ChannelPool.POOL.values().iterator();
+			while (iterator.hasNext()) {
+				final @NotNull ExtendedFileLock pooled = iterator.next();
+				if (pooled.lastUsed() - idleSince <= 0) {
+					iterator.remove();
+					evicted.add(pooled);
+				}
+			}
+
+			ChannelPool.sweeping = !ChannelPool.POOL.isEmpty();
+			if (ChannelPool.sweeping) {
+				ChannelPool.EXECUTOR.schedule(ChannelPool::sweep, Math.max(1, ChannelPool.idleTimeout / 2), TimeUnit.MILLISECONDS);
+			}
+		}
+		ChannelPool.release(evicted);
+	}
+
+	// has to be called while holding the lock on the pool
+	private @NotNull String leastRecentlyUsed() {
+		@Nullable Map.Entry<String, ExtendedFileLock> oldest = null;
+		for (final @NotNull Map.Entry<String, ExtendedFileLock> entry : ChannelPool.POOL.entrySet()) {
+			if (oldest == null || entry.getValue().lastUsed() - oldest.getValue().lastUsed() < 0) {
+				oldest = entry;
+			}
+		}
+		//noinspection ConstantConditions
+		return oldest.getKey();
+	}
+
+	private void release(final @NotNull List<ExtendedFileLock> evicted) {
+		for (final @NotNull ExtendedFileLock pooled : evicted) {
+			ChannelPool.release(pooled);
+		}
+	}
+
+	private void release(final @NotNull ExtendedFileLock pooled) {
+		try {
+			pooled.release();
+		} catch (final @NotNull IOException e) {
+			// the channel could not be closed properly, there is nothing left to clean up
+		}
+	}
+}
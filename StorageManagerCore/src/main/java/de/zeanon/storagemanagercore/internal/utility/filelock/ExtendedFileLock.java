@@ -1,24 +1,27 @@
 package de.zeanon.storagemanagercore.internal.utility.filelock;
 
-import de.zeanon.storagemanagercore.external.browniescollections.GapList;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
-import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
 import java.io.*;
 import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
 import java.nio.charset.CharsetEncoder;
-import java.util.Collections;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.HashMap;
-import java.util.List;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
-import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.StampedLock;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import lombok.EqualsAndHashCode;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 
 /**
@@ -28,7 +31,7 @@ import org.jetbrains.annotations.NotNull;
  * It will be recreated with those parameters up on deserialization
  *
  * @author Zeanon
- * @version 1.1.0
+ * @version 1.2.0
  */
 @SuppressWarnings({"unused", "WeakerAccess"})
 public class ExtendedFileLock implements AutoCloseable, Serializable {
@@ -205,10 +208,50 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 		this.readWriteLockableChannel.getFileChannel().truncate(size);
 	}
 
+	/**
+	 * Move the given File over the File of this lock, the current thread has to hold the WriteLock.
+	 * The channel is closed for the move, as an open File can not be replaced on every platform (e.g. Windows),
+	 * and reopened on the moved File afterwards, so every lock sharing the channel continues on the new File.
+	 * Threads of this JVM stay excluded throughout, other processes only until the channel is closed for the move
+	 *
+	 * @param source the File to be moved over the File of this lock
+	 *
+	 * @throws IOException if the File can not be moved or reopened properly
+	 */
+	public void replaceWith(final @NotNull Path source) throws IOException {
+		this.readWriteLockableChannel.replaceWith(source);
+	}
+
 
+	/**
+	 * Give up the holds the current thread acquired through this instance and the reference to the channel,
+	 * holds acquired through other instances of the same File stay untouched
+	 */
 	@Override
 	public void close() throws IOException {
-		this.readWriteLockableChannel.close();
+		this.readWriteLockableChannel.close(this);
+	}
+
+
+	/**
+	 * Mark the channel of this lock as used, see {@link ChannelPool}
+	 */
+	void touch() {
+		this.readWriteLockableChannel.lastUsed = System.nanoTime();
+	}
+
+	/**
+	 * @return the {@link System#nanoTime()} the channel of this lock has been used the last time
+	 */
+	long lastUsed() {
+		return this.readWriteLockableChannel.lastUsed;
+	}
+
+	/**
+	 * Give up the reference to the channel without releasing any locks held by the current thread
+	 */
+	void release() throws IOException {
+		this.readWriteLockableChannel.release();
 	}
 
 
@@ -217,9 +260,8 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 	 * There is at most one instance of ReadWriteLockableChannel created per File on the System
 	 *
 	 * @author Zeanon
-	 * @version 1.1.0
+	 * @version 1.2.0
 	 */
-	@SuppressWarnings("BusyWait")
 	@EqualsAndHashCode
 	private static class ReadWriteLockableChannel implements Serializable {
 
@@ -227,24 +269,37 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 		private static final long serialVersionUID = 115260807719631111L;
 
 
-		private static final transient @NotNull Map<String, ReadWriteLockableChannel> openChannels = new HashMap<>();
-		private static final transient @NotNull StampedLock factoryLock = new StampedLock();
+		private static final transient @NotNull Map<String, ReadWriteLockableChannel> openChannels = new ConcurrentHashMap<>();
+		/**
+		 * The bounds of the time waited between two attempts to get the FileLock while another process holds it
+		 */
+		private static final long MIN_FILE_LOCK_BACKOFF = TimeUnit.MILLISECONDS.toNanos(1);
+		private static final long MAX_FILE_LOCK_BACKOFF = TimeUnit.MILLISECONDS.toNanos(100);
+		private static final int READ = 0;
+		private static final int WRITE = 1;
 
 
 		private final @NotNull String absolutePath;
 		private final boolean writeMetaData;
 		private final boolean writeSynchronized;
 
-		private final transient @NotNull AtomicReference<FileLock> fileLock = new AtomicReference<>();
-		private final transient @NotNull AtomicInteger writeLockActive = new AtomicInteger();
-		private final transient @NotNull StampedLock internalLock = new StampedLock();
-
-		private final transient @NotNull AtomicLong currentWritingThread = new AtomicLong(-1);
-		private final transient @NotNull List<Long> readingThreads = Collections.synchronizedList(new GapList<>());
+		private final transient @NotNull ReentrantLock stateLock = new ReentrantLock(true);
+		private final transient @NotNull Condition released = this.stateLock.newCondition();
+		private final transient @NotNull Map<Long, Integer> readingThreads = new HashMap<>();
+		/**
+		 * The holds of each thread split up by the ExtendedFileLock they were acquired through, as {read holds, write holds}
+		 */
+		private final transient @NotNull Map<Long, Map<ExtendedFileLock, int[]>> ownedHolds = new HashMap<>();
+		private transient @Nullable FileLock fileLock;
+		private transient boolean fileLockPending;
+		private transient long currentWritingThread = -1;
+		private transient int writeHoldCount;
+		private transient int lockHoldCount;
+		private transient int waitingWriters;
 		private final transient @NotNull AtomicInteger instanceCount = new AtomicInteger();
-		private final transient @NotNull AtomicInteger lockHoldCount = new AtomicInteger();
+		private transient volatile long lastUsed = System.nanoTime();
 
-		private final transient @NotNull RandomAccessFile localRandomAccessFile;
+		private transient volatile @NotNull RandomAccessFile localRandomAccessFile;
 
 
 		@Contract(pure = true)
@@ -258,7 +313,7 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 						throw new IOException("Could not create '" + file.getAbsolutePath() + "'");
 					}
 				}
-				this.localRandomAccessFile = new RandomAccessFile(file, writeSynchronized ? (writeMetaData ? "rws" : "rwd") : "rw");
+				this.localRandomAccessFile = new RandomAccessFile(file, ReadWriteLockableChannel.mode(writeSynchronized, writeMetaData));
 				this.absolutePath = file.getAbsolutePath();
 				this.writeMetaData = writeMetaData;
 				this.writeSynchronized = writeSynchronized;
@@ -273,21 +328,43 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 			}
 		}
 
-		@Contract(pure = true)
+		/**
+		 * Get the open channel of the given File and add a reference to it or open a new one if there is none.
+		 * References to channels still being used are added without locking, opening and closing
+		 * the channel of a File is atomic for that File only, so it never blocks on other Files
+		 */
 		private static @NotNull
 		ReadWriteLockableChannel getOrCreateChannel(final @NotNull File file, final boolean writeSynchronized, final boolean writeMetaData) throws IOException {
-			final long lockStamp = ReadWriteLockableChannel.factoryLock.readLock();
+			final @NotNull String absolutePath = file.getAbsolutePath();
+			final @Nullable ReadWriteLockableChannel existing = ReadWriteLockableChannel.openChannels.get(absolutePath);
+			if (existing != null && existing.acquire()) {
+				return existing;
+			}
+
 			try {
-				if (!ReadWriteLockableChannel.openChannels.containsKey(file.getAbsolutePath())) {
-					ReadWriteLockableChannel.openChannels.putIfAbsent(file.getAbsolutePath(), new ReadWriteLockableChannel(file, writeSynchronized, writeMetaData));
-				}
-				return ReadWriteLockableChannel.openChannels.get(file.getAbsolutePath());
-			} finally {
-				ReadWriteLockableChannel.factoryLock.unlockRead(lockStamp);
+				return ReadWriteLockableChannel.openChannels.compute(absolutePath, (path, current) -> {
+					if (current != null && current.acquire()) {
+						return current;
+					}
+					try {
+						return new ReadWriteLockableChannel(file, writeSynchronized, writeMetaData);
+					} catch (final @NotNull IOException e) {
+						throw new UncheckedIOException(e.getMessage(), e);
+					}
+				});
+			} catch (final @NotNull UncheckedIOException e) {
+				throw e.getCause();
 			}
 		}
 
 
+
+		private static @NotNull
+		String mode(final boolean writeSynchronized, final boolean writeMetaData) {
+			return writeSynchronized ? (writeMetaData ? "rws" : "rwd") : "rw";
+		}
+
+
 		@Contract(pure = true)
 		private @NotNull
 		RandomAccessFile getRandomAccessFile() {
@@ -307,306 +384,481 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 		}
 
 
-		private void lockRead() {
-			if ((this.writeLockActive.get() == 0 && this.lockHoldCount.intValue() > 0)
-				|| (this.writeLockActive.get() > 0 && this.currentWritingThread.get() == Thread.currentThread().getId())) {
-				this.readingThreads.add(Thread.currentThread().getId());
-				this.lockHoldCount.incrementAndGet();
-			} else {
-				final long lockStamp = this.internalLock.readLock();
-				try {
-					while (this.writeLockActive.get() > 0) {
-						Thread.sleep(5);
+		/*
+		 * The state of the lock inside the JVM is guarded by the fair stateLock,
+		 * threads that have to wait park on the released Condition and are woken whenever a hold is given up,
+		 * in the order they started waiting.
+		 * Threads waiting for the WriteLock keep new threads from joining the ReadLock, so writers can not starve
+		 */
+		private void lockRead(final @NotNull ExtendedFileLock owner) {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (!this.isHeldBy(currentThread)) {
+					while (!this.isReadable()) {
+						this.released.awaitUninterruptibly();
 					}
+				}
+				this.internalLockRead(owner, currentThread);
+			} finally {
+				this.stateLock.unlock();
+			}
+		}
 
-					this.fileLock.updateAndGet(current -> {
-						try {
-							this.readingThreads.add(Thread.currentThread().getId());
-							this.lockHoldCount.set(1);
-							return this.localRandomAccessFile.getChannel().lock(0, Long.MAX_VALUE, true);
-						} catch (final @NotNull IOException e) {
-							throw new UncheckedIOException(e.getMessage(), e);
-						}
-					});
-				} catch (final @NotNull InterruptedException e) {
-					Thread.currentThread().interrupt();
-				} finally {
-					this.internalLock.unlockRead(lockStamp);
+		private boolean tryLockRead(final @NotNull ExtendedFileLock owner) {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (this.isHeldBy(currentThread) || this.isReadable()) {
+					this.internalLockRead(owner, currentThread);
+					return true;
+				} else {
+					return false;
 				}
+			} finally {
+				this.stateLock.unlock();
 			}
 		}
 
-		private boolean tryLockRead() {
-			if ((this.writeLockActive.get() == 0 && this.lockHoldCount.intValue() > 0)
-				|| (this.writeLockActive.get() > 0 && this.currentWritingThread.get() == Thread.currentThread().getId())) {
-				this.readingThreads.add(Thread.currentThread().getId());
-				this.lockHoldCount.incrementAndGet();
-				return true;
-			} else {
-				final long lockStamp = this.internalLock.tryReadLock();
-				if (lockStamp != 0) {
+		private void unlockRead(final @NotNull ExtendedFileLock owner) {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				final @Nullable Integer readHolds = this.readingThreads.get(currentThread);
+				if (this.lockHoldCount == 0 || this.fileLock == null || readHolds == null) {
+					throw new LockNotHeldException("Lock is not held");
+				}
+
+				if (readHolds == 1) {
+					this.readingThreads.remove(currentThread);
+				} else {
+					this.readingThreads.put(currentThread, readHolds - 1);
+				}
+				this.removeHold(owner, currentThread, ReadWriteLockableChannel.READ);
+				this.lockHoldCount--;
+				this.releaseIfFree();
+			} finally {
+				this.stateLock.unlock();
+			}
+		}
+
+
+		private void lockWrite(final @NotNull ExtendedFileLock owner) {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (!this.isWritableBy(currentThread)) {
+					this.waitingWriters++;
 					try {
-						if (this.writeLockActive.get() > 0) {
-							return false;
-						} else {
-							this.fileLock.updateAndGet(current -> {
-								try {
-									this.readingThreads.add(Thread.currentThread().getId());
-									this.lockHoldCount.set(1);
-									return this.localRandomAccessFile.getChannel().lock(0, Long.MAX_VALUE, true);
-								} catch (final @NotNull IOException e) {
-									throw new UncheckedIOException(e.getMessage(), e);
-								}
-							});
-							return true;
+						while (!this.isWritableBy(currentThread)) {
+							this.released.awaitUninterruptibly();
 						}
 					} finally {
-						this.internalLock.unlockRead(lockStamp);
+						this.waitingWriters--;
 					}
+				}
+				this.internalLockWrite(owner, currentThread);
+			} finally {
+				this.stateLock.unlock();
+			}
+		}
+
+		private boolean tryLockWrite(final @NotNull ExtendedFileLock owner) {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (this.isWritableBy(currentThread)) {
+					this.internalLockWrite(owner, currentThread);
+					return true;
 				} else {
 					return false;
 				}
+			} finally {
+				this.stateLock.unlock();
 			}
 		}
 
-		private void unlockRead() {
-			this.fileLock.updateAndGet(current -> {
-				if (this.lockHoldCount.intValue() == 0 || this.fileLock.get() == null || (this.writeLockActive.get() > 0 && this.currentWritingThread.get() != Thread.currentThread().getId())) {
+		private void unlockWrite(final @NotNull ExtendedFileLock owner) {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (this.lockHoldCount == 0 || this.fileLock == null || this.currentWritingThread != currentThread) {
 					throw new LockNotHeldException("Lock is not held");
-				} else if (this.lockHoldCount.decrementAndGet() == 0) {
-					try {
-						if (current != null && current.isValid()) {
-							current.release();
-						}
-						this.readingThreads.clear();
-						return null;
-					} catch (final @NotNull IOException e) {
-						throw new UncheckedIOException(e.getMessage(), e);
+				}
+
+				this.removeHold(owner, currentThread, ReadWriteLockableChannel.WRITE);
+				this.lockHoldCount--;
+				if (--this.writeHoldCount == 0) {
+					this.currentWritingThread = -1;
+					if (this.lockHoldCount > 0) {
+						// only the ReadLocks of this thread are left
+						this.replaceFileLock(true);
 					}
+				}
+				this.releaseIfFree();
+			} finally {
+				this.stateLock.unlock();
+			}
+		}
+
+
+		private void convertLock() {
+			this.stateLock.lock();
+			try {
+				if (this.currentWritingThread == Thread.currentThread().getId()) {
+					this.writeToRead();
 				} else {
-					this.readingThreads.remove(Thread.currentThread().getId());
-					return current;
+					this.readToWrite();
 				}
-			});
+			} finally {
+				this.stateLock.unlock();
+			}
 		}
 
+		private void writeToRead() {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (this.lockHoldCount == 0 || this.fileLock == null || this.currentWritingThread != currentThread) {
+					throw new LockNotHeldException("Lock is not held");
+				}
+
+				this.readingThreads.merge(currentThread, this.writeHoldCount, Integer::sum);
+				this.convertHolds(currentThread, ReadWriteLockableChannel.WRITE, ReadWriteLockableChannel.READ);
+				this.writeHoldCount = 0;
+				this.currentWritingThread = -1;
+				this.replaceFileLock(true);
+				this.released.signalAll();
+			} finally {
+				this.stateLock.unlock();
+			}
+		}
 
-		private void lockWrite() {
-			if (this.lockHoldCount.intValue() > 0
-				&& (this.currentWritingThread.longValue() == Thread.currentThread().getId()
-					|| Objects.containsOnly(this.readingThreads, Thread.currentThread().getId()))) {
-				this.writeLockActive.incrementAndGet();
-				this.lockHoldCount.incrementAndGet();
-			} else {
-				final long lockStamp = this.internalLock.writeLock();
+		private void readToWrite() {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (this.lockHoldCount == 0 || this.fileLock == null || !this.readingThreads.containsKey(currentThread)) {
+					throw new LockNotHeldException("Lock is not held");
+				}
+
+				this.waitingWriters++;
 				try {
-					while (this.fileLock.get() != null) {
-						Thread.sleep(5);
+					while (!this.isWritableBy(currentThread)) {
+						this.released.awaitUninterruptibly();
 					}
-					this.internalLockWrite();
-				} catch (final @NotNull InterruptedException e) {
-					Thread.currentThread().interrupt();
 				} finally {
-					this.internalLock.unlockWrite(lockStamp);
+					this.waitingWriters--;
 				}
+
+				final int readHolds = this.readingThreads.remove(currentThread);
+				this.convertHolds(currentThread, ReadWriteLockableChannel.READ, ReadWriteLockableChannel.WRITE);
+				this.writeHoldCount += readHolds;
+				this.currentWritingThread = currentThread;
+				this.replaceFileLock(false);
+			} finally {
+				this.stateLock.unlock();
 			}
 		}
 
-		private boolean tryLockWrite() {
-			if (this.lockHoldCount.intValue() > 0
-				&& (this.currentWritingThread.longValue() == Thread.currentThread().getId()
-					|| Objects.containsOnly(this.readingThreads, Thread.currentThread().getId()))) {
-				this.writeLockActive.incrementAndGet();
-				this.lockHoldCount.incrementAndGet();
-				this.currentWritingThread.set(Thread.currentThread().getId());
-				return true;
-			} else {
-				final long lockStamp = this.internalLock.tryWriteLock();
-				if (lockStamp != 0) {
+
+		private void replaceWith(final @NotNull Path source) throws IOException {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				if (this.lockHoldCount == 0 || this.fileLock == null || this.currentWritingThread != currentThread) {
+					throw new LockNotHeldException("Lock is not held");
+				}
+
+				final @NotNull Path target = new File(this.absolutePath).toPath();
+				// closing the channel releases the FileLock as well
+				this.fileLock = null;
+				this.localRandomAccessFile.close();
+				try {
 					try {
-						if (this.fileLock.get() != null) {
-							return false;
-						} else {
-							this.internalLockWrite();
-							return true;
-						}
-					} finally {
-						this.internalLock.unlockWrite(lockStamp);
+						Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+					} catch (final @NotNull AtomicMoveNotSupportedException e) {
+						Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
 					}
-				} else {
-					return false;
+				} finally {
+					this.localRandomAccessFile = new RandomAccessFile(target.toFile(), ReadWriteLockableChannel.mode(this.writeSynchronized, this.writeMetaData));
+					this.replaceFileLock(false);
 				}
+			} finally {
+				this.stateLock.unlock();
 			}
 		}
 
-		private void internalLockWrite() {
-			this.fileLock.updateAndGet(current -> {
-				try {
-					this.writeLockActive.set(1);
-					this.lockHoldCount.set(1);
-					this.currentWritingThread.set(Thread.currentThread().getId());
-					return this.localRandomAccessFile.getChannel().lock(0, Long.MAX_VALUE, false);
-				} catch (final @NotNull IOException e) {
-					throw new UncheckedIOException(e.getMessage(), e);
+		private void close(final @NotNull ExtendedFileLock owner) throws IOException {
+			this.unlock(owner);
+			this.release();
+		}
+
+		/**
+		 * Add a reference to this channel
+		 *
+		 * @return false if this channel has already been closed and can not be used anymore
+		 */
+		private boolean acquire() {
+			int count;
+			while ((count = this.instanceCount.get()) > 0) {
+				if (this.instanceCount.compareAndSet(count, count + 1)) {
+					this.lastUsed = System.nanoTime();
+					return true;
 				}
-			});
+			}
+			return false;
 		}
 
-		private void unlockWrite() {
-			this.fileLock.updateAndGet(current -> {
-				if (this.lockHoldCount.intValue() == 0 || this.fileLock.get() == null || this.writeLockActive.get() == 0) {
-					System.out.println(this.lockHoldCount.intValue() == 0);
-					System.out.println(this.fileLock.get() == null);
-					System.out.println(this.writeLockActive.get() == 0);
-					throw new LockNotHeldException("Lock is not held");
-				} else if (this.lockHoldCount.decrementAndGet() == 0) {
+		/**
+		 * Remove a reference to this channel and close it when the last reference is removed
+		 */
+		private void release() throws IOException {
+			int count;
+			while ((count = this.instanceCount.get()) > 1) {
+				if (this.instanceCount.compareAndSet(count, count - 1)) {
+					return;
+				}
+			}
+
+			// the last reference might be removed, so removing the channel has to be atomic with opening a new one for the same File
+			final @NotNull IOException[] exception = new IOException[1];
+			ReadWriteLockableChannel.openChannels.compute(this.getFilePath(), (path, current) -> {
+				if (this.instanceCount.decrementAndGet() == 0) {
 					try {
-						if (current != null && current.isValid()) {
-							current.release();
-						}
-						this.writeLockActive.set(0);
-						this.currentWritingThread.set(-1);
-						return null;
+						this.localRandomAccessFile.close();
 					} catch (final @NotNull IOException e) {
-						throw new UncheckedIOException(e.getMessage(), e);
+						exception[0] = e;
 					}
+					return current == this ? null : current;
 				} else {
-					this.writeLockActive.decrementAndGet();
 					return current;
 				}
 			});
+			if (exception[0] != null) {
+				throw exception[0];
+			}
 		}
 
 
-		private void convertLock() {
-			final long lockStamp = this.internalLock.writeLock();
+		private void unlock() {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
 			try {
-				while (this.fileLock.get() != null) {
-					Thread.sleep(5);
+				if (this.lockHoldCount == 0 || this.fileLock == null) {
+					throw new LockNotHeldException("Lock is not held");
 				}
-				if (this.writeLockActive.get() > 0) {
-					this.writeToRead();
-				} else {
-					this.readToWrite();
+
+				if (this.currentWritingThread == currentThread) {
+					this.lockHoldCount -= this.writeHoldCount;
+					this.writeHoldCount = 0;
+					this.currentWritingThread = -1;
+				}
+				final @Nullable Integer readHolds = this.readingThreads.remove(currentThread);
+				if (readHolds != null) {
+					this.lockHoldCount -= readHolds;
 				}
-			} catch (final @NotNull InterruptedException | RuntimeInterruptedException e) {
-				Thread.currentThread().interrupt();
+				this.ownedHolds.remove(currentThread);
+				this.releaseIfFree();
 			} finally {
-				this.internalLock.unlockWrite(lockStamp);
+				this.stateLock.unlock();
 			}
 		}
 
-		private void writeToRead() {
-			this.fileLock.updateAndGet(current -> {
-				if (this.lockHoldCount.intValue() == 0 || this.fileLock.get() == null) {
-					throw new LockNotHeldException("Lock is not held");
-				} else if (this.lockHoldCount.intValue() == 1) {
-					try {
-						if (current != null && current.isValid()) {
-							current.release();
+		/**
+		 * Give up the holds the current thread acquired through the given ExtendedFileLock
+		 */
+		private void unlock(final @NotNull ExtendedFileLock owner) {
+			final long currentThread = Thread.currentThread().getId();
+			this.stateLock.lock();
+			try {
+				final @Nullable Map<ExtendedFileLock, int[]> owners = this.ownedHolds.get(currentThread);
+				final @Nullable int[] holds = owners == null ? null : owners.remove(owner);
+				if (holds == null) {
+					return;
+				}
+				if (owners.isEmpty()) {
+					this.ownedHolds.remove(currentThread);
+				}
+
+				if (holds[ReadWriteLockableChannel.READ] > 0) {
+					final int readHolds = this.readingThreads.get(currentThread) - holds[ReadWriteLockableChannel.READ];
+					if (readHolds == 0) {
+						this.readingThreads.remove(currentThread);
+					} else {
+						this.readingThreads.put(currentThread, readHolds);
+					}
+					this.lockHoldCount -= holds[ReadWriteLockableChannel.READ];
+				}
+				if (holds[ReadWriteLockableChannel.WRITE] > 0) {
+					this.lockHoldCount -= holds[ReadWriteLockableChannel.WRITE];
+					this.writeHoldCount -= holds[ReadWriteLockableChannel.WRITE];
+					if (this.writeHoldCount == 0) {
+						this.currentWritingThread = -1;
+						if (this.readingThreads.containsKey(currentThread)) {
+							// only ReadLocks acquired through other instances are left
+							this.replaceFileLock(true);
 						}
-						this.writeLockActive.set(0);
-						this.readingThreads.add(Thread.currentThread().getId());
-						this.currentWritingThread.set(-1);
-						return this.localRandomAccessFile.getChannel().lock(0, Long.MAX_VALUE, true);
-					} catch (final @NotNull IOException e) {
-						throw new UncheckedIOException(e.getMessage(), e);
 					}
-				} else {
-					throw new LockNotHeldException("Lock is not held");
 				}
-			});
+				this.releaseIfFree();
+			} finally {
+				this.stateLock.unlock();
+			}
 		}
 
-		private void readToWrite() {
-			this.fileLock.updateAndGet(current -> {
-				if (this.lockHoldCount.intValue() == 0 || this.fileLock.get() == null) {
-					throw new LockNotHeldException("Lock is not held");
-				} else if (this.lockHoldCount.intValue() > 0 && this.fileLock.get() != null) {
-					try {
-						while (!this.readingThreads.isEmpty() && !Objects.containsOnly(this.readingThreads, Thread.currentThread().getId())) {
-							Thread.sleep(5);
-						}
 
-						if (current != null && current.isValid()) {
-							current.release();
-						}
-						this.writeLockActive.set(1);
-						this.readingThreads.remove(Thread.currentThread().getId());
-						this.currentWritingThread.set(Thread.currentThread().getId());
-						return this.localRandomAccessFile.getChannel().lock(0, Long.MAX_VALUE, false);
-					} catch (final @NotNull IOException e) {
-						throw new UncheckedIOException(e.getMessage(), e);
-					} catch (final @NotNull InterruptedException e) { //NOSONAR
-						throw new RuntimeInterruptedException(e.getMessage());
-					}
-				} else {
-					throw new LockNotHeldException("Lock could not be converted, lock is still being held");
-				}
-			});
+		// the following methods have to be called while holding the stateLock
+
+		private boolean isHeldBy(final long thread) {
+			return this.currentWritingThread == thread || this.readingThreads.containsKey(thread);
 		}
 
+		private boolean isReadable() {
+			return this.currentWritingThread == -1 && this.waitingWriters == 0;
+		}
 
-		private void close() throws IOException {
-			final long lockStamp = ReadWriteLockableChannel.factoryLock.writeLock();
+		private boolean isWritableBy(final long thread) {
+			return this.currentWritingThread == thread
+				   || (this.currentWritingThread == -1
+					   && (this.readingThreads.isEmpty()
+						   || (this.readingThreads.size() == 1 && this.readingThreads.containsKey(thread))));
+		}
+
+		// the hold is registered before the FileLock is acquired, so conflicting threads stay excluded while replaceFileLock waits
+
+		private void internalLockRead(final @NotNull ExtendedFileLock owner, final long thread) {
+			this.readingThreads.merge(thread, 1, Integer::sum);
+			this.addHold(owner, thread, ReadWriteLockableChannel.READ);
+			this.lockHoldCount++;
 			try {
-				try {
-					this.unlock();
-				} catch (final @NotNull LockNotHeldException e) {
-					//Do nothing, no lock is held, so nothing has to be changed
+				while (this.fileLockPending) {
+					this.released.awaitUninterruptibly();
 				}
+				if (this.fileLock == null) {
+					this.replaceFileLock(true);
+				}
+			} catch (final @NotNull UncheckedIOException e) {
+				this.readingThreads.computeIfPresent(thread, (key, holds) -> holds == 1 ? null : holds - 1);
+				this.removeHold(owner, thread, ReadWriteLockableChannel.READ);
+				this.lockHoldCount--;
+				this.releaseIfFree();
+				throw e;
+			}
+		}
 
-				if (this.instanceCount.decrementAndGet() == 0) {
-					ReadWriteLockableChannel.openChannels.remove(this.getFilePath());
-					this.localRandomAccessFile.close();
+		private void internalLockWrite(final @NotNull ExtendedFileLock owner, final long thread) {
+			if (this.currentWritingThread != thread) {
+				this.currentWritingThread = thread;
+				try {
+					this.replaceFileLock(false);
+				} catch (final @NotNull UncheckedIOException e) {
+					this.currentWritingThread = -1;
+					this.releaseIfFree();
+					throw e;
 				}
-			} finally {
-				ReadWriteLockableChannel.factoryLock.unlockWrite(lockStamp);
 			}
+			this.addHold(owner, thread, ReadWriteLockableChannel.WRITE);
+			this.writeHoldCount++;
+			this.lockHoldCount++;
 		}
 
+		private void addHold(final @NotNull ExtendedFileLock owner, final long thread, final int type) {
+			this.ownedHolds.computeIfAbsent(thread, key -> new IdentityHashMap<>()).computeIfAbsent(owner, key -> new int[2])[type]++;
+		}
 
-		private void unlock() {
-			this.fileLock.updateAndGet(current -> {
-				if (this.lockHoldCount.intValue() == 0 || this.fileLock.get() == null) {
-					throw new LockNotHeldException("Lock is not held");
-				} else {
-					final long currentThread = Thread.currentThread().getId();
-					if (this.currentWritingThread.get() == currentThread) {
-						this.lockHoldCount.set(0);
-						this.readingThreads.clear();
-						this.writeLockActive.set(0);
-						this.currentWritingThread.set(-1);
-						try {
-							if (current != null && current.isValid()) {
-								current.release();
-							}
-							return null;
-						} catch (final @NotNull IOException e) {
-							throw new UncheckedIOException(e.getMessage(), e);
+		/**
+		 * Remove a hold of the given thread, if it was acquired through another instance than the given one, it is taken from that instance
+		 */
+		private void removeHold(final @NotNull ExtendedFileLock owner, final long thread, final int type) {
+			final @Nullable Map<ExtendedFileLock, int[]> owners = this.ownedHolds.get(thread);
+			if (owners != null) {
+				@Nullable int[] holds = owners.get(owner);
+				if (holds == null || holds[type] == 0) {
+					holds = null;
+					for (final @NotNull int[] other : owners.values()) {
+						if (other[type] > 0) {
+							holds = other;
+							break;
 						}
 					}
+				}
+				if (holds != null) {
+					holds[type]--;
+					owners.values().removeIf(other -> other[ReadWriteLockableChannel.READ] == 0 && other[ReadWriteLockableChannel.WRITE] == 0);
+					if (owners.isEmpty()) {
+						this.ownedHolds.remove(thread);
+					}
+				}
+			}
+		}
 
-					final long reading = this.readingThreads.stream().filter(id -> id == currentThread).count();
-					if (reading > 0) {
-						for (int i = 0; i < reading; i++) {
-							this.lockHoldCount.updateAndGet(count -> (int) (count - reading));
-							this.readingThreads.remove(currentThread);
-						}
-						if (this.lockHoldCount.get() == 0) {
-							try {
-								if (current != null && current.isValid()) {
-									current.release();
-								}
-								return null;
-							} catch (final @NotNull IOException e) {
-								throw new UncheckedIOException(e.getMessage(), e);
-							}
-						}
+		private void convertHolds(final long thread, final int from, final int to) {
+			final @Nullable Map<ExtendedFileLock, int[]> owners = this.ownedHolds.get(thread);
+			if (owners != null) {
+				for (final @NotNull int[] holds : owners.values()) {
+					holds[to] += holds[from];
+					holds[from] = 0;
+				}
+			}
+		}
+
+		/**
+		 * Replace the FileLock with a shared or exclusive one.
+		 * While another process holds a conflicting FileLock, the stateLock is released between the attempts,
+		 * so threads not needing a new FileLock are not blocked by a process outside of this JVM
+		 */
+		private void replaceFileLock(final boolean shared) {
+			while (this.fileLockPending) {
+				this.released.awaitUninterruptibly();
+			}
+			this.fileLockPending = true;
+			boolean interrupted = false;
+			try {
+				if (this.fileLock != null && this.fileLock.isValid()) {
+					this.fileLock.release();
+				}
+				this.fileLock = null;
+				long backoff = ReadWriteLockableChannel.MIN_FILE_LOCK_BACKOFF;
+				@Nullable FileLock acquired;
+				while ((acquired = this.localRandomAccessFile.getChannel().tryLock(0, Long.MAX_VALUE, shared)) == null) {
+					try {
+						this.released.awaitNanos(backoff);
+					} catch (final @NotNull InterruptedException e) {
+						// an interrupt would close the channel on the next attempt, so it is restored afterwards
+						interrupted = true;
 					}
+					backoff = Math.min(backoff * 2, ReadWriteLockableChannel.MAX_FILE_LOCK_BACKOFF);
 				}
-				return current;
-			});
+				this.fileLock = acquired;
+			} catch (final @NotNull IOException e) {
+				throw new UncheckedIOException(e.getMessage(), e);
+			} finally {
+				this.fileLockPending = false;
+				this.released.signalAll();
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		private void releaseIfFree() {
+			if (this.lockHoldCount == 0) {
+				this.readingThreads.clear();
+				this.ownedHolds.clear();
+				this.writeHoldCount = 0;
+				this.currentWritingThread = -1;
+				try {
+					if (this.fileLock != null && this.fileLock.isValid()) {
+						this.fileLock.release();
+					}
+				} catch (final @NotNull IOException e) {
+					throw new UncheckedIOException(e.getMessage(), e);
+				} finally {
+					this.fileLock = null;
+				}
+			}
+			this.released.signalAll();
 		}
 
 
@@ -635,17 +887,17 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 
 		@Override
 		public void lock() {
-			this.extendedFileLock.readWriteLockableChannel.lockRead();
+			this.extendedFileLock.readWriteLockableChannel.lockRead(this.extendedFileLock);
 		}
 
 		@Override
 		public boolean tryLock() {
-			return this.extendedFileLock.readWriteLockableChannel.tryLockRead();
+			return this.extendedFileLock.readWriteLockableChannel.tryLockRead(this.extendedFileLock);
 		}
 
 		@Override
 		public void unlock() {
-			this.extendedFileLock.readWriteLockableChannel.unlockRead();
+			this.extendedFileLock.readWriteLockableChannel.unlockRead(this.extendedFileLock);
 		}
 
 		@Override
@@ -758,17 +1010,17 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 
 		@Override
 		public void lock() {
-			this.extendedFileLock.readWriteLockableChannel.lockWrite();
+			this.extendedFileLock.readWriteLockableChannel.lockWrite(this.extendedFileLock);
 		}
 
 		@Override
 		public boolean tryLock() {
-			return this.extendedFileLock.readWriteLockableChannel.tryLockWrite();
+			return this.extendedFileLock.readWriteLockableChannel.tryLockWrite(this.extendedFileLock);
 		}
 
 		@Override
 		public void unlock() {
-			this.extendedFileLock.readWriteLockableChannel.unlockWrite();
+			this.extendedFileLock.readWriteLockableChannel.unlockWrite(this.extendedFileLock);
 		}
 
 		@Override
@@ -864,18 +1116,6 @@ public class ExtendedFileLock implements AutoCloseable, Serializable {
 	}
 
 
-	/**
-	 * Class to throw a InterruptedException from an Unary Operator
-	 */
-	private static class RuntimeInterruptedException extends RuntimeException {
-
-		private static final long serialVersionUID = 5207822674700149137L;
-
-		public RuntimeInterruptedException(final @NotNull String message) {
-			super(message);
-		}
-	}
-
 	private static class LockNotHeldException extends IllegalMonitorStateException {
 
 		private static final long serialVersionUID = 5517290635971429495L;
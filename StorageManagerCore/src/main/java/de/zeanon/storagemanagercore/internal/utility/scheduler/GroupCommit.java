@@ -0,0 +1,104 @@
+package de.zeanon.storagemanagercore.internal.utility.scheduler;
+
+import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+
+
+/**
+ * Shares the directory syncs of Files saved with {@link de.zeanon.storagemanagercore.internal.base.settings.Write#ATOMIC_GROUP_COMMIT}
+ * <p>
+ * A directory sync persists every entry moved into the directory before the sync started,
+ * so a thread requesting a sync while another sync of the same directory is running waits for it to finish
+ * and then starts one sync for itself and every other thread that has been waiting in the meantime.
+ * A thread whose entry has already been persisted by such a shared sync returns right away.
+ * There is no commit window, so a single save is not delayed, only concurrent saves to the same directory share their syncs.
+ * The content of each File is still forced on its own, as there is no portable way to sync several Files at once
+ *
+ * @author Zeanon
+ * @version 2.0.0
+ */
+@UtilityClass
+public class GroupCommit {
+
+
+	private final @NotNull Map<Path, DirectorySync> DIRECTORIES = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Persist the entries moved into the given directory before this call,
+	 * sharing the sync with other threads requesting a sync of the same directory at the same time
+	 *
+	 * @param directory the directory to be synced
+	 *
+	 * @throws IOException if the given directory could not be synced
+	 */
+	public void sync(final @NotNull Path directory) throws IOException {
+		GroupCommit.DIRECTORIES.computeIfAbsent(directory, DirectorySync::new).sync();
+	}
+
+
+	private static final class DirectorySync {
+
+		private final @NotNull Path directory;
+		/**
+		 * The number of syncs requested so far, each request is identified by its number
+		 */
+		private long requested;
+		/**
+		 * All requests up to this number have been persisted
+		 */
+		private long persisted;
+		private boolean syncing;
+
+
+		private DirectorySync(final @NotNull Path directory) {
+			this.directory = directory;
+		}
+
+
+		private void sync() throws IOException {
+			final long covered;
+			synchronized (this) {
+				final long request = ++this.requested;
+				boolean interrupted = false;
+				while (this.syncing && this.persisted < request) {
+					try {
+						this.wait();
+					} catch (final @NotNull InterruptedException e) { //NOSONAR
+						// the entry has to be persisted before the save may return, so keep waiting
+						interrupted = true;
+					}
+				}
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+				if (this.persisted >= request) {
+					return;
+				}
+
+				// the sync started now covers every request made so far
+				this.syncing = true;
+				covered = this.requested;
+			}
+
+			boolean synced = false;
+			try {
+				BaseFileUtils.force(this.directory);
+				synced = true;
+			} finally {
+				synchronized (this) {
+					this.syncing = false;
+					if (synced) {
+						this.persisted = covered;
+					}
+					this.notifyAll();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,109 @@
+package de.zeanon.storagemanagercore.internal.utility.scheduler;
+
+import de.zeanon.storagemanagercore.internal.base.files.FlatFile;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Shared background scheduler for FlatFiles using {@link de.zeanon.storagemanagercore.internal.base.settings.SaveMode#DEFERRED}
+ * <p>
+ * Dirty Files are flushed by a single daemon thread, all Files still dirty when the JVM shuts down
+ * are flushed by a shutdown hook
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+@UtilityClass
+@SuppressWarnings("rawtypes")
+public class SaveScheduler {
+
+
+	private final @NotNull Set<FlatFile> DIRTY_FILES = Collections.newSetFromMap(Collections.synchronizedMap(new IdentityHashMap<>()));
+	private final @NotNull ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		final @NotNull Thread thread = new Thread(runnable, "StorageManager-SaveScheduler");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+
+	static {
+		Runtime.getRuntime().addShutdownHook(new Thread(SaveScheduler::flushAll, "StorageManager-SaveFlush"));
+	}
+
+
+	/**
+	 * Register the given FlatFile as dirty and flush it after the given delay
+	 *
+	 * @param flatFile the FlatFile to be flushed
+	 * @param delay    the delay in milliseconds
+	 */
+	public void schedule(final @NotNull FlatFile flatFile, final long delay) {
+		SaveScheduler.DIRTY_FILES.add(flatFile);
+		SaveScheduler.EXECUTOR.schedule(() -> SaveScheduler.flush(flatFile), delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Register the given FlatFile as dirty without scheduling a flush
+	 *
+	 * @param flatFile the FlatFile to be registered
+	 */
+	public void markDirty(final @NotNull FlatFile flatFile) {
+		SaveScheduler.DIRTY_FILES.add(flatFile);
+	}
+
+	/**
+	 * Remove the given FlatFile from the dirty Files
+	 *
+	 * @param flatFile the FlatFile to be removed
+	 */
+	public void markClean(final @NotNull FlatFile flatFile) {
+		SaveScheduler.DIRTY_FILES.remove(flatFile);
+	}
+
+	/**
+	 * Flush all currently dirty FlatFiles on the calling thread
+	 *
+	 * @throws RuntimeException the first Exception thrown while flushing, after all FlatFiles have been tried
+	 */
+	public void flushAll() {
+		final @NotNull FlatFile[] dirtyFiles;
+		synchronized (SaveScheduler.DIRTY_FILES) {
+			dirtyFiles = SaveScheduler.DIRTY_FILES.toArray(new FlatFile[0]);
+		}
+
+		@Nullable RuntimeException exception = null;
+		for (final @NotNull FlatFile flatFile : dirtyFiles) {
+			try {
+				flatFile.flush();
+			} catch (final @NotNull RuntimeException e) {
+				if (exception == null) {
+					exception = e;
+				} else {
+					exception.addSuppressed(e);
+				}
+			}
+		}
+
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+
+	private void flush(final @NotNull FlatFile flatFile) {
+		try {
+			flatFile.flush();
+		} catch (final @NotNull RuntimeException e) {
+			// the changes are still pending, so try again after the usual delay
+			SaveScheduler.EXECUTOR.schedule(() -> SaveScheduler.flush(flatFile), flatFile.maxSaveDelay(), TimeUnit.MILLISECONDS);
+		}
+	}
+}
@@ -0,0 +1,230 @@
+package de.zeanon.storagemanagercore.internal.utility.watcher;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Shared {@link WatchService} reporting changes of watched Files,
+ * each watched directory is registered once and all Files in it share that registration
+ * <p>
+ * If a File can not be watched, the returned {@link Watch} falls back to polling
+ *
+ * @author Zeanon
+ * @version 1.1.0
+ */
+@UtilityClass
+public class FileWatcher {
+
+
+	private final @NotNull Map<Path, Directory> DIRECTORIES = new ConcurrentHashMap<>();
+	private volatile @Nullable WatchService watchService;
+
+
+	/**
+	 * Start watching the given File
+	 *
+	 * @param file the File to be watched
+	 *
+	 * @return the Watch reporting the changes of the given File
+	 */
+	@Contract("_ -> new")
+	public @NotNull Watch watch(final @NotNull File file) {
+		final @NotNull Path path = file.toPath().toAbsolutePath().normalize();
+		final @Nullable Path directoryPath = path.getParent();
+		final @Nullable Path fileName = path.getFileName();
+		if (directoryPath == null || fileName == null || path.getFileSystem() != FileSystems.getDefault()) {
+			return new Watch(true);
+		}
+
+		try {
+			final @NotNull Directory directory = FileWatcher.DIRECTORIES.computeIfAbsent(directoryPath, FileWatcher::register);
+			return directory.add(fileName.toString());
+		} catch (final @NotNull UncheckedIOException | UnsupportedOperationException e) {
+			return new Watch(true);
+		}
+	}
+
+
+	private @NotNull Directory register(final @NotNull Path directoryPath) {
+		try {
+			return new Directory(directoryPath.register(FileWatcher.watchService(), StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY));
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private @NotNull WatchService watchService() throws IOException {
+		@Nullable WatchService tempService = FileWatcher.watchService;
+		if (tempService == null) {
+			synchronized (FileWatcher.DIRECTORIES) {
+				tempService = FileWatcher.watchService;
+				if (tempService == null) {
+					final @NotNull WatchService newService = FileSystems.getDefault().newWatchService();
+					final @NotNull Thread thread = new Thread(() -> FileWatcher.processEvents(newService), "StorageManager-FileWatcher");
+					thread.setDaemon(true);
+					thread.start();
+					FileWatcher.watchService = newService;
+					tempService = newService;
+				}
+			}
+		}
+		return tempService;
+	}
+
+	private void processEvents(final @NotNull WatchService service) {
+		try {
+			//noinspection InfiniteLoopStatement
+			while (true) { //NOSONAR
+				final @NotNull WatchKey key = service.take();
+				final @NotNull Path directoryPath = (Path) key.watchable();
+				final @Nullable Directory directory = FileWatcher.DIRECTORIES.get(directoryPath);
+				for (final @NotNull WatchEvent<?> event : key.pollEvents()) {
+					if (directory != null) {
+						if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+							directory.changeAll(false);
+						} else {
+							directory.change(event.context().toString());
+						}
+					}
+				}
+
+				if (!key.reset()) {
+					FileWatcher.DIRECTORIES.remove(directoryPath);
+					if (directory != null) {
+						// the directory can not be watched anymore, so all its Files have to poll from now on
+						directory.changeAll(true);
+					}
+				}
+			}
+		} catch (final @NotNull InterruptedException | ClosedWatchServiceException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+
+	/**
+	 * Handle for a watched File, reporting whether the File might have been changed since the last check
+	 */
+	public static final class Watch {
+
+		/**
+		 * The time in nanoseconds a reported change is kept after the File was looked at without confirming it,
+		 * as the time stamp of the File might not reflect the change yet, 2 seconds being the coarsest granularity of common File Systems
+		 */
+		private static final long SETTLE_TIME = TimeUnit.SECONDS.toNanos(2);
+
+		private volatile boolean changed;
+		private volatile boolean polling;
+		private long reportedAt;
+
+		private Watch(final boolean polling) {
+			this.polling = polling;
+		}
+
+		/**
+		 * Look at the File if a change was reported, the reported change is only reset once the given check confirms it
+		 * or the {@link #SETTLE_TIME} has passed since it was reported
+		 *
+		 * @param hasChanged the check whether the File has actually been changed
+		 *
+		 * @return true if the File has been changed, always looked at if this Watch is polling
+		 */
+		public boolean poll(final @NotNull BooleanSupplier hasChanged) {
+			if (this.polling) {
+				return hasChanged.getAsBoolean();
+			} else if (this.changed) {
+				final long tempReportedAt;
+				synchronized (this) {
+					tempReportedAt = this.reportedAt;
+				}
+				final boolean result = hasChanged.getAsBoolean();
+				if (result || System.nanoTime() - tempReportedAt > Watch.SETTLE_TIME) {
+					synchronized (this) {
+						// a change reported while looking at the File has to be looked at again
+						if (this.reportedAt == tempReportedAt) {
+							this.changed = false;
+						}
+					}
+				}
+				return result;
+			} else {
+				return false;
+			}
+		}
+
+		/**
+		 * @return true if this Watch does not get notified by a {@link WatchService}
+		 */
+		public boolean polling() {
+			return this.polling;
+		}
+
+		private synchronized void report(final boolean polling) {
+			if (polling) {
+				this.polling = true;
+			}
+			this.reportedAt = System.nanoTime();
+			this.changed = true;
+		}
+	}
+
+
+	private static final class Directory {
+
+		private final @NotNull WatchKey key;
+		private final @NotNull Map<String, List<WeakReference<Watch>>> watches = new HashMap<>();
+
+		private Directory(final @NotNull WatchKey key) {
+			this.key = key;
+		}
+
+		private synchronized @NotNull Watch add(final @NotNull String fileName) {
+			final @NotNull Watch watch = new Watch(!this.key.isValid());
+			this.watches.computeIfAbsent(fileName, name -> new ArrayList<>()).add(new WeakReference<>(watch));
+			return watch;
+		}
+
+		private synchronized void change(final @NotNull String fileName) {
+			final @Nullable List<WeakReference<Watch>> fileWatches = this.watches.get(fileName);
+			if (fileWatches != null && Directory.change(fileWatches, false)) {
+				this.watches.remove(fileName);
+			}
+		}
+
+		private synchronized void changeAll(final boolean polling) {
+			this.watches.values().removeIf(fileWatches -> Directory.change(fileWatches, polling));
+		}
+
+		/**
+		 * @return true if none of the given Watches is referenced anymore
+		 */
+		private static boolean change(final @NotNull List<WeakReference<Watch>> fileWatches, final boolean polling) {
+			final @NotNull Iterator<WeakReference<Watch>> iterator = fileWatches.iterator();
+			while (iterator.hasNext()) {
+				final @Nullable Watch watch = iterator.next().get();
+				if (watch == null) {
+					iterator.remove();
+				} else {
+					watch.report(polling);
+				}
+			}
+			return fileWatches.isEmpty();
+		}
+	}
+}
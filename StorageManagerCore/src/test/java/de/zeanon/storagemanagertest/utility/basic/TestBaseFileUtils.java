@@ -6,9 +6,16 @@ import de.zeanon.storagemanagertest.TestStorageManager;
 import java.io.File;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.TestOnly;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -120,4 +127,27 @@ class TestBaseFileUtils {
 
 		Assertions.assertTrue(result);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@TestOnly
+	void unmap() throws IOException {
+		final @NotNull File mapped = new File("src/test/resources/testresults/unmap", "mapped.tf");
+		BaseFileUtils.writeToFile(mapped, BaseFileUtils.createNewInputStreamFromFile("src/test/resources/testsources", "resource.tf"));
+		final @NotNull File maps = new File("/proc/self/maps");
+		// the mappings of the process can only be looked at on Linux
+		Assumptions.assumeTrue(maps.canRead());
+
+		final @NotNull String path = mapped.getCanonicalPath();
+		final boolean mappedBefore;
+		try (final @NotNull FileChannel channel = FileChannel.open(mapped.toPath(), StandardOpenOption.READ)) {
+			final @NotNull MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			mappedBefore = new String(Files.readAllBytes(maps.toPath()), StandardCharsets.UTF_8).contains(path);
+			BaseFileUtils.unmap(buffer);
+		}
+		final boolean mappedAfter = new String(Files.readAllBytes(maps.toPath()), StandardCharsets.UTF_8).contains(path);
+
+		Assertions.assertAll("Unmap",
+							 () -> Assertions.assertTrue(mappedBefore),
+							 () -> Assertions.assertFalse(mappedAfter));
+	}
+}
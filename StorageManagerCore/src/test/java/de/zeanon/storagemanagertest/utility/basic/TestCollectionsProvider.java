@@ -0,0 +1,69 @@
+package de.zeanon.storagemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.external.browniescollections.BigList;
+import de.zeanon.storagemanagercore.external.browniescollections.GapList;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.HashDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
+import de.zeanon.storagemanagercore.internal.base.exceptions.ProviderException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+@SuppressWarnings("rawtypes")
+class TestCollectionsProvider {
+
+
+	@Test
+	@TestOnly
+	void instantiate() {
+		final @NotNull CollectionsProvider<Map, List> collectionsProvider = new CollectionsProvider<>(GapDataMap.class, GapList.class, false);
+		final @NotNull Map first = collectionsProvider.newMap();
+		collectionsProvider.setMapType(HashDataMap.class);
+		collectionsProvider.setListType(Vector.class);
+		final @NotNull Map second = collectionsProvider.newMap();
+		final @NotNull List list = collectionsProvider.newList();
+		final @NotNull List copy = collectionsProvider.newList(new Class<?>[]{Collection.class}, Arrays.asList(1, 2));
+		collectionsProvider.setSynchronizeData(true);
+		final @NotNull List synchronizedList = collectionsProvider.newList();
+
+		Assertions.assertAll("Instantiate",
+							 () -> Assertions.assertEquals(GapDataMap.class, first.getClass()),
+							 () -> Assertions.assertEquals(HashDataMap.class, second.getClass()),
+							 () -> Assertions.assertEquals(Vector.class, list.getClass()),
+							 () -> Assertions.assertEquals(Arrays.asList(1, 2), copy),
+							 () -> Assertions.assertEquals(Collections.synchronizedList(new Vector<>()).getClass(), synchronizedList.getClass()),
+							 () -> Assertions.assertNotSame(collectionsProvider.newList(), collectionsProvider.newList()),
+							 () -> Assertions.assertThrows(ProviderException.class, () -> collectionsProvider.newList(new Class<?>[]{String.class}, "a")));
+	}
+
+	@Test
+	@TestOnly
+	void serialize() throws IOException, ClassNotFoundException {
+		final @NotNull CollectionsProvider<Map, List> collectionsProvider = new CollectionsProvider<>(GapDataMap.class, BigList.class, false);
+		collectionsProvider.newList();
+
+		final @NotNull ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (final @NotNull ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+			output.writeObject(collectionsProvider);
+		}
+		try (final @NotNull ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+			//noinspection unchecked
+			final @NotNull CollectionsProvider<Map, List> deserialized = (CollectionsProvider<Map, List>) input.readObject();
+			Assertions.assertEquals(BigList.class, deserialized.newList().getClass());
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package de.zeanon.storagemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.internal.utility.basic.KeyCache;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class TestKeyCache {
+
+
+	@Test
+	@TestOnly
+	void split() {
+		Assertions.assertAll("Split",
+							 () -> Assertions.assertArrayEquals("a.b.c".split("\\."), KeyCache.split("a.b.c")),
+							 () -> Assertions.assertArrayEquals("a..b.".split("\\."), KeyCache.split("a..b.")),
+							 () -> Assertions.assertArrayEquals("".split("\\."), KeyCache.split("")),
+							 () -> Assertions.assertSame(KeyCache.split("cached.key"), KeyCache.split("cached.key")));
+	}
+
+	@Test
+	@TestOnly
+	void join() {
+		Assertions.assertArrayEquals(new String[]{"block", "sub", "key", "value"}, KeyCache.join("block.sub", "key.value"));
+	}
+}
@@ -0,0 +1,171 @@
+package de.zeanon.storagemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
+import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
+import de.zeanon.storagemanagercore.internal.utility.basic.ChangesOutputStream;
+import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
+import de.zeanon.storagemanagertest.TestStorageManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestWriteChanges {
+
+	@BeforeAll
+	static void setup() {
+		TestStorageManager.clear("WriteChanges");
+	}
+
+	@Test
+	@TestOnly
+	void writeChanges() throws IOException {
+		final @NotNull File file = new File("src/test/resources/testresults/writechanges", "test.txt");
+		BaseFileUtils.createFile(file);
+
+		try (final @NotNull RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+			 final @NotNull FileChannel channel = randomAccessFile.getChannel()) {
+			final long initial = BaseFileUtils.writeChanges(channel, "key = value\nother = 1\n".getBytes(StandardCharsets.UTF_8));
+			final long sameLength = BaseFileUtils.writeChanges(channel, "key = vaLue\nother = 1\n".getBytes(StandardCharsets.UTF_8));
+			final String sameLengthContent = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			final long longer = BaseFileUtils.writeChanges(channel, "key = vaLue\nother = 100\n".getBytes(StandardCharsets.UTF_8));
+			final String longerContent = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			final long shorter = BaseFileUtils.writeChanges(channel, "key = v\n".getBytes(StandardCharsets.UTF_8));
+			final String shorterContent = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+			final long unchanged = BaseFileUtils.writeChanges(channel, "key = v\n".getBytes(StandardCharsets.UTF_8));
+
+			Assertions.assertAll("WriteChanges",
+								 () -> Assertions.assertEquals(22, initial),
+								 () -> Assertions.assertEquals(1, sameLength),
+								 () -> Assertions.assertEquals("key = vaLue\nother = 1\n", sameLengthContent),
+								 () -> Assertions.assertEquals(3, longer),
+								 () -> Assertions.assertEquals("key = vaLue\nother = 100\n", longerContent),
+								 () -> Assertions.assertEquals(1, shorter),
+								 () -> Assertions.assertEquals("key = v\n", shorterContent),
+								 () -> Assertions.assertEquals(0, unchanged));
+		}
+	}
+
+	@Test
+	@TestOnly
+	void changesOutputStream() throws IOException {
+		final @NotNull File file = new File("src/test/resources/testresults/writechanges", "chunks.txt");
+		BaseFileUtils.createFile(file);
+
+		try (final @NotNull RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+			 final @NotNull FileChannel channel = randomAccessFile.getChannel()) {
+			BaseFileUtils.writeChanges(channel, "aaaabbbbccccdddd".getBytes(StandardCharsets.UTF_8));
+
+			final long twoChunks;
+			try (final @NotNull ChangesOutputStream outputStream = new ChangesOutputStream(channel, 4)) {
+				outputStream.write("aaXabbbbccccdYdd".getBytes(StandardCharsets.UTF_8));
+				outputStream.close();
+				twoChunks = outputStream.getWritten();
+			}
+			final String twoChunksContent = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+			final long shorter;
+			try (final @NotNull ChangesOutputStream outputStream = new ChangesOutputStream(channel, 4)) {
+				for (final byte b : "aaXabbbbcc".getBytes(StandardCharsets.UTF_8)) {
+					outputStream.write(b);
+				}
+				outputStream.close();
+				shorter = outputStream.getWritten();
+			}
+			final String shorterContent = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+			Assertions.assertAll("ChangesOutputStream",
+								 () -> Assertions.assertEquals(2, twoChunks),
+								 () -> Assertions.assertEquals("aaXabbbbccccdYdd", twoChunksContent),
+								 () -> Assertions.assertEquals(0, shorter),
+								 () -> Assertions.assertEquals("aaXabbbbcc", shorterContent));
+		}
+	}
+
+	@Test
+	@TestOnly
+	void writeAtomicallyRetainedChannel() throws IOException {
+		final @NotNull File file = new File("src/test/resources/testresults/writechanges", "atomic.txt");
+		BaseFileUtils.createFile(file);
+		BaseFileUtils.writeAtomically(file, "key = old value\n".getBytes(StandardCharsets.UTF_8), false);
+
+		// a retained lock, like the one of a File keeping its channel open, has to continue on the replaced File
+		try (final @NotNull ExtendedFileLock retained = new ExtendedFileLock(file)) {
+			BaseFileUtils.writeAtomically(file, "key = new\n".getBytes(StandardCharsets.UTF_8), false);
+
+			final @NotNull ByteBuffer buffer = ByteBuffer.allocate(64);
+			try (final @NotNull ReadWriteFileLock tempLock = retained.readLock()) {
+				tempLock.lock();
+				retained.getFileChannel().read(buffer, 0);
+			}
+			buffer.flip();
+			final String retainedContent = StandardCharsets.UTF_8.decode(buffer).toString();
+			final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+			Assertions.assertAll("WriteAtomically",
+								 () -> Assertions.assertEquals("key = new\n", content),
+								 () -> Assertions.assertEquals("key = new\n", retainedContent));
+		}
+	}
+
+	@Test
+	@TestOnly
+	void writeAtomicallyOrdered() throws IOException, InterruptedException {
+		final @NotNull File file = new File("src/test/resources/testresults/writechanges", "ordered.txt");
+		BaseFileUtils.createFile(file);
+		final @NotNull CountDownLatch serializing = new CountDownLatch(1);
+		final @NotNull CountDownLatch release = new CountDownLatch(1);
+
+		final @NotNull Thread older = new Thread(() -> {
+			try {
+				BaseFileUtils.writeAtomically(file, outputStream -> {
+					serializing.countDown();
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					} catch (final @NotNull InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					outputStream.write("key = older\n".getBytes(StandardCharsets.UTF_8));
+				}, false);
+			} catch (final @NotNull IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+		final @NotNull Thread newer = new Thread(() -> {
+			try {
+				BaseFileUtils.writeAtomically(file, "key = newer\n".getBytes(StandardCharsets.UTF_8), false);
+			} catch (final @NotNull IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		older.start();
+		serializing.await(5, TimeUnit.SECONDS);
+		newer.start();
+		// the newer save has to wait for the WriteLock held by the older one while it is still serializing
+		final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while ((newer.getState() == Thread.State.NEW || newer.getState() == Thread.State.RUNNABLE) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		final boolean newerWaited = newer.isAlive();
+		release.countDown();
+		older.join(5000);
+		newer.join(5000);
+		final String content = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+
+		Assertions.assertAll("WriteAtomicallyOrdered",
+							 () -> Assertions.assertTrue(newerWaited),
+							 () -> Assertions.assertEquals("key = newer\n", content));
+	}
+}
@@ -0,0 +1,93 @@
+package de.zeanon.storagemanagertest.utility.lists;
+
+import de.zeanon.storagemanagercore.external.browniescollections.DoubleGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.IntGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.LongGapList;
+import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class TestPrimitiveGapList {
+
+
+	@Test
+	@TestOnly
+	void modify() {
+		final @NotNull IntGapList list = new IntGapList();
+		for (int i = 0; i < 20; i++) {
+			list.addInt(i);
+		}
+		list.remove(5);
+		list.addInt(5, 50);
+		list.addInt(0, -1);
+		list.add(100);
+		list.removeAll(Arrays.asList(10, 11, 12));
+		list.setInt(1, 7);
+
+		Assertions.assertAll("Modify",
+							 () -> Assertions.assertArrayEquals(new int[]{-1, 7, 1, 2, 3, 4, 50, 6, 7, 8, 9, 13, 14, 15, 16, 17, 18, 19, 100}, list.toIntArray()),
+							 () -> Assertions.assertEquals(Arrays.asList(-1, 7, 1, 2, 3, 4, 50, 6, 7, 8, 9, 13, 14, 15, 16, 17, 18, 19, 100), list),
+							 () -> Assertions.assertEquals(19, list.size()),
+							 () -> Assertions.assertEquals(50, list.getInt(6)),
+							 () -> Assertions.assertEquals(1, list.indexOf(7)),
+							 () -> Assertions.assertThrows(IndexOutOfBoundsException.class, () -> list.getInt(19)),
+							 () -> Assertions.assertThrows(NullPointerException.class, () -> list.add(null)));
+	}
+
+	@Test
+	@TestOnly
+	void sort() {
+		final @NotNull LongGapList longList = LongGapList.create(5L, 3L, Long.MAX_VALUE, -2L);
+		longList.sort(null);
+		final @NotNull DoubleGapList doubleList = DoubleGapList.create(2.5, -1.0, 0.5);
+		doubleList.sort(null);
+
+		Assertions.assertAll("Sort",
+							 () -> Assertions.assertArrayEquals(new long[]{-2L, 3L, 5L, Long.MAX_VALUE}, longList.toLongArray()),
+							 () -> Assertions.assertEquals(2, longList.binarySearch(5L, null)),
+							 () -> Assertions.assertArrayEquals(new double[]{-1.0, 0.5, 2.5}, doubleList.toDoubleArray()));
+	}
+
+	@Test
+	@TestOnly
+	void convert() {
+		final @NotNull List<String> values = Arrays.asList("1", "2", "3");
+		final @NotNull IntGapList intList = Objects.notNull(Objects.toIntList(values));
+		final @NotNull List<Integer> unmodifiable = intList.unmodifiableList();
+
+		Assertions.assertAll("Convert",
+							 () -> Assertions.assertArrayEquals(new int[]{1, 2, 3}, intList.toIntArray()),
+							 () -> Assertions.assertArrayEquals(new long[]{1L, 2L, 3L}, Objects.notNull(Objects.toLongList(intList)).toLongArray()),
+							 () -> Assertions.assertArrayEquals(new double[]{1.5}, Objects.notNull(Objects.toDoubleList(new double[]{1.5})).toDoubleArray()),
+							 () -> Assertions.assertNotSame(intList, Objects.toIntList(intList)),
+							 () -> Assertions.assertNull(Objects.toIntList(null)),
+							 () -> Assertions.assertEquals(intList, unmodifiable),
+							 () -> Assertions.assertThrows(UnsupportedOperationException.class, () -> unmodifiable.add(4)));
+	}
+
+	@Test
+	@TestOnly
+	void unmodifiableView() {
+		final @NotNull IntGapList list = new IntGapList();
+		list.addInt(1);
+		list.addInt(2);
+		final @NotNull List<Integer> unmodifiable = list.unmodifiableList();
+		// growing and shifting replaces the values array of the list
+		for (int i = 3; i <= 20; i++) {
+			list.addInt(0, i);
+		}
+		list.remove(1);
+
+		Assertions.assertAll("UnmodifiableView",
+							 () -> Assertions.assertEquals(list, unmodifiable),
+							 () -> Assertions.assertEquals(19, unmodifiable.size()),
+							 () -> Assertions.assertEquals(20, unmodifiable.get(0)),
+							 () -> Assertions.assertThrows(UnsupportedOperationException.class, () -> unmodifiable.set(0, 4)),
+							 () -> Assertions.assertThrows(UnsupportedOperationException.class, () -> unmodifiable.remove(0)));
+	}
+}
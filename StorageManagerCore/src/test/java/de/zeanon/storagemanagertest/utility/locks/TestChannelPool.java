@@ -0,0 +1,85 @@
+package de.zeanon.storagemanagertest.utility.locks;
+
+import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
+import de.zeanon.storagemanagercore.internal.utility.filelock.ChannelPool;
+import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
+import de.zeanon.storagemanagertest.TestStorageManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestChannelPool {
+
+	@BeforeAll
+	static void setup() {
+		TestStorageManager.clear("ChannelPool");
+	}
+
+	@Test
+	@TestOnly
+	void retain() throws IOException {
+		final @NotNull File file = new File("src/test/resources/testresults/channelpool", "retain.tf");
+		BaseFileUtils.createFile(file);
+
+		ChannelPool.retain(file);
+		final @NotNull RandomAccessFile first;
+		try (final @NotNull ExtendedFileLock test = new ExtendedFileLock(file)) {
+			first = test.getRandomAccessFile();
+		}
+		final @NotNull RandomAccessFile second;
+		try (final @NotNull ExtendedFileLock test = new ExtendedFileLock(file)) {
+			second = test.getRandomAccessFile();
+		}
+		final boolean open = first.getChannel().isOpen();
+
+		ChannelPool.evict(file);
+		final boolean closed = !first.getChannel().isOpen();
+
+		Assertions.assertAll("Retain",
+							 () -> Assertions.assertSame(first, second),
+							 () -> Assertions.assertTrue(open),
+							 () -> Assertions.assertTrue(closed));
+	}
+
+	@Test
+	@TestOnly
+	void leastRecentlyUsed() throws IOException, InterruptedException {
+		final int maxOpenChannels = ChannelPool.getMaxOpenChannels();
+		ChannelPool.evictAll();
+		ChannelPool.setMaxOpenChannels(2);
+		try {
+			final @NotNull File[] files = new File[3];
+			for (int i = 0; i < files.length; i++) {
+				files[i] = new File("src/test/resources/testresults/channelpool", "lru" + i + ".tf");
+				BaseFileUtils.createFile(files[i]);
+			}
+
+			ChannelPool.retain(files[0]);
+			Thread.sleep(1);
+			ChannelPool.retain(files[1]);
+			Thread.sleep(1);
+			ChannelPool.retain(files[0]);
+			Thread.sleep(1);
+			ChannelPool.retain(files[2]);
+
+			final @NotNull RandomAccessFile pooled;
+			try (final @NotNull ExtendedFileLock test = new ExtendedFileLock(files[0])) {
+				pooled = test.getRandomAccessFile();
+			}
+			final boolean stillOpen = pooled.getChannel().isOpen();
+
+			Assertions.assertAll("LRU",
+								 () -> Assertions.assertEquals(2, ChannelPool.size()),
+								 () -> Assertions.assertTrue(stillOpen));
+		} finally {
+			ChannelPool.evictAll();
+			ChannelPool.setMaxOpenChannels(maxOpenChannels);
+		}
+	}
+}
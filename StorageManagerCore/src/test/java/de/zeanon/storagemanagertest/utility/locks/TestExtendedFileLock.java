@@ -3,8 +3,14 @@ package de.zeanon.storagemanagertest.utility.locks;
 import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
 import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
 import de.zeanon.storagemanagertest.TestStorageManager;
+import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.TestOnly;
 import org.junit.jupiter.api.Assertions;
@@ -147,4 +153,196 @@ class TestExtendedFileLock {
 							 () -> Assertions.assertTrue(result[1]),
 							 () -> Assertions.assertTrue(result[2]));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@TestOnly
+	void handOff() throws IOException, InterruptedException {
+		BaseFileUtils.createFile(new File("src/test/resources/testresults/extendedfilelock", "handoff.tf"));
+
+		final @NotNull ExtendedFileLock test = new ExtendedFileLock(new File("src/test/resources/testresults/extendedfilelock", "handoff.tf"));
+		final boolean[] result = new boolean[3];
+
+		try {
+			test.writeLock().lock();
+			final @NotNull Thread waiting = new Thread(() -> {
+				try (final @NotNull ExtendedFileLock other = new ExtendedFileLock(new File("src/test/resources/testresults/extendedfilelock", "handoff.tf"))) {
+					other.writeLock().lock();
+					result[1] = true;
+					other.writeLock().unlock();
+				} catch (final @NotNull IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			waiting.start();
+			waiting.join(100);
+			result[0] = !result[1];
+
+			test.writeLock().unlock();
+			waiting.join(1000);
+			result[2] = !waiting.isAlive();
+		} finally {
+			test.close();
+		}
+
+		Assertions.assertAll("Lock-Results",
+							 () -> Assertions.assertTrue(result[0]),
+							 () -> Assertions.assertTrue(result[1]),
+							 () -> Assertions.assertTrue(result[2]));
+	}
+
+	@Test
+	@TestOnly
+	void convert() throws IOException {
+		BaseFileUtils.createFile(new File("src/test/resources/testresults/extendedfilelock", "convert.tf"));
+
+		final @NotNull ExtendedFileLock test = new ExtendedFileLock(new File("src/test/resources/testresults/extendedfilelock", "convert.tf"));
+		final boolean[] result = new boolean[2];
+
+		try {
+			test.readLock().lock();
+			test.readLock().convertLock();
+			result[0] = test.writeLock().tryLock();
+			test.writeLock().convertLock();
+			result[1] = test.readLock().tryLock();
+		} finally {
+			test.close();
+		}
+
+		Assertions.assertAll("Lock-Results",
+							 () -> Assertions.assertTrue(result[0]),
+							 () -> Assertions.assertTrue(result[1]));
+	}
+
+	@Test
+	@TestOnly
+	void referenceCounting() throws IOException {
+		BaseFileUtils.createFile(new File("src/test/resources/testresults/extendedfilelock", "references.tf"));
+
+		final @NotNull ExtendedFileLock test1 = new ExtendedFileLock(new File("src/test/resources/testresults/extendedfilelock", "references.tf"));
+		final @NotNull ExtendedFileLock test2 = new ExtendedFileLock(new File("src/test/resources/testresults/extendedfilelock", "references.tf"));
+
+		test1.close();
+		final boolean openAfterFirstClose = test2.getFileChannel().isOpen();
+		test2.close();
+		final boolean openAfterSecondClose = test2.getFileChannel().isOpen();
+
+		Assertions.assertAll("Reference-Counting",
+							 () -> Assertions.assertTrue(openAfterFirstClose),
+							 () -> Assertions.assertFalse(openAfterSecondClose));
+	}
+
+	@Test
+	@TestOnly
+	void closeOwnHolds() throws IOException, InterruptedException {
+		final @NotNull File file = new File("src/test/resources/testresults/extendedfilelock", "holds.tf");
+		BaseFileUtils.createFile(file);
+
+		final boolean[] result = new boolean[4];
+
+		try (final @NotNull ExtendedFileLock test = new ExtendedFileLock(file)) {
+			test.readLock().lock();
+			try (final @NotNull ExtendedFileLock other = new ExtendedFileLock(file)) {
+				other.writeLock().lock();
+			}
+
+			// only the WriteLock acquired through the closed instance is given up
+			final @NotNull Thread checking = new Thread(() -> {
+				try (final @NotNull ExtendedFileLock third = new ExtendedFileLock(file)) {
+					result[0] = third.readLock().tryLock();
+					third.readLock().unlock();
+					result[1] = !third.writeLock().tryLock();
+				} catch (final @NotNull IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			checking.start();
+			checking.join(1000);
+			test.readLock().unlock();
+			result[2] = test.writeLock().tryLock();
+		}
+
+		try (final @NotNull ExtendedFileLock after = new ExtendedFileLock(file)) {
+			final @NotNull Thread checking = new Thread(() -> result[3] = after.writeLock().tryLock());
+			checking.start();
+			checking.join(1000);
+		}
+
+		Assertions.assertAll("Lock-Results",
+							 () -> Assertions.assertTrue(result[0]),
+							 () -> Assertions.assertTrue(result[1]),
+							 () -> Assertions.assertTrue(result[2]),
+							 () -> Assertions.assertTrue(result[3]));
+	}
+
+	@Test
+	@TestOnly
+	void otherProcess() throws IOException, InterruptedException {
+		final @NotNull File file = new File("src/test/resources/testresults/extendedfilelock", "process.tf");
+		BaseFileUtils.createFile(file);
+
+		final @NotNull Process process = new ProcessBuilder(new File(System.getProperty("java.home"), "bin" + File.separator + "java").getPath(),
+															"-cp",
+															System.getProperty("java.class.path"),
+															ExternalLock.class.getName(),
+															file.getAbsolutePath()).start();
+		final boolean[] result = new boolean[4];
+
+		try (final @NotNull ExtendedFileLock test = new ExtendedFileLock(file)) {
+			final @NotNull BufferedReader output = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8));
+			Assertions.assertEquals("locked", output.readLine());
+
+			final @NotNull Thread waiting = new Thread(() -> {
+				try (final @NotNull ExtendedFileLock other = new ExtendedFileLock(file)) {
+					other.writeLock().lock();
+					result[1] = true;
+					other.writeLock().unlock();
+				} catch (final @NotNull IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+			waiting.start();
+			// the waiting thread has registered its WriteLock once it waits for the FileLock of the other process
+			final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (waiting.getState() != Thread.State.TIMED_WAITING && waiting.isAlive() && System.nanoTime() < deadline) {
+				Thread.sleep(10);
+			}
+			result[0] = !result[1];
+
+			// waiting for the other process must not block the threads of this JVM
+			final @NotNull Thread trying = new Thread(() -> result[2] = !test.readLock().tryLock());
+			trying.start();
+			trying.join(1000);
+			result[3] = !trying.isAlive() && result[2];
+
+			process.getOutputStream().close();
+			waiting.join(5000);
+			trying.join(5000);
+		} finally {
+			process.destroy();
+		}
+
+		Assertions.assertAll("Lock-Results",
+							 () -> Assertions.assertTrue(result[0]),
+							 () -> Assertions.assertTrue(result[1]),
+							 () -> Assertions.assertTrue(result[3]));
+	}
+
+
+	/**
+	 * Holds the FileLock of the given File from another process until its input is closed
+	 */
+	static class ExternalLock {
+
+		public static void main(final @NotNull String[] args) throws IOException {
+			try (final @NotNull RandomAccessFile randomAccessFile = new RandomAccessFile(args[0], "rw")) {
+				randomAccessFile.getChannel().lock();
+				System.out.println("locked");
+				System.out.flush();
+				//noinspection StatementWithEmptyBody
+				while (System.in.read() >= 0) {
+					// wait until the input is closed
+				}
+			}
+		}
+	}
+}
@@ -7,6 +7,9 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.TestOnly;
 import org.junit.jupiter.api.Assertions;
@@ -67,4 +70,81 @@ class TestConcurrentMap {
 							 () -> Assertions.assertTrue(results.get(3)),
 							 () -> Assertions.assertTrue(results.get(4)));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@TestOnly
+	void putIfAbsent() throws InterruptedException {
+		final @NotNull ExecutorService executor = Executors.newFixedThreadPool(8);
+		final @NotNull DataMap<String, Integer> tempMap = new ConcurrentGapDataMap<>();
+
+		for (int thread = 0; thread < 8; thread++) {
+			final int value = thread;
+			executor.submit(() -> {
+				for (int i = 0; i < 1000; i++) {
+					tempMap.putIfAbsent("key" + i, value);
+					tempMap.get("key" + (999 - i));
+				}
+			});
+		}
+
+		executor.shutdown();
+		Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		Assertions.assertEquals(1000, tempMap.size());
+	}
+
+	@Test
+	@TestOnly
+	void replaceIfEquals() throws InterruptedException {
+		final @NotNull ExecutorService executor = Executors.newFixedThreadPool(8);
+		final @NotNull DataMap<String, Integer> tempMap = new ConcurrentGapDataMap<>();
+		tempMap.put("counter", 0);
+
+		for (int thread = 0; thread < 8; thread++) {
+			executor.submit(() -> {
+				for (int i = 0; i < 10000; i++) {
+					Integer current;
+					do {
+						current = tempMap.get("counter");
+					} while (!tempMap.replace("counter", current, current + 1));
+				}
+			});
+		}
+
+		executor.shutdown();
+		Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		Assertions.assertEquals(80000, tempMap.get("counter"));
+	}
+
+	@Test
+	@TestOnly
+	void putWhileRemoving() throws InterruptedException {
+		final @NotNull ExecutorService executor = Executors.newFixedThreadPool(2);
+		final @NotNull DataMap<String, Integer> tempMap = new ConcurrentGapDataMap<>();
+		final @NotNull AtomicBoolean putting = new AtomicBoolean(true);
+		final @NotNull AtomicInteger lost = new AtomicInteger();
+
+		// only the marker is ever removed, so a value put afterwards has to stay in the map
+		executor.submit(() -> {
+			while (putting.get()) {
+				tempMap.remove("key", -1);
+			}
+		});
+		executor.submit(() -> {
+			try {
+				for (int i = 0; i < 200000; i++) {
+					tempMap.put("key", -1);
+					tempMap.put("key", i);
+					if (!Integer.valueOf(i).equals(tempMap.get("key"))) {
+						lost.incrementAndGet();
+					}
+				}
+			} finally {
+				putting.set(false);
+			}
+		});
+
+		executor.shutdown();
+		Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		Assertions.assertEquals(0, lost.get());
+	}
+}
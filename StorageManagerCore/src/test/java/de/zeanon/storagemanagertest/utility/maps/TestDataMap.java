@@ -1,8 +1,13 @@
 package de.zeanon.storagemanagertest.utility.maps;
 
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentGapDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.HashDataMap;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
+import java.util.Arrays;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -40,4 +45,31 @@ class TestDataMap {
 							 () -> Assertions.assertEquals("second", TestDataMap.testMap.entryList().get(3).getKey()),
 							 () -> Assertions.assertEquals(true, TestDataMap.testMap.entryList().get(3).getValue()));
 	}
-}
\ No newline at end of file
+
+	@Test
+	@TestOnly
+	void convertedValue() {
+		for (final @NotNull DataMap<String, Object> dataMap : Arrays.<DataMap<String, Object>>asList(new GapDataMap<>(), new HashDataMap<>(), new ConcurrentGapDataMap<>())) {
+			dataMap.put("number", "100000");
+			dataMap.put("text", 5);
+			final @Nullable DataMap.DataNode<String, Object> node = dataMap.getNode("number");
+			final @Nullable DataMap.DataNode<String, Object> textNode = dataMap.getNode("text");
+			Assertions.assertNotNull(node);
+			Assertions.assertNotNull(textNode);
+
+			final Integer converted = node.getConvertedValue(Integer.class, Objects::toInt);
+			final Integer convertedAgain = node.getConvertedValue(Integer.class, Objects::toInt);
+			final Long convertedLong = node.getConvertedValue(Long.class, Objects::toLong);
+			dataMap.put("number", "100001");
+			final Integer replaced = node.getConvertedValue(Integer.class, Objects::toInt);
+
+			Assertions.assertAll("ConvertedValue " + dataMap.getClass().getSimpleName(),
+								 () -> Assertions.assertEquals(100000, converted),
+								 () -> Assertions.assertSame(converted, convertedAgain),
+								 () -> Assertions.assertEquals(100000L, convertedLong),
+								 () -> Assertions.assertEquals(100001, replaced),
+								 () -> Assertions.assertEquals(5, textNode.getConvertedValue(Integer.class, Objects::toInt)),
+								 () -> Assertions.assertNull(dataMap.getNode("missing")));
+		}
+	}
+}
@@ -0,0 +1,63 @@
+package de.zeanon.storagemanagertest.utility.maps;
+
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.HashDataMap;
+import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+class TestHashDataMap {
+
+
+	@Test
+	@TestOnly
+	void entryList() {
+		final @NotNull DataMap<String, Boolean> testMap = new HashDataMap<>();
+		testMap.add("first", true);
+		testMap.add("second", true);
+		testMap.add("first", false);
+		testMap.add("second", true);
+		testMap.add("third", true);
+
+		testMap.put("second", false);
+		testMap.remove("third");
+
+		Assertions.assertAll("EntryList",
+							 () -> Assertions.assertSame(4, testMap.size()),
+							 () -> Assertions.assertEquals("first", testMap.entryList().get(0).getKey()),
+							 () -> Assertions.assertEquals(true, testMap.entryList().get(0).getValue()),
+							 () -> Assertions.assertEquals("second", testMap.entryList().get(1).getKey()),
+							 () -> Assertions.assertEquals(false, testMap.entryList().get(1).getValue()),
+							 () -> Assertions.assertEquals("first", testMap.entryList().get(2).getKey()),
+							 () -> Assertions.assertEquals(false, testMap.entryList().get(2).getValue()),
+							 () -> Assertions.assertEquals("second", testMap.entryList().get(3).getKey()),
+							 () -> Assertions.assertEquals(true, testMap.entryList().get(3).getValue()));
+	}
+
+	@Test
+	@TestOnly
+	void index() {
+		final @NotNull DataMap<String, Integer> testMap = new HashDataMap<>();
+		for (int i = 0; i < 1000; i++) {
+			testMap.add("key" + i, i);
+		}
+		testMap.add("key10", -10);
+
+		testMap.remove("key10");
+		testMap.remove("key500");
+		testMap.entryList().get(0).setKey("renamed");
+		testMap.trimToSize();
+
+		Assertions.assertAll("Index",
+							 () -> Assertions.assertEquals(999, testMap.size()),
+							 () -> Assertions.assertEquals(-10, testMap.get("key10")),
+							 () -> Assertions.assertFalse(testMap.containsKey("key500")),
+							 () -> Assertions.assertEquals(501, testMap.get("key501")),
+							 () -> Assertions.assertEquals(999, testMap.get("key999")),
+							 () -> Assertions.assertFalse(testMap.containsKey("key0")),
+							 () -> Assertions.assertEquals(0, testMap.get("renamed")),
+							 () -> Assertions.assertNull(testMap.remove("missing")));
+	}
+}
@@ -4,6 +4,7 @@ import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProv
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
 import de.zeanon.storagemanagercore.internal.base.interfaces.FileData;
+import de.zeanon.storagemanagercore.internal.utility.basic.KeyCache;
 import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
 import de.zeanon.thunderfilemanager.internal.utility.parser.ThunderFileParser;
 import java.io.IOException;
@@ -14,6 +15,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.AllArgsConstructor;
 import lombok.EqualsAndHashCode;
@@ -28,7 +30,7 @@ import org.jetbrains.annotations.Nullable;
  * Optimized FileData for ThunderFile, storing the Data in a ({@link DataMap})
  *
  * @author Zeanon
- * @version 1.7.0
+ * @version 1.8.0
  */
 @Getter
 @EqualsAndHashCode
@@ -271,7 +273,7 @@ public class ThunderFileData<M extends DataMap, E extends Map.Entry, L extends L
 	 */
 	@Override
 	public void insert(final @NotNull String key, final @Nullable Object value) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		this.initialInsert(value, parts);
 	}
 
@@ -296,7 +298,7 @@ public class ThunderFileData<M extends DataMap, E extends Map.Entry, L extends L
 	 */
 	@Override
 	public void remove(final @NotNull String key) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		this.initialRemove(parts);
 	}
 
@@ -322,7 +324,7 @@ public class ThunderFileData<M extends DataMap, E extends Map.Entry, L extends L
 	 */
 	@Override
 	public boolean containsKey(final @NotNull String key) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		return this.internalContainsKey(this.dataMap, parts, 0);
 	}
 
@@ -348,7 +350,7 @@ public class ThunderFileData<M extends DataMap, E extends Map.Entry, L extends L
 	 */
 	@Override
 	public @Nullable Object get(final @NotNull String key) {
-		final @NotNull String[] parts = key.split("\\.");
+		final @NotNull String[] parts = KeyCache.split(key);
 		return this.internalGet(this.dataMap, parts);
 	}
 
@@ -365,6 +367,39 @@ public class ThunderFileData<M extends DataMap, E extends Map.Entry, L extends L
 		return this.internalGet(this.dataMap, key);
 	}
 
+	/**
+	 * Get the value mapped to a specific key converted by the given converter,
+	 * the converted value is kept by the node of the key until the value is replaced
+	 *
+	 * @param key       the key to look for
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the value
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted Value mapped to the given key
+	 */
+	@Override
+	public <T> @Nullable T getConverted(final @NotNull String key, final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+		final @NotNull String[] parts = KeyCache.split(key);
+		return this.internalGetConverted(this.dataMap, type, converter, parts);
+	}
+
+	/**
+	 * Get the value mapped to a specific key converted by the given converter,
+	 * the converted value is kept by the node of the key until the value is replaced
+	 *
+	 * @param type      the type to convert to
+	 * @param converter the conversion to be applied to the value
+	 * @param key       the key to look for
+	 * @param <T>       the type to convert to
+	 *
+	 * @return the converted Value mapped to the given key
+	 */
+	@Override
+	public <T> @Nullable T getConvertedUseArray(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter, final @NotNull String... key) {
+		return this.internalGetConverted(this.dataMap, type, converter, key);
+	}
+
 	/**
 	 * @return the size of the top most layer of the internal DataMap
 	 */
@@ -479,6 +514,32 @@ public class ThunderFileData<M extends DataMap, E extends Map.Entry, L extends L
 		return tempValue;
 	}
 
+	private <T> @Nullable T internalGetConverted(final @NotNull DataMap map, //NOSONAR
+												 final @NotNull Class<T> type,
+												 final @NotNull Function<Object, T> converter,
+												 final @NotNull String... key) {
+		if (key.length == 0) {
+			return converter.apply(map);
+		}
+
+		@Nullable Object tempValue = map;
+		for (int i = 0; i < key.length - 1; i++) {
+			if (tempValue instanceof DataMap) {
+				tempValue = ((DataMap) tempValue).get(key[i]);
+			} else {
+				throw new ObjectNullException("File does not contain '" + Arrays.toString(key) + "' -> could not find '" + key[i] + "'");
+			}
+		}
+
+		if (tempValue instanceof DataMap) {
+			//noinspection unchecked
+			final @Nullable DataMap.DataNode<String, Object> node = ((DataMap<String, Object>) tempValue).getNode(key[key.length - 1]);
+			return node == null ? converter.apply(null) : node.getConvertedValue(type, converter);
+		} else {
+			throw new ObjectNullException("File does not contain '" + Arrays.toString(key) + "' -> could not find '" + key[key.length - 1] + "'");
+		}
+	}
+
 	@Contract("_, null -> fail")
 	private void initialInsert(final @Nullable Object value, final @NotNull String... parts) {
 		if (value == null) {
@@ -774,6 +835,14 @@ public class ThunderFileData<M extends DataMap, E extends Map.Entry, L extends L
 			return returnValue;
 		}
 
+		/**
+		 * Nodes of entry lists are copies, so the converted value is not kept
+		 */
+		@Override
+		public <T> @Nullable T getConvertedValue(final @NotNull Class<T> type, final @NotNull Function<Object, T> converter) {
+			return converter.apply(this.value);
+		}
+
 
 		/**
 		 * Returns a String representation of the Node
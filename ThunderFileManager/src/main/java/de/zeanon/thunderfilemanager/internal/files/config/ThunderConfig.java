@@ -20,7 +20,7 @@ import org.jetbrains.annotations.Nullable;
  * Extended ThunderFile with added methods for Config purposes
  *
  * @author Zeanon
- * @version 2.1.0
+ * @version 2.1.1
  */
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -34,7 +34,11 @@ public class ThunderConfig extends ThunderFile implements Config {
 	 * @param reloadSetting   the ReloadSetting to be used with this instance
 	 * @param commentSetting  the CommentSetting to be used with this instance
 	 * @param bufferSize      the bufferSize to be used with the Reader and Writer
-	 * @param autoFlush       autoFlush parameter of the PrintWriter
+	 * @param memoryMapped    if the File should be parsed from a read-only memory mapping instead of a Reader
+	 * @param binarySnapshot  if a binary snapshot of the Data should be kept next to the File to skip parsing it
+	 * @param compactLists    if lists only consisting of ints, longs or doubles should be stored as primitive lists
+	 * @param parallelParsing if the top-level blocks of the File should be parsed in parallel
+	 * @param autoFlush       has no effect anymore, the Data is written to the File in chunks
 	 * @param concurrentData  if the saved data should be concurrent
 	 * @param synchronizeData if the saved data should be synchronized
 	 * @param map             the Map implementation to be used, default is GapDataMap or ConcurrentGapDataMap if concurrent
@@ -49,13 +53,17 @@ public class ThunderConfig extends ThunderFile implements Config {
 							final @NotNull CommentSetting commentSetting,
 							final @NotNull String indentation,
 							final int bufferSize,
+							final boolean memoryMapped,
+							final boolean binarySnapshot,
+							final boolean compactLists,
+							final boolean parallelParsing,
 							final boolean autoFlush,
 							final boolean bigMap,
 							final boolean concurrentData,
 							final boolean synchronizeData,
 							final @NotNull Class<? extends DataMap> map,
 							final @NotNull Class<? extends List> list) {
-		super(file, inputStream, reloadSetting, commentSetting, indentation, bufferSize, autoFlush, bigMap, concurrentData, synchronizeData, map, list);
+		super(file, inputStream, reloadSetting, commentSetting, indentation, bufferSize, memoryMapped, binarySnapshot, compactLists, parallelParsing, autoFlush, bigMap, concurrentData, synchronizeData, map, list);
 	}
 
 
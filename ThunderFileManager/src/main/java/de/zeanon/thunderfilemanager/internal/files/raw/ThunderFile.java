@@ -6,6 +6,7 @@ import de.zeanon.storagemanagercore.internal.base.cache.datamap.BigDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentBigDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentGapDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.HashDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
 import de.zeanon.storagemanagercore.internal.base.exceptions.FileParseException;
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
@@ -13,14 +14,19 @@ import de.zeanon.storagemanagercore.internal.base.files.CommentEnabledFile;
 import de.zeanon.storagemanagercore.internal.base.interfaces.CommentSetting;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
 import de.zeanon.storagemanagercore.internal.base.interfaces.FileData;
+import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
+import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
 import de.zeanon.thunderfilemanager.internal.base.cache.filedata.ThunderFileData;
 import de.zeanon.thunderfilemanager.internal.base.exceptions.ThunderException;
 import de.zeanon.thunderfilemanager.internal.files.section.ThunderFileSection;
+import de.zeanon.thunderfilemanager.internal.utility.parser.ThunderBinaryParser;
 import de.zeanon.thunderfilemanager.internal.utility.parser.ThunderFileParser;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -35,7 +41,7 @@ import org.jetbrains.annotations.Nullable;
  * Class to manage Thunder-Type Files
  *
  * @author Zeanon
- * @version 2.5.0
+ * @version 2.5.4
  */
 @Getter
 @Setter
@@ -46,9 +52,18 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 
 
 	private int bufferSize;
+	private boolean memoryMapped;
+	private boolean binarySnapshot;
+	private boolean compactLists;
+	private boolean parallelParsing;
+	/**
+	 * @deprecated has no effect anymore, the Data is written to the File in chunks
+	 */
+	@Deprecated
 	private boolean autoFlush;
 	private boolean concurrentData;
 	private boolean bigData;
+	private boolean hashData;
 	private @NotNull String indentation;
 
 
@@ -58,7 +73,11 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 	 * @param reloadSetting   the ReloadSetting to be used with this instance
 	 * @param commentSetting  the CommentSetting to be used with this instance
 	 * @param bufferSize      the bufferSize to be used with the Reader
-	 * @param autoFlush       autoFlush parameter of the PrintWriter
+	 * @param memoryMapped    if the File should be parsed from a read-only memory mapping instead of a Reader
+	 * @param binarySnapshot  if a binary snapshot of the Data should be kept next to the File to skip parsing it
+	 * @param compactLists    if lists only consisting of ints, longs or doubles should be stored as primitive lists
+	 * @param parallelParsing if the top-level blocks of the File should be parsed in parallel
+	 * @param autoFlush       has no effect anymore, the Data is written to the File in chunks
 	 * @param concurrentData  if the saved data should be concurrent
 	 * @param bigData         if BigDataMap optimized for a huge amount of entries should be used
 	 * @param synchronizeData if the saved data should be synchronized
@@ -74,6 +93,10 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 						  final @NotNull CommentSetting commentSetting,
 						  final @NotNull String indentation,
 						  final int bufferSize,
+						  final boolean memoryMapped,
+						  final boolean binarySnapshot,
+						  final boolean compactLists,
+						  final boolean parallelParsing,
 						  final boolean autoFlush,
 						  final boolean concurrentData,
 						  final boolean bigData,
@@ -82,11 +105,17 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 						  final @NotNull Class<? extends List> list) {
 		super(file, inputStream, FileType.THUNDERFILE, new LocalFileData(new CollectionsProvider<>(map, list, synchronizeData)), reloadSetting, commentSetting);
 		this.bufferSize = bufferSize;
+		this.memoryMapped = memoryMapped;
+		this.binarySnapshot = binarySnapshot;
+		this.compactLists = compactLists;
+		this.parallelParsing = parallelParsing;
 		this.autoFlush = autoFlush;
 		this.concurrentData = concurrentData;
 		this.bigData = bigData;
+		this.hashData = HashDataMap.class.isAssignableFrom(map);
 		this.indentation = indentation;
 
+		this.observeFile();
 		this.fileData().loadData(this.readFile());
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -94,7 +123,20 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 	@Override
 	public void save() {
 		try {
-			ThunderFileParser.writeData(this.file(), this.fileData(), this.getCommentSetting(), this.getIndentation(), this.getAutoFlush());
+			if (this.getBinarySnapshot()) {
+				final @NotNull ThunderBinaryParser.Stamp stamp;
+				// the File is stamped under the same WriteLock it is written with, so the snapshot can not be stamped with the changes of somebody else
+				try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(this.file()).writeLock()) {
+					tempLock.lock();
+					ThunderFileParser.writeData(this.file(), this.fileData(), this.getCommentSetting(), this.getIndentation(), this.writeSetting());
+					stamp = ThunderBinaryParser.stamp(this.file());
+				} catch (final @NotNull IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				ThunderBinaryParser.writeSnapshot(this.file(), stamp, this.fileData().dataMap(), this.getCommentSetting(), this.writeSetting());
+			} else {
+				ThunderFileParser.writeData(this.file(), this.fileData(), this.getCommentSetting(), this.getIndentation(), this.writeSetting());
+			}
 		} catch (final @NotNull UncheckedIOException e) {
 			throw new UncheckedIOException("Error while writing to "
 										   + this.getAbsolutePath()
@@ -103,10 +145,36 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 		}
 	}
 
+	/**
+	 * Delete the File and its binary snapshot
+	 */
+	@Override
+	public void deleteFile() {
+		super.deleteFile();
+		this.deleteSnapshot();
+	}
+
+	/**
+	 * Clears the contents of the internal FileData and deletes the binary snapshot,
+	 * so the Data is parsed from the File on the next reload
+	 */
+	@Override
+	public void clearData() {
+		super.clearData();
+		this.deleteSnapshot();
+	}
+
 	public void setBigData(final boolean bigData) {
 		this.bigData = bigData;
-		this.collectionsProvider().setMapType(this.concurrentData ? (this.bigData ? ConcurrentBigDataMap.class : ConcurrentGapDataMap.class)
-																  : (this.bigData ? BigDataMap.class : GapDataMap.class));
+		this.collectionsProvider().setMapType(this.dataMapType());
+	}
+
+	/**
+	 * Set whether a {@link HashDataMap} should be used for non concurrent data
+	 */
+	public void setHashData(final boolean hashData) {
+		this.hashData = hashData;
+		this.collectionsProvider().setMapType(this.dataMapType());
 	}
 
 	@Override
@@ -117,8 +185,7 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 	@Override
 	public void setConcurrentData(final boolean concurrentData) {
 		this.concurrentData = concurrentData;
-		this.collectionsProvider().setMapType(this.concurrentData ? (this.bigData ? ConcurrentBigDataMap.class : ConcurrentGapDataMap.class)
-																  : (this.bigData ? BigDataMap.class : GapDataMap.class));
+		this.collectionsProvider().setMapType(this.dataMapType());
 	}
 
 	/**
@@ -180,7 +247,32 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 	@Override
 	protected @NotNull DataMap<String, Object> readFile() {
 		try {
-			return ThunderFileParser.readData(this.file(), this.collectionsProvider(), this.getCommentSetting(), this.getBufferSize());
+			if (!this.getBinarySnapshot()) {
+				return this.parseFile();
+			}
+
+			final @Nullable DataMap<String, Object> snapshot = ThunderBinaryParser.readSnapshot(this.file(), this.collectionsProvider(), this.getCommentSetting(), this.getCompactLists());
+			if (snapshot != null) {
+				return snapshot;
+			} else {
+				// the snapshot is missing or outdated, so parse the File and renew the snapshot for the next time
+				final @NotNull ThunderBinaryParser.Stamp stamp;
+				final @NotNull DataMap<String, Object> dataMap;
+				// the File is stamped before it is parsed, so changes made while parsing outdate the snapshot instead of being missed by it
+				try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(this.file(), true, false).readLock()) {
+					tempLock.lock();
+					stamp = ThunderBinaryParser.stamp(this.file());
+					dataMap = this.parseFile();
+				} catch (final @NotNull IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				try {
+					ThunderBinaryParser.writeSnapshot(this.file(), stamp, dataMap, this.getCommentSetting(), this.writeSetting());
+				} catch (final @NotNull UncheckedIOException e) {
+					//Do nothing, the snapshot is only a cache and the Data has been read from the File already
+				}
+				return dataMap;
+			}
 		} catch (final @NotNull UncheckedIOException e) {
 			throw new UncheckedIOException("Error while loading '" + this.getAbsolutePath() + "'", e.getCause());
 		} catch (final @NotNull ThunderException e) {
@@ -188,6 +280,32 @@ public class ThunderFile extends CommentEnabledFile<ThunderFileData<DataMap, Dat
 		}
 	}
 
+	private void deleteSnapshot() {
+		final @NotNull File snapshotFile = ThunderBinaryParser.snapshotFile(this.file());
+		try {
+			Files.deleteIfExists(snapshotFile.toPath());
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Could not delete '"
+										   + snapshotFile.getAbsolutePath()
+										   + "'",
+										   e);
+		}
+	}
+
+	private @NotNull DataMap<String, Object> parseFile() throws ThunderException {
+		if (this.getParallelParsing()) {
+			return ThunderFileParser.readDataParallel(this.file(), this.collectionsProvider(), this.getCommentSetting(), this.getBufferSize(), this.getCompactLists());
+		} else {
+			return ThunderFileParser.readData(this.file(), this.collectionsProvider(), this.getCommentSetting(), this.getBufferSize(), this.getMemoryMapped(), this.getCompactLists());
+		}
+	}
+
+
+	private @NotNull Class<? extends DataMap> dataMapType() {
+		return this.concurrentData ? (this.bigData ? ConcurrentBigDataMap.class : ConcurrentGapDataMap.class)
+								   : (this.hashData ? HashDataMap.class : (this.bigData ? BigDataMap.class : GapDataMap.class));
+	}
+
 
 	public enum FileType implements de.zeanon.storagemanagercore.internal.base.interfaces.FileType {
 
@@ -1,11 +1,15 @@
 package de.zeanon.thunderfilemanager.internal.utility.builder;
 
 import de.zeanon.storagemanagercore.external.browniescollections.BigList;
+import de.zeanon.storagemanagercore.external.browniescollections.DoubleGapList;
 import de.zeanon.storagemanagercore.external.browniescollections.GapList;
+import de.zeanon.storagemanagercore.external.browniescollections.IntGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.LongGapList;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.BigDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentBigDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.ConcurrentGapDataMap;
 import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.HashDataMap;
 import de.zeanon.storagemanagercore.internal.base.interfaces.CommentSetting;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
@@ -33,6 +37,11 @@ public class ThunderConfigBuilder extends ThunderFileManager<ThunderConfigBuilde
 
 	private boolean bigData;
 	private boolean concurrentData;
+	private boolean hashData;
+	/**
+	 * @deprecated has no effect anymore, the Data is written to the File in chunks
+	 */
+	@Deprecated
 	@Setter(onMethod_ = {@Contract("_ -> this")})
 	private boolean autoFlush;
 	@Setter(onMethod_ = {@Contract("_ -> this")})
@@ -41,6 +50,37 @@ public class ThunderConfigBuilder extends ThunderFileManager<ThunderConfigBuilde
 	private @NotNull String indentation = "  ";
 	@Setter(onMethod_ = {@Contract("_ -> this")})
 	private int bufferSize = 8192;
+	/**
+	 * -- Setter --
+	 * Parse the File straight from a read-only memory mapping of the File instead of going through a Reader,
+	 * which saves copying the content for large Files.
+	 * Note that some platforms (e.g. Windows) do not allow the File to be truncated while it is still mapped
+	 */
+	@Setter(onMethod_ = {@Contract("_ -> this")})
+	private boolean memoryMapped;
+	/**
+	 * -- Setter --
+	 * Keep a binary snapshot of the Data next to the File (with the extension '.tfb'),
+	 * as long as the File has not been changed since the last save, it is loaded from the snapshot without parsing the File
+	 */
+	@Setter(onMethod_ = {@Contract("_ -> this")})
+	private boolean binarySnapshot;
+	/**
+	 * -- Setter --
+	 * Store lists only consisting of ints, longs or doubles as {@link IntGapList}, {@link LongGapList} or {@link DoubleGapList},
+	 * which keeps the values unboxed and lets them be read with {@link de.zeanon.storagemanagercore.internal.base.interfaces.DataStorage#getIntList(String)} and alike without parsing.
+	 * Only values which are written back exactly the same way are converted, so the File stays unchanged
+	 */
+	@Setter(onMethod_ = {@Contract("_ -> this")})
+	private boolean compactLists;
+	/**
+	 * -- Setter --
+	 * Parse the top-level blocks of the File in parallel on the common {@link java.util.concurrent.ForkJoinPool},
+	 * which speeds up loading very large Files at the cost of holding all lines in memory while parsing.
+	 * Takes precedence over {@link #memoryMapped(boolean)}
+	 */
+	@Setter(onMethod_ = {@Contract("_ -> this")})
+	private boolean parallelParsing;
 
 
 	public ThunderConfigBuilder(final @NotNull File file) {
@@ -51,14 +91,22 @@ public class ThunderConfigBuilder extends ThunderFileManager<ThunderConfigBuilde
 	@Override
 	@Contract("-> new")
 	public final @NotNull ThunderConfig create() {
-		return new LocalThunderConfig(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.indentation, this.bufferSize, this.autoFlush, this.bigData, this.concurrentData, this.synchronizeData, this.mapType, this.listType);
+		return this.applySaveSettings(new LocalThunderConfig(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.indentation, this.bufferSize, this.memoryMapped, this.binarySnapshot, this.compactLists, this.parallelParsing, this.autoFlush, this.bigData, this.concurrentData, this.synchronizeData, this.mapType, this.listType));
 	}
 
 	@Contract("_ -> this")
 	public final @NotNull ThunderConfigBuilder bigData(final boolean bigData) {
 		this.bigData = bigData;
-		return this.mapType(this.concurrentData ? (this.bigData ? ConcurrentBigDataMap.class : ConcurrentGapDataMap.class)
-												: (this.bigData ? BigDataMap.class : GapDataMap.class));
+		return this.mapType(this.dataMapType());
+	}
+
+	/**
+	 * Use a {@link HashDataMap} to get constant time key lookups in non concurrent DataMaps
+	 */
+	@Contract("_ -> this")
+	public final @NotNull ThunderConfigBuilder hashData(final boolean hashData) {
+		this.hashData = hashData;
+		return this.mapType(this.dataMapType());
 	}
 
 	@Override
@@ -71,8 +119,12 @@ public class ThunderConfigBuilder extends ThunderFileManager<ThunderConfigBuilde
 	@Contract("_ -> this")
 	public @NotNull ThunderConfigBuilder concurrentData(final boolean concurrentData) {
 		this.concurrentData = concurrentData;
-		return this.mapType(this.concurrentData ? (this.bigData ? ConcurrentBigDataMap.class : ConcurrentGapDataMap.class)
-												: (this.bigData ? BigDataMap.class : GapDataMap.class));
+		return this.mapType(this.dataMapType());
+	}
+
+	private @NotNull Class<? extends DataMap> dataMapType() {
+		return this.concurrentData ? (this.bigData ? ConcurrentBigDataMap.class : ConcurrentGapDataMap.class)
+								   : (this.hashData ? HashDataMap.class : (this.bigData ? BigDataMap.class : GapDataMap.class));
 	}
 
 
@@ -84,13 +136,17 @@ public class ThunderConfigBuilder extends ThunderFileManager<ThunderConfigBuilde
 								   final @NotNull CommentSetting commentSetting,
 								   final @NotNull String indentation,
 								   final int bufferSize,
+								   final boolean memoryMapped,
+								   final boolean binarySnapshot,
+								   final boolean compactLists,
+								   final boolean parallelParsing,
 								   final boolean autoFlush,
 								   final boolean bigData,
 								   final boolean concurrentData,
 								   final boolean synchronizeData,
 								   final @NotNull Class<? extends DataMap> map,
 								   final @NotNull Class<? extends List> list) {
-			super(file, inputStream, reloadSetting, commentSetting, indentation, bufferSize, autoFlush, bigData, concurrentData, synchronizeData, map, list);
+			super(file, inputStream, reloadSetting, commentSetting, indentation, bufferSize, memoryMapped, binarySnapshot, compactLists, parallelParsing, autoFlush, bigData, concurrentData, synchronizeData, map, list);
 		}
 	}
 }
\ No newline at end of file
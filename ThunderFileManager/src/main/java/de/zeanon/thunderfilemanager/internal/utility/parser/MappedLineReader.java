@@ -0,0 +1,117 @@
+package de.zeanon.thunderfilemanager.internal.utility.parser;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Reads the lines of a Thunder-Type File directly from a (memory mapped) UTF-8 encoded ByteBuffer
+ * <p>
+ * The returned lines are already trimmed, lines only consisting of '{', '}' or nothing
+ * and, if comments are skipped, comment lines are returned as shared constants instead of new Strings
+ *
+ * @author Zeanon
+ * @version 1.0.0
+ */
+final class MappedLineReader extends ThunderLineReader {
+
+
+	private static final @NotNull String OPEN_BLOCK = "{";
+	private static final @NotNull String CLOSE_BLOCK = "}";
+	private static final @NotNull String BLANK_LINE = "";
+	private static final @NotNull String COMMENT = "#";
+
+
+	private final @NotNull ByteBuffer buffer;
+	private final boolean skipComments;
+	private int position;
+	private @NotNull char[] chars = new char[128];
+	private @NotNull byte[] bytes = new byte[128];
+
+
+	/**
+	 * @param buffer       the buffer to read the lines from, starting at its current position
+	 * @param skipComments if comment lines may be returned as '#' only
+	 */
+	MappedLineReader(final @NotNull ByteBuffer buffer, final boolean skipComments) {
+		this.buffer = buffer;
+		this.skipComments = skipComments;
+		this.position = buffer.position();
+	}
+
+
+	@Override
+	protected @Nullable String readLine() {
+		final int limit = this.buffer.limit();
+		if (this.position >= limit) {
+			return null;
+		}
+
+		// find the end of the line, '\n', '\r' and "\r\n" terminate a line just like in BufferedReader#readLine
+		final int start = this.position;
+		int end = start;
+		while (end < limit) {
+			final byte current = this.buffer.get(end);
+			if (current == '\n' || current == '\r') {
+				break;
+			}
+			end++;
+		}
+		this.position = end + 1;
+		if (end < limit && this.buffer.get(end) == '\r' && this.position < limit && this.buffer.get(this.position) == '\n') {
+			this.position++;
+		}
+
+		// trim, multi byte characters never contain bytes <= ' ', so trimming bytes equals String#trim
+		int from = start;
+		while (from < end && (this.buffer.get(from) & 0xFF) <= ' ') {
+			from++;
+		}
+		int to = end;
+		while (to > from && (this.buffer.get(to - 1) & 0xFF) <= ' ') {
+			to--;
+		}
+
+		final int length = to - from;
+		if (length == 0) {
+			return MappedLineReader.BLANK_LINE;
+		} else if (length == 1 && this.buffer.get(from) == '{') {
+			return MappedLineReader.OPEN_BLOCK;
+		} else if (length == 1 && this.buffer.get(from) == '}') {
+			return MappedLineReader.CLOSE_BLOCK;
+		} else if (this.skipComments && this.buffer.get(from) == '#') {
+			return MappedLineReader.COMMENT;
+		} else {
+			return this.decode(from, length);
+		}
+	}
+
+
+	private @NotNull String decode(final int from, final int length) {
+		if (this.chars.length < length) {
+			this.chars = new char[Math.max(length, this.chars.length * 2)];
+		}
+
+		for (int i = 0; i < length; i++) {
+			final byte current = this.buffer.get(from + i);
+			if (current < 0) {
+				return this.decodeUtf8(from, length);
+			}
+			this.chars[i] = (char) current;
+		}
+		return new String(this.chars, 0, length);
+	}
+
+	private @NotNull String decodeUtf8(final int from, final int length) {
+		if (this.bytes.length < length) {
+			this.bytes = new byte[Math.max(length, this.bytes.length * 2)];
+		}
+
+		for (int i = 0; i < length; i++) {
+			this.bytes[i] = this.buffer.get(from + i);
+		}
+		return new String(this.bytes, 0, length, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,455 @@
+package de.zeanon.thunderfilemanager.internal.utility.parser;
+
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
+import de.zeanon.storagemanagercore.internal.base.interfaces.CommentSetting;
+import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.base.interfaces.WriteSetting;
+import de.zeanon.storagemanagercore.internal.base.settings.Comment;
+import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
+import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
+import de.zeanon.storagemanagercore.internal.utility.basic.Pair;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Class for reading and writing binary snapshots of Thunder-Type Files
+ * <p>
+ * A snapshot is stored next to the File it belongs to with the extension '.tfb' and records the time stamp and size of that File,
+ * so it is only used as long as the File has not been changed since.
+ * Keys and values are stored as length prefixed UTF-8 Strings, repeated Strings are written once and referenced by their index afterwards.
+ * Values are normalized the same way the text parser reads them, so loading a snapshot results in the same data as parsing the File
+ *
+ * @author Zeanon
+ * @version 1.1.0
+ */
+@UtilityClass
+@SuppressWarnings({"unused", "rawtypes"})
+public class ThunderBinaryParser {
+
+
+	private final @NotNull String EXTENSION = "tfb";
+	private final @NotNull byte[] MAGIC = {'T', 'F', 'B', 1};
+
+	private final byte NULL = 0;
+	private final byte STRING = 1;
+	private final byte LIST = 2;
+	private final byte PAIR = 3;
+	private final byte MAP = 4;
+	private final byte COMMENT = 5;
+	private final byte BLANK_LINE = 6;
+
+	private final byte FLAG_COMMENTS = 1;
+
+
+	/**
+	 * @param file the Thunder-Type File
+	 *
+	 * @return the snapshot File belonging to the given File
+	 */
+	public @NotNull File snapshotFile(final @NotNull File file) {
+		return new File(BaseFileUtils.removeExtension(file.getPath()) + "." + ThunderBinaryParser.EXTENSION);
+	}
+
+	/**
+	 * Get the current time stamp and size of the given File.
+	 * To match the content of the File, the stamp has to be taken while holding the lock the File is written or parsed with
+	 *
+	 * @param file the Thunder-Type File to be stamped
+	 *
+	 * @return the current Stamp of the given File
+	 *
+	 * @throws UncheckedIOException if the attributes of the File can not be read
+	 */
+	public @NotNull Stamp stamp(final @NotNull File file) {
+		try {
+			return ThunderBinaryParser.readStamp(file);
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading the attributes of '" + file.getAbsolutePath() + "'", e);
+		}
+	}
+
+	/**
+	 * Write a snapshot of the given Data, the given File has to have contained the same Data when the given Stamp was taken
+	 *
+	 * @param file           the Thunder-Type File the snapshot belongs to
+	 * @param stamp          the Stamp of the File taken when the Data was written to or parsed from it
+	 * @param dataMap        the Data to be written
+	 * @param commentSetting the CommentSetting the Data has been written to the File with
+	 * @param writeSetting   the WriteSetting to be used to write the snapshot
+	 *
+	 * @throws UncheckedIOException if the snapshot can not be written properly
+	 */
+	public void writeSnapshot(final @NotNull File file,
+							  final @NotNull Stamp stamp,
+							  final @NotNull DataMap<String, Object> dataMap,
+							  final @NotNull CommentSetting commentSetting,
+							  final @NotNull WriteSetting writeSetting) {
+		final @NotNull File snapshotFile = ThunderBinaryParser.snapshotFile(file);
+		try {
+			final @NotNull Output output = new Output();
+			output.writeBytes(ThunderBinaryParser.MAGIC);
+			output.writeByte(commentSetting == Comment.PRESERVE ? ThunderBinaryParser.FLAG_COMMENTS : 0);
+			output.writeLong(stamp.getLastModified());
+			output.writeLong(stamp.getSize());
+			ThunderBinaryParser.writeMap(output, dataMap, commentSetting == Comment.PRESERVE);
+			writeSetting.write(snapshotFile, output.toByteArray());
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while writing to '" + snapshotFile.getAbsolutePath() + "'", e);
+		}
+	}
+
+	/**
+	 * Read the snapshot belonging to the given File
+	 *
+	 * @param file                the Thunder-Type File the snapshot belongs to
+	 * @param collectionsProvider the Provider to be used to get the Map and List implementations
+	 * @param commentSetting      the CommentSetting to be used
+	 *
+	 * @return the Data of the snapshot or null if there is no snapshot matching the current state of the File
+	 *
+	 * @throws UncheckedIOException if the Files can not be accessed properly
+	 */
+	public @Nullable DataMap<String, Object> readSnapshot(final @NotNull File file,
+														  final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+														  final @NotNull CommentSetting commentSetting) {
+		return ThunderBinaryParser.readSnapshot(file, collectionsProvider, commentSetting, false);
+	}
+
+	/**
+	 * Read the snapshot belonging to the given File
+	 *
+	 * @param file                the Thunder-Type File the snapshot belongs to
+	 * @param collectionsProvider the Provider to be used to get the Map and List implementations
+	 * @param commentSetting      the CommentSetting to be used
+	 * @param compactLists        whether lists only consisting of numbers should be stored as primitive lists
+	 *
+	 * @return the Data of the snapshot or null if there is no snapshot matching the current state of the File
+	 *
+	 * @throws UncheckedIOException if the Files can not be accessed properly
+	 */
+	public @Nullable DataMap<String, Object> readSnapshot(final @NotNull File file,
+														  final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+														  final @NotNull CommentSetting commentSetting,
+														  final boolean compactLists) {
+		final @NotNull File snapshotFile = ThunderBinaryParser.snapshotFile(file);
+		try {
+			final @NotNull byte[] content = Files.readAllBytes(snapshotFile.toPath());
+			final @NotNull Input input = new Input(content);
+			for (final byte magic : ThunderBinaryParser.MAGIC) {
+				if (input.readByte() != magic) {
+					return null;
+				}
+			}
+
+			final boolean comments = (input.readByte() & ThunderBinaryParser.FLAG_COMMENTS) != 0;
+			if ((commentSetting == Comment.PRESERVE && !comments)
+				|| !new Stamp(input.readLong(), input.readLong()).equals(ThunderBinaryParser.readStamp(file))) {
+				return null;
+			}
+
+			final @NotNull DataMap<String, Object> dataMap = ThunderBinaryParser.readMap(input, collectionsProvider, commentSetting == Comment.PRESERVE, compactLists);
+			return input.hasRemaining() ? null : dataMap;
+		} catch (final @NotNull NoSuchFileException e) {
+			return null;
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading content from '" + snapshotFile.getAbsolutePath() + "'", e);
+		} catch (final @NotNull IndexOutOfBoundsException | IllegalStateException e) {
+			// the snapshot is corrupted, so the File has to be parsed instead
+			return null;
+		}
+	}
+
+
+	private @NotNull Stamp readStamp(final @NotNull File file) throws IOException {
+		return new Stamp(Files.getLastModifiedTime(file.toPath()).to(TimeUnit.MICROSECONDS), Files.size(file.toPath()));
+	}
+
+
+	// <Write Snapshot>
+	private void writeMap(final @NotNull Output output,
+						  final @NotNull DataMap<String, Object> dataMap,
+						  final boolean comments) {
+		final @NotNull List<DataMap.DataNode<String, Object>> entries = dataMap.entryList();
+		int size = 0;
+		for (final @NotNull DataMap.DataNode<String, Object> entry : entries) {
+			if (comments || ThunderBinaryParser.isData(entry.getValue())) {
+				size++;
+			}
+		}
+
+		output.writeVarInt(size);
+		for (final @NotNull DataMap.DataNode<String, Object> entry : entries) {
+			final @Nullable Object value = entry.getValue();
+			if (value == ThunderFileParser.LineType.COMMENT) {
+				if (comments) {
+					output.writeString(entry.getKey().startsWith("#") ? entry.getKey() : ("#" + entry.getKey()));
+					output.writeByte(ThunderBinaryParser.COMMENT);
+				}
+			} else if (value == ThunderFileParser.LineType.BLANK_LINE) {
+				if (comments) {
+					output.writeString("");
+					output.writeByte(ThunderBinaryParser.BLANK_LINE);
+				}
+			} else {
+				output.writeString(ThunderFileParser.trimString(entry.getKey()));
+				ThunderBinaryParser.writeValue(output, value, comments);
+			}
+		}
+	}
+
+	private void writeValue(final @NotNull Output output,
+							final @Nullable Object value,
+							final boolean comments) {
+		if (value instanceof DataMap) {
+			output.writeByte(ThunderBinaryParser.MAP);
+			//noinspection unchecked
+			ThunderBinaryParser.writeMap(output, (DataMap<String, Object>) value, comments);
+		} else if (value instanceof Collection) {
+			output.writeByte(ThunderBinaryParser.LIST);
+			output.writeVarInt(((Collection) value).size());
+			for (final @Nullable Object element : (Collection) value) {
+				output.writeString(ThunderBinaryParser.normalize(element));
+			}
+		} else if (Objects.isArray(value)) {
+			output.writeByte(ThunderBinaryParser.LIST);
+			final int length = Array.getLength(value);
+			output.writeVarInt(length);
+			for (int i = 0; i < length; i++) {
+				output.writeString(ThunderBinaryParser.normalize(Array.get(value, i)));
+			}
+		} else if (value instanceof Pair) {
+			output.writeByte(ThunderBinaryParser.PAIR);
+			output.writeString(ThunderBinaryParser.normalize(((Pair) value).getKey()));
+			output.writeString(ThunderBinaryParser.normalize(((Pair) value).getValue()));
+		} else if (value == null) {
+			output.writeByte(ThunderBinaryParser.NULL);
+		} else {
+			output.writeByte(ThunderBinaryParser.STRING);
+			output.writeString(ThunderBinaryParser.normalize(value));
+		}
+	}
+
+	private boolean isData(final @Nullable Object value) {
+		return value != ThunderFileParser.LineType.COMMENT && value != ThunderFileParser.LineType.BLANK_LINE;
+	}
+
+	private @NotNull String normalize(final @Nullable Object value) {
+		return value == null ? "" : ThunderFileParser.trimString(value.toString());
+	}
+	// </Write Snapshot>
+
+
+	// <Read Snapshot>
+	private @NotNull DataMap<String, Object> readMap(final @NotNull Input input,
+													 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+													 final boolean comments,
+													 final boolean compactLists) {
+		//noinspection unchecked
+		final @NotNull DataMap<String, Object> dataMap = collectionsProvider.newMap();
+		final int size = input.readVarInt();
+		for (int i = 0; i < size; i++) {
+			final @NotNull String key = input.readString();
+			final byte tag = input.readByte();
+			if (tag == ThunderBinaryParser.COMMENT) {
+				if (comments) {
+					dataMap.add(key, ThunderFileParser.LineType.COMMENT);
+				}
+			} else if (tag == ThunderBinaryParser.BLANK_LINE) {
+				if (comments) {
+					dataMap.add(key, ThunderFileParser.LineType.BLANK_LINE);
+				}
+			} else {
+				dataMap.add(key, ThunderBinaryParser.readValue(input, tag, collectionsProvider, comments, compactLists));
+			}
+		}
+		dataMap.trimToSize();
+		return dataMap;
+	}
+
+	private @Nullable Object readValue(final @NotNull Input input,
+									   final byte tag,
+									   final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+									   final boolean comments,
+									   final boolean compactLists) {
+		switch (tag) {
+			case ThunderBinaryParser.NULL:
+				// the text format does not know null, the parser reads a missing value as an empty String
+				return "";
+			case ThunderBinaryParser.STRING:
+				return input.readString();
+			case ThunderBinaryParser.LIST:
+				final int size = input.readVarInt();
+				//noinspection unchecked
+				final @NotNull List<String> list = collectionsProvider.newList();
+				for (int i = 0; i < size; i++) {
+					list.add(input.readString());
+				}
+				return compactLists ? ThunderFileParser.compactList(list) : list;
+			case ThunderBinaryParser.PAIR:
+				return new Pair<>(input.readString(), input.readString());
+			case ThunderBinaryParser.MAP:
+				return ThunderBinaryParser.readMap(input, collectionsProvider, comments, compactLists);
+			default:
+				throw new IllegalStateException("Unknown tag '" + tag + "'");
+		}
+	}
+	// </Read Snapshot>
+
+
+	/**
+	 * The time stamp in microseconds and the size of a Thunder-Type File a snapshot belongs to
+	 */
+	@Getter
+	@EqualsAndHashCode
+	public static final class Stamp {
+
+		private final long lastModified;
+		private final long size;
+
+
+		private Stamp(final long lastModified, final long size) {
+			this.lastModified = lastModified;
+			this.size = size;
+		}
+	}
+
+
+	private static final class Output {
+
+		private final @NotNull Map<String, Integer> strings = new HashMap<>();
+		private @NotNull byte[] buffer = new byte[8192];
+		private int size;
+
+
+		private void writeByte(final int value) {
+			this.ensureCapacity(1);
+			this.buffer[this.size++] = (byte) value;
+		}
+
+		private void writeBytes(final @NotNull byte[] bytes) {
+			this.ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.size, bytes.length);
+			this.size += bytes.length;
+		}
+
+		private void writeLong(final long value) {
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				this.writeByte((int) (value >>> shift));
+			}
+		}
+
+		private void writeVarInt(final int value) {
+			int remaining = value;
+			while ((remaining & ~0x7F) != 0) {
+				this.writeByte((remaining & 0x7F) | 0x80);
+				remaining >>>= 7;
+			}
+			this.writeByte(remaining);
+		}
+
+		// 0 followed by the length and the UTF-8 bytes for new Strings, index + 1 for Strings that have already been written
+		private void writeString(final @NotNull String value) {
+			final @Nullable Integer index = this.strings.get(value);
+			if (index != null) {
+				this.writeVarInt(index + 1);
+			} else {
+				this.strings.put(value, this.strings.size());
+				final @NotNull byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+				this.writeVarInt(0);
+				this.writeVarInt(bytes.length);
+				this.writeBytes(bytes);
+			}
+		}
+
+		private @NotNull byte[] toByteArray() {
+			final @NotNull byte[] result = new byte[this.size];
+			System.arraycopy(this.buffer, 0, result, 0, this.size);
+			return result;
+		}
+
+		private void ensureCapacity(final int additional) {
+			if (this.size + additional > this.buffer.length) {
+				final @NotNull byte[] newBuffer = new byte[Math.max(this.buffer.length * 2, this.size + additional)];
+				System.arraycopy(this.buffer, 0, newBuffer, 0, this.size);
+				this.buffer = newBuffer;
+			}
+		}
+	}
+
+	private static final class Input {
+
+		private final @NotNull List<String> strings = new ArrayList<>();
+		private final @NotNull byte[] content;
+		private int position;
+
+
+		private Input(final @NotNull byte[] content) {
+			this.content = content;
+		}
+
+
+		private byte readByte() {
+			if (this.position >= this.content.length) {
+				throw new IndexOutOfBoundsException("Unexpected end of snapshot");
+			}
+			return this.content[this.position++];
+		}
+
+		private long readLong() {
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | (this.readByte() & 0xFF);
+			}
+			return value;
+		}
+
+		private int readVarInt() {
+			int value = 0;
+			for (int shift = 0; shift < 35; shift += 7) {
+				final byte current = this.readByte();
+				value |= (current & 0x7F) << shift;
+				if (current >= 0) {
+					return value;
+				}
+			}
+			throw new IllegalStateException("Malformed length in snapshot");
+		}
+
+		private @NotNull String readString() {
+			final int index = this.readVarInt();
+			if (index > 0) {
+				return this.strings.get(index - 1);
+			}
+
+			final int length = this.readVarInt();
+			if (length < 0 || length > this.content.length - this.position) {
+				throw new IndexOutOfBoundsException("Unexpected end of snapshot");
+			}
+			final @NotNull String value = new String(this.content, this.position, length, StandardCharsets.UTF_8);
+			this.position += length;
+			this.strings.add(value);
+			return value;
+		}
+
+		private boolean hasRemaining() {
+			return this.position < this.content.length;
+		}
+	}
+}
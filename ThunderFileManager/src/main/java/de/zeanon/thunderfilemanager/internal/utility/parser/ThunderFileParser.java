@@ -1,22 +1,35 @@
 package de.zeanon.thunderfilemanager.internal.utility.parser;
 
+import de.zeanon.storagemanagercore.external.browniescollections.DoubleGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.IntGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.LongGapList;
 import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
 import de.zeanon.storagemanagercore.internal.base.exceptions.ObjectNullException;
 import de.zeanon.storagemanagercore.internal.base.interfaces.CommentSetting;
 import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
 import de.zeanon.storagemanagercore.internal.base.interfaces.FileData;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
+import de.zeanon.storagemanagercore.internal.base.interfaces.WriteSetting;
 import de.zeanon.storagemanagercore.internal.base.settings.Comment;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import de.zeanon.storagemanagercore.internal.utility.basic.BaseFileUtils;
 import de.zeanon.storagemanagercore.internal.utility.basic.Objects;
 import de.zeanon.storagemanagercore.internal.utility.basic.Pair;
 import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
 import de.zeanon.thunderfilemanager.internal.base.cache.filedata.ThunderFileData;
 import de.zeanon.thunderfilemanager.internal.base.exceptions.ThunderException;
 import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.ListIterator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
@@ -27,43 +40,62 @@ import org.jetbrains.annotations.Nullable;
  * Class for parsing a Thunder-Type File
  *
  * @author Zeanon
- * @version 2.8.0
+ * @version 2.11.0
  */
 @UtilityClass
 @SuppressWarnings({"unused", "rawtypes"})
 public class ThunderFileParser {
 
 
+	/**
+	 * The minimum amount of lines parsed by one task of {@link #readDataParallel(File, CollectionsProvider, CommentSetting, int, boolean, ForkJoinPool)}
+	 */
+	private final int MIN_CHUNK_SIZE = 4096;
+
+
 	/**
 	 * Write the given Data to a File
 	 *
 	 * @param file           the File to be written to
 	 * @param fileData       the FileData containing the Data to be written
 	 * @param commentSetting the CommentSetting to be used
+	 * @param autoFlush      has no effect, the Data is written in chunks
 	 *
 	 * @throws UncheckedIOException if the File can not be accessed properly
 	 * @throws ObjectNullException  if a passed value is null
+	 * @deprecated autoFlush has no effect on Files anymore, use {@link #writeData(File, FileData, CommentSetting, String, WriteSetting)} instead
 	 */
+	@Deprecated
 	public void writeData(final @NotNull File file,
 						  final @NotNull FileData<DataMap, DataMap.DataNode<String, Object>, List> fileData, //NOSONAR
 						  final @NotNull CommentSetting commentSetting,
 						  final @NotNull String indentationString,
 						  final boolean autoFlush) {
-		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file).writeLock();
-			 final @NotNull PrintWriter writer = tempLock.createPrintWriter(autoFlush)) {
-			tempLock.lock();
-			tempLock.truncateChannel(0);
+		ThunderFileParser.writeData(file, fileData, commentSetting, indentationString, Write.IN_PLACE);
+	}
 
-			if (!fileData.isEmpty()) {
-				final @NotNull Iterator<DataMap.DataNode<String, Object>> mapIterator = fileData.blockEntryList().iterator();
-				if (commentSetting == Comment.PRESERVE) {
-					ThunderFileParser.initialWriteWithComments(writer, mapIterator, indentationString);
-				} else if (commentSetting == Comment.SKIP) {
-					ThunderFileParser.initialWriteWithOutComments(writer, mapIterator, indentationString);
-				} else {
-					throw new IllegalArgumentException("Illegal CommentSetting");
+	/**
+	 * Write the given Data to a File
+	 *
+	 * @param file           the File to be written to
+	 * @param fileData       the FileData containing the Data to be written
+	 * @param commentSetting the CommentSetting to be used
+	 * @param writeSetting   the WriteSetting defining how the File is written to disk
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public void writeData(final @NotNull File file,
+						  final @NotNull FileData<DataMap, DataMap.DataNode<String, Object>, List> fileData, //NOSONAR
+						  final @NotNull CommentSetting commentSetting,
+						  final @NotNull String indentationString,
+						  final @NotNull WriteSetting writeSetting) {
+		try {
+			writeSetting.write(file, outputStream -> {
+				if (!fileData.isEmpty()) {
+					ThunderFileParser.serialize(outputStream, fileData.blockEntryList().iterator(), commentSetting, indentationString);
 				}
-			}
+			});
 		} catch (final @NotNull IOException e) {
 			throw new UncheckedIOException("Error while writing to '" + file.getAbsolutePath() + "'", e);
 		}
@@ -88,26 +120,29 @@ public class ThunderFileParser {
 		}
 	}
 
+	/**
+	 * @deprecated autoFlush has no effect on Files anymore, use {@link #writeDataFromMap(File, DataMap, CommentSetting, String, WriteSetting)} instead
+	 */
+	@Deprecated
 	public void writeDataFromMap(final @NotNull File file,
 								 final @NotNull DataMap<String, Object> dataMap, //NOSONAR
 								 final @NotNull CommentSetting commentSetting,
 								 final @NotNull String indentationString,
 								 final boolean autoFlush) {
-		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file).writeLock();
-			 final @NotNull PrintWriter writer = tempLock.createPrintWriter(autoFlush)) {
-			tempLock.lock();
-			tempLock.truncateChannel(0);
+		ThunderFileParser.writeDataFromMap(file, dataMap, commentSetting, indentationString, Write.IN_PLACE);
+	}
 
-			if (!dataMap.isEmpty()) {
-				final @NotNull Iterator<DataMap.DataNode<String, Object>> mapIterator = dataMap.entryList().iterator();
-				if (commentSetting == Comment.PRESERVE) {
-					ThunderFileParser.initialWriteWithComments(writer, mapIterator, indentationString);
-				} else if (commentSetting == Comment.SKIP) {
-					ThunderFileParser.initialWriteWithOutComments(writer, mapIterator, indentationString);
-				} else {
-					throw new IllegalArgumentException("Illegal CommentSetting");
+	public void writeDataFromMap(final @NotNull File file,
+								 final @NotNull DataMap<String, Object> dataMap, //NOSONAR
+								 final @NotNull CommentSetting commentSetting,
+								 final @NotNull String indentationString,
+								 final @NotNull WriteSetting writeSetting) {
+		try {
+			writeSetting.write(file, outputStream -> {
+				if (!dataMap.isEmpty()) {
+					ThunderFileParser.serialize(outputStream, dataMap.entryList().iterator(), commentSetting, indentationString);
 				}
-			}
+			});
 		} catch (final @NotNull IOException e) {
 			throw new UncheckedIOException("Error while writing to '" + file.getAbsolutePath() + "'", e);
 		}
@@ -152,44 +187,123 @@ public class ThunderFileParser {
 													 final @NotNull CommentSetting commentSetting,
 													 final int buffer_size) throws ThunderException {
 		try {
-			final @NotNull ListIterator<String> lines;
-			try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file, true, false).readLock();
-				 final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size)) {
-				tempLock.lock();
-				lines = reader.lines().collect(Collectors.toList()).listIterator();
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e);
-			}
-			if (commentSetting == Comment.PRESERVE) {
-				return ThunderFileParser.initialReadWithComments(lines, collectionsProvider);
-			} else if (commentSetting == Comment.SKIP) {
-				return ThunderFileParser.initialReadWithOutComments(lines, collectionsProvider);
+			return ThunderFileParser.initialRead(file, collectionsProvider, commentSetting, buffer_size, false);
+		} catch (final @NotNull ThunderParseException e) {
+			throw new ThunderException("Error while parsing '" + file.getAbsolutePath() + "' - > " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * Read the Data of a File, optionally parsing it straight from a read-only memory mapping of the File
+	 *
+	 * @param file                the File to be read from
+	 * @param collectionsProvider the Provider to be used to get the Map and List implementations
+	 * @param commentSetting      the CommentSetting to be used
+	 * @param buffer_size         the buffer size to be used with the Reader
+	 * @param memoryMapped        whether the File should be memory mapped instead of being read through a Reader
+	 *
+	 * @return a Map containing the Data of the File
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 * @throws ThunderException     if the Content of the File can not be parsed properly
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public @NotNull DataMap<String, Object> readData(final @NotNull File file,
+													 final @NotNull CollectionsProvider<DataMap, List> collectionsProvider,
+													 final @NotNull CommentSetting commentSetting,
+													 final int buffer_size,
+													 final boolean memoryMapped) throws ThunderException {
+		return ThunderFileParser.readData(file, collectionsProvider, commentSetting, buffer_size, memoryMapped, false);
+	}
+
+	/**
+	 * Read the Data of a File, optionally parsing it straight from a read-only memory mapping of the File
+	 * and storing lists only consisting of numbers as primitive lists
+	 *
+	 * @param file                the File to be read from
+	 * @param collectionsProvider the Provider to be used to get the Map and List implementations
+	 * @param commentSetting      the CommentSetting to be used
+	 * @param buffer_size         the buffer size to be used with the Reader
+	 * @param memoryMapped        whether the File should be memory mapped instead of being read through a Reader
+	 * @param compactLists        whether lists only consisting of ints, longs or doubles should be stored as
+	 *                            {@link IntGapList}, {@link LongGapList} or {@link DoubleGapList} instead of a List of Strings
+	 *
+	 * @return a Map containing the Data of the File
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 * @throws ThunderException     if the Content of the File can not be parsed properly
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public @NotNull DataMap<String, Object> readData(final @NotNull File file,
+													 final @NotNull CollectionsProvider<DataMap, List> collectionsProvider,
+													 final @NotNull CommentSetting commentSetting,
+													 final int buffer_size,
+													 final boolean memoryMapped,
+													 final boolean compactLists) throws ThunderException {
+		try {
+			if (memoryMapped) {
+				return ThunderFileParser.initialReadMapped(file, collectionsProvider, commentSetting, buffer_size, compactLists);
 			} else {
-				throw new IllegalArgumentException("Illegal CommentSetting");
+				return ThunderFileParser.initialRead(file, collectionsProvider, commentSetting, buffer_size, compactLists);
 			}
 		} catch (final @NotNull ThunderParseException e) {
 			throw new ThunderException("Error while parsing '" + file.getAbsolutePath() + "' - > " + e.getMessage(), e);
 		}
 	}
 
+	/**
+	 * Read the Data of a File, parsing its top-level blocks in parallel on the common {@link ForkJoinPool}
+	 *
+	 * @see #readDataParallel(File, CollectionsProvider, CommentSetting, int, boolean, ForkJoinPool)
+	 */
+	public @NotNull DataMap<String, Object> readDataParallel(final @NotNull File file,
+															 final @NotNull CollectionsProvider<DataMap, List> collectionsProvider,
+															 final @NotNull CommentSetting commentSetting,
+															 final int buffer_size,
+															 final boolean compactLists) throws ThunderException {
+		return ThunderFileParser.readDataParallel(file, collectionsProvider, commentSetting, buffer_size, compactLists, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Read the Data of a File, parsing its top-level blocks in parallel
+	 * <p>
+	 * The lines of the File are read into memory and split at the boundaries of top-level blocks into chunks,
+	 * which are parsed on the given pool and stitched back together in order.
+	 * The result is the same as the one of {@link #readData(File, CollectionsProvider, CommentSetting, int, boolean, boolean)},
+	 * Files too small to be worth splitting are parsed on the calling Thread
+	 *
+	 * @param file                the File to be read from
+	 * @param collectionsProvider the Provider to be used to get the Map and List implementations
+	 * @param commentSetting      the CommentSetting to be used
+	 * @param buffer_size         the buffer size to be used with the Reader
+	 * @param compactLists        whether lists only consisting of numbers should be stored as primitive lists
+	 * @param pool                the pool the chunks are parsed on
+	 *
+	 * @return a Map containing the Data of the File
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 * @throws ThunderException     if the Content of the File can not be parsed properly
+	 * @throws ObjectNullException  if a passed value is null
+	 */
+	public @NotNull DataMap<String, Object> readDataParallel(final @NotNull File file,
+															 final @NotNull CollectionsProvider<DataMap, List> collectionsProvider,
+															 final @NotNull CommentSetting commentSetting,
+															 final int buffer_size,
+															 final boolean compactLists,
+															 final @NotNull ForkJoinPool pool) throws ThunderException {
+		try {
+			return ThunderFileParser.initialReadParallel(file, collectionsProvider, commentSetting, buffer_size, compactLists, pool);
+		} catch (final @NotNull ThunderParseException e) {
+			throw new ThunderException("Error while parsing '" + file.getAbsolutePath() + "' - > " + e.getMessage(), e);
+		}
+	}
+
 	public @NotNull DataMap<String, Object> readData(final @NotNull InputStream inputStream,
 													 final @NotNull CollectionsProvider<DataMap, List> collectionsProvider,
 													 final @NotNull CommentSetting commentSetting,
 													 final int buffer_size) throws ThunderException {
 		try {
-			final @NotNull ListIterator<String> lines;
-			try (final @NotNull BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream), buffer_size)) {
-				lines = reader.lines().collect(Collectors.toList()).listIterator();
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while reading content from the given InputStream", e);
-			}
-			if (commentSetting == Comment.PRESERVE) {
-				return ThunderFileParser.initialReadWithComments(lines, collectionsProvider);
-			} else if (commentSetting == Comment.SKIP) {
-				return ThunderFileParser.initialReadWithOutComments(lines, collectionsProvider);
-			} else {
-				throw new IllegalArgumentException("Illegal CommentSetting");
-			}
+			return ThunderFileParser.initialRead(inputStream, collectionsProvider, commentSetting, buffer_size, false);
 		} catch (final ThunderParseException e) {
 			throw new ThunderException("Error while parsing the given InputStream - > " + e.getMessage(), e);
 		}
@@ -201,22 +315,7 @@ public class ThunderFileParser {
 								   final @NotNull CommentSetting commentSetting,
 								   final int buffer_size) throws ThunderException {
 		try {
-			final @NotNull ListIterator<String> lines;
-			try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file, true, false).readLock();
-				 final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size)) {
-				tempLock.lock();
-				lines = reader.lines().collect(Collectors.toList()).listIterator();
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e);
-			}
-			if (commentSetting == Comment.PRESERVE) {
-				fileData.loadData(ThunderFileParser.initialReadWithComments(lines, collectionsProvider));
-			} else if (commentSetting == Comment.SKIP) {
-				fileData.loadData(ThunderFileParser.initialReadWithOutComments(lines, collectionsProvider))
-				;
-			} else {
-				throw new IllegalArgumentException("Illegal CommentSetting");
-			}
+			fileData.loadData(ThunderFileParser.initialRead(file, collectionsProvider, commentSetting, buffer_size, false));
 		} catch (final @NotNull ThunderParseException e) {
 			throw new ThunderException("Error while parsing '" + file.getAbsolutePath() + "' - > " + e.getMessage(), e);
 		}
@@ -228,19 +327,7 @@ public class ThunderFileParser {
 								   final @NotNull CommentSetting commentSetting,
 								   final int buffer_size) throws ThunderException {
 		try {
-			final @NotNull ListIterator<String> lines;
-			try (final @NotNull BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream), buffer_size)) {
-				lines = reader.lines().collect(Collectors.toList()).listIterator();
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while reading content from the given InputStream", e);
-			}
-			if (commentSetting == Comment.PRESERVE) {
-				fileData.loadData(ThunderFileParser.initialReadWithComments(lines, collectionsProvider));
-			} else if (commentSetting == Comment.SKIP) {
-				fileData.loadData(ThunderFileParser.initialReadWithOutComments(lines, collectionsProvider));
-			} else {
-				throw new IllegalArgumentException("Illegal CommentSetting");
-			}
+			fileData.loadData(ThunderFileParser.initialRead(inputStream, collectionsProvider, commentSetting, buffer_size, false));
 		} catch (final ThunderParseException e) {
 			throw new ThunderException("Error while parsing the given InputStream - > " + e.getMessage(), e);
 		}
@@ -251,23 +338,8 @@ public class ThunderFileParser {
 																		 final @NotNull CommentSetting commentSetting,
 																		 final int buffer_size) throws ThunderException {
 		try {
-			final @NotNull ListIterator<String> lines;
-			try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file, true, false).readLock();
-				 final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size)) {
-				tempLock.lock();
-				lines = reader.lines().collect(Collectors.toList()).listIterator();
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e);
-			}
-
 			final @NotNull ThunderFileData<DataMap, ?, List> fileData = new LocalFileData(collectionsProvider);
-			if (commentSetting == Comment.PRESERVE) {
-				fileData.loadData(ThunderFileParser.initialReadWithComments(lines, collectionsProvider));
-			} else if (commentSetting == Comment.SKIP) {
-				fileData.loadData(ThunderFileParser.initialReadWithOutComments(lines, collectionsProvider));
-			} else {
-				throw new IllegalArgumentException("Illegal CommentSetting");
-			}
+			fileData.loadData(ThunderFileParser.initialRead(file, collectionsProvider, commentSetting, buffer_size, false));
 			return fileData;
 		} catch (final @NotNull ThunderParseException e) {
 			throw new ThunderException("Error while parsing '" + file.getAbsolutePath() + "' - > " + e.getMessage(), e);
@@ -279,21 +351,8 @@ public class ThunderFileParser {
 																		 final @NotNull CommentSetting commentSetting,
 																		 final int buffer_size) throws ThunderException {
 		try {
-			final @NotNull ListIterator<String> lines;
-			try (final @NotNull BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream), buffer_size)) {
-				lines = reader.lines().collect(Collectors.toList()).listIterator();
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while reading content from the given InputStream", e);
-			}
-
 			final @NotNull ThunderFileData<DataMap, ?, List> fileData = new LocalFileData(collectionsProvider);
-			if (commentSetting == Comment.PRESERVE) {
-				fileData.loadData(ThunderFileParser.initialReadWithComments(lines, collectionsProvider));
-			} else if (commentSetting == Comment.SKIP) {
-				fileData.loadData(ThunderFileParser.initialReadWithOutComments(lines, collectionsProvider));
-			} else {
-				throw new IllegalArgumentException("Illegal CommentSetting");
-			}
+			fileData.loadData(ThunderFileParser.initialRead(inputStream, collectionsProvider, commentSetting, buffer_size, false));
 			return fileData;
 		} catch (final ThunderParseException e) {
 			throw new ThunderException("Error while parsing the given InputStream - > " + e.getMessage(), e);
@@ -303,6 +362,28 @@ public class ThunderFileParser {
 
 	// <Internal>
 	// <Write Data>
+	// The content is serialized in memory first, so only the part of the File that actually changed has to be written
+	/**
+	 * Serialize the given Data straight to the given OutputStream, the OutputStream is flushed but not closed
+	 */
+	private void serialize(final @NotNull OutputStream outputStream,
+						   final @NotNull Iterator<DataMap.DataNode<String, Object>> mapIterator,
+						   final @NotNull CommentSetting commentSetting,
+						   final @NotNull String indentationString) throws IOException {
+		final @NotNull PrintWriter writer = new PrintWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+		if (commentSetting == Comment.PRESERVE) {
+			ThunderFileParser.initialWriteWithComments(writer, mapIterator, indentationString);
+		} else if (commentSetting == Comment.SKIP) {
+			ThunderFileParser.initialWriteWithOutComments(writer, mapIterator, indentationString);
+		} else {
+			throw new IllegalArgumentException("Illegal CommentSetting");
+		}
+		// the PrintWriter swallows the IOExceptions of the OutputStream
+		if (writer.checkError()) {
+			throw new IOException("Error while serializing the Data");
+		}
+	}
+
 	// <Write Data with Comments>
 	private void initialWriteWithComments(final @NotNull PrintWriter writer,
 										  final @NotNull Iterator<DataMap.DataNode<String, Object>> mapIterator,
@@ -582,9 +663,200 @@ public class ThunderFileParser {
 
 
 	// <Read Data>
+	// The lines are parsed while they are being read, so the content of the File is never held in memory as a whole
+	private @NotNull DataMap<String, Object> initialRead(final @NotNull File file,
+														 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+														 final @NotNull CommentSetting commentSetting,
+														 final int buffer_size,
+														 final boolean compactLists) throws ThunderParseException {
+		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file, true, false).readLock();
+			 final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size)) {
+			tempLock.lock();
+			return ThunderFileParser.initialRead(ThunderLineReader.of(reader), collectionsProvider, commentSetting, compactLists);
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e);
+		} catch (final @NotNull UncheckedIOException e) {
+			throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e.getCause());
+		}
+	}
+
+	private @NotNull DataMap<String, Object> initialReadMapped(final @NotNull File file,
+															   final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+															   final @NotNull CommentSetting commentSetting,
+															   final int buffer_size,
+															   final boolean compactLists) throws ThunderParseException {
+		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file, true, false).readLock()) {
+			tempLock.lock();
+			final @NotNull FileChannel channel = tempLock.getFileChannel();
+			final long size = channel.size();
+			if (size > Integer.MAX_VALUE) {
+				// a single MappedByteBuffer can not hold more than Integer.MAX_VALUE bytes
+				try (final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size)) {
+					return ThunderFileParser.initialRead(ThunderLineReader.of(reader), collectionsProvider, commentSetting, compactLists);
+				}
+			} else {
+				final @NotNull MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+				try {
+					return ThunderFileParser.initialRead(new MappedLineReader(buffer, commentSetting != Comment.PRESERVE), collectionsProvider, commentSetting, compactLists);
+				} finally {
+					// the File could not be written to on some platforms until the buffer is garbage collected otherwise
+					BaseFileUtils.unmap(buffer);
+				}
+			}
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e);
+		} catch (final @NotNull UncheckedIOException e) {
+			throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e.getCause());
+		}
+	}
+
+	private @NotNull DataMap<String, Object> initialRead(final @NotNull InputStream inputStream,
+														 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+														 final @NotNull CommentSetting commentSetting,
+														 final int buffer_size,
+														 final boolean compactLists) throws ThunderParseException {
+		try (final @NotNull BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream), buffer_size)) {
+			return ThunderFileParser.initialRead(ThunderLineReader.of(reader), collectionsProvider, commentSetting, compactLists);
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading content from the given InputStream", e);
+		} catch (final @NotNull UncheckedIOException e) {
+			throw new UncheckedIOException("Error while reading content from the given InputStream", e.getCause());
+		}
+	}
+
+	private @NotNull DataMap<String, Object> initialRead(final @NotNull ThunderLineReader lines,
+														 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+														 final @NotNull CommentSetting commentSetting,
+														 final boolean compactLists) throws ThunderParseException {
+		if (commentSetting == Comment.PRESERVE) {
+			return ThunderFileParser.initialReadWithComments(lines, collectionsProvider, compactLists);
+		} else if (commentSetting == Comment.SKIP) {
+			return ThunderFileParser.initialReadWithOutComments(lines, collectionsProvider, compactLists);
+		} else {
+			throw new IllegalArgumentException("Illegal CommentSetting");
+		}
+	}
+
+	// <Read Data in Parallel>
+	private @NotNull DataMap<String, Object> initialReadParallel(final @NotNull File file,
+																 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+																 final @NotNull CommentSetting commentSetting,
+																 final int buffer_size,
+																 final boolean compactLists,
+																 final @NotNull ForkJoinPool pool) throws ThunderParseException {
+		final @NotNull List<String> lines;
+		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file, true, false).readLock();
+			 final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size)) {
+			tempLock.lock();
+			lines = reader.lines().collect(Collectors.toCollection(ArrayList::new));
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e);
+		} catch (final @NotNull UncheckedIOException e) {
+			throw new UncheckedIOException("Error while reading content from '" + file.getAbsolutePath() + "'", e.getCause());
+		}
+
+		final int chunkSize = Math.max(ThunderFileParser.MIN_CHUNK_SIZE, lines.size() / (pool.getParallelism() * 4) + 1);
+		final @NotNull List<Integer> bounds = ThunderFileParser.splitTopLevel(lines, chunkSize);
+		if (bounds.size() <= 2) {
+			return ThunderFileParser.initialRead(ThunderLineReader.of(lines, 0, lines.size()), collectionsProvider, commentSetting, compactLists);
+		}
+
+		final @NotNull List<Callable<DataMap<String, Object>>> chunks = new ArrayList<>(bounds.size() - 1);
+		for (int i = 0; i < bounds.size() - 1; i++) {
+			final int from = bounds.get(i);
+			final int to = bounds.get(i + 1);
+			chunks.add(() -> ThunderFileParser.initialRead(ThunderLineReader.of(lines, from, to), collectionsProvider, commentSetting, compactLists));
+		}
+
+		//noinspection unchecked
+		final @NotNull DataMap<String, Object> result = collectionsProvider.newMap();
+		for (final @NotNull Future<DataMap<String, Object>> chunk : pool.invokeAll(chunks)) {
+			for (final @NotNull DataMap.DataNode<String, Object> node : ThunderFileParser.join(chunk).entryList()) {
+				result.add(node.getKey(), node.getValue());
+			}
+		}
+		result.trimToSize();
+		return result;
+	}
+
+	/**
+	 * Find the indices the lines can be split at without cutting through a block or a list,
+	 * the chunks between two indices hold at least the given amount of lines unless they are the last one
+	 *
+	 * @return the indices starting with 0 and ending with the amount of lines
+	 */
+	private @NotNull List<Integer> splitTopLevel(final @NotNull List<String> lines, final int chunkSize) {
+		final @NotNull List<Integer> bounds = new ArrayList<>();
+		bounds.add(0);
+		int start = 0;
+		int depth = 0;
+		boolean list = false;
+		for (int i = 0; i < lines.size(); i++) {
+			final @NotNull String line = lines.get(i).trim();
+			if (list) {
+				list = !line.endsWith("]");
+			} else if (!line.isEmpty() && !line.startsWith("#")) {
+				if (line.endsWith("}")) {
+					depth--;
+				} else if (line.endsWith("{")) {
+					depth++;
+				} else if (line.startsWith("{")) {
+					depth++;
+					list = ThunderFileParser.opensList(line.substring(1));
+				} else {
+					list = ThunderFileParser.opensList(line);
+				}
+			}
+
+			if (depth <= 0 && !list) {
+				// a stray '}' is left to the parser of the chunk to be reported
+				depth = 0;
+				if (i + 1 - start >= chunkSize && i + 1 < lines.size()) {
+					start = i + 1;
+					bounds.add(start);
+				}
+			}
+		}
+		bounds.add(lines.size());
+		return bounds;
+	}
+
+	private boolean opensList(final @NotNull String line) {
+		final int separator = line.indexOf('=');
+		if (separator == -1) {
+			return false;
+		} else {
+			final @NotNull String value = ThunderFileParser.trimString(line.substring(separator + 1));
+			return value.startsWith("[") && !value.endsWith("]");
+		}
+	}
+
+	private @NotNull DataMap<String, Object> join(final @NotNull Future<DataMap<String, Object>> chunk) throws ThunderParseException {
+		try {
+			return chunk.get();
+		} catch (final @NotNull InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ThunderParseException("Interrupted while parsing", e);
+		} catch (final @NotNull ExecutionException e) {
+			// the pool wraps checked exceptions of the tasks into RuntimeExceptions
+			for (@Nullable Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+				if (cause instanceof ThunderParseException) {
+					throw (ThunderParseException) cause;
+				}
+			}
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			} else {
+				throw new ThunderParseException(e.getCause());
+			}
+		}
+	}
+	// </Read Data in Parallel>
+
 	// <Read Data with Comments>
-	private @NotNull DataMap<String, Object> initialReadWithComments(final @NotNull ListIterator<String> lines,
-																	 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider) throws ThunderParseException {
+	private @NotNull DataMap<String, Object> initialReadWithComments(final @NotNull ThunderLineReader lines,
+																	 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+																	 final boolean compactLists) throws ThunderParseException {
 		try {
 			//noinspection unchecked
 			final @NotNull DataMap<String, Object> currentMap = collectionsProvider.newMap();
@@ -607,9 +879,9 @@ public class ThunderFileParser {
 						throw new ThunderParseException("'" + tempLine + "' (line: " + lines.previousIndex() + ") -> Key must not be null");
 					}
 					//noinspection unchecked
-					currentMap.add(tempKey, ThunderFileParser.internalReadWithComments(lines, collectionsProvider.newMap(), collectionsProvider));
+					currentMap.add(tempKey, ThunderFileParser.internalReadWithComments(lines, collectionsProvider.newMap(), collectionsProvider, compactLists));
 				} else {
-					tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider);
+					tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider, compactLists);
 				}
 			}
 			currentMap.trimToSize();
@@ -619,9 +891,10 @@ public class ThunderFileParser {
 		}
 	}
 
-	private @NotNull DataMap<String, Object> internalReadWithComments(final @NotNull ListIterator<String> lines,
+	private @NotNull DataMap<String, Object> internalReadWithComments(final @NotNull ThunderLineReader lines,
 																	  final @NotNull DataMap<String, Object> currentMap,
-																	  final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider) throws ThunderParseException {
+																	  final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+																	  final boolean compactLists) throws ThunderParseException {
 		@NotNull String tempLine;
 		@Nullable String tempKey = null;
 		while (lines.hasNext()) {
@@ -631,7 +904,7 @@ public class ThunderFileParser {
 				currentMap.trimToSize();
 				return currentMap;
 			} else if (tempLine.endsWith("}")) {
-				ThunderFileParser.readKey(lines, currentMap, tempLine.substring(0, tempLine.length() - 1), collectionsProvider);
+				ThunderFileParser.readKey(lines, currentMap, tempLine.substring(0, tempLine.length() - 1), collectionsProvider, compactLists);
 				currentMap.trimToSize();
 				return currentMap;
 			} else if (tempLine.contains("}")) {
@@ -647,17 +920,17 @@ public class ThunderFileParser {
 					throw new ThunderParseException("'" + tempLine + "' (line: " + lines.previousIndex() + ") -> Key must not be null");
 				}
 				//noinspection unchecked
-				currentMap.add(tempKey, ThunderFileParser.internalReadWithComments(lines, collectionsProvider.newMap(), collectionsProvider));
+				currentMap.add(tempKey, ThunderFileParser.internalReadWithComments(lines, collectionsProvider.newMap(), collectionsProvider, compactLists));
 			} else if (tempLine.startsWith("{")) {
 				if (tempKey == null) {
 					throw new ThunderParseException("'" + tempLine + "' (line: " + lines.previousIndex() + ") -> Key must not be null");
 				}
 				//noinspection unchecked
 				final @NotNull DataMap<String, Object> tempMap = collectionsProvider.newMap();
-				ThunderFileParser.readKey(lines, tempMap, tempLine.substring(1).trim(), collectionsProvider);
-				currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, tempMap, collectionsProvider));
+				ThunderFileParser.readKey(lines, tempMap, tempLine.substring(1).trim(), collectionsProvider, compactLists);
+				currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, tempMap, collectionsProvider, compactLists));
 			} else {
-				tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider);
+				tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider, compactLists);
 			}
 		}
 		throw new ThunderParseException("Block does not close");
@@ -665,8 +938,9 @@ public class ThunderFileParser {
 	// </Read Data with Comments>
 
 	// <Read Data without Comments>
-	private @NotNull DataMap<String, Object> initialReadWithOutComments(final @NotNull ListIterator<String> lines,
-																		final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider) throws ThunderParseException {
+	private @NotNull DataMap<String, Object> initialReadWithOutComments(final @NotNull ThunderLineReader lines,
+																		final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+																		final boolean compactLists) throws ThunderParseException {
 		try {
 			//noinspection unchecked
 			final @NotNull DataMap<String, Object> currentMap = collectionsProvider.newMap();
@@ -686,9 +960,9 @@ public class ThunderFileParser {
 							throw new ThunderParseException("'" + tempLine + "' (line: " + lines.previousIndex() + ") -> Key must not be null");
 						}
 						//noinspection unchecked
-						currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, collectionsProvider.newMap(), collectionsProvider));
+						currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, collectionsProvider.newMap(), collectionsProvider, compactLists));
 					} else {
-						tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider);
+						tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider, compactLists);
 					}
 				}
 			}
@@ -699,9 +973,10 @@ public class ThunderFileParser {
 		}
 	}
 
-	private @NotNull DataMap<String, Object> internalReadWithOutComments(final @NotNull ListIterator<String> lines,
+	private @NotNull DataMap<String, Object> internalReadWithOutComments(final @NotNull ThunderLineReader lines,
 																		 final @NotNull DataMap<String, Object> currentMap,
-																		 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider) throws ThunderParseException {
+																		 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+																		 final boolean compactLists) throws ThunderParseException {
 		@NotNull String tempLine;
 		@Nullable String tempKey = null;
 		while (lines.hasNext()) {
@@ -712,7 +987,7 @@ public class ThunderFileParser {
 					currentMap.trimToSize();
 					return currentMap;
 				} else if (tempLine.endsWith("}")) {
-					ThunderFileParser.readKey(lines, currentMap, tempLine.substring(0, tempLine.length() - 1), collectionsProvider);
+					ThunderFileParser.readKey(lines, currentMap, tempLine.substring(0, tempLine.length() - 1), collectionsProvider, compactLists);
 					currentMap.trimToSize();
 					return currentMap;
 				} else if (tempLine.contains("}")) {
@@ -724,17 +999,17 @@ public class ThunderFileParser {
 						throw new ThunderParseException("'" + tempLine + "' (line: " + lines.previousIndex() + ") -> Key must not be null");
 					}
 					//noinspection unchecked
-					currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, collectionsProvider.newMap(), collectionsProvider));
+					currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, collectionsProvider.newMap(), collectionsProvider, compactLists));
 				} else if (tempLine.startsWith("{")) {
 					if (tempKey == null) {
 						throw new ThunderParseException("'" + tempLine + "' (line: " + lines.previousIndex() + ") -> Key must not be null");
 					}
 					//noinspection unchecked
 					final @NotNull DataMap<String, Object> tempMap = collectionsProvider.newMap();
-					ThunderFileParser.readKey(lines, tempMap, tempLine.substring(1).trim(), collectionsProvider);
-					currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, tempMap, collectionsProvider));
+					ThunderFileParser.readKey(lines, tempMap, tempLine.substring(1).trim(), collectionsProvider, compactLists);
+					currentMap.add(tempKey, ThunderFileParser.internalReadWithOutComments(lines, tempMap, collectionsProvider, compactLists));
 				} else {
-					tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider);
+					tempKey = ThunderFileParser.readKey(lines, currentMap, tempLine, collectionsProvider, compactLists);
 				}
 			}
 		}
@@ -742,10 +1017,11 @@ public class ThunderFileParser {
 	}
 	// </Read without Comments>
 
-	private @Nullable String readKey(final @NotNull ListIterator<String> lines,
+	private @Nullable String readKey(final @NotNull ThunderLineReader lines,
 									 final @NotNull DataMap<String, Object> tempMap,
 									 final @NotNull String tempLine,
-									 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider) throws ThunderParseException {
+									 final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+									 final boolean compactLists) throws ThunderParseException {
 		if (tempLine.contains("=")) {
 			final @NotNull String[] line = tempLine.split("=", 2);
 			line[0] = ThunderFileParser.trimString(line[0]);
@@ -770,11 +1046,11 @@ public class ThunderFileParser {
 						for (final @NotNull String value : listArray) {
 							list.add(ThunderFileParser.trimString(value));
 						}
-						tempMap.add(line[0], list);
+						tempMap.add(line[0], compactLists ? ThunderFileParser.compactList(list) : list);
 						return null;
 					}
 				} else {
-					tempMap.add(line[0], ThunderFileParser.readList(lines, collectionsProvider));
+					tempMap.add(line[0], ThunderFileParser.readList(lines, collectionsProvider, compactLists));
 					return null;
 				}
 			} else {
@@ -786,8 +1062,9 @@ public class ThunderFileParser {
 		}
 	}
 
-	private @NotNull List<String> readList(final @NotNull ListIterator<String> lines,
-										   final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider) throws ThunderParseException {
+	private @NotNull List<?> readList(final @NotNull ThunderLineReader lines,
+										   final @NotNull CollectionsProvider<? extends DataMap, ? extends List> collectionsProvider,
+										   final boolean compactLists) throws ThunderParseException {
 		@NotNull String tempLine;
 		@NotNull String tempValue;
 		//noinspection unchecked
@@ -797,12 +1074,12 @@ public class ThunderFileParser {
 			if (tempLine.startsWith("-")) {
 				if (tempLine.endsWith("]")) {
 					tempList.add(ThunderFileParser.trimString(tempLine.substring(1, tempLine.length() - 1)));
-					return tempList;
+					return compactLists ? ThunderFileParser.compactList(tempList) : tempList;
 				} else {
 					tempList.add(ThunderFileParser.trimString(tempLine.substring(1)));
 				}
 			} else if (tempLine.endsWith("]")) {
-				return tempList;
+				return compactLists ? ThunderFileParser.compactList(tempList) : tempList;
 			} else {
 				throw new ThunderParseException("Syntax Error at '" + tempLine + "' (line: " + lines.previousIndex() + ") -> missing '-'");
 			}
@@ -810,7 +1087,87 @@ public class ThunderFileParser {
 		throw new ThunderParseException("Syntax Error at line '" + lines.previousIndex() + "' -> List not closed properly");
 	}
 
-	private String trimString(final @NotNull String string) {
+	/**
+	 * Store the given List as a primitive list if all of its values are ints, longs or doubles,
+	 * only values which are written back exactly the same way are accepted, so compacting a List never changes the File
+	 *
+	 * @param list the List of values to be compacted
+	 *
+	 * @return an {@link IntGapList}, {@link LongGapList} or {@link DoubleGapList} holding the values or the given List itself
+	 */
+	@NotNull List<?> compactList(final @NotNull List<String> list) {
+		if (list.isEmpty()) {
+			return list;
+		}
+
+		boolean fitsInt = true;
+		for (final @NotNull String value : list) {
+			if (!ThunderFileParser.isCanonicalLong(value)) {
+				return ThunderFileParser.compactDoubleList(list);
+			} else if (fitsInt) {
+				final long longValue = Long.parseLong(value);
+				fitsInt = longValue >= Integer.MIN_VALUE && longValue <= Integer.MAX_VALUE;
+			}
+		}
+
+		if (fitsInt) {
+			final @NotNull IntGapList intList = new IntGapList(list.size());
+			for (final @NotNull String value : list) {
+				intList.addInt(Integer.parseInt(value));
+			}
+			return intList;
+		} else {
+			final @NotNull LongGapList longList = new LongGapList(list.size());
+			for (final @NotNull String value : list) {
+				longList.addLong(Long.parseLong(value));
+			}
+			return longList;
+		}
+	}
+
+	private @NotNull List<?> compactDoubleList(final @NotNull List<String> list) {
+		final @NotNull DoubleGapList doubleList = new DoubleGapList(list.size());
+		for (final @NotNull String value : list) {
+			try {
+				final double doubleValue = Double.parseDouble(value);
+				if (!Double.toString(doubleValue).equals(value)) {
+					return list;
+				}
+				doubleList.addDouble(doubleValue);
+			} catch (final @NotNull NumberFormatException e) {
+				return list;
+			}
+		}
+		return doubleList;
+	}
+
+	/**
+	 * @return true if the given String is a long written the way {@link Long#toString(long)} would write it
+	 */
+	private boolean isCanonicalLong(final @NotNull String value) {
+		final int start = value.startsWith("-") ? 1 : 0;
+		final int digits = value.length() - start;
+		if (digits == 0 || digits > 19 || (value.charAt(start) == '0' && (digits > 1 || start == 1))) {
+			return false;
+		}
+		for (int i = start; i < value.length(); i++) {
+			final char current = value.charAt(i);
+			if (current < '0' || current > '9') {
+				return false;
+			}
+		}
+		if (digits < 19) {
+			return true;
+		}
+		try {
+			Long.parseLong(value);
+			return true;
+		} catch (final @NotNull NumberFormatException e) {
+			return false;
+		}
+	}
+
+	@NotNull String trimString(final @NotNull String string) {
 		@NotNull String tempString = string.trim();
 		if ((tempString.startsWith("\"") || tempString.startsWith("'")) && (tempString.endsWith("\"") || tempString.endsWith("'"))) {
 			tempString = tempString.substring(1, tempString.length() - 1);
@@ -0,0 +1,110 @@
+package de.zeanon.thunderfilemanager.internal.utility.parser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Reads the lines of a Thunder-Type File one at a time while they are being parsed,
+ * so the content never has to be held in memory as a whole
+ *
+ * @author Zeanon
+ * @version 1.1.0
+ */
+abstract class ThunderLineReader {
+
+
+	private @Nullable String nextLine;
+	private boolean fetched;
+	private int index = -1;
+
+
+	/**
+	 * @param reader the Reader to read the lines from
+	 *
+	 * @return a ThunderLineReader reading the lines of the given Reader
+	 */
+	static @NotNull ThunderLineReader of(final @NotNull BufferedReader reader) {
+		return new ThunderLineReader() {
+			@Override
+			protected @Nullable String readLine() throws IOException {
+				return reader.readLine();
+			}
+		};
+	}
+
+
+	/**
+	 * @param lines the lines already read into memory
+	 * @param from  the index of the first line to be read, inclusive
+	 * @param to    the index of the last line to be read, exclusive
+	 *
+	 * @return a ThunderLineReader reading the given range of lines, reporting the indices of the lines within the whole List
+	 */
+	static @NotNull ThunderLineReader of(final @NotNull List<String> lines, final int from, final int to) {
+		final @NotNull ThunderLineReader reader = new ThunderLineReader() {
+
+			private int next = from;
+
+			@Override
+			protected @Nullable String readLine() {
+				return this.next < to ? lines.get(this.next++) : null;
+			}
+		};
+		reader.index = from - 1;
+		return reader;
+	}
+
+
+	/**
+	 * @return true if there is at least one more line to be read
+	 *
+	 * @throws UncheckedIOException if the content can not be read properly
+	 */
+	boolean hasNext() {
+		if (!this.fetched) {
+			try {
+				this.nextLine = this.readLine();
+			} catch (final @NotNull IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			this.fetched = true;
+		}
+		return this.nextLine != null;
+	}
+
+	/**
+	 * @return the next line
+	 *
+	 * @throws NoSuchElementException if there are no more lines
+	 * @throws UncheckedIOException   if the content can not be read properly
+	 */
+	@NotNull String next() {
+		if (!this.hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final @NotNull String line = this.nextLine; //NOSONAR
+		this.nextLine = null;
+		this.fetched = false;
+		this.index++;
+		return line;
+	}
+
+	/**
+	 * @return the index of the line last returned by {@link #next()}, equal to {@link java.util.ListIterator#previousIndex()}
+	 */
+	int previousIndex() {
+		return this.index;
+	}
+
+
+	/**
+	 * @return the next line without line terminator or null if the end has been reached
+	 */
+	protected abstract @Nullable String readLine() throws IOException;
+}
@@ -0,0 +1,156 @@
+package de.zeanon.thunderfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.external.browniescollections.GapList;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
+import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.base.settings.Comment;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.base.exceptions.ThunderException;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import de.zeanon.thunderfilemanager.internal.utility.parser.ThunderBinaryParser;
+import de.zeanon.thunderfilemanager.internal.utility.parser.ThunderFileParser;
+import de.zeanon.thunderfilemanagertest.TestThunderFileManager;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+@SuppressWarnings("rawtypes")
+class TestBinarySnapshot {
+
+	@BeforeAll
+	static void setup() {
+		TestThunderFileManager.clear("BinarySnapshot");
+	}
+
+	@Test
+	@TestOnly
+	void snapshot() throws ThunderException {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "snapshot")
+																.fromFile("src/test/resources/testsources", "resource.tf")
+																.commentSetting(Comment.PRESERVE)
+																.binarySnapshot(true)
+																.create();
+		testFile.set("list", Arrays.asList(1, 2, 3));
+		testFile.set("value", 4.5);
+
+		final @NotNull CollectionsProvider<DataMap, List> collectionsProvider = new CollectionsProvider<>(GapDataMap.class, GapList.class, false);
+		final @NotNull DataMap<String, Object> parsed = ThunderFileParser.readData(testFile.file(), collectionsProvider, Comment.PRESERVE, 8192);
+		final @Nullable DataMap<String, Object> snapshot = ThunderBinaryParser.readSnapshot(testFile.file(), collectionsProvider, Comment.PRESERVE);
+		final @Nullable DataMap<String, Object> snapshotWithoutComments = ThunderBinaryParser.readSnapshot(testFile.file(), collectionsProvider, Comment.SKIP);
+		final @NotNull DataMap<String, Object> parsedWithoutComments = ThunderFileParser.readData(testFile.file(), collectionsProvider, Comment.SKIP, 8192);
+
+		final @NotNull ThunderFile reloadedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "snapshot")
+																	.binarySnapshot(true)
+																	.create();
+
+		Assertions.assertAll("Snapshot",
+							 () -> Assertions.assertTrue(ThunderBinaryParser.snapshotFile(testFile.file()).exists()),
+							 () -> Assertions.assertNotNull(snapshot),
+							 () -> Assertions.assertEquals(parsed.toString(), String.valueOf(snapshot)),
+							 () -> Assertions.assertEquals(parsedWithoutComments.toString(), String.valueOf(snapshotWithoutComments)),
+							 () -> Assertions.assertEquals("4.5", reloadedFile.getString("value")),
+							 () -> Assertions.assertEquals(Arrays.asList("1", "2", "3"), reloadedFile.getList("list")),
+							 () -> Assertions.assertTrue(reloadedFile.getBooleanUseArray("this", "is", "a", "test")));
+	}
+
+	@Test
+	@TestOnly
+	void outdated() {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "outdated")
+																.binarySnapshot(true)
+																.create();
+		testFile.set("value", 1);
+
+		ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "outdated")
+						  .create()
+						  .set("value", 22);
+
+		final @NotNull CollectionsProvider<DataMap, List> collectionsProvider = new CollectionsProvider<>(GapDataMap.class, GapList.class, false);
+		final @Nullable DataMap<String, Object> snapshot = ThunderBinaryParser.readSnapshot(testFile.file(), collectionsProvider, Comment.SKIP);
+		final @NotNull ThunderFile reloadedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "outdated")
+																	.binarySnapshot(true)
+																	.create();
+
+		Assertions.assertAll("Outdated",
+							 () -> Assertions.assertNull(snapshot),
+							 () -> Assertions.assertEquals(22, reloadedFile.getInt("value")));
+	}
+
+	@Test
+	@TestOnly
+	void changedAfterStamp() throws ThunderException {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "changed")
+																.create();
+		testFile.set("value", 1);
+
+		final @NotNull CollectionsProvider<DataMap, List> collectionsProvider = new CollectionsProvider<>(GapDataMap.class, GapList.class, false);
+		final @NotNull ThunderBinaryParser.Stamp stamp = ThunderBinaryParser.stamp(testFile.file());
+		final @NotNull DataMap<String, Object> parsed = ThunderFileParser.readData(testFile.file(), collectionsProvider, Comment.SKIP, 8192);
+		// somebody else changes the File after it has been parsed, but before the snapshot is written
+		ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "changed")
+						  .create()
+						  .set("value", 22);
+		ThunderBinaryParser.writeSnapshot(testFile.file(), stamp, parsed, Comment.SKIP, Write.IN_PLACE);
+
+		final @Nullable DataMap<String, Object> snapshot = ThunderBinaryParser.readSnapshot(testFile.file(), collectionsProvider, Comment.SKIP);
+		final @NotNull ThunderFile reloadedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "changed")
+																	.binarySnapshot(true)
+																	.create();
+
+		Assertions.assertAll("ChangedAfterStamp",
+							 () -> Assertions.assertNull(snapshot),
+							 () -> Assertions.assertEquals(22, reloadedFile.getInt("value")));
+	}
+
+	@Test
+	@TestOnly
+	void unwritable() throws IOException {
+		ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "unwritable")
+						  .create()
+						  .set("value", 1);
+		// a link into a missing directory reads like a missing snapshot but can not be written to
+		final @NotNull File snapshotFile = ThunderBinaryParser.snapshotFile(new File("src/test/resources/testresults/binarysnapshot", "unwritable.tf"));
+		Files.createSymbolicLink(snapshotFile.toPath(), new File("missing", "unwritable.tfb").toPath());
+
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "unwritable")
+																.binarySnapshot(true)
+																.create();
+
+		Assertions.assertEquals(1, testFile.getInt("value"));
+	}
+
+	@Test
+	@TestOnly
+	void delete() {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/binarysnapshot", "delete")
+																.binarySnapshot(true)
+																.create();
+		testFile.set("value", 1);
+		final @NotNull File snapshotFile = ThunderBinaryParser.snapshotFile(testFile.file());
+		final boolean written = snapshotFile.exists();
+
+		testFile.clearData();
+		final boolean clearedData = !snapshotFile.exists();
+
+		testFile.reload();
+		testFile.save();
+		testFile.deleteFile();
+
+		Assertions.assertAll("Delete",
+							 () -> Assertions.assertTrue(written),
+							 () -> Assertions.assertTrue(clearedData),
+							 () -> Assertions.assertFalse(testFile.file().exists()),
+							 () -> Assertions.assertFalse(snapshotFile.exists()));
+	}
+}
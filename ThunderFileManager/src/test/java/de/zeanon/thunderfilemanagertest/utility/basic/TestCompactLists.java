@@ -0,0 +1,69 @@
+package de.zeanon.thunderfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.external.browniescollections.DoubleGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.IntGapList;
+import de.zeanon.storagemanagercore.external.browniescollections.LongGapList;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import de.zeanon.thunderfilemanagertest.TestThunderFileManager;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestCompactLists {
+
+	@BeforeAll
+	static void setup() {
+		TestThunderFileManager.clear("CompactLists");
+	}
+
+	@Test
+	@TestOnly
+	void compact() throws IOException {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/compactlists", "compact")
+																.create();
+		testFile.set("ints", Arrays.asList(1, -2, 3));
+		testFile.set("longs", Arrays.asList(1, 3000000000L));
+		testFile.set("doubles", Arrays.asList(1.5, -0.25));
+		testFile.set("padded", Arrays.asList("01", "2"));
+		testFile.set("words", Arrays.asList("a", "1"));
+		final @NotNull byte[] content = Files.readAllBytes(testFile.file().toPath());
+
+		final @NotNull ThunderFile compactFile = ThunderFileManager.thunderFile("src/test/resources/testresults/compactlists", "compact")
+																   .compactLists(true)
+																   .create();
+
+		// the legacy direct accessors keep returning Lists of Strings, compact Lists are materialized for them
+		final List<String> directInts = compactFile.getDirectListReference("ints");
+		final List<String> directDoubles = compactFile.getDirectListReferenceUseArray("doubles");
+		final List<String> directWords = compactFile.getDirectListReference("words");
+
+		Assertions.assertAll("Compact",
+							 () -> Assertions.assertTrue(compactFile.get("ints") instanceof IntGapList),
+							 () -> Assertions.assertTrue(compactFile.get("longs") instanceof LongGapList),
+							 () -> Assertions.assertTrue(compactFile.get("doubles") instanceof DoubleGapList),
+							 () -> Assertions.assertFalse(compactFile.get("padded") instanceof IntGapList),
+							 () -> Assertions.assertFalse(compactFile.get("words") instanceof IntGapList),
+							 () -> Assertions.assertArrayEquals(new int[]{1, -2, 3}, compactFile.getIntList("ints").toIntArray()),
+							 () -> Assertions.assertArrayEquals(new long[]{1L, 3000000000L}, compactFile.getLongList("longs").toLongArray()),
+							 () -> Assertions.assertArrayEquals(new int[]{1, 2}, compactFile.getIntList("padded").toIntArray()),
+							 () -> Assertions.assertEquals(Arrays.asList("1", "-2", "3"), compactFile.getList("ints")),
+							 () -> Assertions.assertEquals(Arrays.asList("01", "2"), compactFile.getList("padded")),
+							 () -> Assertions.assertEquals(Arrays.asList("1", "-2", "3"), directInts),
+							 () -> Assertions.assertEquals(Arrays.asList("1.5", "-0.25"), directDoubles),
+							 () -> Assertions.assertSame(compactFile.get("words"), directWords));
+
+		compactFile.set("value", "unchanged");
+		compactFile.remove("value");
+		Assertions.assertEquals(new String(content, StandardCharsets.UTF_8),
+								new String(Files.readAllBytes(compactFile.file().toPath()), StandardCharsets.UTF_8));
+	}
+}
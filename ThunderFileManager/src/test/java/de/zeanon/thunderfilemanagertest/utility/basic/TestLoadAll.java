@@ -0,0 +1,66 @@
+package de.zeanon.thunderfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.StorageManager;
+import de.zeanon.storagemanagercore.internal.base.exceptions.FileTypeException;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import de.zeanon.thunderfilemanagertest.TestThunderFileManager;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestLoadAll {
+
+	@BeforeAll
+	static void setup() {
+		TestThunderFileManager.clear("LoadAll");
+	}
+
+	@Test
+	@TestOnly
+	void loadAll() {
+		final @NotNull List<Path> files = new ArrayList<>();
+		for (int i = 0; i < 16; i++) {
+			final @NotNull Path file = Paths.get("src/test/resources/testresults/loadall", "file" + i + ".tf");
+			ThunderFileManager.thunderFile(file).create().set("index", i);
+			files.add(file);
+		}
+		files.add(files.get(0));
+
+		final @NotNull ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final @NotNull Map<Path, ThunderFile> loaded = StorageManager.loadAll(files, ThunderFileManager::thunderFile, executor).join();
+
+			Assertions.assertAll("LoadAll",
+								 () -> Assertions.assertEquals(16, loaded.size()),
+								 () -> Assertions.assertEquals(files.subList(0, 16), new ArrayList<>(loaded.keySet())),
+								 () -> Assertions.assertEquals(7, loaded.get(files.get(7)).getInt("index")),
+								 () -> Assertions.assertEquals(15, loaded.get(files.get(15)).getInt("index")));
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@TestOnly
+	void failure() {
+		final @NotNull List<Path> files = Arrays.asList(Paths.get("src/test/resources/testresults/loadall", "valid.tf"),
+														Paths.get("src/test/resources/testresults/loadall", "invalid.yml"));
+
+		final @NotNull CompletionException exception = Assertions.assertThrows(CompletionException.class,
+																				() -> StorageManager.loadAll(files, ThunderFileManager::thunderFile).join());
+		Assertions.assertTrue(exception.getCause() instanceof FileTypeException);
+	}
+}
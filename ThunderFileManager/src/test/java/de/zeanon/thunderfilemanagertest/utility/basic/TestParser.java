@@ -1,15 +1,31 @@
 package de.zeanon.thunderfilemanagertest.utility.basic;
 
+import de.zeanon.storagemanagercore.external.browniescollections.GapList;
+import de.zeanon.storagemanagercore.internal.base.cache.datamap.GapDataMap;
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
 import de.zeanon.storagemanagercore.internal.base.exceptions.FileParseException;
+import de.zeanon.storagemanagercore.internal.base.interfaces.DataMap;
+import de.zeanon.storagemanagercore.internal.base.settings.Comment;
 import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.base.exceptions.ThunderException;
 import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import de.zeanon.thunderfilemanager.internal.utility.parser.ThunderFileParser;
 import de.zeanon.thunderfilemanagertest.TestThunderFileManager;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.TestOnly;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
 
+@SuppressWarnings("rawtypes")
 class TestParser {
 
 	@BeforeAll
@@ -47,4 +63,87 @@ class TestParser {
 			testFile.getBooleanUseArray("this", "is", "a", "test");
 		});
 	}
-}
\ No newline at end of file
+
+	@Test
+	@TestOnly
+	void testLineNumbers() {
+		final @NotNull ThunderException exception = Assertions.assertThrows(ThunderException.class, () ->
+				ThunderFileParser.readData(new ByteArrayInputStream("# comment\na = b\n}\n".getBytes(StandardCharsets.UTF_8)),
+										   new CollectionsProvider<>(GapDataMap.class, GapList.class, false),
+										   Comment.SKIP,
+										   8192));
+		Assertions.assertTrue(exception.getMessage().contains("line '2'"));
+	}
+
+	@Test
+	@TestOnly
+	void testComments() throws ThunderException {
+		final @NotNull DataMap<String, Object> data = ThunderFileParser.readData(new ByteArrayInputStream("# comment\n\nblock {\n  a = b\n}".getBytes(StandardCharsets.UTF_8)),
+																				 new CollectionsProvider<>(GapDataMap.class, GapList.class, false),
+																				 Comment.PRESERVE,
+																				 8192);
+		Assertions.assertAll("Comments",
+							 () -> Assertions.assertEquals(ThunderFileParser.LineType.COMMENT, data.get("# comment")),
+							 () -> Assertions.assertEquals(ThunderFileParser.LineType.BLANK_LINE, data.get("")),
+							 () -> Assertions.assertEquals("b", ((DataMap) data.get("block")).get("a")));
+	}
+
+	@Test
+	@TestOnly
+	void testMemoryMapped() {
+		final ThunderFile mappedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/parser", "test3")
+														 .fromFile("src/test/resources/testsources", "resource.tf")
+														 .commentSetting(Comment.PRESERVE)
+														 .memoryMapped(true)
+														 .create();
+		final ThunderFile readerFile = ThunderFileManager.thunderFile("src/test/resources/testresults/parser", "test3")
+														 .commentSetting(Comment.PRESERVE)
+														 .create();
+
+		Assertions.assertAll("Memory-Mapped",
+							 () -> Assertions.assertTrue(mappedFile.getBooleanUseArray("this", "is", "a", "test")),
+							 () -> Assertions.assertEquals(readerFile.entryList(), mappedFile.entryList()));
+	}
+
+	@Test
+	@TestOnly
+	void testParallel() throws IOException, ThunderException {
+		final @NotNull StringBuilder content = new StringBuilder();
+		for (int i = 0; i < 3000; i++) {
+			content.append("# block ").append(i).append("\n")
+				   .append("block").append(i).append(" {\n")
+				   .append("  value = ").append(i).append("\n")
+				   .append("  inner {\n")
+				   .append("    list = [\n")
+				   .append("      - }\n")
+				   .append("      - ").append(i).append("\n")
+				   .append("    ]\n")
+				   .append("  }\n")
+				   .append("}\n\n")
+				   .append("top").append(i).append(" = [").append(i).append(", x]\n");
+		}
+		final @NotNull File file = new File("src/test/resources/testresults/parser", "parallel.tf");
+		Files.write(file.toPath(), content.toString().getBytes(StandardCharsets.UTF_8));
+		Files.write(new File("src/test/resources/testresults/parser", "parallelBroken.tf").toPath(),
+					(content + "a = b\n}\n").getBytes(StandardCharsets.UTF_8));
+
+		final @NotNull CollectionsProvider<DataMap, List> collectionsProvider = new CollectionsProvider<>(GapDataMap.class, GapList.class, false);
+		final @NotNull ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			final @NotNull DataMap<String, Object> sequential = ThunderFileParser.readData(file, collectionsProvider, Comment.PRESERVE, 8192);
+			final @NotNull DataMap<String, Object> parallel = ThunderFileParser.readDataParallel(file, collectionsProvider, Comment.PRESERVE, 8192, false, pool);
+			final @NotNull DataMap<String, Object> sequentialWithoutComments = ThunderFileParser.readData(file, collectionsProvider, Comment.SKIP, 8192);
+			final @NotNull DataMap<String, Object> parallelWithoutComments = ThunderFileParser.readDataParallel(file, collectionsProvider, Comment.SKIP, 8192, false, pool);
+			final @NotNull ThunderException exception = Assertions.assertThrows(ThunderException.class, () ->
+					ThunderFileParser.readDataParallel(new File("src/test/resources/testresults/parser", "parallelBroken.tf"), collectionsProvider, Comment.SKIP, 8192, false, pool));
+
+			Assertions.assertAll("Parallel",
+								 () -> Assertions.assertEquals(sequential.size(), parallel.size()),
+								 () -> Assertions.assertEquals(sequential.toString(), parallel.toString()),
+								 () -> Assertions.assertEquals(sequentialWithoutComments.toString(), parallelWithoutComments.toString()),
+								 () -> Assertions.assertTrue(exception.getMessage().contains("line '" + (3000 * 12 + 1) + "'")));
+		} finally {
+			pool.shutdown();
+		}
+	}
+}
@@ -0,0 +1,123 @@
+package de.zeanon.thunderfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.internal.base.settings.Reload;
+import de.zeanon.storagemanagercore.internal.base.settings.ThrottledReload;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import de.zeanon.thunderfilemanager.internal.files.section.ThunderFileSection;
+import de.zeanon.thunderfilemanagertest.TestThunderFileManager;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestReload {
+
+	@BeforeAll
+	static void setup() {
+		TestThunderFileManager.clear("Reload");
+	}
+
+	@Test
+	@TestOnly
+	void watched() throws InterruptedException {
+		final @NotNull ThunderFile watchedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "watched")
+																   .reloadSetting(Reload.WATCHED)
+																   .create();
+		watchedFile.set("value", 1);
+		final int initialValue = watchedFile.getInt("value");
+
+		// let the File System time stamp move on, so the change can be told apart from the initial save
+		Thread.sleep(1000);
+		ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "watched")
+						  .create()
+						  .set("value", 2);
+
+		int changedValue = watchedFile.getInt("value");
+		for (int i = 0; i < 500 && changedValue != 2; i++) {
+			Thread.sleep(10);
+			changedValue = watchedFile.getInt("value");
+		}
+
+		final int finalChangedValue = changedValue;
+		Assertions.assertAll("Watched",
+							 () -> Assertions.assertEquals(1, initialValue),
+							 () -> Assertions.assertEquals(2, finalChangedValue));
+	}
+
+	@Test
+	@TestOnly
+	void throttled() throws InterruptedException {
+		final @NotNull ThunderFile throttledFile = ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "throttled")
+																	.reloadSetting(new ThrottledReload(1, TimeUnit.HOURS))
+																	.create();
+		throttledFile.set("value", 1);
+
+		Thread.sleep(1000);
+		ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "throttled")
+						  .create()
+						  .set("value", 2);
+
+		final int throttledValue = throttledFile.getInt("value");
+		throttledFile.reloadSetting(new ThrottledReload(0, TimeUnit.MILLISECONDS));
+		final int changedValue = throttledFile.getInt("value");
+
+		Assertions.assertAll("Throttled",
+							 () -> Assertions.assertEquals(1, throttledValue),
+							 () -> Assertions.assertEquals(2, changedValue));
+	}
+
+	@Test
+	@TestOnly
+	void sameTimeStamp() {
+		final @NotNull ThunderFile intelligentFile = ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "timestamp")
+																	   .reloadSetting(Reload.INTELLIGENT)
+																	   .create();
+		intelligentFile.set("value", 1);
+		final long lastModified = intelligentFile.file().lastModified();
+
+		ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "timestamp")
+						  .create()
+						  .set("value", 22);
+		// a change within the granularity of the File System time stamp
+		final boolean timeStampReset = intelligentFile.file().setLastModified(lastModified);
+
+		final int changedValue = intelligentFile.getInt("value");
+
+		Assertions.assertAll("SameTimeStamp",
+							 () -> Assertions.assertTrue(timeStampReset),
+							 () -> Assertions.assertEquals(22, changedValue));
+	}
+
+	@Test
+	@TestOnly
+	void convertedValues() {
+		final @NotNull ThunderFile convertedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "converted")
+																	.reloadSetting(Reload.MANUALLY)
+																	.create();
+		convertedFile.set("block", Collections.singletonMap("value", "17"));
+		final @NotNull ThunderFileSection section = convertedFile.getSection("block");
+		final int initialValue = convertedFile.getInt("block.value");
+		final double initialDouble = section.getDouble("value");
+
+		convertedFile.set("block.value", "18");
+		final int replacedValue = section.getIntUseArray("value");
+
+		ThunderFileManager.thunderFile("src/test/resources/testresults/reload", "converted")
+						  .create()
+						  .set("block.value", 19);
+		convertedFile.reload();
+		final long reloadedValue = convertedFile.getLongUseArray("block", "value");
+
+		Assertions.assertAll("ConvertedValues",
+							 () -> Assertions.assertEquals(17, initialValue),
+							 () -> Assertions.assertEquals(17.0, initialDouble),
+							 () -> Assertions.assertEquals(18, replacedValue),
+							 () -> Assertions.assertEquals(19L, reloadedValue),
+							 () -> Assertions.assertEquals(0, convertedFile.getInt("block.missing")));
+	}
+}
@@ -0,0 +1,93 @@
+package de.zeanon.thunderfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.internal.base.settings.Reload;
+import de.zeanon.storagemanagercore.internal.base.settings.SaveMode;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import de.zeanon.thunderfilemanagertest.TestThunderFileManager;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestSaveMode {
+
+	@BeforeAll
+	static void setup() {
+		TestThunderFileManager.clear("SaveMode");
+	}
+
+	@Test
+	@TestOnly
+	void deferred() {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/savemode", "deferred")
+																.saveMode(SaveMode.DEFERRED)
+																.maxSaveDelay(60000)
+																.create();
+		for (int i = 0; i < 10; i++) {
+			testFile.set("deferredKey" + i, i);
+		}
+
+		final boolean dirty = testFile.isDirty();
+		final boolean savedBeforeFlush = ThunderFileManager.thunderFile("src/test/resources/testresults/savemode", "deferred")
+														   .create()
+														   .hasKey("deferredKey9");
+		testFile.flush();
+		final @NotNull ThunderFile reloadedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/savemode", "deferred").create();
+
+		Assertions.assertAll("Deferred",
+							 () -> Assertions.assertTrue(dirty),
+							 () -> Assertions.assertFalse(savedBeforeFlush),
+							 () -> Assertions.assertFalse(testFile.isDirty()),
+							 () -> Assertions.assertEquals(9, reloadedFile.getInt("deferredKey9")));
+	}
+
+	@Test
+	@TestOnly
+	void dirtyOperations() throws InterruptedException {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/savemode", "operations")
+																.saveMode(SaveMode.DEFERRED)
+																.maxSaveDelay(60000)
+																.maxDirtyOperations(5)
+																.create();
+		for (int i = 0; i < 5; i++) {
+			testFile.set("operationsKey" + i, i);
+		}
+
+		for (int i = 0; i < 500 && testFile.isDirty(); i++) {
+			Thread.sleep(10);
+		}
+		final boolean dirty = testFile.isDirty();
+		// waits for a save still running in the background
+		testFile.flush();
+
+		Assertions.assertAll("DirtyOperations",
+							 () -> Assertions.assertFalse(dirty),
+							 () -> Assertions.assertEquals(4, ThunderFileManager.thunderFile("src/test/resources/testresults/savemode", "operations")
+																				.create()
+																				.getInt("operationsKey4")));
+	}
+
+	@Test
+	@TestOnly
+	void deferredAutomaticReload() {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/savemode", "automatic")
+																.reloadSetting(Reload.AUTOMATICALLY)
+																.saveMode(SaveMode.DEFERRED)
+																.maxSaveDelay(60000)
+																.create();
+		testFile.set("automaticKey", 1);
+		// would reload the File and lose the pending change
+		final int pendingValue = testFile.getInt("automaticKey");
+		testFile.flush();
+
+		Assertions.assertAll("DeferredAutomaticReload",
+							 () -> Assertions.assertEquals(1, pendingValue),
+							 () -> Assertions.assertEquals(1, testFile.getInt("automaticKey")),
+							 () -> Assertions.assertEquals(1, ThunderFileManager.thunderFile("src/test/resources/testresults/savemode", "automatic")
+																				.create()
+																				.getInt("automaticKey")));
+	}
+}
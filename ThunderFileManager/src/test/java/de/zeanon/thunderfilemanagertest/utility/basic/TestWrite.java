@@ -0,0 +1,62 @@
+package de.zeanon.thunderfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import de.zeanon.thunderfilemanager.ThunderFileManager;
+import de.zeanon.thunderfilemanager.internal.files.raw.ThunderFile;
+import de.zeanon.thunderfilemanagertest.TestThunderFileManager;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestWrite {
+
+	@BeforeAll
+	static void setup() {
+		TestThunderFileManager.clear("Write");
+	}
+
+	@Test
+	@TestOnly
+	void atomic() {
+		final @NotNull ThunderFile testFile = ThunderFileManager.thunderFile("src/test/resources/testresults/write", "atomic")
+																.writeSetting(Write.ATOMIC)
+																.create();
+		testFile.set("value", "old");
+		testFile.set("value", "new");
+
+		final @NotNull ThunderFile reloadedFile = ThunderFileManager.thunderFile("src/test/resources/testresults/write", "atomic").create();
+		final @NotNull String[] siblings = new File("src/test/resources/testresults/write").list((directory, name) -> name.endsWith(".tmp"));
+
+		Assertions.assertAll("Atomic",
+							 () -> Assertions.assertEquals("new", reloadedFile.getString("value")),
+							 () -> Assertions.assertNotNull(siblings),
+							 () -> Assertions.assertEquals(0, siblings.length));
+	}
+
+	@Test
+	@TestOnly
+	void groupCommit() throws InterruptedException {
+		final @NotNull List<Thread> threads = new ArrayList<>();
+		for (int i = 0; i < 8; i++) {
+			final int index = i;
+			threads.add(new Thread(() -> ThunderFileManager.thunderFile("src/test/resources/testresults/write", "group" + index)
+														   .writeSetting(Write.ATOMIC_GROUP_COMMIT)
+														   .create()
+														   .set("value", index)));
+		}
+		threads.forEach(Thread::start);
+		for (final @NotNull Thread thread : threads) {
+			thread.join();
+		}
+
+		for (int i = 0; i < 8; i++) {
+			Assertions.assertEquals(i, ThunderFileManager.thunderFile("src/test/resources/testresults/write", "group" + i).create().getInt("value"));
+		}
+	}
+}
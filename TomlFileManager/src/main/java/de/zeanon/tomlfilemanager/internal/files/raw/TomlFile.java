@@ -16,6 +16,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,7 @@ import org.jetbrains.annotations.Nullable;
  * Class to manage Toml-Type Files
  *
  * @author Zeanon
- * @version 1.2.0
+ * @version 1.2.2
  */
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -57,6 +58,7 @@ public class TomlFile extends FlatFile<StandardFileData<Map, Map.Entry<String, O
 					   final @NotNull Class<? extends Map> map,
 					   final @NotNull Class<? extends List> list) {
 		super(file, inputStream, FileType.TOML, new LocalFileData(new CollectionsProvider<>(map, list, synchronizeData)), reloadSetting);
+		this.observeFile();
 		this.fileData().loadData(this.readFile());
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -65,7 +67,7 @@ public class TomlFile extends FlatFile<StandardFileData<Map, Map.Entry<String, O
 	public void save() {
 		try {
 			//noinspection unchecked
-			Toml.write(this.fileData().dataMap(), this.file());
+			this.writeSetting().write(this.file(), Toml.writeToString(this.fileData().dataMap()).getBytes(StandardCharsets.UTF_8));
 		} catch (final @NotNull IOException e) {
 			throw new UncheckedIOException("Error while writing to " + this.file().getAbsolutePath() + "'", e);
 		}
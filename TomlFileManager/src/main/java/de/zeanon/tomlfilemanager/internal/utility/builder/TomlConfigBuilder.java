@@ -42,7 +42,7 @@ public class TomlConfigBuilder extends StorageManager<TomlConfigBuilder, TomlCon
 	@Override
 	@Contract("-> new")
 	public final @NotNull TomlConfig create() {
-		return new TomlConfigBuilder.LocalTomlConfig(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.synchronizeData, this.mapType, this.listType);
+		return this.applySaveSettings(new TomlConfigBuilder.LocalTomlConfig(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.synchronizeData, this.mapType, this.listType));
 	}
 
 	@Override
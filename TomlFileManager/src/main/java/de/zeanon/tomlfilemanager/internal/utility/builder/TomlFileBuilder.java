@@ -32,7 +32,7 @@ public class TomlFileBuilder extends StorageManager<TomlFileBuilder, TomlFile, M
 	@Override
 	@Contract("-> new")
 	public final @NotNull TomlFile create() {
-		return new LocalTomlFile(super.file, this.inputStream, this.reloadSetting, this.synchronizeData, this.mapType, this.listType);
+		return this.applySaveSettings(new LocalTomlFile(super.file, this.inputStream, this.reloadSetting, this.synchronizeData, this.mapType, this.listType));
 	}
 
 	@Override
@@ -1,12 +1,12 @@
 package de.zeanon.yamlfilemanager.internal.files.config;
 
-import com.esotericsoftware.yamlbeans.YamlException;
 import de.zeanon.storagemanagercore.internal.base.exceptions.FileParseException;
 import de.zeanon.storagemanagercore.internal.base.interfaces.CommentSetting;
 import de.zeanon.storagemanagercore.internal.base.interfaces.Config;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
 import de.zeanon.storagemanagercore.internal.base.settings.Comment;
 import de.zeanon.yamlfilemanager.internal.files.raw.YamlFile;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlComments;
 import de.zeanon.yamlfilemanager.internal.utility.parser.YamlFileParser;
 import java.io.File;
 import java.io.IOException;
@@ -22,9 +22,13 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Extended YamlFile with added methods for Config purposes
+ * <p>
+ * The header, footer and comments are kept in memory together with the Data,
+ * changing them is applied with the next save without reading the File again.
+ * Without {@link Comment#PRESERVE} a new header or footer is written to the File directly and dropped again by the next save
  *
  * @author Zeanon
- * @version 2.4.0
+ * @version 3.2.1
  */
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -32,16 +36,12 @@ import org.jetbrains.annotations.Nullable;
 public class YamlConfig extends YamlFile implements Config {
 
 
-	private @NotNull List<String> header;
-	private @NotNull List<String> footer;
-	private @NotNull List<String> comments;
-
-
 	/**
 	 * @param file            the File to be used as a backend
 	 * @param inputStream     the FileContent to be set on the creation of the File
 	 * @param reloadSetting   the ReloadSetting to be used with this instance
 	 * @param commentSetting  the CommentSetting to be used with this instance
+	 * @param directEmitter   whether the Data should be written by the YamlEmitter instead of yamlbeans
 	 * @param synchronizeData if the saved data should be synchronized
 	 * @param map             the Map implementation to be used, default is GapDataMap or ConcurrentGapDataMap if concurrent
 	 * @param list            the List implementation to be used, default ist GapList
@@ -53,111 +53,43 @@ public class YamlConfig extends YamlFile implements Config {
 						 final @Nullable InputStream inputStream,
 						 final @NotNull ReloadSetting reloadSetting,
 						 final @NotNull CommentSetting commentSetting,
+						 final boolean directEmitter,
 						 final boolean synchronizeData,
 						 final @NotNull Class<? extends Map> map,
 						 final @NotNull Class<? extends List> list) {
-		super(file, inputStream, reloadSetting, commentSetting, synchronizeData, map, list);
-		//noinspection unchecked
-		this.header = this.collectionsProvider().newList();
-		//noinspection unchecked
-		this.footer = this.collectionsProvider().newList();
-		//noinspection unchecked
-		this.comments = this.collectionsProvider().newList();
+		super(file, inputStream, reloadSetting, commentSetting, directEmitter, synchronizeData, map, list);
 	}
 
 
 	@Override
 	public @NotNull List<String> getHeader() {
-		if (this.getCommentSetting() != Comment.PRESERVE) {
+		this.update();
+
+		if (this.getCommentSetting() == Comment.PRESERVE) {
+			return this.yamlComments().getHeader();
+		} else {
 			//noinspection unchecked
 			return this.collectionsProvider().newList();
-		} else if (!this.shouldReload()) {
-			return this.header;
-		} else {
-			try {
-				this.header = YamlFileParser.readHeader(this.file(), this.collectionsProvider());
-				return this.header;
-			} catch (final @NotNull YamlException e) {
-				throw new FileParseException("Error while getting header of '"
-											 + this.file().getAbsolutePath()
-											 + "'",
-											 e);
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while getting header of '"
-											   + this.file().getAbsolutePath()
-											   + "'",
-											   e);
-			}
 		}
 	}
 
 	@Override
 	public void setHeader(final @Nullable String... header) {
-		if (header != null && header.length > 0) {
-			//noinspection unchecked
-			final @NotNull List<String> tmp = this.collectionsProvider().newList();
-			for (final @Nullable String line : header) {
-				if (line == null) {
-					tmp.add("#");
-				} else if (!line.startsWith("#")) {
-					tmp.add("#" + line);
-				} else {
-					tmp.add(line);
-				}
-			}
-			this.header = tmp;
-
-			if (this.file().length() == 0) {
-				try {
-					YamlFileParser.write(this.file(), this.header);
-				} catch (final @NotNull YamlException e) {
-					throw new FileParseException("Error while setting header of '"
-												 + this.file().getAbsolutePath()
-												 + "'",
-												 e);
-				} catch (final @NotNull IOException e) {
-					throw new UncheckedIOException("Error while setting header of '"
-												   + this.file().getAbsolutePath()
-												   + "'",
-												   e);
-				}
-			} else {
-				try {
-					final @NotNull List<String> lines = YamlFileParser.read(this.file());
-					final @NotNull List<String> oldHeader = YamlFileParser.readHeader(this.file(), this.collectionsProvider());
-					final @NotNull List<String> newLines = this.header;
-					lines.removeAll(oldHeader);
-					newLines.addAll(lines);
-
-					YamlFileParser.write(this.file(), newLines);
-				} catch (final @NotNull YamlException e) {
-					throw new FileParseException("Error while setting header of '"
-												 + this.file().getAbsolutePath()
-												 + "'",
-												 e);
-				} catch (final @NotNull IOException e) {
-					throw new UncheckedIOException("Error while setting header of '"
-												   + this.file().getAbsolutePath()
-												   + "'",
-												   e);
-				}
+		this.update();
+
+		if (this.getCommentSetting() == Comment.PRESERVE) {
+			final @NotNull YamlComments yamlComments = this.yamlComments();
+			final @NotNull List<String> tmp = this.toCommentLines(header);
+			if (!tmp.equals(yamlComments.getHeader())) {
+				yamlComments.setHeader(tmp);
+				this.requestSave();
 			}
 		} else {
-			//noinspection unchecked
-			this.header = this.collectionsProvider().newList();
-
+			// without PRESERVE the comments are not kept in memory, so they are written to the File directly
+			this.flush();
 			try {
-				final @NotNull List<String> lines = YamlFileParser.read(this.file());
-				final @NotNull List<String> oldHeader = YamlFileParser.readHeader(this.file(), this.collectionsProvider());
-
-				lines.removeAll(oldHeader);
-
-				YamlFileParser.write(this.file(), lines);
-			} catch (final @NotNull YamlException e) {
-				throw new FileParseException("Error while setting header of '"
-											 + this.file().getAbsolutePath()
-											 + "'",
-											 e);
+				YamlFileParser.writeHeader(this.file(), this.toCommentLines(header), this.writeSetting());
+				this.observeFile();
 			} catch (final @NotNull IOException e) {
 				throw new UncheckedIOException("Error while setting header of '"
 											   + this.file().getAbsolutePath()
@@ -169,96 +101,33 @@ public class YamlConfig extends YamlFile implements Config {
 
 	@Override
 	public @NotNull List<String> getFooter() {
-		if (this.getCommentSetting() != Comment.PRESERVE) {
+		this.update();
+
+		if (this.getCommentSetting() == Comment.PRESERVE) {
+			return this.yamlComments().getFooter();
+		} else {
 			//noinspection unchecked
 			return this.collectionsProvider().newList();
-		} else if (!this.shouldReload()) {
-			return this.footer;
-		} else {
-			try {
-				this.footer = YamlFileParser.readFooter(this.file(), this.collectionsProvider());
-				return this.footer;
-			} catch (final @NotNull YamlException e) {
-				throw new FileParseException("Error while getting footer of '"
-											 + this.file().getAbsolutePath()
-											 + "'",
-											 e);
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while getting footer of '"
-											   + this.file().getAbsolutePath()
-											   + "'",
-											   e);
-			}
 		}
 	}
 
 	@Override
 	public void setFooter(final @Nullable String... footer) {
-		if (footer != null && footer.length > 0) {
-			//noinspection unchecked
-			final @NotNull List<String> tmp = this.collectionsProvider().newList();
-			for (final @Nullable String line : footer) {
-				if (line == null) {
-					tmp.add("#");
-				} else if (!line.startsWith("#")) {
-					tmp.add("#" + line);
-				} else {
-					tmp.add(line);
-				}
-			}
-			this.footer = tmp;
-
-			if (this.file().length() == 0) {
-				try {
-					YamlFileParser.write(this.file(), this.footer);
-				} catch (final @NotNull YamlException e) {
-					throw new FileParseException("Error while setting footer of '"
-												 + this.file().getAbsolutePath()
-												 + "'",
-												 e);
-				} catch (final @NotNull IOException e) {
-					throw new UncheckedIOException("Error while setting footer of '"
-												   + this.file().getAbsolutePath()
-												   + "'",
-												   e);
-				}
-			} else {
-				try {
-					final @NotNull List<String> lines = YamlFileParser.read(this.file());
-					final @NotNull List<String> oldFooter = YamlFileParser.readFooter(this.file(), this.collectionsProvider());
-
-					lines.removeAll(oldFooter);
-					lines.addAll(this.footer);
-
-					YamlFileParser.write(this.file(), lines);
-				} catch (final @NotNull YamlException e) {
-					throw new FileParseException("Error while setting footer of '"
-												 + this.file().getAbsolutePath()
-												 + "'",
-												 e);
-				} catch (final @NotNull IOException e) {
-					throw new UncheckedIOException("Error while setting footer of '"
-												   + this.file().getAbsolutePath()
-												   + "'",
-												   e);
-				}
+		this.update();
+
+		if (this.getCommentSetting() == Comment.PRESERVE) {
+			final @NotNull YamlComments yamlComments = this.yamlComments();
+			final @NotNull List<String> tmp = this.toCommentLines(footer);
+			if (!tmp.equals(yamlComments.getFooter())) {
+				yamlComments.setFooter(tmp);
+				this.requestSave();
 			}
 		} else {
-			//noinspection unchecked
-			this.footer = this.collectionsProvider().newList();
-
+			// without PRESERVE the comments are not kept in memory, so they are written to the File directly
+			this.flush();
 			try {
-				final @NotNull List<String> lines = YamlFileParser.read(this.file());
-				final @NotNull List<String> oldFooter = YamlFileParser.readFooter(this.file(), this.collectionsProvider());
-
-				lines.removeAll(oldFooter);
-
-				YamlFileParser.write(this.file(), lines);
-			} catch (final @NotNull YamlException e) {
-				throw new FileParseException("Error while setting footer of '"
-											 + this.file().getAbsolutePath()
-											 + "'",
-											 e);
+				YamlFileParser.writeFooter(this.file(), this.toCommentLines(footer), this.writeSetting());
+				this.observeFile();
 			} catch (final @NotNull IOException e) {
 				throw new UncheckedIOException("Error while setting footer of '"
 											   + this.file().getAbsolutePath()
@@ -270,26 +139,44 @@ public class YamlConfig extends YamlFile implements Config {
 
 	@Override
 	public @NotNull List<String> getComments() {
-		if (this.getCommentSetting() != Comment.PRESERVE) {
-			//noinspection unchecked
-			return this.collectionsProvider().newList();
-		} else if (!this.shouldReload()) {
-			return this.comments;
-		} else {
-			try {
-				this.comments = YamlFileParser.readComments(this.file(), this.collectionsProvider());
-				return this.comments;
-			} catch (final @NotNull YamlException e) {
-				throw new FileParseException("Error while getting comments from '"
-											 + this.file().getAbsolutePath()
-											 + "'",
-											 e);
-			} catch (final @NotNull IOException e) {
-				throw new UncheckedIOException("Error while getting comments from '"
-											   + this.file().getAbsolutePath()
-											   + "'",
-											   e);
+		this.update();
+
+		//noinspection unchecked
+		final @NotNull List<String> result = this.collectionsProvider().newList();
+		if (this.getCommentSetting() == Comment.PRESERVE) {
+			final @NotNull YamlComments yamlComments = this.yamlComments();
+			YamlConfig.addComments(result, yamlComments.getHeader());
+			for (final @NotNull List<String> block : yamlComments.getBlocks().values()) {
+				YamlConfig.addComments(result, block);
+			}
+			YamlConfig.addComments(result, yamlComments.getFooter());
+		}
+		return result;
+	}
+
+
+	private static void addComments(final @NotNull List<String> result, final @NotNull List<String> lines) {
+		for (final @NotNull String line : lines) {
+			if (line.startsWith("#")) {
+				result.add(line);
+			}
+		}
+	}
+
+	private @NotNull List<String> toCommentLines(final @Nullable String[] lines) {
+		//noinspection unchecked
+		final @NotNull List<String> tmp = this.collectionsProvider().newList();
+		if (lines != null) {
+			for (final @Nullable String line : lines) {
+				if (line == null) {
+					tmp.add("#");
+				} else if (!line.startsWith("#")) {
+					tmp.add("#" + line);
+				} else {
+					tmp.add(line);
+				}
 			}
 		}
+		return tmp;
 	}
-}
\ No newline at end of file
+}
@@ -12,7 +12,9 @@ import de.zeanon.storagemanagercore.internal.base.files.CommentEnabledFile;
 import de.zeanon.storagemanagercore.internal.base.interfaces.CommentSetting;
 import de.zeanon.storagemanagercore.internal.base.interfaces.FileData;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReloadSetting;
+import de.zeanon.storagemanagercore.internal.base.settings.Comment;
 import de.zeanon.yamlfilemanager.internal.files.section.YamlFileSection;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlComments;
 import de.zeanon.yamlfilemanager.internal.utility.parser.YamlFileParser;
 import java.io.*;
 import java.util.HashMap;
@@ -20,6 +22,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
@@ -30,7 +34,7 @@ import org.jetbrains.annotations.Nullable;
  * Class to manage Yaml-Type Files
  *
  * @author Zeanon
- * @version 1.3.0
+ * @version 1.6.2
  */
 @ToString(callSuper = true)
 @EqualsAndHashCode(callSuper = true)
@@ -38,11 +42,26 @@ import org.jetbrains.annotations.Nullable;
 public class YamlFile extends CommentEnabledFile<StandardFileData<Map, Map.Entry, List>, Map, List> { //NOSONAR
 
 
+	/**
+	 * The comments captured while reading the File, only used with {@link Comment#PRESERVE}
+	 */
+	@ToString.Exclude
+	@EqualsAndHashCode.Exclude
+	private @Nullable YamlComments yamlComments;
+	/**
+	 * Whether the Data is written by the {@link de.zeanon.yamlfilemanager.internal.utility.parser.YamlEmitter} instead of yamlbeans
+	 */
+	@Getter
+	@Setter
+	private boolean directEmitter;
+
+
 	/**
 	 * @param file            the File to be used as a backend
 	 * @param inputStream     the FileContent to be set on the creation of the File
 	 * @param reloadSetting   the ReloadSetting to be used with this instance
 	 * @param commentSetting  the CommentSetting to be used with this instance
+	 * @param directEmitter   whether the Data should be written by the YamlEmitter instead of yamlbeans
 	 * @param synchronizeData if the saved data should be synchronized
 	 * @param map             the Map implementation to be used, default is GapDataMap or ConcurrentGapDataMap if concurrent
 	 * @param list            the List implementation to be used, default ist GapList
@@ -54,10 +73,13 @@ public class YamlFile extends CommentEnabledFile<StandardFileData<Map, Map.Entry
 					   final @Nullable InputStream inputStream,
 					   final @NotNull ReloadSetting reloadSetting,
 					   final @NotNull CommentSetting commentSetting,
+					   final boolean directEmitter,
 					   final boolean synchronizeData,
 					   final @NotNull Class<? extends Map> map,
 					   final @NotNull Class<? extends List> list) {
 		super(file, inputStream, FileType.YAML, new LocalFileData(new CollectionsProvider<>(map, list, synchronizeData)), reloadSetting, commentSetting);
+		this.directEmitter = directEmitter;
+		this.observeFile();
 		this.fileData().loadData(this.readFile());
 		this.lastLoaded(System.currentTimeMillis());
 	}
@@ -65,7 +87,11 @@ public class YamlFile extends CommentEnabledFile<StandardFileData<Map, Map.Entry
 	@Override
 	public void save() {
 		try {
-			YamlFileParser.writeData(this.file(), this.fileData().dataMap(), this.getCommentSetting(), this.collectionsProvider());
+			if (this.getCommentSetting() != Comment.PRESERVE) {
+				YamlFileParser.writeData(this.file(), this.fileData().dataMap(), null, this.getDirectEmitter(), this.writeSetting());
+			} else {
+				YamlFileParser.writeData(this.file(), this.fileData().dataMap(), this.yamlComments(), this.getDirectEmitter(), this.writeSetting());
+			}
 		} catch (final @NotNull UncheckedIOException e) {
 			throw new UncheckedIOException("Error while writing to "
 										   + this.getAbsolutePath()
@@ -139,11 +165,40 @@ public class YamlFile extends CommentEnabledFile<StandardFileData<Map, Map.Entry
 	}
 
 
+	/**
+	 * Get the comments of the File, they are captured from the File if they have not been captured while loading it
+	 *
+	 * @return the header, footer and comment blocks of the File
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 */
+	protected @NotNull YamlComments yamlComments() {
+		if (this.yamlComments == null) {
+			try {
+				this.yamlComments = YamlFileParser.readYamlComments(this.file(), this.collectionsProvider());
+			} catch (final @NotNull IOException e) {
+				throw new UncheckedIOException("Error while reading the comments of '" + this.file().getAbsolutePath() + "'", e);
+			}
+		}
+		return this.yamlComments;
+	}
+
 	@Override
 	protected @NotNull Map readFile() {
-		try (final @NotNull FileReader tempReader = new FileReader(this.file())) {
-			//noinspection unchecked
-			return (Map<String, Object>) new YamlReader(tempReader).read();
+		try {
+			if (this.getCommentSetting() != Comment.PRESERVE) {
+				this.yamlComments = null;
+				try (final @NotNull FileReader tempReader = new FileReader(this.file())) {
+					//noinspection unchecked
+					return (Map<String, Object>) new YamlReader(tempReader).read();
+				}
+			} else {
+				// read the File only once, the lines are used for both the comments and the Data
+				final @NotNull List<String> lines = YamlFileParser.read(this.file());
+				this.yamlComments = YamlFileParser.getYamlCommentsFromLines(lines, this.collectionsProvider());
+				//noinspection unchecked
+				return (Map<String, Object>) new YamlReader(String.join("\n", lines)).read();
+			}
 		} catch (final @NotNull YamlException e) {
 			throw new FileParseException("Error while parsing '" + this.file().getAbsolutePath() + "'", e);
 		} catch (final @NotNull IOException e) {
@@ -31,6 +31,12 @@ public class YamlConfigBuilder extends YamlFileManager<YamlConfigBuilder, YamlCo
 
 	@Setter(onMethod_ = {@Contract("_ -> this")})
 	private @NotNull CommentSetting commentSetting = Comment.PRESERVE;
+	/**
+	 * -- Setter --
+	 * Set whether the Data should be written by the YamlEmitter instead of yamlbeans, default is false
+	 */
+	@Setter(onMethod_ = {@Contract("_ -> this")})
+	private boolean directEmitter;
 
 
 	public YamlConfigBuilder(final @NotNull File file) {
@@ -41,7 +47,7 @@ public class YamlConfigBuilder extends YamlFileManager<YamlConfigBuilder, YamlCo
 	@Override
 	@Contract("-> new")
 	public final @NotNull YamlConfig create() {
-		return new LocalYamlConfig(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.synchronizeData, this.mapType, this.listType);
+		return this.applySaveSettings(new LocalYamlConfig(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.directEmitter, this.synchronizeData, this.mapType, this.listType));
 	}
 
 	@Override
@@ -63,10 +69,11 @@ public class YamlConfigBuilder extends YamlFileManager<YamlConfigBuilder, YamlCo
 								final @Nullable InputStream inputStream,
 								final @NotNull ReloadSetting reloadSetting,
 								final @NotNull CommentSetting commentSetting,
+								final boolean directEmitter,
 								final boolean synchronizeData,
 								final @NotNull Class<? extends Map> map,
 								final @NotNull Class<? extends List> list) {
-			super(file, inputStream, reloadSetting, commentSetting, synchronizeData, map, list);
+			super(file, inputStream, reloadSetting, commentSetting, directEmitter, synchronizeData, map, list);
 		}
 	}
 }
\ No newline at end of file
@@ -31,6 +31,12 @@ public class YamlFileBuilder extends YamlFileManager<YamlFileBuilder, YamlFile,
 
 	@Setter(onMethod_ = {@Contract("_ -> this")})
 	private @NotNull CommentSetting commentSetting = Comment.SKIP;
+	/**
+	 * -- Setter --
+	 * Set whether the Data should be written by the YamlEmitter instead of yamlbeans, default is false
+	 */
+	@Setter(onMethod_ = {@Contract("_ -> this")})
+	private boolean directEmitter;
 
 
 	public YamlFileBuilder(final @NotNull File file) {
@@ -41,7 +47,7 @@ public class YamlFileBuilder extends YamlFileManager<YamlFileBuilder, YamlFile,
 	@Override
 	@Contract("-> new")
 	public final @NotNull YamlFile create() {
-		return new LocalYamlFile(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.synchronizeData, this.mapType, this.listType);
+		return this.applySaveSettings(new LocalYamlFile(super.file, this.inputStream, this.reloadSetting, this.commentSetting, this.directEmitter, this.synchronizeData, this.mapType, this.listType));
 	}
 
 	@Override
@@ -63,10 +69,11 @@ public class YamlFileBuilder extends YamlFileManager<YamlFileBuilder, YamlFile,
 							  final @Nullable InputStream inputStream,
 							  final @NotNull ReloadSetting reloadSetting,
 							  final @NotNull CommentSetting commentSetting,
+							  final boolean directEmitter,
 							  final boolean synchronizeData,
 							  final @NotNull Class<? extends Map> map,
 							  final @NotNull Class<? extends List> list) {
-			super(file, inputStream, reloadSetting, commentSetting, synchronizeData, map, list);
+			super(file, inputStream, reloadSetting, commentSetting, directEmitter, synchronizeData, map, list);
 		}
 	}
 }
\ No newline at end of file
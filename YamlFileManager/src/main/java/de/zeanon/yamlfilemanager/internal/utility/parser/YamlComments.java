@@ -0,0 +1,77 @@
+package de.zeanon.yamlfilemanager.internal.utility.parser;
+
+import java.util.List;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * In-memory model of the comments of a Yaml-Type File
+ * <p>
+ * The comments are captured once while the File is read and are inserted again while the Data is written,
+ * each block of comments and blank lines is anchored to the key path of the line directly following it
+ *
+ * @author Zeanon
+ * @version 1.1.0
+ * @see YamlFileParser#getYamlCommentsFromLines(List, de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider)
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@SuppressWarnings("unused")
+public class YamlComments {
+
+
+	/**
+	 * The anchor of the block between the last line of Data and the footer
+	 */
+	public static final @NotNull String END = "#end";
+
+
+	/**
+	 * The comment lines at the start of the File
+	 * -- Setter --
+	 * Set the comment lines at the start of the File, applied with the next save
+	 */
+	@Setter
+	private @NotNull List<String> header;
+	/**
+	 * The comment lines at the end of the File
+	 * -- Setter --
+	 * Set the comment lines at the end of the File, applied with the next save
+	 */
+	@Setter
+	private @NotNull List<String> footer;
+	/**
+	 * The blocks of comment and blank lines, keyed by the anchor of the line they precede
+	 */
+	private final @NotNull Map<String, List<String>> blocks;
+
+
+	@Contract(pure = true)
+	public YamlComments(final @NotNull List<String> header,
+						final @NotNull List<String> footer,
+						final @NotNull Map<String, List<String>> blocks) {
+		this.header = header;
+		this.footer = footer;
+		this.blocks = blocks;
+	}
+
+
+	/**
+	 * Get the block of comments preceding the line with the given anchor
+	 *
+	 * @param anchor the anchor of the line
+	 *
+	 * @return the block of comments or null if there is none
+	 */
+	public @Nullable List<String> getBlock(final @NotNull String anchor) {
+		return this.blocks.get(anchor);
+	}
+}
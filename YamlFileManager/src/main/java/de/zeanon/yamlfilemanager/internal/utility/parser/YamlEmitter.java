@@ -0,0 +1,274 @@
+package de.zeanon.yamlfilemanager.internal.utility.parser;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+
+/**
+ * Emitter writing Map and List trees as block-style Yaml without any reflection
+ * <p>
+ * Maps are written as block mappings and Collections and arrays as block sequences, nested collections always start on a new line,
+ * Numbers and Booleans are written plain, Strings are only written plain if they can not be read as anything else,
+ * otherwise they are double-quoted
+ *
+ * @author Zeanon
+ * @version 1.0.1
+ */
+@UtilityClass
+@SuppressWarnings({"unused", "rawtypes"})
+public class YamlEmitter {
+
+
+	/**
+	 * The amount of spaces a nested Map is indented with, the same as used by yamlbeans
+	 */
+	private final int INDENTATION = 3;
+	/**
+	 * The amount of spaces the content of a sequence entry is indented with
+	 */
+	private final int SEQUENCE_INDENTATION = 2;
+	private final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+
+	/**
+	 * Write the given Data to a Writer
+	 *
+	 * @param writer   the Writer to be written to, it is neither flushed nor closed
+	 * @param fileData the Data to be written
+	 *
+	 * @throws IOException if the Writer can not be written to properly
+	 */
+	public void write(final @NotNull Writer writer, final @NotNull Map<?, ?> fileData) throws IOException {
+		if (fileData.isEmpty()) {
+			writer.write("{}\n");
+		} else {
+			YamlEmitter.writeMap(writer, fileData, 0);
+		}
+	}
+
+
+	private void writeMap(final @NotNull Writer writer,
+						  final @NotNull Map<?, ?> map,
+						  final int indent) throws IOException {
+		for (final @NotNull Map.Entry<?, ?> entry : map.entrySet()) {
+			YamlEmitter.indent(writer, indent);
+			YamlEmitter.writeScalar(writer, String.valueOf(entry.getKey()));
+			writer.write(':');
+			YamlEmitter.writeNested(writer, entry.getValue(), indent + YamlEmitter.INDENTATION);
+		}
+	}
+
+	private void writeSequence(final @NotNull Writer writer,
+							   final @NotNull Iterator<?> elements,
+							   final int indent) throws IOException {
+		while (elements.hasNext()) {
+			YamlEmitter.indent(writer, indent);
+			writer.write('-');
+			YamlEmitter.writeNested(writer, elements.next(), indent + YamlEmitter.SEQUENCE_INDENTATION);
+		}
+	}
+
+	/**
+	 * Write a value following a key or a '-', nested collections continue on the next line
+	 *
+	 * @param childIndent the indentation of the content of a nested Map or sequence
+	 */
+	private void writeNested(final @NotNull Writer writer,
+							 final @Nullable Object value,
+							 final int childIndent) throws IOException {
+		if (value instanceof Map) {
+			if (((Map<?, ?>) value).isEmpty()) {
+				writer.write(" {}\n");
+			} else {
+				writer.write('\n');
+				YamlEmitter.writeMap(writer, (Map<?, ?>) value, childIndent);
+			}
+		} else if (value instanceof Collection) {
+			if (((Collection<?>) value).isEmpty()) {
+				writer.write(" []\n");
+			} else {
+				writer.write('\n');
+				YamlEmitter.writeSequence(writer, ((Collection<?>) value).iterator(), childIndent);
+			}
+		} else if (value != null && value.getClass().isArray()) {
+			if (Array.getLength(value) == 0) {
+				writer.write(" []\n");
+			} else {
+				writer.write('\n');
+				YamlEmitter.writeSequence(writer, new ArrayIterator(value), childIndent);
+			}
+		} else {
+			writer.write(' ');
+			YamlEmitter.writeValue(writer, value);
+			writer.write('\n');
+		}
+	}
+
+	private void writeValue(final @NotNull Writer writer, final @Nullable Object value) throws IOException {
+		if (value == null) {
+			writer.write('~');
+		} else if (value instanceof Number || value instanceof Boolean) {
+			writer.write(value.toString());
+		} else if (value instanceof Enum) {
+			YamlEmitter.writeScalar(writer, ((Enum) value).name());
+		} else {
+			YamlEmitter.writeScalar(writer, value.toString());
+		}
+	}
+
+	private void writeScalar(final @NotNull Writer writer, final @NotNull String scalar) throws IOException {
+		if (YamlEmitter.isPlain(scalar)) {
+			writer.write(scalar);
+		} else {
+			writer.write('"');
+			for (int i = 0; i < scalar.length(); i++) {
+				final char c = scalar.charAt(i);
+				switch (c) {
+					case '"':
+						writer.write("\\\"");
+						break;
+					case '\\':
+						writer.write("\\\\");
+						break;
+					case '\n':
+						writer.write("\\n");
+						break;
+					case '\r':
+						writer.write("\\r");
+						break;
+					case '\t':
+						writer.write("\\t");
+						break;
+					case '\u0085':
+						writer.write("\\N");
+						break;
+					case '\u2028':
+						writer.write("\\L");
+						break;
+					case '\u2029':
+						writer.write("\\P");
+						break;
+					default:
+						if (YamlEmitter.isPrintable(c)) {
+							writer.write(c);
+						} else if (c <= 0xFF) {
+							writer.write("\\x");
+							YamlEmitter.writeHex(writer, c, 2);
+						} else {
+							writer.write("\\u");
+							YamlEmitter.writeHex(writer, c, 4);
+						}
+				}
+			}
+			writer.write('"');
+		}
+	}
+
+	/**
+	 * @return true if the given String is read back as the same String when written without quotes
+	 */
+	private boolean isPlain(final @NotNull String scalar) {
+		if (scalar.isEmpty()) {
+			return false;
+		}
+
+		final char first = scalar.charAt(0);
+		final char last = scalar.charAt(scalar.length() - 1);
+		// indicators, numbers and anything starting like them, as well as surrounding whitespace
+		if ("-?:,[]{}#&*!|>'\"%@`+.~ ".indexOf(first) >= 0
+			|| (first >= '0' && first <= '9')
+			|| last == ' '
+			|| last == ':') {
+			return false;
+		}
+
+		for (int i = 0; i < scalar.length(); i++) {
+			final char c = scalar.charAt(i);
+			// the Unicode line breaks are printable, but would break the line of a plain scalar
+			if (!YamlEmitter.isPrintable(c)
+				|| c == '\u2028' || c == '\u2029'
+				|| (c == ':' && scalar.charAt(i + 1) == ' ')
+				|| (c == '#' && scalar.charAt(i - 1) == ' ')) {
+				return false;
+			}
+		}
+
+		return !YamlEmitter.isReserved(scalar);
+	}
+
+	/**
+	 * @return true if the given char may be written as it is inside a double-quoted scalar
+	 */
+	private boolean isPrintable(final char c) {
+		return c >= ' '
+			   && (c < 0x7F || c > 0x9F)
+			   && c != '\uFEFF'
+			   && c != '\uFFFE'
+			   && c != '\uFFFF';
+	}
+
+	private void writeHex(final @NotNull Writer writer, final char c, final int digits) throws IOException {
+		for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+			writer.write(YamlEmitter.HEX_DIGITS[(c >> shift) & 0xF]);
+		}
+	}
+
+	/**
+	 * @return true if the given String would be read as a Boolean, null or a merge key
+	 */
+	private boolean isReserved(final @NotNull String scalar) {
+		switch (scalar.toLowerCase()) {
+			case "true":
+			case "false":
+			case "yes":
+			case "no":
+			case "on":
+			case "off":
+			case "y":
+			case "n":
+			case "null":
+			case "<<":
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	private void indent(final @NotNull Writer writer, final int indent) throws IOException {
+		for (int i = 0; i < indent; i++) {
+			writer.write(' ');
+		}
+	}
+
+
+	private static final class ArrayIterator implements Iterator<Object> {
+
+		private final @NotNull Object array;
+		private final int length;
+		private int index;
+
+
+		private ArrayIterator(final @NotNull Object array) {
+			this.array = array;
+			this.length = Array.getLength(array);
+		}
+
+
+		@Override
+		public boolean hasNext() {
+			return this.index < this.length;
+		}
+
+		@Override
+		public @Nullable Object next() {
+			return Array.get(this.array, this.index++);
+		}
+	}
+}
@@ -1,28 +1,40 @@
 package de.zeanon.yamlfilemanager.internal.utility.parser;
 
 import com.esotericsoftware.yamlbeans.YamlWriter;
+import de.zeanon.storagemanagercore.external.browniescollections.IntGapList;
 import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
 import de.zeanon.storagemanagercore.internal.base.interfaces.CommentSetting;
 import de.zeanon.storagemanagercore.internal.base.interfaces.ReadWriteFileLock;
+import de.zeanon.storagemanagercore.internal.base.interfaces.WriteSetting;
 import de.zeanon.storagemanagercore.internal.base.settings.Comment;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
 import de.zeanon.storagemanagercore.internal.utility.filelock.ExtendedFileLock;
 import de.zeanon.yamlfilemanager.internal.utility.datafiles.YamlUtils;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import lombok.Cleanup;
 import lombok.experimental.UtilityClass;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 
 /**
  * Class for parsing a Yaml-Type File
+ * <p>
+ * To preserve comments, they are captured into {@link YamlComments} once and inserted again in a single pass while writing,
+ * each block of comments is anchored to the key path of the line following it.
+ * The Data is either written through yamlbeans or through the {@link YamlEmitter},
+ * saves are written to disk as defined by the given {@link WriteSetting}
  *
  * @author Zeanon
- * @version 1.4.0
+ * @version 1.9.0
  */
 @UtilityClass
 @SuppressWarnings({"unused", "WeakerAccess", "rawtypes"})
@@ -52,12 +64,16 @@ public class YamlFileParser {
 		}
 	}
 
+	/**
+	 * Read the lines of a File through the given lock, so it can be written to through the same lock afterwards
+	 */
 	public @NotNull List<String> read(final @NotNull File file,
 									  final int buffer_size,
 									  final @NotNull ReadWriteFileLock tempLock) throws IOException {
-		try (final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size)) {
-			return reader.lines().collect(Collectors.toList());
-		}
+		tempLock.getFileChannel().position(0);
+		// the reader is not closed, that would close the channel of the lock
+		final @NotNull BufferedReader reader = tempLock.createBufferedReader(buffer_size);
+		return reader.lines().collect(Collectors.toList());
 	}
 
 	public @NotNull List<String> readFooter(final @NotNull File file,
@@ -92,6 +108,11 @@ public class YamlFileParser {
 		return YamlFileParser.getPureCommentsFromLines(YamlFileParser.read(file), collectionsProvider);
 	}
 
+	public @NotNull YamlComments readYamlComments(final @NotNull File file,
+												  final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider) throws IOException {
+		return YamlFileParser.getYamlCommentsFromLines(YamlFileParser.read(file), collectionsProvider);
+	}
+
 	public @NotNull List<String> readWithoutHeaderAndFooter(final @NotNull File file,
 															final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider) throws IOException {
 		return YamlFileParser.getLinesWithoutFooterAndHeaderFromLines(YamlFileParser.read(file), collectionsProvider);
@@ -118,11 +139,65 @@ public class YamlFileParser {
 		try (final @NotNull PrintWriter writer = tempLock.createPrintWriter()) {
 			tempLock.truncateChannel(0);
 			final @NotNull Iterator<String> lineIterator = lines.iterator();
-			writer.print(lineIterator.next());
-			lineIterator.forEachRemaining(line -> {
-				writer.println();
-				writer.print(line);
-			});
+			if (lineIterator.hasNext()) {
+				writer.print(lineIterator.next());
+				lineIterator.forEachRemaining(line -> {
+					writer.println();
+					writer.print(line);
+				});
+			}
+		}
+	}
+
+	/**
+	 * Replace the comment lines at the start of the File, leaving the rest of the File untouched
+	 *
+	 * @param file         the File to be written to
+	 * @param header       the new header
+	 * @param writeSetting the WriteSetting defining how the File is written to disk
+	 *
+	 * @throws IOException if the File can not be accessed properly
+	 */
+	public void writeHeader(final @NotNull File file,
+							final @NotNull List<String> header,
+							final @NotNull WriteSetting writeSetting) throws IOException {
+		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file).writeLock()) {
+			tempLock.lock();
+			final @NotNull List<String> lines = YamlFileParser.read(file, tempLock);
+			int start = 0;
+			while (start < lines.size() && lines.get(start).startsWith("#")) {
+				start++;
+			}
+			lines.subList(0, start).clear();
+			lines.addAll(0, header);
+			// the WriteLock is reentrant, so nobody can change the File between reading and writing it
+			YamlFileParser.write(file, lines, writeSetting);
+		}
+	}
+
+	/**
+	 * Replace the comment lines at the end of the File, leaving the rest of the File untouched
+	 *
+	 * @param file         the File to be written to
+	 * @param footer       the new footer
+	 * @param writeSetting the WriteSetting defining how the File is written to disk
+	 *
+	 * @throws IOException if the File can not be accessed properly
+	 */
+	public void writeFooter(final @NotNull File file,
+							final @NotNull List<String> footer,
+							final @NotNull WriteSetting writeSetting) throws IOException {
+		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file).writeLock()) {
+			tempLock.lock();
+			final @NotNull List<String> lines = YamlFileParser.read(file, tempLock);
+			int end = lines.size();
+			while (end > 0 && lines.get(end - 1).startsWith("#")) {
+				end--;
+			}
+			lines.subList(end, lines.size()).clear();
+			lines.addAll(footer);
+			// the WriteLock is reentrant, so nobody can change the File between reading and writing it
+			YamlFileParser.write(file, lines, writeSetting);
 		}
 	}
 
@@ -133,17 +208,9 @@ public class YamlFileParser {
 		try (final @NotNull ReadWriteFileLock tempLock = new ExtendedFileLock(file).writeLock()) {
 			tempLock.lock();
 			if (commentSetting != Comment.PRESERVE) {
-				YamlFileParser.write(fileData, false, tempLock);
+				YamlFileParser.write(fileData, false, false, tempLock);
 			} else {
-				final @NotNull List<String> unEdited = YamlFileParser.read(file, tempLock);
-				final @NotNull List<String> header = YamlFileParser.readHeader(file, collectionsProvider, tempLock);
-				final @NotNull List<String> footer = YamlFileParser.readFooter(file, collectionsProvider, tempLock);
-				YamlFileParser.write(fileData, true, tempLock);
-				header.addAll(YamlFileParser.read(file, tempLock));
-				if (!header.containsAll(footer)) {
-					header.addAll(footer);
-				}
-				YamlFileParser.write(YamlUtils.parseComments(unEdited, header, collectionsProvider), tempLock);
+				YamlFileParser.write(fileData, YamlFileParser.getYamlCommentsFromLines(YamlFileParser.read(file, tempLock), collectionsProvider), false, tempLock);
 			}
 		} catch (final @NotNull IOException e) {
 			throw new UncheckedIOException("Error while writing to "
@@ -153,6 +220,111 @@ public class YamlFileParser {
 		}
 	}
 
+	/**
+	 * Write the given Data to a File through yamlbeans, inserting the given comments without reading the File again
+	 *
+	 * @see #writeData(File, Map, YamlComments, boolean)
+	 */
+	public void writeData(final @NotNull File file,
+						  final @NotNull Map fileData, //NOSONAR
+						  final @Nullable YamlComments comments) {
+		YamlFileParser.writeData(file, fileData, comments, false);
+	}
+
+	/**
+	 * Write the given Data to a File in place, inserting the given comments without reading the File again
+	 *
+	 * @see #writeData(File, Map, YamlComments, boolean, WriteSetting)
+	 */
+	public void writeData(final @NotNull File file,
+						  final @NotNull Map fileData, //NOSONAR
+						  final @Nullable YamlComments comments,
+						  final boolean directEmitter) {
+		YamlFileParser.writeData(file, fileData, comments, directEmitter, Write.IN_PLACE);
+	}
+
+	/**
+	 * Write the given Data to a File, inserting the given comments without reading the File again
+	 *
+	 * @param file          the File to be written to
+	 * @param fileData      the Data to be written
+	 * @param comments      the comments to be inserted, null if comments should not be preserved
+	 * @param directEmitter whether the Data should be written by the {@link YamlEmitter} instead of yamlbeans
+	 * @param writeSetting  the WriteSetting defining how the File is written to disk
+	 *
+	 * @throws UncheckedIOException if the File can not be accessed properly
+	 */
+	public void writeData(final @NotNull File file,
+						  final @NotNull Map fileData, //NOSONAR
+						  final @Nullable YamlComments comments,
+						  final boolean directEmitter,
+						  final @NotNull WriteSetting writeSetting) {
+		try {
+			writeSetting.write(file, outputStream -> {
+				final @NotNull Writer writer = YamlFileParser.createWriter(outputStream);
+				if (comments == null) {
+					YamlFileParser.render(fileData, false, directEmitter, writer);
+				} else {
+					YamlFileParser.write(YamlFileParser.insertComments(fileData, comments, directEmitter), writer);
+				}
+				writer.flush();
+			});
+		} catch (final @NotNull IOException e) {
+			throw new UncheckedIOException("Error while writing to "
+										   + file.getAbsolutePath()
+										   + "'",
+										   e);
+		}
+	}
+
+	/**
+	 * Capture the header, footer and comment blocks of the given lines
+	 *
+	 * @param lines               the lines of the File
+	 * @param collectionsProvider the Provider to be used to get the List implementations
+	 *
+	 * @return the comments of the given lines, anchored to the key path of the line following them
+	 */
+	public @NotNull YamlComments getYamlCommentsFromLines(final @NotNull List<String> lines,
+														  final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider) {
+		//noinspection unchecked
+		final @NotNull List<String> header = collectionsProvider.newList();
+		int start = 0;
+		while (start < lines.size() && lines.get(start).startsWith("#")) {
+			header.add(lines.get(start++));
+		}
+
+		// keeps the blocks in the order of the File while still being hashed
+		final @NotNull Map<String, List<String>> blocks = new LinkedHashMap<>();
+		final @NotNull AnchorTracker tracker = new AnchorTracker();
+		//noinspection unchecked
+		@NotNull List<String> pending = collectionsProvider.newList();
+		for (final @NotNull String line : lines.subList(start, lines.size())) {
+			final @Nullable String anchor = tracker.anchor(line);
+			if (anchor == null) {
+				pending.add(line);
+			} else if (!pending.isEmpty()) {
+				blocks.put(anchor, pending);
+				//noinspection unchecked
+				pending = collectionsProvider.newList();
+			}
+		}
+		// the footer consists of the comment lines at the end of the File,
+		// blank lines and indented comments between them and the last line of Data are kept as the last block
+		int end = pending.size();
+		while (end > 0 && pending.get(end - 1).startsWith("#")) {
+			end--;
+		}
+		//noinspection unchecked
+		final @NotNull List<String> footer = collectionsProvider.newList();
+		footer.addAll(pending.subList(end, pending.size()));
+		if (end > 0) {
+			pending.subList(end, pending.size()).clear();
+			blocks.put(YamlComments.END, pending);
+		}
+		return new YamlComments(header, footer, blocks);
+	}
+
 	public @NotNull List<String> getLinesWithoutFooterAndHeaderFromLines(final @NotNull List<String> lines,
 																		 final @NotNull CollectionsProvider<? extends Map, ? extends List> collectionsProvider) {
 		final @NotNull List<String> header = YamlFileParser.getHeaderFromLines(lines, collectionsProvider);
@@ -166,10 +338,95 @@ public class YamlFileParser {
 
 	private void write(final @NotNull Map fileData, //NOSONAR
 					   final boolean keepBeanOrder,
+					   final boolean directEmitter,
 					   final @NotNull ReadWriteFileLock tempLock) throws IOException {
-		final @NotNull @Cleanup YamlWriter writer = new YamlWriter(tempLock.createWriter());
-		writer.getConfig().writeConfig.setKeepBeanPropertyOrder(keepBeanOrder);
-		writer.write(fileData);
+		tempLock.truncateChannel(0);
+		try (final @NotNull Writer writer = new BufferedWriter(tempLock.createWriter())) {
+			YamlFileParser.render(fileData, keepBeanOrder, directEmitter, writer);
+		}
+	}
+
+	private void write(final @NotNull Map fileData, //NOSONAR
+					   final @NotNull YamlComments comments,
+					   final boolean directEmitter,
+					   final @NotNull ReadWriteFileLock tempLock) throws IOException {
+		YamlFileParser.write(YamlFileParser.insertComments(fileData, comments, directEmitter), tempLock);
+	}
+
+	private void write(final @NotNull File file,
+					   final @NotNull List<String> lines,
+					   final @NotNull WriteSetting writeSetting) throws IOException {
+		writeSetting.write(file, outputStream -> {
+			final @NotNull Writer writer = YamlFileParser.createWriter(outputStream);
+			YamlFileParser.write(lines, writer);
+			writer.flush();
+		});
+	}
+
+	/**
+	 * Write the given lines separated like a PrintWriter would
+	 */
+	private void write(final @NotNull List<String> lines,
+					   final @NotNull Writer writer) throws IOException {
+		final @NotNull Iterator<String> lineIterator = lines.iterator();
+		if (lineIterator.hasNext()) {
+			writer.write(lineIterator.next());
+			while (lineIterator.hasNext()) {
+				writer.write(System.lineSeparator());
+				writer.write(lineIterator.next());
+			}
+		}
+	}
+
+	/**
+	 * The OutputStream handed out by a WriteSetting must not be closed, but yamlbeans closes the Writer it has written to
+	 */
+	private @NotNull Writer createWriter(final @NotNull OutputStream outputStream) {
+		return new FlushOnCloseWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8)));
+	}
+
+	private @NotNull List<String> insertComments(final @NotNull Map fileData, //NOSONAR
+												 final @NotNull YamlComments comments,
+												 final boolean directEmitter) throws IOException {
+		final @NotNull StringWriter output = new StringWriter();
+		YamlFileParser.render(fileData, true, directEmitter, output);
+
+		final @NotNull List<String> lines = new ArrayList<>(comments.getHeader());
+		final @NotNull AnchorTracker tracker = new AnchorTracker();
+		try (final @NotNull BufferedReader reader = new BufferedReader(new StringReader(output.toString()))) {
+			@Nullable String line;
+			while ((line = reader.readLine()) != null) {
+				final @Nullable String anchor = tracker.anchor(line);
+				if (anchor != null) {
+					final @Nullable List<String> block = comments.getBlock(anchor);
+					if (block != null) {
+						lines.addAll(block);
+					}
+				}
+				lines.add(line);
+			}
+		}
+		final @Nullable List<String> end = comments.getBlock(YamlComments.END);
+		if (end != null) {
+			lines.addAll(end);
+		}
+		lines.addAll(comments.getFooter());
+		return lines;
+	}
+
+	private void render(final @NotNull Map fileData, //NOSONAR
+						final boolean keepBeanOrder,
+						final boolean directEmitter,
+						final @NotNull Writer writer) throws IOException {
+		if (directEmitter) {
+			YamlEmitter.write(writer, fileData);
+			writer.flush();
+		} else {
+			final @NotNull YamlWriter yamlWriter = new YamlWriter(writer);
+			yamlWriter.getConfig().writeConfig.setKeepBeanPropertyOrder(keepBeanOrder);
+			yamlWriter.write(fileData);
+			yamlWriter.close();
+		}
 	}
 
 	private @NotNull List<String> getCommentsFromLines(final @NotNull List<String> lines,
@@ -241,4 +498,155 @@ public class YamlFileParser {
 
 		return comments;
 	}
-}
\ No newline at end of file
+
+
+	/**
+	 * Assigns every line of Data an anchor built from the key path leading to it,
+	 * lines which are no keys get the key path of their parent followed by "[]",
+	 * recurring anchors are numbered by their occurrence
+	 */
+	private static final class FlushOnCloseWriter extends FilterWriter {
+
+		private FlushOnCloseWriter(final @NotNull Writer writer) {
+			super(writer);
+		}
+
+
+		@Override
+		public void close() throws IOException {
+			this.flush();
+		}
+	}
+
+
+	private static final class AnchorTracker {
+
+		private final @NotNull List<String> keys = new ArrayList<>();
+		private final @NotNull IntGapList indents = new IntGapList();
+		private final @NotNull Map<String, Integer> occurrences = new HashMap<>();
+		private int blockScalarIndent = -1;
+
+
+		/**
+		 * @return the anchor of the given line or null if the line is a comment or blank
+		 */
+		private @Nullable String anchor(final @NotNull String line) {
+			final int indent = AnchorTracker.indentation(line);
+			if (this.blockScalarIndent >= 0) {
+				// the content of a block scalar may contain blank lines and '#'
+				if (indent == line.length() || indent > this.blockScalarIndent) {
+					return this.unique(this.path() + "|");
+				}
+				this.blockScalarIndent = -1;
+			}
+			if (indent == line.length() || line.charAt(indent) == '#') {
+				return null;
+			}
+
+			final boolean listItem = AnchorTracker.isListItem(line, indent);
+			final int colon = listItem ? -1 : AnchorTracker.keyEnd(line, indent);
+			final @NotNull String value;
+			final @NotNull String anchor;
+			if (colon < 0) {
+				// list items may be indented as deep as the key they belong to
+				this.pop(listItem ? indent + 1 : indent);
+				value = listItem ? line.substring(indent + 1).trim() : "";
+				anchor = this.unique(this.path() + "[]");
+			} else {
+				this.pop(indent);
+				this.keys.add(AnchorTracker.unquote(line.substring(indent, colon).trim()));
+				this.indents.addInt(indent);
+				value = line.substring(colon + 1).trim();
+				anchor = this.unique(this.path());
+			}
+
+			if (AnchorTracker.isBlockScalar(value)) {
+				this.blockScalarIndent = indent;
+			}
+			return anchor;
+		}
+
+		private void pop(final int indent) {
+			while (!this.indents.isEmpty() && this.indents.getInt(this.indents.size() - 1) >= indent) {
+				this.indents.remove(this.indents.size() - 1);
+				this.keys.remove(this.keys.size() - 1);
+			}
+		}
+
+		private @NotNull String path() {
+			return String.join(".", this.keys);
+		}
+
+		private @NotNull String unique(final @NotNull String anchor) {
+			final int occurrence = this.occurrences.merge(anchor, 1, Integer::sum);
+			return occurrence == 1 ? anchor : anchor + "#" + occurrence;
+		}
+
+		private static int indentation(final @NotNull String line) {
+			int indent = 0;
+			while (indent < line.length() && (line.charAt(indent) == ' ' || line.charAt(indent) == '\t')) {
+				indent++;
+			}
+			return indent;
+		}
+
+		private static boolean isListItem(final @NotNull String line, final int indent) {
+			return line.charAt(indent) == '-' && (indent + 1 == line.length() || line.charAt(indent + 1) == ' ');
+		}
+
+		private static boolean isBlockScalar(final @NotNull String value) {
+			@NotNull String scalar = value;
+			if (scalar.startsWith("!")) {
+				final int space = scalar.indexOf(' ');
+				scalar = space < 0 ? "" : scalar.substring(space + 1).trim();
+			}
+			return scalar.startsWith("|") || scalar.startsWith(">");
+		}
+
+		/**
+		 * @return the index of the ':' ending the key of the given line or -1 if the line does not start with a key
+		 */
+		private static int keyEnd(final @NotNull String line, final int indent) {
+			final char first = line.charAt(indent);
+			if (first == '[' || first == '{' || first == '?') {
+				return -1;
+			}
+
+			int colon = line.indexOf(':', first == '"' || first == '\'' ? AnchorTracker.closingQuote(line, indent) : indent);
+			while (colon >= 0) {
+				if (colon + 1 == line.length() || line.charAt(colon + 1) == ' ') {
+					return colon;
+				}
+				colon = line.indexOf(':', colon + 1);
+			}
+			return -1;
+		}
+
+		private static int closingQuote(final @NotNull String line, final int start) {
+			final char quote = line.charAt(start);
+			for (int i = start + 1; i < line.length(); i++) {
+				final char c = line.charAt(i);
+				if (c == '\\' && quote == '"') {
+					i++;
+				} else if (c == quote) {
+					if (quote == '\'' && i + 1 < line.length() && line.charAt(i + 1) == '\'') {
+						i++;
+					} else {
+						return i;
+					}
+				}
+			}
+			return line.length();
+		}
+
+		private static @NotNull String unquote(final @NotNull String key) {
+			if (key.length() > 1 && key.charAt(0) == '\'' && key.charAt(key.length() - 1) == '\'') {
+				return key.substring(1, key.length() - 1).replace("''", "'");
+			} else if (key.length() > 1 && key.charAt(0) == '"' && key.charAt(key.length() - 1) == '"') {
+				return key.substring(1, key.length() - 1);
+			} else {
+				return key;
+			}
+		}
+	}
+}
@@ -0,0 +1,129 @@
+package de.zeanon.yamlfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.internal.base.cache.provider.CollectionsProvider;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlComments;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlFileParser;
+import de.zeanon.yamlfilemanagertest.TestYamlFileManager;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+@SuppressWarnings("rawtypes")
+class TestYamlComments {
+
+	private static final @NotNull CollectionsProvider<Map, List> COLLECTIONS_PROVIDER = new CollectionsProvider<>(LinkedHashMap.class, ArrayList.class, false);
+
+	@BeforeAll
+	static void setup() {
+		TestYamlFileManager.clear("YamlComments");
+	}
+
+	private static @NotNull YamlComments capture(final @NotNull String... lines) {
+		return YamlFileParser.getYamlCommentsFromLines(new ArrayList<>(Arrays.asList(lines)), TestYamlComments.COLLECTIONS_PROVIDER);
+	}
+
+	@Test
+	@TestOnly
+	void capture() {
+		final @NotNull YamlComments comments = TestYamlComments.capture("# header 1",
+																		"# header 2",
+																		"",
+																		"key: value",
+																		"# before nested",
+																		"nested:",
+																		"  # inner",
+																		"  child: 1",
+																		"list:",
+																		"  # before item",
+																		"  - a",
+																		"  # second item",
+																		"  - b",
+																		"text: |",
+																		"  line 1",
+																		"  # not a comment",
+																		"",
+																		"  line 3",
+																		"after: 2",
+																		"",
+																		"  # indented trailing",
+																		"# footer 1",
+																		"# footer 2");
+
+		Assertions.assertAll("Capture",
+							 () -> Assertions.assertEquals(Arrays.asList("# header 1", "# header 2"), comments.getHeader()),
+							 () -> Assertions.assertEquals(Arrays.asList("# footer 1", "# footer 2"), comments.getFooter()),
+							 () -> Assertions.assertEquals(Collections.singletonList(""), comments.getBlock("key")),
+							 () -> Assertions.assertEquals(Collections.singletonList("# before nested"), comments.getBlock("nested")),
+							 () -> Assertions.assertEquals(Collections.singletonList("  # inner"), comments.getBlock("nested.child")),
+							 () -> Assertions.assertEquals(Collections.singletonList("  # before item"), comments.getBlock("list[]")),
+							 () -> Assertions.assertEquals(Collections.singletonList("  # second item"), comments.getBlock("list[]#2")),
+							 () -> Assertions.assertEquals(Arrays.asList("", "  # indented trailing"), comments.getBlock(YamlComments.END)),
+							 // the content of block scalars is Data, even if it looks like a comment
+							 () -> Assertions.assertNull(comments.getBlock("after")),
+							 () -> Assertions.assertEquals(Arrays.asList("key", "nested", "nested.child", "list[]", "list[]#2", YamlComments.END),
+														   new ArrayList<>(comments.getBlocks().keySet())));
+	}
+
+	@Test
+	@TestOnly
+	void headerAndFooterOnly() {
+		final @NotNull YamlComments noComments = TestYamlComments.capture("key: value", "other: 1");
+		final @NotNull YamlComments footerOnly = TestYamlComments.capture("key: value", "# footer");
+		final @NotNull YamlComments commentsOnly = TestYamlComments.capture("# first", "# second");
+
+		Assertions.assertAll("HeaderAndFooterOnly",
+							 () -> Assertions.assertEquals(Collections.emptyList(), noComments.getHeader()),
+							 () -> Assertions.assertEquals(Collections.emptyList(), noComments.getFooter()),
+							 () -> Assertions.assertEquals(Collections.emptyMap(), noComments.getBlocks()),
+							 () -> Assertions.assertEquals(Collections.emptyList(), footerOnly.getHeader()),
+							 () -> Assertions.assertEquals(Collections.singletonList("# footer"), footerOnly.getFooter()),
+							 () -> Assertions.assertNull(footerOnly.getBlock(YamlComments.END)),
+							 // a File without Data only has a header, so the lines are not written twice
+							 () -> Assertions.assertEquals(Arrays.asList("# first", "# second"), commentsOnly.getHeader()),
+							 () -> Assertions.assertEquals(Collections.emptyList(), commentsOnly.getFooter()));
+	}
+
+	@Test
+	@TestOnly
+	void reinserted() throws IOException {
+		final @NotNull YamlComments comments = TestYamlComments.capture("# header",
+																		"key: value",
+																		"",
+																		"# before nested",
+																		"nested:",
+																		"  # inner",
+																		"  child: 1",
+																		"list:",
+																		"# before item",
+																		"- a",
+																		"- b",
+																		"",
+																		"# footer");
+		final @NotNull Map<String, Object> data = new LinkedHashMap<>();
+		data.put("key", "value");
+		data.put("nested", Collections.singletonMap("child", 1));
+		data.put("list", Arrays.asList("a", "b"));
+
+		final @NotNull File yamlBeansFile = new File("src/test/resources/testresults/yamlcomments", "yamlbeans.yml");
+		final @NotNull File emitterFile = new File("src/test/resources/testresults/yamlcomments", "emitter.yml");
+		Files.createDirectories(yamlBeansFile.toPath().getParent());
+		YamlFileParser.writeData(yamlBeansFile, data, comments, false);
+		YamlFileParser.writeData(emitterFile, data, comments, true);
+
+		Assertions.assertAll("Reinserted",
+							 () -> Assertions.assertEquals(comments, YamlFileParser.readYamlComments(yamlBeansFile, TestYamlComments.COLLECTIONS_PROVIDER)),
+							 () -> Assertions.assertEquals(comments, YamlFileParser.readYamlComments(emitterFile, TestYamlComments.COLLECTIONS_PROVIDER)));
+	}
+}
@@ -0,0 +1,192 @@
+package de.zeanon.yamlfilemanagertest.utility.basic;
+
+import de.zeanon.storagemanagercore.internal.base.settings.Comment;
+import de.zeanon.storagemanagercore.internal.base.settings.Reload;
+import de.zeanon.storagemanagercore.internal.base.settings.SaveMode;
+import de.zeanon.storagemanagercore.internal.base.settings.Write;
+import de.zeanon.yamlfilemanager.YamlFileManager;
+import de.zeanon.yamlfilemanager.internal.files.config.YamlConfig;
+import de.zeanon.yamlfilemanagertest.TestYamlFileManager;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestYamlConfig {
+
+	private static final @NotNull List<String> CONTENT = Arrays.asList("# header",
+																	   "key: value",
+																	   "",
+																	   "# before nested",
+																	   "nested:",
+																	   "   # inner",
+																	   "   child: 1",
+																	   "list:",
+																	   "# before item",
+																	   "- a",
+																	   "- b",
+																	   "text: |",
+																	   "   line 1",
+																	   "   # not a comment",
+																	   "after: 2",
+																	   "",
+																	   "# footer");
+
+	@BeforeAll
+	static void setup() {
+		TestYamlFileManager.clear("YamlConfig");
+	}
+
+	private static @NotNull File createFile(final @NotNull String name) throws IOException {
+		final @NotNull File file = new File("src/test/resources/testresults/yamlconfig", name + ".yml");
+		Files.createDirectories(file.toPath().getParent());
+		Files.write(file.toPath(), TestYamlConfig.CONTENT, StandardCharsets.UTF_8);
+		return file;
+	}
+
+	private static Object fileKey(final @NotNull File file) throws IOException {
+		return Files.readAttributes(file.toPath(), BasicFileAttributes.class).fileKey();
+	}
+
+	private static @NotNull List<String> lines(final @NotNull File file) throws IOException {
+		return Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+	}
+
+	@Test
+	@TestOnly
+	void comments() throws IOException {
+		final @NotNull File file = TestYamlConfig.createFile("comments");
+		final @NotNull YamlConfig config = YamlFileManager.yamlConfig(file).create();
+		final @NotNull List<String> header = config.getHeader();
+		final @NotNull List<String> footer = config.getFooter();
+		final @NotNull List<String> comments = config.getComments();
+
+		Assertions.assertAll("Comments",
+							 () -> Assertions.assertEquals(Collections.singletonList("# header"), header),
+							 () -> Assertions.assertEquals(Collections.singletonList("# footer"), footer),
+							 () -> Assertions.assertEquals(Arrays.asList("# header", "# before nested", "# before item", "# footer"), comments),
+							 () -> Assertions.assertEquals("line 1\n# not a comment", config.getString("text")));
+	}
+
+	@Test
+	@TestOnly
+	void roundTrip() throws IOException {
+		final @NotNull File file = TestYamlConfig.createFile("roundtrip");
+		final @NotNull YamlConfig config = YamlFileManager.yamlConfig(file).create();
+		config.set("key", "changed");
+		final @NotNull List<String> saved = TestYamlConfig.lines(file);
+
+		final @NotNull YamlConfig reloaded = YamlFileManager.yamlConfig(file).create();
+		reloaded.save();
+		final @NotNull List<String> savedAgain = TestYamlConfig.lines(file);
+
+		Assertions.assertAll("RoundTrip",
+							 () -> Assertions.assertEquals(saved, savedAgain),
+							 () -> Assertions.assertEquals("changed", reloaded.getString("key")),
+							 () -> Assertions.assertEquals(1, reloaded.getInt("nested.child")),
+							 () -> Assertions.assertEquals(Arrays.asList("a", "b"), reloaded.getList("list")),
+							 () -> Assertions.assertEquals("line 1\n# not a comment", reloaded.getString("text")),
+							 () -> Assertions.assertEquals(config.getComments(), reloaded.getComments()),
+							 () -> Assertions.assertTrue(savedAgain.contains("   # inner")),
+							 () -> Assertions.assertEquals("# before item", savedAgain.get(savedAgain.indexOf("- a") - 1)));
+	}
+
+	@Test
+	@TestOnly
+	void setHeaderAndFooter() throws IOException {
+		final @NotNull File file = TestYamlConfig.createFile("set");
+		final @NotNull YamlConfig config = YamlFileManager.yamlConfig(file).create();
+		config.setHeader("new header", "second line");
+		config.setFooter("new footer");
+		final @NotNull List<String> lines = TestYamlConfig.lines(file);
+
+		final @NotNull YamlConfig reloaded = YamlFileManager.yamlConfig(file).create();
+
+		Assertions.assertAll("SetHeaderAndFooter",
+							 () -> Assertions.assertEquals(Arrays.asList("#new header", "#second line"), lines.subList(0, 2)),
+							 () -> Assertions.assertEquals("#new footer", lines.get(lines.size() - 1)),
+							 () -> Assertions.assertEquals(Arrays.asList("#new header", "#second line"), reloaded.getHeader()),
+							 () -> Assertions.assertEquals(Collections.singletonList("#new footer"), reloaded.getFooter()),
+							 () -> Assertions.assertTrue(lines.contains("# before nested")));
+	}
+
+	@Test
+	@TestOnly
+	void setHeaderAndFooterWithoutComments() throws IOException {
+		final @NotNull File file = TestYamlConfig.createFile("skip");
+		final @NotNull YamlConfig config = YamlFileManager.yamlConfig(file).commentSetting(Comment.SKIP).create();
+		config.setHeader("new header");
+		config.setFooter("new footer");
+		final @NotNull List<String> lines = TestYamlConfig.lines(file);
+
+		final @NotNull YamlConfig reloaded = YamlFileManager.yamlConfig(file).create();
+
+		Assertions.assertAll("SetHeaderAndFooterWithoutComments",
+							 () -> Assertions.assertEquals("#new header", lines.get(0)),
+							 () -> Assertions.assertEquals("#new footer", lines.get(lines.size() - 1)),
+							 () -> Assertions.assertFalse(lines.contains("# header")),
+							 () -> Assertions.assertFalse(lines.contains("# footer")),
+							 () -> Assertions.assertEquals(Collections.singletonList("#new header"), reloaded.getHeader()),
+							 () -> Assertions.assertEquals(Collections.singletonList("#new footer"), reloaded.getFooter()),
+							 () -> Assertions.assertEquals("value", reloaded.getString("key")));
+	}
+
+	@Test
+	@TestOnly
+	void deferredHeader() throws IOException {
+		final @NotNull File file = TestYamlConfig.createFile("deferred");
+		final @NotNull YamlConfig config = YamlFileManager.yamlConfig(file)
+															.reloadSetting(Reload.AUTOMATICALLY)
+															.saveMode(SaveMode.DEFERRED)
+															.create();
+		config.setHeader("deferred header");
+		// changes not yet written are newer than the File, so they must not be reloaded away
+		final @NotNull List<String> pendingHeader = config.getHeader();
+		final @NotNull List<String> unchangedLines = TestYamlConfig.lines(file);
+		config.flush();
+
+		final @NotNull YamlConfig reloaded = YamlFileManager.yamlConfig(file).create();
+
+		Assertions.assertAll("DeferredHeader",
+							 () -> Assertions.assertEquals(Collections.singletonList("#deferred header"), pendingHeader),
+							 () -> Assertions.assertEquals(TestYamlConfig.CONTENT, unchangedLines),
+							 () -> Assertions.assertEquals(Collections.singletonList("#deferred header"), reloaded.getHeader()),
+							 () -> Assertions.assertEquals("value", reloaded.getString("key")));
+	}
+
+	@Test
+	@TestOnly
+	void writeSetting() throws IOException {
+		final @NotNull File inPlaceFile = TestYamlConfig.createFile("inplace");
+		final @NotNull File atomicFile = TestYamlConfig.createFile("atomic");
+		final @NotNull File atomicHeaderFile = TestYamlConfig.createFile("atomicheader");
+		final Object inPlaceKey = TestYamlConfig.fileKey(inPlaceFile);
+		final Object atomicKey = TestYamlConfig.fileKey(atomicFile);
+		final Object atomicHeaderKey = TestYamlConfig.fileKey(atomicHeaderFile);
+
+		YamlFileManager.yamlConfig(inPlaceFile).create().set("key", "changed");
+		YamlFileManager.yamlConfig(atomicFile).writeSetting(Write.ATOMIC).create().set("key", "changed");
+		YamlFileManager.yamlConfig(atomicHeaderFile).commentSetting(Comment.SKIP).writeSetting(Write.ATOMIC).create().setHeader("atomic header");
+
+		// an atomic save moves a new File over the old one, so the File is not the same anymore
+		Assertions.assertAll("WriteSetting",
+							 () -> Assertions.assertEquals(inPlaceKey, TestYamlConfig.fileKey(inPlaceFile)),
+							 () -> Assertions.assertNotEquals(atomicKey, TestYamlConfig.fileKey(atomicFile)),
+							 () -> Assertions.assertNotEquals(atomicHeaderKey, TestYamlConfig.fileKey(atomicHeaderFile)),
+							 () -> Assertions.assertEquals(TestYamlConfig.lines(inPlaceFile), TestYamlConfig.lines(atomicFile)),
+							 () -> Assertions.assertEquals("changed", YamlFileManager.yamlConfig(atomicFile).create().getString("key")),
+							 () -> Assertions.assertEquals("#atomic header", TestYamlConfig.lines(atomicHeaderFile).get(0)),
+							 () -> Assertions.assertEquals(TestYamlConfig.CONTENT.subList(1, TestYamlConfig.CONTENT.size()),
+														   TestYamlConfig.lines(atomicHeaderFile).subList(1, TestYamlConfig.CONTENT.size())));
+	}
+}
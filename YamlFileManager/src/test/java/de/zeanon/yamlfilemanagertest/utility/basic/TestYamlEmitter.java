@@ -0,0 +1,165 @@
+package de.zeanon.yamlfilemanagertest.utility.basic;
+
+import com.esotericsoftware.yamlbeans.YamlException;
+import com.esotericsoftware.yamlbeans.YamlReader;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlComments;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlEmitter;
+import de.zeanon.yamlfilemanager.internal.utility.parser.YamlFileParser;
+import de.zeanon.yamlfilemanagertest.TestYamlFileManager;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.TestOnly;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+
+class TestYamlEmitter {
+
+	private static final @NotNull List<String> SCALARS = Arrays.asList(
+			// indicators
+			"-", "- item", "?", "? key", ":", "key: value", "a:b", "#", "a #comment", "a#b", ",", "[list]", "]", "{map}", "}",
+			"&anchor", "*alias", "!tag", "|", ">", "'", "\"", "%", "@", "`", "+1", ".5", "~", "<<", "<", "<<<",
+			// numbers and whitespace
+			"0", "42", "-7", "1e3", "0x1F", "1_000", " ", " leading", "trailing ", "trailing:", "",
+			// reserved words
+			"true", "False", "YES", "no", "On", "off", "y", "N", "null", "Null",
+			// control chars and escapes
+			"\n", "line\nbreak", "\r\n", "\t", "tab\t", "\u0000", "\u0007", "\u001B", "\u007F", "\u0080", "\u009F", "back\\slash", "quote\"d",
+			// Unicode line breaks and the byte order mark
+			"\u0085", "next\u0085line", "\u2028", "line\u2028separator", "\u2029", "paragraph\u2029separator", "\uFEFF", "\uFEFFbom",
+			// printable Unicode
+			"éüß", "日本", "\u00A0space", "😀");
+
+	@BeforeAll
+	static void setup() {
+		TestYamlFileManager.clear("YamlEmitter");
+	}
+
+	private static @NotNull String emit(final @NotNull Map<?, ?> data) throws IOException {
+		final @NotNull StringWriter writer = new StringWriter();
+		YamlEmitter.write(writer, data);
+		return writer.toString();
+	}
+
+	private static @NotNull Object read(final @NotNull String yaml) throws YamlException {
+		return new YamlReader(yaml).read();
+	}
+
+	@Test
+	@TestOnly
+	void scalarValues() throws IOException {
+		final @NotNull Map<String, Object> data = new LinkedHashMap<>();
+		for (int i = 0; i < TestYamlEmitter.SCALARS.size(); i++) {
+			data.put("value" + i, TestYamlEmitter.SCALARS.get(i));
+		}
+		final @NotNull String yaml = TestYamlEmitter.emit(data);
+
+		Assertions.assertEquals(data, TestYamlEmitter.read(yaml), yaml);
+	}
+
+	@Test
+	@TestOnly
+	void scalarKeys() throws IOException {
+		final @NotNull Map<String, Object> data = new LinkedHashMap<>();
+		for (final @NotNull String scalar : TestYamlEmitter.SCALARS) {
+			// YamlReader merges every "<<" key, even a quoted one, see quotedScalars
+			if (!scalar.isEmpty() && !"<<".equals(scalar)) {
+				data.put(scalar, "value");
+			}
+		}
+		final @NotNull String yaml = TestYamlEmitter.emit(data);
+
+		Assertions.assertEquals(data, TestYamlEmitter.read(yaml), yaml);
+	}
+
+	@Test
+	@TestOnly
+	void sequences() throws IOException {
+		final @NotNull Map<String, Object> nested = new LinkedHashMap<>();
+		nested.put("empty", Collections.emptyMap());
+		nested.put("list", Arrays.asList("- dash", "\u2028", Collections.singletonMap("key", "true")));
+
+		final @NotNull Map<String, Object> data = new LinkedHashMap<>();
+		data.put("scalars", new ArrayList<>(TestYamlEmitter.SCALARS));
+		data.put("nested", nested);
+		data.put("emptyList", Collections.emptyList());
+		data.put("nestedLists", Arrays.asList(Arrays.asList("a", "b"), Collections.emptyList(), Collections.singletonList(Collections.singletonList("deep"))));
+		final @NotNull String yaml = TestYamlEmitter.emit(data);
+
+		Assertions.assertEquals(data, TestYamlEmitter.read(yaml), yaml);
+	}
+
+	@Test
+	@TestOnly
+	void otherValues() throws IOException {
+		final @NotNull Map<String, Object> data = new LinkedHashMap<>();
+		data.put("int", 42);
+		data.put("double", -1.5);
+		data.put("boolean", false);
+		data.put("null", null);
+		data.put("enum", Thread.State.NEW);
+		data.put("array", new int[]{1, 2});
+		final @NotNull Map<?, ?> read = (Map<?, ?>) TestYamlEmitter.read(TestYamlEmitter.emit(data));
+
+		final @NotNull Map<String, Object> expected = new HashMap<>();
+		expected.put("int", "42");
+		expected.put("double", "-1.5");
+		expected.put("boolean", "false");
+		// YamlReader does not resolve untyped scalars, so null is read as the String "~"
+		expected.put("null", "~");
+		expected.put("enum", "NEW");
+		expected.put("array", Arrays.asList("1", "2"));
+		Assertions.assertEquals(expected, read);
+	}
+
+	@Test
+	@TestOnly
+	void quotedScalars() throws IOException {
+		final @NotNull Map<String, Object> data = new LinkedHashMap<>();
+		data.put("<<", "merge");
+		data.put("reserved", Arrays.asList("true", "No", "~", "null", "y", "<<"));
+		data.put("breaks", "next\u0085line\u2028paragraph\u2029bom\uFEFFcontrol\u0001\u007F");
+		final @NotNull List<String> lines = Arrays.asList(TestYamlEmitter.emit(data).split("\n"));
+
+		Assertions.assertAll("QuotedScalars",
+							 () -> Assertions.assertEquals("\"<<\": merge", lines.get(0)),
+							 () -> Assertions.assertEquals(Arrays.asList("   - \"true\"", "   - \"No\"", "   - \"~\"", "   - \"null\"", "   - \"y\"", "   - \"<<\""), lines.subList(2, 8)),
+							 () -> Assertions.assertEquals("breaks: \"next\\Nline\\Lparagraph\\Pbom\\uFEFFcontrol\\x01\\x7F\"", lines.get(8)),
+							 () -> Assertions.assertEquals(9, lines.size()));
+	}
+
+	@Test
+	@TestOnly
+	void shorterSave() throws IOException {
+		final @NotNull Map<String, Object> longData = new LinkedHashMap<>();
+		for (int i = 0; i < 100; i++) {
+			longData.put("key" + i, "a rather long value to make the File grow " + i);
+		}
+		final @NotNull Map<String, Object> shortData = Collections.singletonMap("key", "short");
+		final @NotNull YamlComments comments = new YamlComments(new ArrayList<>(Collections.singletonList("# header")), new ArrayList<>(), new HashMap<>());
+
+		final @NotNull File file = new File("src/test/resources/testresults/yamlemitter", "shorter.yml");
+		final @NotNull File commentedFile = new File("src/test/resources/testresults/yamlemitter", "shorter-commented.yml");
+		Files.createDirectories(file.toPath().getParent());
+		YamlFileParser.writeData(file, longData, null, true);
+		YamlFileParser.writeData(file, shortData, null, true);
+		YamlFileParser.writeData(commentedFile, longData, comments, true);
+		YamlFileParser.writeData(commentedFile, shortData, comments, true);
+
+		Assertions.assertAll("ShorterSave",
+							 () -> Assertions.assertEquals(TestYamlEmitter.emit(shortData), new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8)),
+							 () -> Assertions.assertEquals(Arrays.asList("# header", "key: short"), Files.readAllLines(commentedFile.toPath(), StandardCharsets.UTF_8)));
+	}
+}